@@ -5,6 +5,7 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.LongArray;
 import com.esotericsoftware.kryo.Kryo;
 import com.esotericsoftware.kryo.io.Output;
 import com.esotericsoftware.kryonet.FrameworkMessage;
@@ -19,6 +20,7 @@ import io.github.pokemeetup.managers.DatabaseManager;
 import io.github.pokemeetup.multiplayer.PlayerManager;
 import io.github.pokemeetup.multiplayer.ServerPlayer;
 import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
+import io.github.pokemeetup.multiplayer.network.PokemonSnapshotCodec;
 import io.github.pokemeetup.multiplayer.server.events.blocks.BlockPlaceEvent;
 import io.github.pokemeetup.multiplayer.server.events.player.PlayerJoinEvent;
 import io.github.pokemeetup.system.data.*;
@@ -27,6 +29,7 @@ import io.github.pokemeetup.pokemon.WildPokemon;
 import io.github.pokemeetup.system.gameplay.inventory.ItemEntity;
 import io.github.pokemeetup.system.gameplay.inventory.ItemManager;
 import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
 import io.github.pokemeetup.system.gameplay.overworld.WeatherSystem;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.system.gameplay.overworld.WorldObject;
@@ -39,9 +42,12 @@ import io.github.pokemeetup.utils.textures.TextureManager;
 import net.jpountz.lz4.LZ4Compressor;
 import net.jpountz.lz4.LZ4Factory;
 import org.discord.context.ServerGameContext;
+import org.discord.utils.ChunkPayloadCache;
+import org.discord.utils.ChunkProviderService;
+import org.discord.utils.ChunkStreamer;
+import org.discord.utils.InterestManager;
 import org.discord.utils.ServerPokemonSpawnManager;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.util.*;
@@ -61,8 +67,22 @@ public class GameServer {
     private static final int SCHEDULER_POOL_SIZE = 3;
     private static final long AUTH_TIMEOUT = 15000;
     private static final long SAVE_INTERVAL = 300000;
+    private static final long POKEMON_TICK_MS = 100;
+    private static final long POKEMON_TICKS_PER_SNAPSHOT = PokemonSnapshotCodec.SNAPSHOT_INTERVAL_MS / POKEMON_TICK_MS;
+    private static final long CHUNK_PAYLOAD_CACHE_BYTES = 64L * 1024 * 1024;
+    private static final LZ4Compressor CHUNK_COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final ThreadLocal<Kryo> CHUNK_KRYO = ThreadLocal.withInitial(() -> {
+        Kryo kryo = new Kryo();
+        NetworkProtocol.registerClasses(kryo);
+        kryo.setReferences(false);
+        return kryo;
+    });
+    private static final ThreadLocal<Output> CHUNK_OUTPUT = ThreadLocal.withInitial(() -> new Output(16 * 1024, 1024 * 1024));
+    private static final ThreadLocal<byte[][]> CHUNK_COMPRESS_BUFFER = ThreadLocal.withInitial(() -> new byte[][]{new byte[16 * 1024]});
     private static final ConcurrentHashMap<UUID, Object> chestLocks = new ConcurrentHashMap<>();
     private final Server networkServer;
+    private final InterestManager interestManager;
+    private ChunkStreamer chunkStreamer;
     private final ServerConnectionConfig config;
     private final DatabaseManager databaseManager;
     private final ConcurrentHashMap<Integer, String> connectedPlayers;
@@ -75,9 +95,11 @@ public class GameServer {
     private final WorldData worldData;
     private final PluginManager pluginManager;
     private final ConcurrentHashMap<String, Integer> playerPingMap = new ConcurrentHashMap<>();
-    private final Map<String, Vector2> playerChunkMap = new ConcurrentHashMap<>();
+    private final Map<String, Long> playerChunkMap = new ConcurrentHashMap<>();
     private final ServerPokemonSpawnManager serverPokemonSpawnManager;
+    private final ChunkPayloadCache chunkPayloadCache = new ChunkPayloadCache(CHUNK_PAYLOAD_CACHE_BYTES);
     private volatile boolean running;
+    private long pokemonTicks;
     private final WeatherSystem weatherSystem;
 
     public GameServer(ServerConnectionConfig config) {
@@ -90,15 +112,8 @@ public class GameServer {
         ItemManager.initialize(null);
         this.config = config;
         this.networkServer = new Server(WRITE_BUFFER, OBJECT_BUFFER);
+        this.interestManager = new InterestManager(networkServer);
         NetworkProtocol.registerClasses(networkServer.getKryo());
-        scheduler.scheduleAtFixedRate(() -> {
-            try {
-                ServerGameContext.get().getStorageSystem().getPlayerDataManager().flush();
-            } catch (Exception e) {
-                GameLogger.error("Scheduled player data flush failed: " + e.getMessage());
-            }
-        }, 300000, 300000, TimeUnit.MILLISECONDS);
-
         networkServer.getKryo().setReferences(false);
 
 
@@ -109,12 +124,16 @@ public class GameServer {
 
         try {
             this.worldData = initializeMultiplayerWorld(); this.weatherSystem = new WeatherSystem();
-            serverPokemonSpawnManager = new ServerPokemonSpawnManager(MULTIPLAYER_WORLD_NAME);
+            serverPokemonSpawnManager = new ServerPokemonSpawnManager(MULTIPLAYER_WORLD_NAME, interestManager, networkServer);
+            chunkStreamer = new ChunkStreamer(ServerGameContext.get().getWorldManager().getChunkProvider(),
+                MULTIPLAYER_WORLD_NAME, this::sendChunk);
             setupNetworkListener();
             scheduler.scheduleAtFixedRate(() -> {
-                serverPokemonSpawnManager.update(0.1f);
-                serverPokemonSpawnManager.broadcastPokemonUpdates();
-            }, 0, 100, TimeUnit.MILLISECONDS);// In your GameServer constructor, after worldData is initialized:
+                serverPokemonSpawnManager.update(POKEMON_TICK_MS / 1000f);
+                if (++pokemonTicks % POKEMON_TICKS_PER_SNAPSHOT == 0) {
+                    serverPokemonSpawnManager.replicateState();
+                }
+            }, 0, POKEMON_TICK_MS, TimeUnit.MILLISECONDS);// In your GameServer constructor, after worldData is initialized:
             scheduler.scheduleAtFixedRate(() -> {
                 worldData.updateTime(1.0f);
             }, 0, 1, TimeUnit.SECONDS);
@@ -134,15 +153,20 @@ public class GameServer {
         }
     }
 
-    public Set<Vector2> getPlayerOccupiedChunks() {
-        Set<Vector2> occupied = new HashSet<>();
-        for (Map.Entry<String, Vector2> entry : playerChunkMap.entrySet()) {
+    /**
+     * Distinct packed chunk keys (see {@link ChunkPos#pack}) currently occupied by active players.
+     */
+    public LongArray getPlayerOccupiedChunks() {
+        LongArray occupied = new LongArray();
+        for (Map.Entry<String, Long> entry : playerChunkMap.entrySet()) {
             String user = entry.getKey();
             if (!activePlayers.containsKey(user)) {
                 continue;
             }
-            Vector2 pos = entry.getValue();
-            occupied.add(pos);
+            long pos = entry.getValue();
+            if (!occupied.contains(pos)) {
+                occupied.add(pos);
+            }
         }
         return occupied;
     }
@@ -196,8 +220,6 @@ public class GameServer {
                     0.15f,
                     0.05f
                 );
-
-                ServerGameContext.get().getWorldManager().saveWorld(worldData);
             }
             return worldData;
         } catch (Exception e) {
@@ -216,6 +238,11 @@ public class GameServer {
                     recentDisconnects.put(username, System.currentTimeMillis());
                     activeConnections.remove(username);
                     cleanupPlayerSession(connection.getID(), username);
+                    interestManager.removeConnection(connection.getID());
+                    chunkStreamer.removeConnection(connection.getID());
+                    serverPokemonSpawnManager.getReplicator().removeConnection(connection.getID());
+                    ServerGameContext.get().getStorageSystem().getPlayerDataManager()
+                        .requestFlush(UUID.nameUUIDFromBytes(username.getBytes()));
                     playerPingMap.remove(username);
                     broadcastPlayerList();
                     NetworkProtocol.PlayerLeft leftMessage = new NetworkProtocol.PlayerLeft();
@@ -242,7 +269,8 @@ public class GameServer {
                 try {
                     GameLogger.info("Saving world data during shutdown...");
                     worldData.setLastPlayed(System.currentTimeMillis());
-                    ServerGameContext.get().getWorldManager().saveWorld(worldData);
+                    // Written by the journal flush in ServerWorldManager.shutdown() below.
+                    ServerGameContext.get().getWorldManager().markWorldDirty(worldData);
                 } catch (Exception e) {
                     GameLogger.error("Error saving world data during shutdown: " + e.getMessage());
                 }
@@ -251,6 +279,7 @@ public class GameServer {
             Thread.sleep(500);
 
             running = false;
+            serverPokemonSpawnManager.shutdown();
             if (ServerGameContext.get().getWorldManager() != null) {
                 ServerGameContext.get().getWorldManager().shutdown();
             }
@@ -296,7 +325,7 @@ public class GameServer {
             GameLogger.error("Item drop position too far from player");
             return;
         }
-        networkServer.sendToAllTCP(drop);
+        interestManager.sendToPixel(drop.x, drop.y, drop);
     }
 
     private void serverDestroyBlock(PlaceableBlock block) {
@@ -308,7 +337,7 @@ public class GameServer {
         removalMsg.blockTypeId = block.getType().id;
         removalMsg.tileX = (int)pos.x;
         removalMsg.tileY = (int)pos.y;
-        networkServer.sendToAllTCP(removalMsg);
+        interestManager.sendToTile(removalMsg.tileX, removalMsg.tileY, removalMsg);
         String itemId = block.getType().itemId;
         if (itemId != null) {
             ItemData dropData = new ItemData(itemId, 1);
@@ -316,7 +345,7 @@ public class GameServer {
             dropMsg.itemData = dropData;
             dropMsg.x = pos.x * TILE_SIZE + TILE_SIZE / 2f;
             dropMsg.y = pos.y * TILE_SIZE + TILE_SIZE / 2f;
-            networkServer.sendToAllTCP(dropMsg);
+            interestManager.sendToPixel(dropMsg.x, dropMsg.y, dropMsg);
         }
         if (block.getType() == PlaceableBlock.BlockType.CHEST) {
             ChestData chestData = block.getChestData();
@@ -327,7 +356,7 @@ public class GameServer {
                         dropMsg.itemData = item;
                         dropMsg.x = pos.x * TILE_SIZE + TILE_SIZE / 2f + (MathUtils.random() * 16 - 8);
                         dropMsg.y = pos.y * TILE_SIZE + TILE_SIZE / 2f + (MathUtils.random() * 16 - 8);
-                        networkServer.sendToAllTCP(dropMsg);
+                        interestManager.sendToPixel(dropMsg.x, dropMsg.y, dropMsg);
                     }
                 }
             }
@@ -336,13 +365,13 @@ public class GameServer {
 
     private void serverDestroyObject(WorldObject object) {
         if (object == null) return;
-        Vector2 chunkPos = new Vector2((int) Math.floor(object.getPixelX() / (CHUNK_SIZE * TILE_SIZE)), (int) Math.floor(object.getPixelY() / (CHUNK_SIZE * TILE_SIZE)));
+        long chunkPos = ChunkPos.pack((int) Math.floor(object.getPixelX() / (CHUNK_SIZE * TILE_SIZE)), (int) Math.floor(object.getPixelY() / (CHUNK_SIZE * TILE_SIZE)));
         ServerGameContext.get().getWorldObjectManager().removeObject(MULTIPLAYER_WORLD_NAME, chunkPos, object.getId());
         NetworkProtocol.WorldObjectUpdate removalMsg = new NetworkProtocol.WorldObjectUpdate();
         removalMsg.objectId = object.getId();
         removalMsg.type = NetworkProtocol.NetworkObjectUpdateType.REMOVE;
         removalMsg.data = object.getSerializableData();
-        networkServer.sendToAllTCP(removalMsg);
+        interestManager.sendToChunk(chunkPos, removalMsg);
         String dropItemId = object.getType().dropItemId;
         int dropCount = object.getType().dropItemCount;
         if (dropItemId != null && dropCount > 0) {
@@ -351,17 +380,14 @@ public class GameServer {
             dropMsg.itemData = dropData;
             dropMsg.x = object.getPixelX() + TILE_SIZE / 2f;
             dropMsg.y = object.getPixelY();
-            networkServer.sendToAllTCP(dropMsg);
+            interestManager.sendToPixel(dropMsg.x, dropMsg.y, dropMsg);
         }
     }
 
     private WorldObject findServerChoppableObject(int tileX, int tileY) {
         for (int x = tileX - 1; x <= tileX + 1; x++) {
             for (int y = tileY - 1; y <= tileY + 1; y++) {
-                Vector2 chunkPos = new Vector2(
-                    (int) Math.floor(x / (float)CHUNK_SIZE),
-                    (int) Math.floor(y / (float)CHUNK_SIZE)
-                );
+                long chunkPos = ChunkPos.packTile(x, y);
 
                 List<WorldObject> objects = ServerGameContext.get().getWorldObjectManager().getObjectsForChunk(MULTIPLAYER_WORLD_NAME, chunkPos);
                 if (objects == null || objects.isEmpty()) continue;
@@ -425,6 +451,10 @@ public class GameServer {
         }
     }
 
+    /**
+     * Reliable position updates, sent by clients after teleports. Routine movement arrives as
+     * {@link NetworkProtocol.PlayerMovement}.
+     */
     private void handlePlayerUpdate(Connection connection, NetworkProtocol.PlayerUpdate update) {
         try {
             String username = connectedPlayers.get(connection.getID());
@@ -437,41 +467,106 @@ public class GameServer {
                 GameLogger.error("No ServerPlayer instance found for: " + username);
                 return;
             }
+            update.playerId = connection.getID();
+            if (update.characterType == null) {
+                update.characterType = serverPlayer.getData().getCharacterType();
+            }
+            if (recordPlayerState(connection, serverPlayer, update)) {
+                interestManager.sendToPixelExcept(update.x, update.y, connection.getID(), update);
+            }
+        } catch (Exception e) {
+            GameLogger.error("Error handling player update: " + e.getMessage());
+        }
+    }
 
-            serverPlayer.setPosition(update.x, update.y);
-            serverPlayer.setDirection(update.direction);
-            serverPlayer.setMoving(update.isMoving);
-            int cX = (int) Math.floor(update.x / (World.CHUNK_SIZE * World.TILE_SIZE));
-            int cY = (int) Math.floor(update.y / (World.CHUNK_SIZE * World.TILE_SIZE));
-            Vector2 chunkPos = new Vector2(cX, cY);
-            playerChunkMap.put(username, chunkPos);
-            PlayerData playerData = ServerGameContext.get().getStorageSystem()
-                .getPlayerDataManager().loadPlayerData(UUID.nameUUIDFromBytes(update.username.getBytes()));
-
-            if (playerData == null) {
-                GameLogger.error("No player data found for active player: " + username);
+    /**
+     * Applies a movement packet and relays it, stamped with the sender's player ID, over UDP to
+     * the players who can see it. Reordered or duplicated packets are dropped.
+     */
+    private void handlePlayerMovement(Connection connection, NetworkProtocol.PlayerMovement movement) {
+        try {
+            String username = connectedPlayers.get(connection.getID());
+            ServerPlayer serverPlayer = username != null ? activePlayers.get(username) : null;
+            if (serverPlayer == null || !serverPlayer.acceptMovementSequence(movement.sequence)) {
                 return;
             }
-            playerData.setX(update.x);
-            playerData.setY(update.y);
-            playerData.setDirection(update.direction);
-            playerData.setMoving(update.isMoving);
-            playerData.setWantsToRun(update.wantsToRun);
-            playerData.setCharacterType(update.characterType); // [NEW] Update character type
-
-            if (update.inventoryItems != null) {
-                playerData.setInventoryItems(Arrays.asList(update.inventoryItems));
-            }
-            if (update.partyPokemon != null) {
-                playerData.setPartyPokemon(update.partyPokemon);
+            int flags = movement.flags;
+            NetworkProtocol.PlayerUpdate state = new NetworkProtocol.PlayerUpdate();
+            state.username = username;
+            state.playerId = connection.getID();
+            state.x = PokemonSnapshotCodec.dequantize(movement.x);
+            state.y = PokemonSnapshotCodec.dequantize(movement.y);
+            state.direction = PokemonSnapshotCodec.decodeDirection(
+                (byte) (flags & NetworkProtocol.PlayerMovement.DIRECTION_MASK));
+            state.isMoving = (flags & NetworkProtocol.PlayerMovement.MOVING) != 0;
+            state.wantsToRun = (flags & NetworkProtocol.PlayerMovement.RUNNING) != 0;
+            state.characterType = serverPlayer.getData().getCharacterType();
+            if (recordPlayerState(connection, serverPlayer, state)) {
+                movement.playerId = connection.getID();
+                interestManager.sendToPixelExceptUDP(state.x, state.y, connection.getID(), movement);
             }
-            UUID playerUUID = UUID.nameUUIDFromBytes(username.getBytes());
-            ServerGameContext.get().getStorageSystem()
-                .getPlayerDataManager().savePlayerData(playerUUID, playerData);
-            networkServer.sendToAllExceptTCP(connection.getID(), update);
+        } catch (Exception e) {
+            GameLogger.error("Error handling player movement: " + e.getMessage());
+        }
+    }
 
+    /**
+     * Updates the server's copy of a player's position and view.
+     *
+     * @return false if the player has no stored data
+     */
+    private boolean recordPlayerState(Connection connection, ServerPlayer serverPlayer, NetworkProtocol.PlayerUpdate state) {
+        String username = serverPlayer.getUsername();
+        serverPlayer.setPosition(state.x, state.y);
+        serverPlayer.setDirection(state.direction);
+        serverPlayer.setMoving(state.isMoving);
+        int cX = (int) Math.floor(state.x / (World.CHUNK_SIZE * World.TILE_SIZE));
+        int cY = (int) Math.floor(state.y / (World.CHUNK_SIZE * World.TILE_SIZE));
+        playerChunkMap.put(username, ChunkPos.pack(cX, cY));
+        interestManager.updatePlayer(connection.getID(), username, state);
+        UUID playerUUID = UUID.nameUUIDFromBytes(username.getBytes());
+        // Memory only; the player data manager writes the state behind.
+        boolean known = ServerGameContext.get().getStorageSystem()
+            .getPlayerDataManager().updatePlayerData(playerUUID, playerData -> {
+                playerData.setX(state.x);
+                playerData.setY(state.y);
+                playerData.setDirection(state.direction);
+                playerData.setMoving(state.isMoving);
+                playerData.setWantsToRun(state.wantsToRun);
+                playerData.setCharacterType(state.characterType); // [NEW] Update character type
+            });
+        if (!known) {
+            GameLogger.error("No player data found for active player: " + username);
+        }
+        return known;
+    }
+
+    /**
+     * Applies a client's inventory and party changes. They are kept on the server only; other
+     * players never receive them.
+     */
+    private void handlePlayerStateDelta(Connection connection, NetworkProtocol.PlayerStateDelta delta) {
+        try {
+            String username = connectedPlayers.get(connection.getID());
+            ServerPlayer serverPlayer = username != null ? activePlayers.get(username) : null;
+            if (serverPlayer == null || !serverPlayer.acceptStateVersion(delta.version)) {
+                return;
+            }
+            if (delta.slots != null && delta.items != null) {
+                serverPlayer.setInventorySlots(delta.slots, delta.items);
+            }
+            List<ItemData> inventoryItems = delta.slots != null ? serverPlayer.getInventoryItems() : null;
+            ServerGameContext.get().getStorageSystem().getPlayerDataManager()
+                .updatePlayerData(UUID.nameUUIDFromBytes(username.getBytes()), playerData -> {
+                    if (inventoryItems != null) {
+                        playerData.setInventoryItems(inventoryItems);
+                    }
+                    if (delta.partyPokemon != null) {
+                        playerData.setPartyPokemon(delta.partyPokemon);
+                    }
+                });
         } catch (Exception e) {
-            GameLogger.error("Error handling player update: " + e.getMessage());
+            GameLogger.error("Error handling player state delta: " + e.getMessage());
         }
     }
 
@@ -495,7 +590,7 @@ public class GameServer {
             }
             NetworkProtocol.WildPokemonSpawn broadcastSpawn = createSpawnBroadcast(pokemon);
             try {
-                networkServer.sendToAllTCP(broadcastSpawn);
+                interestManager.sendToPixel(broadcastSpawn.x, broadcastSpawn.y, broadcastSpawn);
                 GameLogger.info("Broadcast Pokemon spawn: " + pokemon.getName() +
                     " (UUID: " + pokemon.getUuid() + ")");
             } catch (Exception e) {
@@ -524,6 +619,24 @@ public class GameServer {
         return true;
     }
 
+    /**
+     * Replies with full spawn data for a Pokémon the client first saw in a state snapshot.
+     */
+    private void handlePokemonSpawnRequest(Connection connection, NetworkProtocol.PokemonSpawnRequest request) {
+        if (request.uuid == null) {
+            return;
+        }
+        WildPokemon pokemon = serverPokemonSpawnManager.getPokemon(request.uuid);
+        if (pokemon == null) {
+            NetworkProtocol.WildPokemonDespawn despawn = new NetworkProtocol.WildPokemonDespawn();
+            despawn.uuid = request.uuid;
+            despawn.timestamp = System.currentTimeMillis();
+            connection.sendTCP(despawn);
+            return;
+        }
+        connection.sendTCP(createSpawnBroadcast(pokemon));
+    }
+
     private NetworkProtocol.WildPokemonSpawn createSpawnBroadcast(WildPokemon pokemon) {
         NetworkProtocol.WildPokemonSpawn broadcast = new NetworkProtocol.WildPokemonSpawn();
         broadcast.uuid = pokemon.getUuid();
@@ -627,7 +740,15 @@ public class GameServer {
 
                 ServerGameContext.get().getEventManager().fireEvent(new PlayerJoinEvent(request.username, playerData));
                 networkServer.sendToAllTCP(joinedMsg);
-                sendActivePokemonToConnection(connection);
+                NetworkProtocol.PlayerUpdate initialState = new NetworkProtocol.PlayerUpdate();
+                initialState.username = request.username;
+                initialState.playerId = connection.getID();
+                initialState.x = playerData.getX();
+                initialState.y = playerData.getY();
+                initialState.direction = playerData.getDirection();
+                initialState.characterType = playerData.getCharacterType();
+                // Subscribing sends the Pokémon around the player through the spawn manager's view listener.
+                interestManager.updatePlayer(connection.getID(), request.username, initialState);
 
                 GameLogger.info("Login successful for: " + request.username);
             }
@@ -655,23 +776,46 @@ public class GameServer {
             }
         }
     }
+    /**
+     * Resolves the chunk on the chunk provider pool and sends it when ready; the calling
+     * (network) thread never waits on disk I/O or terrain generation. Chunks around the player
+     * arrive through {@link ChunkStreamer}; this serves one-off requests outside that area.
+     */
     public void handleChunkRequest(Connection connection, NetworkProtocol.ChunkRequest request) {
-        Vector2 chunkPos = new Vector2(request.chunkX, request.chunkY);
+        ChunkProviderService provider = ServerGameContext.get().getWorldManager().getChunkProvider();
+        provider.requestChunk(MULTIPLAYER_WORLD_NAME, request.chunkX, request.chunkY)
+            .thenAcceptAsync(chunk -> sendChunk(connection, request.chunkX, request.chunkY, chunk),
+                provider.getExecutor())
+            .exceptionally(t -> {
+                GameLogger.error("Error processing chunk request at (" + request.chunkX + "," +
+                    request.chunkY + "): " + t.getMessage());
+                return null;
+            });
+    }
+
+    private void sendChunk(Connection connection, int chunkX, int chunkY, Chunk chunk) {
+        if (!connection.isConnected()) {
+            return;
+        }
+        ChunkPos chunkPos = ChunkPos.of(chunkX, chunkY);
+        long chunkKey = chunkPos.toLong();
         try {
+            // Read once: an edit landing while this payload is encoded must not be cached under
+            // the newer version, or every later request would be served the stale bytes.
+            long payloadVersion = chunkPayloadVersion(chunkKey, chunk);
+            NetworkProtocol.CompressedChunkData cached = chunkPayloadCache.get(chunkX, chunkY, payloadVersion);
+            if (cached != null) {
+                connection.sendTCP(cached);
+                return;
+            }
             WorldData worldData = ServerGameContext.get().getWorldManager().loadWorld(MULTIPLAYER_WORLD_NAME);
             if (worldData == null) {
                 GameLogger.error("Failed to load world data for chunk request at " + chunkPos);
                 return;
             }
-            long chunkSeed = worldData.getConfig().getSeed() +
-                (((long)request.chunkX << 32) | ((long)request.chunkY & 0xFFFFFFFFL));
-            Chunk chunk = ServerGameContext.get().getWorldManager().loadChunk(MULTIPLAYER_WORLD_NAME, request.chunkX, request.chunkY);
-            if (chunk == null) {
-                GameLogger.error("Failed to load/generate chunk at " + chunkPos);
-                return;
-            }
-            float centerPixelX = (request.chunkX * Chunk.CHUNK_SIZE + Chunk.CHUNK_SIZE * 0.5f) * World.TILE_SIZE;
-            float centerPixelY = (request.chunkY * Chunk.CHUNK_SIZE + Chunk.CHUNK_SIZE * 0.5f) * World.TILE_SIZE;
+            long chunkSeed = worldData.getConfig().getSeed() + ChunkPos.pack(chunkX, chunkY);
+            float centerPixelX = (chunkX * Chunk.CHUNK_SIZE + Chunk.CHUNK_SIZE * 0.5f) * World.TILE_SIZE;
+            float centerPixelY = (chunkY * Chunk.CHUNK_SIZE + Chunk.CHUNK_SIZE * 0.5f) * World.TILE_SIZE;
             BiomeTransitionResult transition = ServerGameContext.get().getWorldManager().getBiomeTransitionAt(
                 centerPixelX, centerPixelY
             );
@@ -679,15 +823,15 @@ public class GameServer {
                 chunk.setBiome(transition.getPrimaryBiome());
             }
             List<WorldObject> objects = ServerGameContext.get().getWorldObjectManager()
-                .getObjectsForChunk(MULTIPLAYER_WORLD_NAME, chunkPos);
+                .getObjectsForChunk(MULTIPLAYER_WORLD_NAME, chunkKey);
             if (objects == null || objects.isEmpty()) {
                 objects = ServerGameContext.get().getWorldObjectManager()
-                    .generateObjectsForChunk(MULTIPLAYER_WORLD_NAME, chunkPos, chunk);
+                    .generateObjectsForChunk(MULTIPLAYER_WORLD_NAME, chunkKey, chunk);
                 GameLogger.info("Generated " + objects.size() + " objects for chunk " + chunkPos);
             }
             NetworkProtocol.ChunkData chunkData = new NetworkProtocol.ChunkData();
-            chunkData.chunkX = request.chunkX;
-            chunkData.chunkY = request.chunkY;
+            chunkData.chunkX = chunkX;
+            chunkData.chunkY = chunkY;
             chunkData.primaryBiomeType = chunk.getBiome().getType();
             if (transition != null && transition.getSecondaryBiome() != null) {
                 chunkData.secondaryBiomeType = transition.getSecondaryBiome().getType();
@@ -697,7 +841,7 @@ public class GameServer {
                 chunkData.biomeTransitionFactor = 1.0f;
             }
 
-            chunkData.tileData = chunk.getTileData().clone(); // Send a clone to prevent modifications
+            chunkData.tiles = chunk.getTiles();
             chunkData.blockData = chunk.getBlockDataForSave();
             chunkData.generationSeed = chunkSeed;
             chunkData.timestamp = System.currentTimeMillis();
@@ -717,6 +861,7 @@ public class GameServer {
                 GameLogger.error("Failed to compress chunk data for " + chunkPos);
                 return;
             }
+            chunkPayloadCache.put(chunkX, chunkY, payloadVersion, compressed);
             connection.sendTCP(compressed);
             GameLogger.info("Sent chunk " + chunkPos + " to client with " +
                 (objects != null ? objects.size() : 0) + " objects and biome: " +
@@ -730,6 +875,16 @@ public class GameServer {
         }
     }
 
+    /**
+     * Combines the chunk's own modification counter with its object list version, so the
+     * cached payload is invalidated by block, chest, tile or world object changes.
+     */
+    private long chunkPayloadVersion(long chunkKey, Chunk chunk) {
+        int objectVersion = ServerGameContext.get().getWorldObjectManager()
+            .getObjectVersion(MULTIPLAYER_WORLD_NAME, chunkKey);
+        return ((long) chunk.getVersion() << 32) | (objectVersion & 0xFFFFFFFFL);
+    }
+
     private void broadcastWorldState() {
         if (activePlayers.isEmpty()) {
             return;
@@ -794,27 +949,25 @@ public class GameServer {
         }
     }
 
+    /**
+     * Serializes and LZ4-compresses a chunk using per-thread Kryo, Output and scratch buffers,
+     * so the only allocation per call is the final compressed array.
+     */
     private NetworkProtocol.CompressedChunkData compressChunkData(NetworkProtocol.ChunkData chunkData) {
         try {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            int initialBufferSize = 16 * 1024;   // 16 KB
-            int maxBufferSize = 256 * 1024;        // 256 KB
-            Output output = new Output(initialBufferSize, maxBufferSize);
-            output.setOutputStream(baos);
-
-            Kryo kryo = new Kryo();
-            NetworkProtocol.registerClasses(kryo);
-            kryo.setReferences(false);
-            kryo.writeObject(output, chunkData);
-            output.close();
-            byte[] uncompressedData = baos.toByteArray();
-            LZ4Factory factory = LZ4Factory.fastestInstance();
-            LZ4Compressor compressor = factory.fastCompressor();
-            int maxCompressedLength = compressor.maxCompressedLength(uncompressedData.length);
-            byte[] compressedBuffer = new byte[maxCompressedLength];
-            int compressedLength = compressor.compress(uncompressedData, 0, uncompressedData.length,
-                compressedBuffer, 0, maxCompressedLength);
-            byte[] finalCompressedData = Arrays.copyOf(compressedBuffer, compressedLength);
+            Output output = CHUNK_OUTPUT.get();
+            output.clear();
+            CHUNK_KRYO.get().writeObject(output, chunkData);
+            byte[] uncompressedData = output.getBuffer();
+            int uncompressedLength = output.position();
+
+            int maxCompressedLength = CHUNK_COMPRESSOR.maxCompressedLength(uncompressedLength);
+            byte[][] scratch = CHUNK_COMPRESS_BUFFER.get();
+            if (scratch[0].length < maxCompressedLength) {
+                scratch[0] = new byte[maxCompressedLength];
+            }
+            int compressedLength = CHUNK_COMPRESSOR.compress(uncompressedData, 0, uncompressedLength,
+                scratch[0], 0, maxCompressedLength);
             NetworkProtocol.CompressedChunkData compressed = new NetworkProtocol.CompressedChunkData();
             compressed.chunkX = chunkData.chunkX;
             compressed.chunkY = chunkData.chunkY;
@@ -822,8 +975,8 @@ public class GameServer {
             compressed.secondaryBiomeType = chunkData.secondaryBiomeType; // may be null
             compressed.biomeTransitionFactor = chunkData.biomeTransitionFactor; // may be 0
             compressed.generationSeed = worldData.getConfig().getSeed();
-            compressed.originalLength = uncompressedData.length;
-            compressed.data = finalCompressedData;
+            compressed.originalLength = uncompressedLength;
+            compressed.data = Arrays.copyOf(scratch[0], compressedLength);
             return compressed;
         } catch (Exception e) {
             GameLogger.error("Chunk compression failed: " + e.getMessage());
@@ -890,6 +1043,14 @@ public class GameServer {
                         handleChunkRequest(connection, (NetworkProtocol.ChunkRequest) object);
                         return;
                     }
+                    if (object instanceof NetworkProtocol.ChunkSubscription) {
+                        chunkStreamer.subscribe(connection, (NetworkProtocol.ChunkSubscription) object);
+                        return;
+                    }
+                    if (object instanceof NetworkProtocol.ChunkStreamAck) {
+                        chunkStreamer.acknowledge(connection, (NetworkProtocol.ChunkStreamAck) object);
+                        return;
+                    }
                     if (object instanceof NetworkProtocol.BlockPlacement) {
                         handleBlockPlacement(connection, (NetworkProtocol.BlockPlacement) object);
                         return;
@@ -925,6 +1086,15 @@ public class GameServer {
                         connection.sendTCP(pingResponse);
                         return;
                     }
+                    if (object instanceof NetworkProtocol.PokemonSnapshotAck) {
+                        serverPokemonSpawnManager.getReplicator().acknowledge(connection.getID(),
+                            ((NetworkProtocol.PokemonSnapshotAck) object).sequence);
+                        return;
+                    }
+                    if (object instanceof NetworkProtocol.PokemonSpawnRequest) {
+                        handlePokemonSpawnRequest(connection, (NetworkProtocol.PokemonSpawnRequest) object);
+                        return;
+                    }
 
                     if (object instanceof NetworkProtocol.SavePlayerDataRequest) {
                         NetworkProtocol.SavePlayerDataRequest saveRequest =
@@ -991,7 +1161,8 @@ public class GameServer {
         }
         ServerGameContext.get().getItemEntityManager().removeItemEntity(pickup.entityId);
         GameLogger.info("Item " + pickup.entityId + " picked up by " + pickup.username);
-        networkServer.sendToAllExceptTCP(connection.getID(), pickup);
+        Vector2 itemPos = itemEntity.getPosition();
+        interestManager.sendToPixelExcept(itemPos.x, itemPos.y, connection.getID(), pickup);
     }
 
     private void handleChestUpdate(Connection connection, NetworkProtocol.ChestUpdate update) {
@@ -1025,7 +1196,7 @@ public class GameServer {
             currentChest.setItems(new ArrayList<>(update.items));
             chunk.setDirty(true);
             ServerGameContext.get().getWorldManager().saveChunk(MULTIPLAYER_WORLD_NAME, chunk);
-            networkServer.sendToAllTCP(update);
+            interestManager.sendToChunk(ChunkPos.pack(chunkX, chunkY), update);
             GameLogger.info("Processed chest update for chestId " + update.chestId + " from " + update.username);
         }
     }
@@ -1065,7 +1236,7 @@ public class GameServer {
                 }
             }
         }
-        networkServer.sendToAllExceptTCP(connection.getID(), bp);
+        interestManager.sendToTileExcept(bp.startX, bp.startY, connection.getID(), bp);
         GameLogger.info("Building placement by " + bp.username + " placed at (" + bp.startX + "," + bp.startY + ")");
     }
 
@@ -1073,8 +1244,7 @@ public class GameServer {
         scheduler.scheduleAtFixedRate(() -> {
             try {
                 if (worldData != null) {
-                    ServerGameContext.get().getWorldManager().saveWorld(worldData);
-                    GameLogger.info("World data saved periodically.");
+                    ServerGameContext.get().getWorldManager().markWorldDirty(worldData);
                 }
             } catch (Exception e) {
                 GameLogger.error("Error during periodic world save: " + e.getMessage());
@@ -1220,7 +1390,11 @@ public class GameServer {
         }
 
         try {
-            if (message instanceof NetworkProtocol.PlayerUpdate) {
+            if (message instanceof NetworkProtocol.PlayerMovement) {
+                handlePlayerMovement(connection, (NetworkProtocol.PlayerMovement) message);
+            } else if (message instanceof NetworkProtocol.PlayerStateDelta) {
+                handlePlayerStateDelta(connection, (NetworkProtocol.PlayerStateDelta) message);
+            } else if (message instanceof NetworkProtocol.PlayerUpdate) {
                 handlePlayerUpdate(connection, (NetworkProtocol.PlayerUpdate) message);
             } else if (message instanceof NetworkProtocol.ChatMessage) {
                 handleChatMessage(connection, (NetworkProtocol.ChatMessage) message);
@@ -1236,6 +1410,10 @@ public class GameServer {
     public void sendActivePokemonToConnection(Connection connection) {
         List<NetworkProtocol.PokemonUpdate> updates = new ArrayList<>();
         for (WildPokemon pokemon : serverPokemonSpawnManager.getActivePokemon()) {
+            if (!interestManager.isSubscribed(connection.getID(),
+                InterestManager.chunkKeyForPixel(pokemon.getX(), pokemon.getY()))) {
+                continue;
+            }
             NetworkProtocol.PokemonUpdate update = new NetworkProtocol.PokemonUpdate();
             update.uuid = pokemon.getUuid();
             update.x = pokemon.getX();
@@ -1282,14 +1460,14 @@ public class GameServer {
                         return;
                     }
                 }
-                networkServer.sendToAllExceptTCP(connection.getID(), action);
+                interestManager.sendToTileExcept(action.tileX, action.tileY, connection.getID(), action);
                 break;
 
             case CHOP_STOP:
             case PUNCH_STOP:
                 player.setChoppingObject(null);
                 player.setBreakingBlock(null);
-                networkServer.sendToAllExceptTCP(connection.getID(), action);
+                interestManager.sendToTileExcept(action.tileX, action.tileY, connection.getID(), action);
                 break;
 
             case CHOP_COMPLETE:
@@ -1329,7 +1507,7 @@ public class GameServer {
         removalMsg.blockTypeId = block.getType().id;
         removalMsg.tileX = (int) pos.x;
         removalMsg.tileY = (int) pos.y;
-        networkServer.sendToAllTCP(removalMsg);
+        interestManager.sendToTile(removalMsg.tileX, removalMsg.tileY, removalMsg);
 
         String itemId = block.getType().itemId;
         if (itemId != null) {
@@ -1340,7 +1518,7 @@ public class GameServer {
             dropMsg.itemData = dropData;
             dropMsg.x = pos.x * TILE_SIZE + TILE_SIZE / 2f;
             dropMsg.y = pos.y * TILE_SIZE + TILE_SIZE / 2f;
-            networkServer.sendToAllTCP(dropMsg);
+            interestManager.sendToPixel(dropMsg.x, dropMsg.y, dropMsg);
         }
 
         if (block.getType() == PlaceableBlock.BlockType.CHEST) {
@@ -1352,7 +1530,7 @@ public class GameServer {
                         dropMsg.itemData = item;
                         dropMsg.x = pos.x * TILE_SIZE + TILE_SIZE / 2f + (MathUtils.random() * 16 - 8);
                         dropMsg.y = pos.y * TILE_SIZE + TILE_SIZE / 2f + (MathUtils.random() * 16 - 8);
-                        networkServer.sendToAllTCP(dropMsg);
+                        interestManager.sendToPixel(dropMsg.x, dropMsg.y, dropMsg);
                     }
                 }
             }
@@ -1362,14 +1540,14 @@ public class GameServer {
     private void serverDestroyObject(WorldObject object, ServerPlayer player) {
         if (object == null || player == null) return;
 
-        Vector2 chunkPos = new Vector2((int) Math.floor(object.getPixelX() / (CHUNK_SIZE * TILE_SIZE)), (int) Math.floor(object.getPixelY() / (CHUNK_SIZE * TILE_SIZE)));
+        long chunkPos = ChunkPos.pack((int) Math.floor(object.getPixelX() / (CHUNK_SIZE * TILE_SIZE)), (int) Math.floor(object.getPixelY() / (CHUNK_SIZE * TILE_SIZE)));
         ServerGameContext.get().getWorldObjectManager().removeObject(MULTIPLAYER_WORLD_NAME, chunkPos, object.getId());
 
         NetworkProtocol.WorldObjectUpdate removalMsg = new NetworkProtocol.WorldObjectUpdate();
         removalMsg.objectId = object.getId();
         removalMsg.type = NetworkProtocol.NetworkObjectUpdateType.REMOVE;
         removalMsg.data = object.getSerializableData();
-        networkServer.sendToAllTCP(removalMsg);
+        interestManager.sendToChunk(chunkPos, removalMsg);
 
         String dropItemId = object.getType().dropItemId;
         int dropCount = object.getType().dropItemCount;
@@ -1385,7 +1563,7 @@ public class GameServer {
             dropMsg.itemData = dropData;
             dropMsg.x = object.getPixelX() + TILE_SIZE / 2f;
             dropMsg.y = object.getPixelY();
-            networkServer.sendToAllTCP(dropMsg);
+            interestManager.sendToPixel(dropMsg.x, dropMsg.y, dropMsg);
         }
     }
 
@@ -1416,15 +1594,14 @@ public class GameServer {
                 float y = tileY * World.TILE_SIZE;
                 int chunkX = (int) Math.floor(x / (World.TILE_SIZE * Chunk.CHUNK_SIZE));
                 int chunkY = (int) Math.floor(y / (World.TILE_SIZE * Chunk.CHUNK_SIZE));
-                Vector2 chunkPos = new Vector2(chunkX, chunkY);
-                ServerGameContext.get().getWorldObjectManager().removeObject(MULTIPLAYER_WORLD_NAME, chunkPos, update.objectId);
-                GameLogger.info("Removed world object " + update.objectId + " from chunk " + chunkPos);
+                ServerGameContext.get().getWorldObjectManager().removeObject(MULTIPLAYER_WORLD_NAME, ChunkPos.pack(chunkX, chunkY), update.objectId);
+                GameLogger.info("Removed world object " + update.objectId + " from chunk (" + chunkX + "," + chunkY + ")");
                 Chunk chunk = ServerGameContext.get().getWorldManager().loadChunk(MULTIPLAYER_WORLD_NAME, chunkX, chunkY);
                 if (chunk != null) {
                     chunk.setDirty(true);
                     ServerGameContext.get().getWorldManager().saveChunk(MULTIPLAYER_WORLD_NAME, chunk);
                 }
-                networkServer.sendToAllTCP(update);
+                interestManager.sendToChunk(ChunkPos.pack(chunkX, chunkY), update);
                 break;
 
             case ADD:
@@ -1443,6 +1620,10 @@ public class GameServer {
         return networkServer;
     }
 
+    public InterestManager getInterestManager() {
+        return interestManager;
+    }
+
     /**
      * Returns the first WorldObject that is choppable and whose bounding box
      * overlaps a search rectangle in front of the player.
@@ -1485,12 +1666,12 @@ public class GameServer {
         int chunkY = (int) Math.floor(targetY / (TILE_SIZE * CHUNK_SIZE));
         for (int dx = -1; dx <= 1; dx++) {
             for (int dy = -1; dy <= 1; dy++) {
-                Vector2 searchChunkPos = new Vector2(chunkX + dx, chunkY + dy);
+                long searchChunkPos = ChunkPos.pack(chunkX + dx, chunkY + dy);
                 List<WorldObject> objects = ServerGameContext.get()
                     .getWorldObjectManager()
                     .getObjectsForChunk(MULTIPLAYER_WORLD_NAME, searchChunkPos);
                 if (objects == null || objects.isEmpty()) {
-                    GameLogger.error("No objects found in chunk " + searchChunkPos);
+                    GameLogger.error("No objects found in chunk " + ChunkPos.fromLong(searchChunkPos));
                     continue;
                 }
                 for (WorldObject obj : objects) {
@@ -1538,7 +1719,7 @@ public class GameServer {
                         update.objectId = pokeball.getId();
                         update.type = NetworkProtocol.NetworkObjectUpdateType.ADD;
                         update.data = pokeball.getSerializableData();
-                        networkServer.sendToAllTCP(update);
+                        interestManager.sendToTile(worldTileX, worldTileY, update);
 
                         GameLogger.info("Spawned pokeball at " + worldTileX + "," + worldTileY);
                         break;
@@ -1581,7 +1762,7 @@ public class GameServer {
                         Vector2 blockPos = new Vector2(placement.tileX, placement.tileY);
                         PlaceableBlock block = ServerGameContext.get().getServerBlockManager().getBlockAt(blockPos);
                         if (block != null) {
-                            chunk.getBlocks().put(blockPos, block);
+                            chunk.addBlock(block);
                             chunk.setDirty(true);
                             ServerGameContext.get().getWorldManager().saveChunk("multiplayer_world", chunk);
                         }
@@ -1589,7 +1770,7 @@ public class GameServer {
                     ServerGameContext.get().getEventManager().fireEvent(
                         new BlockPlaceEvent(placement.username, placement.tileX, placement.tileY, placement.blockTypeId)
                     );
-                    networkServer.sendToAllExceptTCP(connection.getID(), placement);
+                    interestManager.sendToTileExcept(placement.tileX, placement.tileY, connection.getID(), placement);
                 } else {
                     GameLogger.error("Failed to place block at (" + placement.tileX + ", " + placement.tileY + ")");
                 }
@@ -1600,11 +1781,11 @@ public class GameServer {
                 int chunkY = Math.floorDiv(placement.tileY, World.CHUNK_SIZE);
                 Chunk chunk = ServerGameContext.get().getWorldManager().loadChunk("multiplayer_world", chunkX, chunkY);
                 if (chunk != null) {
-                    chunk.getBlocks().remove(new Vector2(placement.tileX, placement.tileY));
+                    chunk.removeBlock(placement.tileX, placement.tileY);
                     chunk.setDirty(true);
                     ServerGameContext.get().getWorldManager().saveChunk("multiplayer_world", chunk);
                 }
-                networkServer.sendToAllExceptTCP(connection.getID(), placement);
+                interestManager.sendToTileExcept(placement.tileX, placement.tileY, connection.getID(), placement);
                 break;
         }
     }
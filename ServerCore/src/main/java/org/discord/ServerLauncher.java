@@ -1,6 +1,5 @@
 package org.discord;
 
-import com.badlogic.gdx.math.Vector2;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import io.github.pokemeetup.multiplayer.server.ServerStorageSystem;
@@ -9,10 +8,12 @@ import io.github.pokemeetup.multiplayer.server.events.EventManager;
 import io.github.pokemeetup.system.data.WorldData;
 import io.github.pokemeetup.system.gameplay.inventory.ItemEntityManager;
 import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
 import io.github.pokemeetup.system.gameplay.overworld.WorldObject;
 import io.github.pokemeetup.utils.storage.GameFileSystem;
 import org.discord.context.ServerGameContext;
 import org.discord.files.ServerFileDelegate;
+import org.discord.simulation.BattleSimulator;
 import org.discord.utils.ServerWorldManager;
 import org.h2.tools.Server;
 
@@ -21,7 +22,10 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import static io.github.pokemeetup.CreatureCaptureGame.MULTIPLAYER_WORLD_NAME;
@@ -34,6 +38,10 @@ public class ServerLauncher {
     public static ServerStorageSystem storage;
 
     public static void main(String[] args) {
+        if (args.length > 0 && "simulate".equals(args[0])) {
+            BattleSimulator.run(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         Server h2Server = null;
         try {
             logger.info("Initializing server deployment...");
@@ -81,24 +89,30 @@ public class ServerLauncher {
     private static void generateInitialChunks(ServerWorldManager serverWorldManager, WorldData worldData) {
         logger.info("Generating initial spawn chunks...");
         int radius = 2;
+        List<CompletableFuture<Chunk>> pending = new ArrayList<>();
         for (int x = -radius; x <= radius; x++) {
             for (int y = -radius; y <= radius; y++) {
-                try {
-                    Chunk chunk = serverWorldManager.loadChunk("multiplayer_world", x, y);
-                    if (chunk != null) {
-                        serverWorldManager.saveChunk("multiplayer_world", chunk);
-                        logger.info(String.format("Generated chunk at (%d, %d)", x, y));
-                    }
-                } catch (Exception e) {
-                    logger.warning(String.format("Failed to generate chunk at (%d, %d): %s", x, y, e.getMessage()));
-                }
+                final int cx = x, cy = y;
+                pending.add(serverWorldManager.getChunkProvider().requestChunk("multiplayer_world", x, y)
+                    .whenComplete((chunk, error) -> {
+                        if (error != null) {
+                            logger.warning(String.format("Failed to generate chunk at (%d, %d): %s", cx, cy, error.getMessage()));
+                        } else {
+                            logger.info(String.format("Generated chunk at (%d, %d)", cx, cy));
+                        }
+                    }));
             }
         }
+        try {
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+        } catch (Exception e) {
+            logger.warning("Some spawn chunks failed to generate: " + e.getMessage());
+        }
         for (int x = -radius; x <= radius; x++) {
             for (int y = -radius; y <= radius; y++) {
-                Vector2 chunkPos = new Vector2(x, y);
-                List<WorldObject> objects = worldData.getChunkObjects().get(chunkPos);
-                if (objects != null) {
+                List<WorldObject> objects = ServerGameContext.get().getWorldObjectManager()
+                    .getObjectsForChunk(MULTIPLAYER_WORLD_NAME, ChunkPos.pack(x, y));
+                if (!objects.isEmpty()) {
                     logger.info(String.format("Chunk (%d, %d) contains %d objects", x, y, objects.size()));
                     for (WorldObject obj : objects) {
                         if (obj != null) {
@@ -111,7 +125,7 @@ public class ServerLauncher {
         }
 
         logger.info("Initial spawn chunks generated");
-        serverWorldManager.saveWorld(worldData);
+        serverWorldManager.markWorldDirty(worldData);
     }
 
     private static Server startH2Server() throws Exception {
@@ -2,40 +2,99 @@ package org.discord;
 
 import com.badlogic.gdx.math.Vector2;
 import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
+import io.github.pokemeetup.system.gameplay.overworld.ObjectCollisionGrid;
 import io.github.pokemeetup.system.gameplay.overworld.WorldObject;
+import io.github.pokemeetup.utils.ConcurrentLongMap;
 import io.github.pokemeetup.utils.GameLogger;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ServerWorldObjectManager {
 
-    private final Map<String, Map<Vector2, List<WorldObject>>> worldObjectsByWorld = new ConcurrentHashMap<>();
-    private final Map<Vector2, Long> lastChunkAccess = new ConcurrentHashMap<>();
+    private final Map<String, ConcurrentLongMap<List<WorldObject>>> worldObjectsByWorld = new ConcurrentHashMap<>();
+    private final ConcurrentLongMap<Long> lastChunkAccess = new ConcurrentLongMap<>();
+    private final Map<String, ConcurrentLongMap<AtomicInteger>> objectVersions = new ConcurrentHashMap<>();
+    private final Map<String, ObjectCollisionGrid> collisionGrids = new ConcurrentHashMap<>();
+
+    private static long chunkKey(Vector2 chunkPos) {
+        return ChunkPos.pack((int) chunkPos.x, (int) chunkPos.y);
+    }
+
+    private ConcurrentLongMap<List<WorldObject>> worldObjects(String worldName) {
+        return worldObjectsByWorld.computeIfAbsent(worldName, k -> new ConcurrentLongMap<>());
+    }
+
+    /**
+     * Per-chunk counter bumped whenever the chunk's object list changes.
+     */
+    public int getObjectVersion(String worldName, Vector2 chunkPos) {
+        return getObjectVersion(worldName, chunkKey(chunkPos));
+    }
+
+    public int getObjectVersion(String worldName, long chunkKey) {
+        ConcurrentLongMap<AtomicInteger> versions = objectVersions.get(worldName);
+        if (versions == null) return 0;
+        AtomicInteger version = versions.get(chunkKey);
+        return version != null ? version.get() : 0;
+    }
+
+    private void bumpObjectVersion(String worldName, long chunkKey) {
+        objectVersions.computeIfAbsent(worldName, k -> new ConcurrentLongMap<>())
+            .computeIfAbsent(chunkKey, k -> new AtomicInteger())
+            .incrementAndGet();
+    }
+
+    private ObjectCollisionGrid collisionGrid(String worldName) {
+        return collisionGrids.computeIfAbsent(worldName, k -> new ObjectCollisionGrid());
+    }
+
+    /**
+     * Whether a collidable object's collision box covers the tile.
+     */
+    public boolean hasCollisionAt(String worldName, int tileX, int tileY) {
+        ObjectCollisionGrid grid = collisionGrids.get(worldName);
+        return grid != null && grid.isBlocked(tileX, tileY);
+    }
 
     public void initializeWorld(String worldName) {
-        worldObjectsByWorld.putIfAbsent(worldName, new ConcurrentHashMap<>());
+        worldObjectsByWorld.putIfAbsent(worldName, new ConcurrentLongMap<>());
     }
 
     public List<WorldObject> getObjectsForChunk(String worldName, Vector2 chunkPos) {
-        Map<Vector2, List<WorldObject>> worldObjects = worldObjectsByWorld.get(worldName);
+        return getObjectsForChunk(worldName, chunkKey(chunkPos));
+    }
+
+    public List<WorldObject> getObjectsForChunk(String worldName, long chunkKey) {
+        ConcurrentLongMap<List<WorldObject>> worldObjects = worldObjectsByWorld.get(worldName);
         if (worldObjects == null) return new ArrayList<>();
-        List<WorldObject> objects = worldObjects.get(chunkPos);
-        lastChunkAccess.put(chunkPos, System.currentTimeMillis());
+        List<WorldObject> objects = worldObjects.get(chunkKey);
+        lastChunkAccess.put(chunkKey, System.currentTimeMillis());
         return objects != null ? objects : new ArrayList<>();
     }
 
     public void removeObject(String worldName, Vector2 chunkPos, String objectId) {
-        Map<Vector2, List<WorldObject>> worldObjects = worldObjectsByWorld.get(worldName);
+        removeObject(worldName, chunkKey(chunkPos), objectId);
+    }
+
+    public void removeObject(String worldName, long chunkKey, String objectId) {
+        ConcurrentLongMap<List<WorldObject>> worldObjects = worldObjectsByWorld.get(worldName);
         if (worldObjects == null) return;
-        List<WorldObject> objects = worldObjects.get(chunkPos);
+        List<WorldObject> objects = worldObjects.get(chunkKey);
         if (objects != null) {
-            objects.removeIf(obj -> obj.getId().equals(objectId));
+            for (WorldObject obj : objects) {
+                if (obj.getId().equals(objectId) && objects.remove(obj)) {
+                    collisionGrid(worldName).remove(obj);
+                }
+            }
             if (objects.isEmpty()) {
-                worldObjects.remove(chunkPos);
+                worldObjects.remove(chunkKey);
             }
-            GameLogger.info("Removed object " + objectId + " from chunk " + chunkPos);
+            bumpObjectVersion(worldName, chunkKey);
+            GameLogger.info("Removed object " + objectId + " from chunk " + ChunkPos.fromLong(chunkKey));
         }
     }
 
@@ -43,7 +102,7 @@ public class ServerWorldObjectManager {
      * Instead of running our own per–tile object placement algorithm,
      * we simply retrieve the world objects that were already generated by UnifiedWorldGenerator.
      */
-    public List<WorldObject> generateObjectsForChunk(String worldName, Vector2 chunkPos, Chunk chunk) {
+    public List<WorldObject> generateObjectsForChunk(String worldName, long chunkKey, Chunk chunk) {
         if (chunk == null) return Collections.emptyList();
         List<WorldObject> objects = chunk.getWorldObjects();
         if (objects == null) {
@@ -57,15 +116,25 @@ public class ServerWorldObjectManager {
                 obj.ensureTexture();
             }
         }
-        setObjectsForChunk(worldName, chunkPos, objects);
+        setObjectsForChunk(worldName, chunkKey, objects);
         return objects;
     }
 
     public void setObjectsForChunk(String worldName, Vector2 chunkPos, List<WorldObject> objects) {
+        setObjectsForChunk(worldName, chunkKey(chunkPos), objects);
+    }
+
+    public void setObjectsForChunk(String worldName, long chunkKey, List<WorldObject> objects) {
         try {
+            ObjectCollisionGrid grid = collisionGrid(worldName);
             if (objects == null) {
-                worldObjectsByWorld.computeIfAbsent(worldName, k -> new ConcurrentHashMap<>())
-                    .remove(chunkPos);
+                List<WorldObject> previous = worldObjects(worldName).remove(chunkKey);
+                if (previous != null) {
+                    for (WorldObject obj : previous) {
+                        grid.remove(obj);
+                    }
+                }
+                bumpObjectVersion(worldName, chunkKey);
                 return;
             }
             List<WorldObject> safeObjects = new CopyOnWriteArrayList<>();
@@ -78,8 +147,16 @@ public class ServerWorldObjectManager {
                     safeObjects.add(obj);
                 }
             }
-            worldObjectsByWorld.computeIfAbsent(worldName, k -> new ConcurrentHashMap<>())
-                .put(chunkPos, safeObjects);
+            List<WorldObject> previous = worldObjects(worldName).put(chunkKey, safeObjects);
+            for (WorldObject obj : safeObjects) {
+                grid.add(obj);
+            }
+            if (previous != null) {
+                for (WorldObject obj : previous) {
+                    grid.remove(obj);
+                }
+            }
+            bumpObjectVersion(worldName, chunkKey);
         } catch (Exception e) {
             GameLogger.error("Error setting chunk objects: " + e.getMessage());
         }
@@ -88,5 +165,7 @@ public class ServerWorldObjectManager {
     public void cleanup() {
         worldObjectsByWorld.clear();
         lastChunkAccess.clear();
+        objectVersions.clear();
+        collisionGrids.clear();
     }
 }
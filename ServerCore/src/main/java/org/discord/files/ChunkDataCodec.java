@@ -0,0 +1,213 @@
+package org.discord.files;
+
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import io.github.pokemeetup.system.data.BlockSaveData;
+import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.biomes.BiomeType;
+import io.github.pokemeetup.utils.storage.JsonConfig;
+import org.discord.utils.ServerWorldManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary encoding of {@link ServerWorldManager.ChunkData} used as the region file payload.
+ * Tiles and world objects are written field by field; placed blocks keep their existing
+ * {@code Json.Serializable} form (compact, not pretty-printed) since chest contents nest item lists.
+ * <p>
+ * Version 2 stores tiles as the chunk's flat {@code short} array; version 1 payloads, which hold
+ * an {@code int} per tile in {@code [x][y]} order, are still read.
+ */
+public final class ChunkDataCodec {
+    private static final int FORMAT_VERSION = 2;
+    private static final int FORMAT_VERSION_INT_TILES = 1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_INT = 2;
+    private static final byte TAG_LONG = 3;
+    private static final byte TAG_FLOAT = 4;
+    private static final byte TAG_DOUBLE = 5;
+    private static final byte TAG_BOOLEAN = 6;
+
+    private ChunkDataCodec() {
+    }
+
+    public static byte[] encode(ServerWorldManager.ChunkData cd) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(2048);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(FORMAT_VERSION);
+        out.writeInt(cd.chunkX);
+        out.writeInt(cd.chunkY);
+        out.writeUTF(cd.biomeType != null ? cd.biomeType.name() : "");
+        out.writeLong(cd.generationSeed);
+
+        short[] tiles = cd.tiles != null ? cd.tiles : Chunk.packTiles(cd.tileData);
+        int tileCount = tiles != null ? tiles.length : 0;
+        out.writeShort(tileCount);
+        for (int i = 0; i < tileCount; i++) {
+            out.writeShort(tiles[i]);
+        }
+
+        if (cd.blockData != null && !cd.blockData.isEmpty()) {
+            Json json = JsonConfig.getInstance();
+            out.writeBoolean(true);
+            writeLongString(out, json.toJson(new ArrayList<>(cd.blockData), ArrayList.class, BlockSaveData.BlockData.class));
+        } else {
+            out.writeBoolean(false);
+        }
+
+        List<HashMap<String, Object>> objects = cd.worldObjects;
+        out.writeInt(objects != null ? objects.size() : 0);
+        if (objects != null) {
+            for (Map<String, Object> obj : objects) {
+                out.writeShort(obj.size());
+                for (Map.Entry<String, Object> e : obj.entrySet()) {
+                    out.writeUTF(e.getKey());
+                    writeValue(out, e.getValue());
+                }
+            }
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static ServerWorldManager.ChunkData decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        int version = in.readUnsignedByte();
+        if (version != FORMAT_VERSION && version != FORMAT_VERSION_INT_TILES) {
+            throw new IOException("Unsupported chunk format version " + version);
+        }
+        ServerWorldManager.ChunkData cd = new ServerWorldManager.ChunkData();
+        cd.chunkX = in.readInt();
+        cd.chunkY = in.readInt();
+        String biomeName = in.readUTF();
+        cd.biomeType = biomeName.isEmpty() ? null : BiomeType.valueOf(biomeName);
+        cd.generationSeed = in.readLong();
+
+        if (version == FORMAT_VERSION_INT_TILES) {
+            int width = in.readUnsignedShort();
+            int height = in.readUnsignedShort();
+            int[][] tiles = new int[width][height];
+            for (int x = 0; x < width; x++) {
+                for (int y = 0; y < height; y++) {
+                    tiles[x][y] = in.readInt();
+                }
+            }
+            cd.tiles = Chunk.packTiles(tiles);
+        } else {
+            short[] tiles = new short[in.readUnsignedShort()];
+            for (int i = 0; i < tiles.length; i++) {
+                tiles[i] = in.readShort();
+            }
+            cd.tiles = tiles;
+        }
+
+        if (in.readBoolean()) {
+            Json json = JsonConfig.getInstance();
+            cd.blockData = json.fromJson(ArrayList.class, BlockSaveData.BlockData.class, readLongString(in));
+        } else {
+            cd.blockData = new ArrayList<>();
+        }
+
+        int objectCount = in.readInt();
+        cd.worldObjects = new ArrayList<>(objectCount);
+        for (int i = 0; i < objectCount; i++) {
+            int fields = in.readUnsignedShort();
+            HashMap<String, Object> obj = new HashMap<>(fields * 2);
+            for (int f = 0; f < fields; f++) {
+                String key = in.readUTF();
+                obj.put(key, readValue(in));
+            }
+            cd.worldObjects.add(obj);
+        }
+        return cd;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof JsonValue) {
+            value = unwrap((JsonValue) value);
+        }
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof Integer) {
+            out.writeByte(TAG_INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(TAG_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            out.writeByte(TAG_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else {
+            out.writeByte(TAG_STRING);
+            out.writeUTF(value.toString());
+        }
+    }
+
+    /**
+     * Legacy JSON chunks may hold untyped values as {@link JsonValue}s (optionally wrapped as
+     * {@code {"value": ...}}); reduce them to plain boxed primitives before writing.
+     */
+    private static Object unwrap(JsonValue value) {
+        if (value.isObject() && value.has("value")) {
+            value = value.get("value");
+        }
+        if (value.isNull()) return null;
+        if (value.isBoolean()) return value.asBoolean();
+        if (value.isLong()) return value.asLong();
+        if (value.isDouble()) return value.asDouble();
+        return value.isString() ? value.asString() : value.toJson(JsonWriter.OutputType.json);
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_STRING:
+                return in.readUTF();
+            case TAG_INT:
+                return in.readInt();
+            case TAG_LONG:
+                return in.readLong();
+            case TAG_FLOAT:
+                return in.readFloat();
+            case TAG_DOUBLE:
+                return in.readDouble();
+            case TAG_BOOLEAN:
+                return in.readBoolean();
+            default:
+                throw new IOException("Unknown value tag " + tag);
+        }
+    }
+
+    private static void writeLongString(DataOutputStream out, String s) throws IOException {
+        byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readLongString(DataInputStream in) throws IOException {
+        byte[] utf8 = new byte[in.readInt()];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,96 @@
+package org.discord.files;
+
+import com.badlogic.gdx.utils.Json;
+import io.github.pokemeetup.utils.GameLogger;
+import io.github.pokemeetup.utils.storage.JsonConfig;
+import org.discord.utils.ServerWorldManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One-shot migration of a world's legacy {@code chunks/chunk_X_Y.json} directory into region files.
+ * The JSON directory is renamed to {@code chunks_migrated} afterwards rather than deleted, so the
+ * migration runs once and the original data stays around as a backup. Chunks the region store
+ * already holds are never overwritten, so a migration that runs again (e.g. after the rename
+ * failed) cannot clobber chunks edited since.
+ */
+public final class LegacyChunkMigrator {
+    private static final Pattern CHUNK_FILE = Pattern.compile("chunk_(-?\\d+)_(-?\\d+)\\.json");
+
+    private LegacyChunkMigrator() {
+    }
+
+    public static boolean needsMigration(Path legacyChunkDir) {
+        return Files.isDirectory(legacyChunkDir);
+    }
+
+    /**
+     * @return the number of chunks migrated, or -1 if the directory could not be read.
+     */
+    public static int migrate(Path legacyChunkDir, RegionChunkStore store) {
+        if (!needsMigration(legacyChunkDir)) {
+            return 0;
+        }
+        GameLogger.info("Migrating legacy JSON chunks from " + legacyChunkDir + " to " + store.getRegionDir());
+        Json json = JsonConfig.getInstance();
+        int migrated = 0;
+        int skipped = 0;
+        int failed = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(legacyChunkDir, "chunk_*.json")) {
+            for (Path file : files) {
+                Matcher m = CHUNK_FILE.matcher(file.getFileName().toString());
+                if (!m.matches()) {
+                    continue;
+                }
+                try {
+                    int chunkX = Integer.parseInt(m.group(1));
+                    int chunkY = Integer.parseInt(m.group(2));
+                    if (store.read(chunkX, chunkY) != null) {
+                        skipped++;
+                        continue;
+                    }
+                    String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+                    if (content.isEmpty()) {
+                        continue;
+                    }
+                    ServerWorldManager.ChunkData cd = json.fromJson(ServerWorldManager.ChunkData.class, content);
+                    cd.chunkX = chunkX;
+                    cd.chunkY = chunkY;
+                    store.write(cd.chunkX, cd.chunkY, ChunkDataCodec.encode(cd));
+                    migrated++;
+                } catch (Exception e) {
+                    failed++;
+                    GameLogger.error("Failed to migrate legacy chunk " + file.getFileName() + ": " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            GameLogger.error("Could not read legacy chunk directory " + legacyChunkDir + ": " + e.getMessage());
+            return -1;
+        }
+        store.flush();
+
+        Path backup = legacyChunkDir.resolveSibling("chunks_migrated");
+        if (Files.exists(backup)) {
+            backup = legacyChunkDir.resolveSibling("chunks_migrated_" + System.currentTimeMillis());
+        }
+        try {
+            Files.move(legacyChunkDir, backup);
+        } catch (IOException e) {
+            GameLogger.error("Migrated chunks but could not rename " + legacyChunkDir + ": " + e.getMessage());
+        }
+        if (failed > 0) {
+            GameLogger.error(failed + " legacy chunks failed to migrate; originals kept in " + backup.getFileName());
+        }
+        if (skipped > 0) {
+            GameLogger.info("Skipped " + skipped + " legacy chunks already present in region files");
+        }
+        GameLogger.info("Migrated " + migrated + " legacy chunks into region files");
+        return migrated;
+    }
+}
@@ -0,0 +1,81 @@
+package org.discord.files;
+
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
+import io.github.pokemeetup.utils.GameLogger;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Chunk storage for one world, backed by {@link RegionFile}s named {@code r.<rx>.<ry>.region}.
+ * Region files are opened lazily and kept open until {@link #close()}.
+ */
+public class RegionChunkStore {
+    private final Path regionDir;
+    private final Map<Long, RegionFile> regions = new ConcurrentHashMap<>();
+
+    public RegionChunkStore(Path regionDir) {
+        this.regionDir = regionDir;
+    }
+
+    private RegionFile regionFor(int chunkX, int chunkY) throws IOException {
+        int regionX = Math.floorDiv(chunkX, RegionFile.REGION_SIZE);
+        int regionY = Math.floorDiv(chunkY, RegionFile.REGION_SIZE);
+        long key = ChunkPos.pack(regionX, regionY);
+        RegionFile region = regions.get(key);
+        if (region != null) {
+            return region;
+        }
+        synchronized (regions) {
+            region = regions.get(key);
+            if (region == null) {
+                region = new RegionFile(regionDir.resolve("r." + regionX + "." + regionY + ".region"));
+                regions.put(key, region);
+            }
+            return region;
+        }
+    }
+
+    public byte[] read(int chunkX, int chunkY) throws IOException {
+        return regionFor(chunkX, chunkY).read(
+            Math.floorMod(chunkX, RegionFile.REGION_SIZE),
+            Math.floorMod(chunkY, RegionFile.REGION_SIZE));
+    }
+
+    public void write(int chunkX, int chunkY, byte[] payload) throws IOException {
+        regionFor(chunkX, chunkY).write(
+            Math.floorMod(chunkX, RegionFile.REGION_SIZE),
+            Math.floorMod(chunkY, RegionFile.REGION_SIZE),
+            payload);
+    }
+
+    public void flush() {
+        for (RegionFile region : regions.values()) {
+            try {
+                region.flush();
+            } catch (IOException e) {
+                GameLogger.error("Failed to flush region " + region.getPath() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    public void close() {
+        synchronized (regions) {
+            for (RegionFile region : regions.values()) {
+                try {
+                    region.flush();
+                    region.close();
+                } catch (IOException e) {
+                    GameLogger.error("Failed to close region " + region.getPath() + ": " + e.getMessage());
+                }
+            }
+            regions.clear();
+        }
+    }
+
+    public Path getRegionDir() {
+        return regionDir;
+    }
+}
@@ -0,0 +1,181 @@
+package org.discord.files;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+
+/**
+ * A single region file holding up to {@value #REGION_SIZE}x{@value #REGION_SIZE} chunks.
+ * <p>
+ * Layout: the first sector is an offset table of 1024 ints, one per chunk, each packing
+ * {@code (sectorOffset << 8) | sectorCount}. Chunk payloads follow in 4 KB sectors as
+ * {@code [int compressedLength][int rawLength][LZ4 bytes]}. Freed sectors are reused on
+ * later writes. Reads go through a memory-mapped view that is remapped when the file grows.
+ */
+public class RegionFile implements Closeable {
+    public static final int REGION_SIZE = 32;
+    public static final int SECTOR_BYTES = 4096;
+    private static final int CHUNKS_PER_REGION = REGION_SIZE * REGION_SIZE;
+    private static final int PAYLOAD_HEADER_BYTES = 8;
+    private static final int MAX_SECTORS_PER_CHUNK = 255;
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int[] offsets = new int[CHUNKS_PER_REGION];
+    private final BitSet usedSectors = new BitSet();
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    private final LZ4SafeDecompressor decompressor = LZ4.safeDecompressor();
+    private MappedByteBuffer mapped;
+
+    public RegionFile(Path path) throws IOException {
+        this.path = path;
+        Path parent = path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() < SECTOR_BYTES) {
+            channel.write(ByteBuffer.allocate(SECTOR_BYTES), 0);
+        }
+        readHeader();
+    }
+
+    private void readHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(SECTOR_BYTES);
+        channel.read(header, 0);
+        header.flip();
+        usedSectors.set(0);
+        long fileSectors = (channel.size() + SECTOR_BYTES - 1) / SECTOR_BYTES;
+        for (int i = 0; i < CHUNKS_PER_REGION; i++) {
+            int entry = header.getInt();
+            int sectorOffset = entry >>> 8;
+            int sectorCount = entry & 0xFF;
+            if (entry != 0 && sectorOffset + sectorCount <= fileSectors) {
+                offsets[i] = entry;
+                usedSectors.set(sectorOffset, sectorOffset + sectorCount);
+            }
+        }
+    }
+
+    private static int index(int localX, int localY) {
+        return localX + localY * REGION_SIZE;
+    }
+
+    public synchronized boolean hasChunk(int localX, int localY) {
+        return offsets[index(localX, localY)] != 0;
+    }
+
+    /**
+     * Returns the decompressed payload of the chunk, or null if it has never been written.
+     */
+    public synchronized byte[] read(int localX, int localY) throws IOException {
+        int entry = offsets[index(localX, localY)];
+        if (entry == 0) {
+            return null;
+        }
+        long start = (long) (entry >>> 8) * SECTOR_BYTES;
+        MappedByteBuffer view = mapping(start + (long) (entry & 0xFF) * SECTOR_BYTES);
+        int compressedLength = view.getInt((int) start);
+        int rawLength = view.getInt((int) start + 4);
+        if (compressedLength <= 0 || rawLength < 0
+            || compressedLength + PAYLOAD_HEADER_BYTES > (entry & 0xFF) * SECTOR_BYTES) {
+            throw new IOException("Corrupt chunk entry " + localX + "," + localY + " in " + path);
+        }
+        byte[] raw = new byte[rawLength];
+        int decoded = decompressor.decompress(view, (int) start + PAYLOAD_HEADER_BYTES, compressedLength,
+            ByteBuffer.wrap(raw), 0, rawLength);
+        if (decoded != rawLength) {
+            throw new IOException("Chunk " + localX + "," + localY + " decompressed to " + decoded
+                + " bytes, expected " + rawLength);
+        }
+        return raw;
+    }
+
+    /**
+     * Compresses and stores the payload, reusing the chunk's current sectors when it still fits.
+     */
+    public synchronized void write(int localX, int localY, byte[] raw) throws IOException {
+        int idx = index(localX, localY);
+        int maxCompressed = compressor.maxCompressedLength(raw.length);
+        byte[] buffer = new byte[PAYLOAD_HEADER_BYTES + maxCompressed];
+        int compressedLength = compressor.compress(raw, 0, raw.length, buffer, PAYLOAD_HEADER_BYTES, maxCompressed);
+        ByteBuffer.wrap(buffer, 0, PAYLOAD_HEADER_BYTES).putInt(compressedLength).putInt(raw.length);
+
+        int totalBytes = PAYLOAD_HEADER_BYTES + compressedLength;
+        int sectorsNeeded = (totalBytes + SECTOR_BYTES - 1) / SECTOR_BYTES;
+        if (sectorsNeeded > MAX_SECTORS_PER_CHUNK) {
+            throw new IOException("Chunk " + localX + "," + localY + " too large for region file ("
+                + totalBytes + " bytes)");
+        }
+
+        int entry = offsets[idx];
+        int sectorOffset = entry >>> 8;
+        int sectorCount = entry & 0xFF;
+        if (entry == 0 || sectorCount != sectorsNeeded) {
+            if (entry != 0) {
+                usedSectors.clear(sectorOffset, sectorOffset + sectorCount);
+            }
+            sectorOffset = allocate(sectorsNeeded);
+            usedSectors.set(sectorOffset, sectorOffset + sectorsNeeded);
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(sectorsNeeded * SECTOR_BYTES);
+        out.put(buffer, 0, totalBytes);
+        out.clear();
+        channel.write(out, (long) sectorOffset * SECTOR_BYTES);
+
+        int newEntry = (sectorOffset << 8) | sectorsNeeded;
+        offsets[idx] = newEntry;
+        ByteBuffer headerEntry = ByteBuffer.allocate(4).putInt(newEntry);
+        headerEntry.flip();
+        channel.write(headerEntry, (long) idx * 4);
+    }
+
+    private int allocate(int sectors) {
+        int candidate = usedSectors.nextClearBit(1);
+        while (true) {
+            int nextUsed = usedSectors.nextSetBit(candidate);
+            if (nextUsed == -1 || nextUsed - candidate >= sectors) {
+                return candidate;
+            }
+            candidate = usedSectors.nextClearBit(nextUsed);
+        }
+    }
+
+    private MappedByteBuffer mapping(long requiredEnd) throws IOException {
+        if (mapped == null || mapped.capacity() < requiredEnd) {
+            long size = channel.size();
+            if (size < requiredEnd) {
+                throw new IOException("Region file " + path + " truncated");
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        return mapped;
+    }
+
+    public synchronized void flush() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        mapped = null;
+        channel.close();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+}
@@ -28,7 +28,11 @@ public class ServerFileDelegate implements FileSystemDelegate {
         }
     }
     public ServerFileDelegate() {
-        this.basePath = System.getProperty("user.dir");
+        this(System.getProperty("user.dir"));
+    }
+
+    public ServerFileDelegate(String basePath) {
+        this.basePath = basePath;
         logger.info("Initialized server file system with base path: " + basePath);
     }
 
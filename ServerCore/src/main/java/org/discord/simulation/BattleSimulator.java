@@ -0,0 +1,277 @@
+package org.discord.simulation;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.pokemeetup.pokemon.Pokemon;
+import io.github.pokemeetup.pokemon.attacks.Move;
+import io.github.pokemeetup.pokemon.data.PokemonDatabase;
+import io.github.pokemeetup.system.battle.BattleEngine;
+import io.github.pokemeetup.system.battle.BattleEvent;
+import io.github.pokemeetup.system.battle.BattleRandom;
+import io.github.pokemeetup.system.battle.BattleState;
+import io.github.pokemeetup.system.battle.Combatant;
+import io.github.pokemeetup.utils.GameLogger;
+import io.github.pokemeetup.utils.storage.GameFileSystem;
+import org.discord.files.ServerFileDelegate;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Balance report for pokemon.json and moves.json: simulates wild battles between random species
+ * at random levels and prints win rates, average battle length and how hard each move type hits.
+ * <p>
+ * Run with {@code java -jar server.jar simulate [--option=value ...]}; see {@link #printUsage}.
+ * Battles go through {@link BattleEngine} on immutable {@link Combatant}s built once per species
+ * and level, split across cores with fork/join. Each block of battles is seeded from the run
+ * seed and its position, so a seed gives the same report on any number of threads.
+ */
+public final class BattleSimulator {
+    private static final long DEFAULT_BATTLES = 1_000_000L;
+    private static final int DEFAULT_MIN_LEVEL = 5;
+    private static final int DEFAULT_MAX_LEVEL = 50;
+    // Battles still going after this many turns are counted as draws.
+    private static final int MAX_TURNS = 500;
+    private static final int BATCH_SIZE = 4096;
+    private static final Set<String> OPTIONS = new HashSet<>(Arrays.asList(
+        "battles", "species", "min-level", "max-level", "threads", "seed", "data"));
+
+    private final String[] names;
+    // Indexed by [species][level - minLevel]; species are indices into names, not database ids.
+    private final Combatant[][] combatants;
+    private final long seed;
+
+    private BattleSimulator(String[] names, Combatant[][] combatants, long seed) {
+        this.names = names;
+        this.combatants = combatants;
+        this.seed = seed;
+    }
+
+    public static void main(String[] args) {
+        run(args);
+    }
+
+    /**
+     * Parses the options, loads the game data, runs the battles and prints the report to stdout.
+     * Exits with status 1 on bad options or missing data.
+     */
+    public static void run(String[] args) {
+        Map<String, String> options = parseOptions(args);
+        if (options == null) {
+            printUsage();
+            System.exit(1);
+        }
+        long battles;
+        int minLevel;
+        int maxLevel;
+        int threads;
+        long seed;
+        try {
+            battles = Long.parseLong(options.getOrDefault("battles", String.valueOf(DEFAULT_BATTLES)));
+            minLevel = Integer.parseInt(options.getOrDefault("min-level", String.valueOf(DEFAULT_MIN_LEVEL)));
+            maxLevel = Integer.parseInt(options.getOrDefault("max-level", String.valueOf(DEFAULT_MAX_LEVEL)));
+            threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+            seed = options.containsKey("seed") ? Long.parseLong(options.get("seed")) : System.nanoTime();
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid number: " + e.getMessage());
+            printUsage();
+            System.exit(1);
+            return;
+        }
+        if (battles <= 0 || minLevel < 1 || maxLevel > 100 || minLevel > maxLevel || threads < 1) {
+            printUsage();
+            System.exit(1);
+        }
+
+        GameFileSystem.getInstance().setDelegate(
+            new ServerFileDelegate(options.getOrDefault("data", System.getProperty("user.dir"))));
+        // Keep the database's load messages out of the report; errors still show.
+        GameLogger.setLogging(false, true);
+        PokemonDatabase.initialize();
+
+        BattleSimulator simulator = create(options.get("species"), minLevel, maxLevel, seed);
+        if (simulator == null) {
+            System.exit(1);
+        }
+        System.out.printf("Simulating %d battles of %d species at levels %d-%d on %d threads, seed %d%n%n",
+            battles, simulator.names.length, minLevel, maxLevel, threads, seed);
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        SimulationTally tally;
+        try {
+            tally = pool.invoke(simulator.new BattleTask(0, battles));
+        } finally {
+            pool.shutdown();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        tally.print(System.out, simulator.names);
+        System.out.printf("%nSimulated in %.2f s: %.0f battles/s, %.0f turns/s%n",
+            seconds, tally.battles / seconds, tally.turns / seconds);
+    }
+
+    /**
+     * @param speciesList comma-separated species names, or null for every species
+     * @return null if a listed species does not exist
+     */
+    private static BattleSimulator create(String speciesList, int minLevel, int maxLevel, long seed) {
+        int[] speciesIds;
+        if (speciesList == null) {
+            speciesIds = new int[PokemonDatabase.getSpeciesCount()];
+            for (int i = 0; i < speciesIds.length; i++) {
+                speciesIds[i] = i;
+            }
+        } else {
+            String[] requested = speciesList.split(",");
+            speciesIds = new int[requested.length];
+            for (int i = 0; i < requested.length; i++) {
+                speciesIds[i] = PokemonDatabase.getSpeciesId(requested[i].trim());
+                if (speciesIds[i] == PokemonDatabase.NO_SPECIES) {
+                    System.err.println("Unknown species: " + requested[i].trim());
+                    return null;
+                }
+            }
+        }
+        if (speciesIds.length == 0) {
+            System.err.println("No species loaded; check --data");
+            return null;
+        }
+
+        String[] names = new String[speciesIds.length];
+        Combatant[][] combatants = new Combatant[speciesIds.length][maxLevel - minLevel + 1];
+        for (int i = 0; i < speciesIds.length; i++) {
+            PokemonDatabase.PokemonTemplate template = PokemonDatabase.getTemplate(speciesIds[i]);
+            names[i] = template.name;
+            for (int level = minLevel; level <= maxLevel; level++) {
+                combatants[i][level - minLevel] = createCombatant(template, level);
+            }
+        }
+        return new BattleSimulator(names, combatants, seed);
+    }
+
+    // Template stats with fixed IVs and the level-up moveset, without building a Pokemon and its textures.
+    private static Combatant createCombatant(PokemonDatabase.PokemonTemplate template, int level) {
+        PokemonDatabase.BaseStats stats = template.baseStats;
+        List<Move> moves = PokemonDatabase.getMovesForLevel(template.moves, level);
+        return new Combatant(template.name, level, template.primaryType, template.secondaryType,
+            PokemonDatabase.calculateStat(stats.baseHp, level, true),
+            PokemonDatabase.calculateStat(stats.baseAttack, level, false),
+            PokemonDatabase.calculateStat(stats.baseDefense, level, false),
+            PokemonDatabase.calculateStat(stats.baseSpAtk, level, false),
+            PokemonDatabase.calculateStat(stats.baseSpDef, level, false),
+            PokemonDatabase.calculateStat(stats.baseSpeed, level, false),
+            moves.toArray(new Move[0]));
+    }
+
+    private SimulationTally runBatch(long from, long to) {
+        SimulationTally tally = new SimulationTally(names.length);
+        BattleRandom random = new BattleRandom(new BattleRandom(seed ^ from).nextLong());
+        Array<BattleEvent> events = new Array<>(false, 32);
+        // Type of the move each side used last this turn; null while it struggles.
+        Pokemon.PokemonType[] moveTypes = new Pokemon.PokemonType[2];
+        int speciesCount = names.length;
+        int levelCount = combatants[0].length;
+
+        for (long battle = from; battle < to; battle++) {
+            int playerSpecies = random.range(0, speciesCount - 1);
+            int enemySpecies = random.range(0, speciesCount - 1);
+            BattleState state = new BattleState(
+                combatants[playerSpecies][random.range(0, levelCount - 1)],
+                combatants[enemySpecies][random.range(0, levelCount - 1)]);
+
+            while (!state.isOver() && state.getTurn() < MAX_TURNS) {
+                events.clear();
+                int playerAction = BattleEngine.chooseMove(state.getPlayer(), state.getEnemy());
+                int enemyAction = BattleEngine.chooseMove(state.getEnemy(), state.getPlayer());
+                state = BattleEngine.resolveTurn(state, playerAction, enemyAction, random, events);
+                for (int i = 0; i < events.size; i++) {
+                    BattleEvent event = events.get(i);
+                    switch (event.type) {
+                        case MOVE_USED:
+                            moveTypes[event.side] = event.move.getType();
+                            break;
+                        case STRUGGLE:
+                            moveTypes[event.side] = null;
+                            break;
+                        case DAMAGE: {
+                            int attacker = BattleState.opponent(event.side);
+                            tally.recordHit(attacker == BattleState.PLAYER ? playerSpecies : enemySpecies,
+                                moveTypes[attacker], event.amount, state.get(event.side).getMaxHp());
+                            break;
+                        }
+                        default:
+                            break;
+                    }
+                }
+            }
+
+            int turns = state.getTurn();
+            tally.battles++;
+            tally.turns += turns;
+            tally.appearances[playerSpecies]++;
+            tally.appearances[enemySpecies]++;
+            tally.battleTurns[playerSpecies] += turns;
+            tally.battleTurns[enemySpecies] += turns;
+            int winner = state.getWinner();
+            if (winner == BattleState.PLAYER) {
+                tally.wins[playerSpecies]++;
+            } else if (winner == BattleState.ENEMY) {
+                tally.wins[enemySpecies]++;
+            } else {
+                tally.draws++;
+            }
+        }
+        return tally;
+    }
+
+    private final class BattleTask extends RecursiveTask<SimulationTally> {
+        private final long from;
+        private final long to;
+
+        BattleTask(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationTally compute() {
+            if (to - from <= BATCH_SIZE) {
+                return runBatch(from, to);
+            }
+            long mid = (from + to) >>> 1;
+            BattleTask left = new BattleTask(from, mid);
+            left.fork();
+            SimulationTally right = new BattleTask(mid, to).compute();
+            SimulationTally result = left.join();
+            result.merge(right);
+            return result;
+        }
+    }
+
+    // Accepts known --name=value pairs only; returns null on anything else.
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0 || !OPTIONS.contains(arg.substring(2, equals))) {
+                System.err.println("Unknown option: " + arg);
+                return null;
+            }
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        return options;
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: simulate [--battles=" + DEFAULT_BATTLES + "] [--species=name,name,...]"
+            + " [--min-level=" + DEFAULT_MIN_LEVEL + "] [--max-level=" + DEFAULT_MAX_LEVEL + "]"
+            + " [--threads=<cores>] [--seed=<n>] [--data=<directory containing Data/>]");
+    }
+}
@@ -0,0 +1,123 @@
+package org.discord.simulation;
+
+import io.github.pokemeetup.pokemon.Pokemon;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counters for a batch of simulated battles. Each fork/join leaf fills its own tally and the
+ * tallies are merged on the way back up, so no counter is ever shared between threads.
+ */
+class SimulationTally {
+    /** Damage buckets: 0-9%, 10-19%, ... 90-99% of the target's max HP, then 100%. */
+    static final int DAMAGE_BUCKETS = 11;
+    private static final int TYPE_COUNT = Pokemon.PokemonType.values().length;
+
+    private final int speciesCount;
+    long battles;
+    // Battles cut off by the turn limit or where both sides fainted together.
+    long draws;
+    long turns;
+    // Per species, counting every battle a species was on either side of.
+    final long[] appearances;
+    final long[] wins;
+    final long[] battleTurns;
+    final long[] hits;
+    final double[] damagePercent;
+    // Per move type, with Struggle counted only in the totals.
+    final long[][] damageByType = new long[TYPE_COUNT][DAMAGE_BUCKETS];
+    final long[] damageTotal = new long[DAMAGE_BUCKETS];
+
+    SimulationTally(int speciesCount) {
+        this.speciesCount = speciesCount;
+        this.appearances = new long[speciesCount];
+        this.wins = new long[speciesCount];
+        this.battleTurns = new long[speciesCount];
+        this.hits = new long[speciesCount];
+        this.damagePercent = new double[speciesCount];
+    }
+
+    void recordHit(int attackerSpecies, Pokemon.PokemonType moveType, int damage, int targetMaxHp) {
+        float percent = damage * 100f / targetMaxHp;
+        int bucket = Math.min(DAMAGE_BUCKETS - 1, (int) (percent / 10f));
+        hits[attackerSpecies]++;
+        damagePercent[attackerSpecies] += percent;
+        damageTotal[bucket]++;
+        if (moveType != null) {
+            damageByType[moveType.ordinal()][bucket]++;
+        }
+    }
+
+    void merge(SimulationTally other) {
+        battles += other.battles;
+        draws += other.draws;
+        turns += other.turns;
+        for (int i = 0; i < speciesCount; i++) {
+            appearances[i] += other.appearances[i];
+            wins[i] += other.wins[i];
+            battleTurns[i] += other.battleTurns[i];
+            hits[i] += other.hits[i];
+            damagePercent[i] += other.damagePercent[i];
+        }
+        for (int type = 0; type < TYPE_COUNT; type++) {
+            for (int bucket = 0; bucket < DAMAGE_BUCKETS; bucket++) {
+                damageByType[type][bucket] += other.damageByType[type][bucket];
+            }
+        }
+        for (int bucket = 0; bucket < DAMAGE_BUCKETS; bucket++) {
+            damageTotal[bucket] += other.damageTotal[bucket];
+        }
+    }
+
+    /**
+     * Prints the species table sorted by win rate, then the damage distribution by move type.
+     *
+     * @param names species names indexed like the counters
+     */
+    void print(PrintStream out, String[] names) {
+        out.printf("Battles: %d, draws: %d, average turns: %.2f%n%n",
+            battles, draws, battles > 0 ? (double) turns / battles : 0.0);
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < speciesCount; i++) {
+            if (appearances[i] > 0) order.add(i);
+        }
+        order.sort((a, b) -> Double.compare(winRate(b), winRate(a)));
+        out.printf("%-16s %10s %8s %10s %12s%n", "Species", "Battles", "Win %", "Avg turns", "Avg hit %HP");
+        for (int i : order) {
+            out.printf("%-16s %10d %8.2f %10.2f %12.2f%n", names[i], appearances[i], winRate(i) * 100,
+                (double) battleTurns[i] / appearances[i],
+                hits[i] > 0 ? damagePercent[i] / hits[i] : 0.0);
+        }
+
+        out.println();
+        out.println("Damage per hit as % of the target's max HP");
+        StringBuilder header = new StringBuilder(String.format("%-10s %10s", "Move type", "Hits"));
+        for (int bucket = 0; bucket < DAMAGE_BUCKETS; bucket++) {
+            header.append(String.format(" %6s", bucket == DAMAGE_BUCKETS - 1 ? "100" : bucket * 10 + "+"));
+        }
+        out.println(header);
+        for (Pokemon.PokemonType type : Pokemon.PokemonType.values()) {
+            printDamageRow(out, type.name(), damageByType[type.ordinal()]);
+        }
+        printDamageRow(out, "ALL", damageTotal);
+    }
+
+    private double winRate(int species) {
+        return appearances[species] > 0 ? (double) wins[species] / appearances[species] : 0.0;
+    }
+
+    // Buckets as percentages of the row's hits; types that never hit are left out.
+    private static void printDamageRow(PrintStream out, String label, long[] buckets) {
+        long total = 0;
+        for (long count : buckets) total += count;
+        if (total == 0) return;
+        StringBuilder row = new StringBuilder(String.format("%-10s %10d", label, total));
+        for (long count : buckets) {
+            row.append(String.format(" %6.2f", count * 100.0 / total));
+        }
+        out.println(row);
+    }
+}
@@ -0,0 +1,97 @@
+package org.discord.utils;
+
+import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of ready-to-send {@link NetworkProtocol.CompressedChunkData}, weighted by
+ * compressed payload size. Each entry records the chunk version it was encoded from; a lookup
+ * with any other version is a miss and drops the stale entry.
+ */
+public class ChunkPayloadCache {
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final long maxBytes;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long currentBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public ChunkPayloadCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    private static long weigh(NetworkProtocol.CompressedChunkData payload) {
+        return ENTRY_OVERHEAD_BYTES + (payload.data != null ? payload.data.length : 0);
+    }
+
+    public synchronized NetworkProtocol.CompressedChunkData get(int chunkX, int chunkY, long version) {
+        long key = ChunkPos.pack(chunkX, chunkY);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        if (entry.version != version) {
+            entries.remove(key);
+            currentBytes -= entry.weight;
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.payload;
+    }
+
+    public synchronized void put(int chunkX, int chunkY, long version, NetworkProtocol.CompressedChunkData payload) {
+        long weight = weigh(payload);
+        if (weight > maxBytes) {
+            return;
+        }
+        Entry previous = entries.put(ChunkPos.pack(chunkX, chunkY), new Entry(version, payload, weight));
+        if (previous != null) {
+            currentBytes -= previous.weight;
+        }
+        currentBytes += weight;
+        Iterator<Map.Entry<Long, Entry>> it = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && it.hasNext()) {
+            Entry eldest = it.next().getValue();
+            it.remove();
+            currentBytes -= eldest.weight;
+            evictions++;
+        }
+    }
+
+    public synchronized void invalidate(int chunkX, int chunkY) {
+        Entry removed = entries.remove(ChunkPos.pack(chunkX, chunkY));
+        if (removed != null) {
+            currentBytes -= removed.weight;
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        currentBytes = 0;
+    }
+
+    public synchronized String getStats() {
+        return "entries=" + entries.size() + ", bytes=" + currentBytes + "/" + maxBytes +
+            ", hits=" + hits + ", misses=" + misses + ", evictions=" + evictions;
+    }
+
+    private static final class Entry {
+        final long version;
+        final NetworkProtocol.CompressedChunkData payload;
+        final long weight;
+
+        Entry(long version, NetworkProtocol.CompressedChunkData payload, long weight) {
+            this.version = version;
+            this.payload = payload;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.discord.utils;
+
+import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
+import io.github.pokemeetup.utils.GameLogger;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads or generates chunks off the network thread on a work-stealing pool.
+ * <p>
+ * Requests are deduplicated through a map of in-flight futures keyed by chunk coordinate,
+ * so any number of players asking for the same chunk share a single load/generation.
+ */
+public class ChunkProviderService {
+    private final ServerWorldManager worldManager;
+    private final ForkJoinPool pool;
+    private final Map<String, Map<Long, CompletableFuture<Chunk>>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger dedupedRequests = new AtomicInteger();
+
+    public ChunkProviderService(ServerWorldManager worldManager) {
+        this.worldManager = worldManager;
+        int parallelism = Math.max(2, Runtime.getRuntime().availableProcessors() - 1);
+        AtomicInteger threadId = new AtomicInteger();
+        this.pool = new ForkJoinPool(parallelism, p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("ChunkProvider-" + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, (t, e) -> GameLogger.error("Uncaught error in " + t.getName() + ": " + e.getMessage()), true);
+    }
+
+    /**
+     * Returns a future for the chunk. Already-cached chunks complete immediately; otherwise the
+     * chunk is loaded from disk or generated on the pool, joining any request already in flight.
+     */
+    public CompletableFuture<Chunk> requestChunk(String worldName, int chunkX, int chunkY) {
+        Chunk cached = worldManager.getCachedChunk(worldName, chunkX, chunkY);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        Map<Long, CompletableFuture<Chunk>> worldInFlight =
+            inFlight.computeIfAbsent(worldName, k -> new ConcurrentHashMap<>());
+        long key = ChunkPos.pack(chunkX, chunkY);
+        CompletableFuture<Chunk> existing = worldInFlight.get(key);
+        if (existing != null) {
+            dedupedRequests.incrementAndGet();
+            return existing;
+        }
+        CompletableFuture<Chunk> created = new CompletableFuture<>();
+        existing = worldInFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            dedupedRequests.incrementAndGet();
+            return existing;
+        }
+        pool.execute(() -> {
+            try {
+                Chunk chunk = worldManager.loadChunk(worldName, chunkX, chunkY);
+                if (chunk == null) {
+                    created.completeExceptionally(new IllegalStateException(
+                        "Failed to load/generate chunk " + chunkX + "," + chunkY));
+                } else {
+                    created.complete(chunk);
+                }
+            } catch (Throwable t) {
+                created.completeExceptionally(t);
+            } finally {
+                worldInFlight.remove(key, created);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * Runs follow-up work (encoding, sending) on the chunk pool rather than the caller's thread.
+     */
+    public ForkJoinPool getExecutor() {
+        return pool;
+    }
+
+    public int getInFlightCount() {
+        int total = 0;
+        for (Map<Long, CompletableFuture<Chunk>> worldInFlight : inFlight.values()) {
+            total += worldInFlight.size();
+        }
+        return total;
+    }
+
+    public int getDedupedRequestCount() {
+        return dedupedRequests.get();
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(5, TimeUnit.SECONDS)) {
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
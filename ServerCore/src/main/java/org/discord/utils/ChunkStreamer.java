@@ -0,0 +1,235 @@
+package org.discord.utils;
+
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.LongMap;
+import com.esotericsoftware.kryonet.Connection;
+import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
+import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
+import io.github.pokemeetup.utils.GameLogger;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams chunks to clients from a {@link NetworkProtocol.ChunkSubscription} instead of one
+ * request per chunk.
+ * <p>
+ * Each connection has a queue of missing chunks ordered nearest-first around its subscribed
+ * center. At most {@code window} chunks are loading or sent-but-unacknowledged at once, so a
+ * client entering the world cannot flood its own socket. A new subscription re-centers the
+ * queue; chunks that left the radius are dropped before being loaded, and loads that finish
+ * after the player moved away are not sent.
+ */
+public class ChunkStreamer {
+    public static final int MAX_RADIUS = 8;
+    public static final int MAX_WINDOW = 32;
+    private static final int[] SPIRAL_OFFSETS = buildSpiralOffsets(MAX_RADIUS);
+
+    private final ChunkProviderService provider;
+    private final String worldName;
+    private final ChunkSender sender;
+    private final Map<Integer, Stream> streams = new ConcurrentHashMap<>();
+
+    public interface ChunkSender {
+        void send(Connection connection, int chunkX, int chunkY, Chunk chunk);
+    }
+
+    private static final class Stream {
+        final Connection connection;
+        int centerX;
+        int centerY;
+        int radius;
+        int keepRadius;
+        int window;
+        int inFlight;
+        boolean closed;
+        final LongArray queue = new LongArray();
+        int queueHead;
+        // Chunks the client has been sent and has not dropped, and chunks currently loading for it.
+        final LongMap<Boolean> delivered = new LongMap<>();
+        final LongMap<Boolean> loading = new LongMap<>();
+
+        Stream(Connection connection) {
+            this.connection = connection;
+        }
+
+        boolean inRadius(long chunkKey) {
+            return Math.abs(ChunkPos.unpackX(chunkKey) - centerX) <= radius &&
+                Math.abs(ChunkPos.unpackY(chunkKey) - centerY) <= radius;
+        }
+    }
+
+    public ChunkStreamer(ChunkProviderService provider, String worldName, ChunkSender sender) {
+        this.provider = provider;
+        this.worldName = worldName;
+        this.sender = sender;
+    }
+
+    public void subscribe(Connection connection, NetworkProtocol.ChunkSubscription subscription) {
+        Stream stream = streams.computeIfAbsent(connection.getID(), id -> new Stream(connection));
+        synchronized (stream) {
+            stream.centerX = subscription.centerChunkX;
+            stream.centerY = subscription.centerChunkY;
+            stream.radius = Math.max(0, Math.min(subscription.radius, MAX_RADIUS));
+            stream.keepRadius = Math.max(stream.radius, subscription.keepRadius);
+            stream.window = Math.max(1, Math.min(subscription.window, MAX_WINDOW));
+            if (subscription.missing != null) {
+                // A resync: the client lost these, and any send it never acknowledged is gone too.
+                for (long chunkKey : subscription.missing) {
+                    stream.delivered.remove(chunkKey);
+                }
+                stream.inFlight = stream.loading.size;
+            }
+            forgetDropped(stream);
+            rebuildQueue(stream);
+        }
+        pump(stream);
+    }
+
+    public void acknowledge(Connection connection, NetworkProtocol.ChunkStreamAck ack) {
+        Stream stream = streams.get(connection.getID());
+        if (stream == null || ack.count <= 0) {
+            return;
+        }
+        synchronized (stream) {
+            stream.inFlight = Math.max(0, stream.inFlight - ack.count);
+        }
+        pump(stream);
+    }
+
+    public void removeConnection(int connectionId) {
+        Stream stream = streams.remove(connectionId);
+        if (stream != null) {
+            synchronized (stream) {
+                stream.closed = true;
+            }
+        }
+    }
+
+    /**
+     * Drops delivery records for chunks beyond the keep radius, which the client has unloaded.
+     */
+    private static void forgetDropped(Stream stream) {
+        LongArray dropped = null;
+        for (LongMap.Entry<Boolean> entry : stream.delivered.entries()) {
+            if (Math.abs(ChunkPos.unpackX(entry.key) - stream.centerX) > stream.keepRadius ||
+                Math.abs(ChunkPos.unpackY(entry.key) - stream.centerY) > stream.keepRadius) {
+                if (dropped == null) dropped = new LongArray();
+                dropped.add(entry.key);
+            }
+        }
+        if (dropped != null) {
+            for (int i = 0; i < dropped.size; i++) {
+                stream.delivered.remove(dropped.get(i));
+            }
+        }
+    }
+
+    private static void rebuildQueue(Stream stream) {
+        stream.queue.clear();
+        stream.queueHead = 0;
+        for (int i = 0; i < SPIRAL_OFFSETS.length; i += 2) {
+            int dx = SPIRAL_OFFSETS[i];
+            int dy = SPIRAL_OFFSETS[i + 1];
+            if (Math.abs(dx) > stream.radius || Math.abs(dy) > stream.radius) continue;
+            long chunkKey = ChunkPos.pack(stream.centerX + dx, stream.centerY + dy);
+            if (!stream.delivered.containsKey(chunkKey) && !stream.loading.containsKey(chunkKey)) {
+                stream.queue.add(chunkKey);
+            }
+        }
+    }
+
+    /**
+     * Starts loads for queued chunks until the stream's window is full.
+     */
+    private void pump(Stream stream) {
+        LongArray started = null;
+        synchronized (stream) {
+            while (!stream.closed && stream.inFlight < stream.window && stream.queueHead < stream.queue.size) {
+                long chunkKey = stream.queue.get(stream.queueHead++);
+                if (stream.delivered.containsKey(chunkKey) || stream.loading.containsKey(chunkKey)) continue;
+                stream.loading.put(chunkKey, Boolean.TRUE);
+                stream.inFlight++;
+                if (started == null) started = new LongArray();
+                started.add(chunkKey);
+            }
+        }
+        if (started == null) {
+            return;
+        }
+        for (int i = 0; i < started.size; i++) {
+            long chunkKey = started.get(i);
+            int chunkX = ChunkPos.unpackX(chunkKey);
+            int chunkY = ChunkPos.unpackY(chunkKey);
+            provider.requestChunk(worldName, chunkX, chunkY)
+                .thenAcceptAsync(chunk -> onLoaded(stream, chunkKey, chunk), provider.getExecutor())
+                .exceptionally(t -> {
+                    GameLogger.error("Error streaming chunk (" + chunkX + "," + chunkY + "): " + t.getMessage());
+                    release(stream, chunkKey);
+                    return null;
+                });
+        }
+    }
+
+    private void onLoaded(Stream stream, long chunkKey, Chunk chunk) {
+        boolean wanted;
+        synchronized (stream) {
+            stream.loading.remove(chunkKey);
+            wanted = !stream.closed && stream.inRadius(chunkKey);
+            if (wanted) {
+                stream.delivered.put(chunkKey, Boolean.TRUE);
+            } else {
+                stream.inFlight = Math.max(0, stream.inFlight - 1);
+            }
+        }
+        if (!wanted) {
+            pump(stream);
+            return;
+        }
+        try {
+            sender.send(stream.connection, ChunkPos.unpackX(chunkKey), ChunkPos.unpackY(chunkKey), chunk);
+        } catch (RuntimeException e) {
+            // Never sent, so no ack will free its window slot; a later resubscribe queues it again.
+            GameLogger.error("Error sending streamed chunk (" + ChunkPos.unpackX(chunkKey) + "," +
+                ChunkPos.unpackY(chunkKey) + "): " + e.getMessage());
+            synchronized (stream) {
+                stream.delivered.remove(chunkKey);
+                stream.inFlight = Math.max(0, stream.inFlight - 1);
+            }
+            pump(stream);
+        }
+    }
+
+    private void release(Stream stream, long chunkKey) {
+        synchronized (stream) {
+            if (stream.loading.remove(chunkKey) != null) {
+                stream.inFlight = Math.max(0, stream.inFlight - 1);
+            }
+        }
+        pump(stream);
+    }
+
+    /**
+     * Offsets within the square of the given radius as dx, dy pairs, nearest first.
+     */
+    private static int[] buildSpiralOffsets(int radius) {
+        int size = radius * 2 + 1;
+        Integer[] order = new Integer[size * size];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> {
+            int ax = a % size - radius, ay = a / size - radius;
+            int bx = b % size - radius, by = b / size - radius;
+            return Integer.compare(ax * ax + ay * ay, bx * bx + by * by);
+        });
+        int[] offsets = new int[order.length * 2];
+        for (int i = 0; i < order.length; i++) {
+            offsets[i * 2] = order[i] % size - radius;
+            offsets[i * 2 + 1] = order[i] / size - radius;
+        }
+        return offsets;
+    }
+}
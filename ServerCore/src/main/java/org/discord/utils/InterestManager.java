@@ -0,0 +1,338 @@
+package org.discord.utils;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.LongArray;
+import com.esotericsoftware.kryonet.Connection;
+import com.esotericsoftware.kryonet.Server;
+import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
+import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
+import io.github.pokemeetup.system.gameplay.overworld.World;
+import io.github.pokemeetup.utils.ConcurrentLongMap;
+import io.github.pokemeetup.utils.GameLogger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntConsumer;
+
+/**
+ * Chunk-grid area-of-interest tracking for connected players.
+ * <p>
+ * Each connection subscribes to the square of chunks within {@link #VIEW_RADIUS} of the chunk
+ * its player stands in. Localized events are sent only to the subscribers of the chunk they
+ * happen in. When two players move into or out of each other's view, each one receives the
+ * other's latest {@link NetworkProtocol.PlayerUpdate} or a {@link NetworkProtocol.PlayerLeftView}.
+ * <p>
+ * Subscriber lists are immutable arrays replaced on change, so sending never locks.
+ */
+public class InterestManager {
+    /**
+     * Matches the distance beyond which clients drop cached chunks, so every chunk a client
+     * still holds keeps receiving its block and object events.
+     */
+    public static final int VIEW_RADIUS = 5;
+    private static final float CHUNK_PIXELS = Chunk.CHUNK_SIZE * World.TILE_SIZE;
+    private static final int[] NO_SUBSCRIBERS = new int[0];
+
+    private final Server server;
+    private final int viewRadius;
+    private final ConcurrentLongMap<int[]> subscribers = new ConcurrentLongMap<>();
+    private final Map<Integer, Viewer> viewers = new ConcurrentHashMap<>();
+    private final List<ViewListener> listeners = new CopyOnWriteArrayList<>();
+
+    public InterestManager(Server server) {
+        this(server, VIEW_RADIUS);
+    }
+
+    public InterestManager(Server server, int viewRadius) {
+        this.server = server;
+        this.viewRadius = viewRadius;
+    }
+
+    /**
+     * Notified on the moving player's thread with the chunks that just entered a connection's
+     * view, so per-chunk state (e.g. wild Pokémon) can be sent to it.
+     */
+    public interface ViewListener {
+        void onChunksEntered(int connectionId, LongArray chunkKeys);
+    }
+
+    public void addListener(ViewListener listener) {
+        listeners.add(listener);
+    }
+
+    private static final class Viewer {
+        final int connectionId;
+        final String username;
+        long chunkKey;
+        boolean placed;
+        volatile NetworkProtocol.PlayerUpdate lastState;
+
+        Viewer(int connectionId, String username) {
+            this.connectionId = connectionId;
+            this.username = username;
+        }
+    }
+
+    public static long chunkKeyForPixel(float x, float y) {
+        return ChunkPos.pack((int) Math.floor(x / CHUNK_PIXELS), (int) Math.floor(y / CHUNK_PIXELS));
+    }
+
+    /**
+     * Records the player's latest state and, if it crossed into another chunk, moves its
+     * subscription square and fires enter/leave events between it and other players.
+     */
+    public void updatePlayer(int connectionId, String username, NetworkProtocol.PlayerUpdate state) {
+        long newKey = chunkKeyForPixel(state.x, state.y);
+        List<Runnable> events = null;
+        LongArray entered = null;
+
+        synchronized (this) {
+            Viewer viewer = viewers.get(connectionId);
+            if (viewer == null || !viewer.username.equals(username)) {
+                viewer = new Viewer(connectionId, username);
+                viewers.put(connectionId, viewer);
+            }
+            viewer.lastState = state;
+            if (viewer.placed && viewer.chunkKey == newKey) {
+                return;
+            }
+
+            boolean wasPlaced = viewer.placed;
+            long oldKey = viewer.chunkKey;
+            entered = resubscribe(connectionId, wasPlaced, oldKey, newKey);
+            viewer.chunkKey = newKey;
+            viewer.placed = true;
+
+            for (Viewer other : viewers.values()) {
+                if (other == viewer || !other.placed) {
+                    continue;
+                }
+                boolean wasVisible = wasPlaced && inView(oldKey, other.chunkKey);
+                boolean isVisible = inView(newKey, other.chunkKey);
+                if (wasVisible == isVisible) {
+                    continue;
+                }
+                if (events == null) {
+                    events = new ArrayList<>();
+                }
+                if (isVisible) {
+                    events.add(enterEvent(other.connectionId, viewer));
+                    events.add(enterEvent(viewer.connectionId, other));
+                } else {
+                    events.add(leaveEvent(other.connectionId, viewer.username));
+                    events.add(leaveEvent(viewer.connectionId, other.username));
+                }
+            }
+        }
+
+        if (events != null) {
+            for (Runnable event : events) {
+                event.run();
+            }
+        }
+        if (entered.size > 0) {
+            for (ViewListener listener : listeners) {
+                try {
+                    listener.onChunksEntered(connectionId, entered);
+                } catch (Exception e) {
+                    GameLogger.error("View listener failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops every subscription held by the connection. Other players are told through the
+     * regular logout broadcast, so no leave events are sent.
+     */
+    public synchronized void removeConnection(int connectionId) {
+        Viewer viewer = viewers.remove(connectionId);
+        if (viewer == null || !viewer.placed) {
+            return;
+        }
+        int cx = ChunkPos.unpackX(viewer.chunkKey);
+        int cy = ChunkPos.unpackY(viewer.chunkKey);
+        for (int x = cx - viewRadius; x <= cx + viewRadius; x++) {
+            for (int y = cy - viewRadius; y <= cy + viewRadius; y++) {
+                unsubscribe(ChunkPos.pack(x, y), connectionId);
+            }
+        }
+    }
+
+    private LongArray resubscribe(int connectionId, boolean wasPlaced, long oldKey, long newKey) {
+        LongArray entered = new LongArray();
+        int ox = ChunkPos.unpackX(oldKey), oy = ChunkPos.unpackY(oldKey);
+        int nx = ChunkPos.unpackX(newKey), ny = ChunkPos.unpackY(newKey);
+        if (wasPlaced) {
+            for (int x = ox - viewRadius; x <= ox + viewRadius; x++) {
+                for (int y = oy - viewRadius; y <= oy + viewRadius; y++) {
+                    if (Math.abs(x - nx) > viewRadius || Math.abs(y - ny) > viewRadius) {
+                        unsubscribe(ChunkPos.pack(x, y), connectionId);
+                    }
+                }
+            }
+        }
+        for (int x = nx - viewRadius; x <= nx + viewRadius; x++) {
+            for (int y = ny - viewRadius; y <= ny + viewRadius; y++) {
+                if (!wasPlaced || Math.abs(x - ox) > viewRadius || Math.abs(y - oy) > viewRadius) {
+                    long key = ChunkPos.pack(x, y);
+                    subscribe(key, connectionId);
+                    entered.add(key);
+                }
+            }
+        }
+        return entered;
+    }
+
+    private void subscribe(long chunkKey, int connectionId) {
+        int[] current = subscribers.getOrDefault(chunkKey, NO_SUBSCRIBERS);
+        for (int id : current) {
+            if (id == connectionId) return;
+        }
+        int[] next = new int[current.length + 1];
+        System.arraycopy(current, 0, next, 0, current.length);
+        next[current.length] = connectionId;
+        subscribers.put(chunkKey, next);
+    }
+
+    private void unsubscribe(long chunkKey, int connectionId) {
+        int[] current = subscribers.get(chunkKey);
+        if (current == null) return;
+        int index = -1;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == connectionId) {
+                index = i;
+                break;
+            }
+        }
+        if (index < 0) return;
+        if (current.length == 1) {
+            subscribers.remove(chunkKey);
+            return;
+        }
+        int[] next = new int[current.length - 1];
+        System.arraycopy(current, 0, next, 0, index);
+        System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+        subscribers.put(chunkKey, next);
+    }
+
+    private boolean inView(long fromKey, long toKey) {
+        return Math.abs(ChunkPos.unpackX(fromKey) - ChunkPos.unpackX(toKey)) <= viewRadius &&
+            Math.abs(ChunkPos.unpackY(fromKey) - ChunkPos.unpackY(toKey)) <= viewRadius;
+    }
+
+    private Runnable enterEvent(int recipient, Viewer subject) {
+        NetworkProtocol.PlayerUpdate state = subject.lastState;
+        return () -> {
+            if (state != null) {
+                server.sendToTCP(recipient, state);
+            }
+        };
+    }
+
+    private Runnable leaveEvent(int recipient, String username) {
+        NetworkProtocol.PlayerLeftView left = new NetworkProtocol.PlayerLeftView();
+        left.username = username;
+        left.timestamp = System.currentTimeMillis();
+        return () -> server.sendToTCP(recipient, left);
+    }
+
+    /**
+     * Whether the connection is subscribed to the chunk.
+     */
+    public boolean isSubscribed(int connectionId, long chunkKey) {
+        for (int id : subscribers.getOrDefault(chunkKey, NO_SUBSCRIBERS)) {
+            if (id == connectionId) return true;
+        }
+        return false;
+    }
+
+    public boolean hasSubscribers(long chunkKey) {
+        return subscribers.containsKey(chunkKey);
+    }
+
+    /**
+     * Copies the last reported pixel position of every placed player into {@code out} as
+     * consecutive x, y pairs.
+     */
+    public void snapshotPlayerPositions(FloatArray out) {
+        out.clear();
+        for (Viewer viewer : viewers.values()) {
+            NetworkProtocol.PlayerUpdate state = viewer.lastState;
+            if (viewer.placed && state != null) {
+                out.add(state.x, state.y);
+            }
+        }
+    }
+
+    public void forEachSubscriber(long chunkKey, IntConsumer action) {
+        for (int id : subscribers.getOrDefault(chunkKey, NO_SUBSCRIBERS)) {
+            action.accept(id);
+        }
+    }
+
+    public void sendToChunk(long chunkKey, Object message) {
+        sendToChunkExcept(chunkKey, -1, message);
+    }
+
+    public void sendToChunkExcept(long chunkKey, int excludedConnectionId, Object message) {
+        for (int id : subscribers.getOrDefault(chunkKey, NO_SUBSCRIBERS)) {
+            if (id != excludedConnectionId) {
+                server.sendToTCP(id, message);
+            }
+        }
+    }
+
+    /**
+     * Like {@link #sendToChunkExcept} but over UDP, for high-rate state the next message
+     * supersedes. Connections without a UDP channel get it over TCP instead.
+     */
+    public void sendToChunkExceptUDP(long chunkKey, int excludedConnectionId, Object message) {
+        int[] ids = subscribers.getOrDefault(chunkKey, NO_SUBSCRIBERS);
+        if (ids.length == 0 || (ids.length == 1 && ids[0] == excludedConnectionId)) {
+            return;
+        }
+        for (Connection connection : server.getConnections()) {
+            int id = connection.getID();
+            if (id == excludedConnectionId || !contains(ids, id)) {
+                continue;
+            }
+            if (connection.getRemoteAddressUDP() != null) {
+                connection.sendUDP(message);
+            } else {
+                connection.sendTCP(message);
+            }
+        }
+    }
+
+    private static boolean contains(int[] ids, int id) {
+        for (int candidate : ids) {
+            if (candidate == id) return true;
+        }
+        return false;
+    }
+
+    public void sendToTile(int tileX, int tileY, Object message) {
+        sendToChunk(ChunkPos.packTile(tileX, tileY), message);
+    }
+
+    public void sendToTileExcept(int tileX, int tileY, int excludedConnectionId, Object message) {
+        sendToChunkExcept(ChunkPos.packTile(tileX, tileY), excludedConnectionId, message);
+    }
+
+    public void sendToPixel(float x, float y, Object message) {
+        sendToChunk(chunkKeyForPixel(x, y), message);
+    }
+
+    public void sendToPixelExcept(float x, float y, int excludedConnectionId, Object message) {
+        sendToChunkExcept(chunkKeyForPixel(x, y), excludedConnectionId, message);
+    }
+
+    public void sendToPixelExceptUDP(float x, float y, int excludedConnectionId, Object message) {
+        sendToChunkExceptUDP(chunkKeyForPixel(x, y), excludedConnectionId, message);
+    }
+}
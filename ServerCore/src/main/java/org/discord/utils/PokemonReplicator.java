@@ -0,0 +1,211 @@
+package org.discord.utils;
+
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.LongMap;
+import com.esotericsoftware.kryo.io.Output;
+import com.esotericsoftware.kryonet.Connection;
+import com.esotericsoftware.kryonet.Server;
+import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
+import io.github.pokemeetup.multiplayer.network.PokemonSnapshotCodec;
+import io.github.pokemeetup.multiplayer.network.PokemonSnapshotCodec.EntityState;
+import io.github.pokemeetup.pokemon.WildPokemon;
+import io.github.pokemeetup.utils.GameLogger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replicates wild Pokémon to clients as per-client delta snapshots.
+ * <p>
+ * Every tick each connection gets the state of the Pokémon in its subscribed chunks, encoded
+ * against the last snapshot it acknowledged. Unacknowledged changes are simply re-encoded on
+ * the next tick, and nothing is sent while a client's view matches its baseline. Pokémon are
+ * identified on the wire by compact net IDs instead of UUIDs.
+ */
+public class PokemonReplicator {
+    private static final int MAX_PENDING_SNAPSHOTS = 32;
+    private static final long STATS_INTERVAL_MS = 30_000;
+
+    private final Server server;
+    private final InterestManager interestManager;
+    private final Map<UUID, Integer> netIds = new ConcurrentHashMap<>();
+    private final AtomicInteger nextNetId = new AtomicInteger(1);
+    private final Map<Integer, ClientState> clients = new ConcurrentHashMap<>();
+    private final Output output = new Output(4 * 1024, 1024 * 1024);
+    private long statsWindowStart = System.currentTimeMillis();
+
+    public PokemonReplicator(Server server, InterestManager interestManager) {
+        this.server = server;
+        this.interestManager = interestManager;
+    }
+
+    private static final class ClientState {
+        int nextSequence = 1;
+        int baselineSequence = -1;
+        IntMap<EntityState> baseline = new IntMap<>();
+        final IntMap<IntMap<EntityState>> pending = new IntMap<>();
+        long bytesSent;
+        long windowBytes;
+    }
+
+    public int getNetId(UUID uuid) {
+        return netIds.computeIfAbsent(uuid, k -> nextNetId.getAndIncrement());
+    }
+
+    /**
+     * Forgets a despawned Pokémon's net ID. Clients drop it from their snapshots on the next tick.
+     */
+    public void release(UUID uuid) {
+        netIds.remove(uuid);
+    }
+
+    /**
+     * Builds and sends this tick's snapshot for every connection. Called from the server's
+     * update scheduler only.
+     */
+    public void tick(Collection<WildPokemon> activePokemon) {
+        LongMap<List<EntityState>> byChunk = new LongMap<>();
+        for (WildPokemon pokemon : activePokemon) {
+            EntityState state = EntityState.of(getNetId(pokemon.getUuid()), pokemon.getUuid(),
+                pokemon.getX(), pokemon.getY(), pokemon.getDirection(), pokemon.isMoving(), pokemon.getLevel());
+            long chunkKey = InterestManager.chunkKeyForPixel(pokemon.getX(), pokemon.getY());
+            List<EntityState> inChunk = byChunk.get(chunkKey);
+            if (inChunk == null) {
+                inChunk = new ArrayList<>();
+                byChunk.put(chunkKey, inChunk);
+            }
+            inChunk.add(state);
+        }
+
+        IntMap<IntMap<EntityState>> visible = new IntMap<>();
+        for (LongMap.Entry<List<EntityState>> entry : byChunk.entries()) {
+            List<EntityState> states = entry.value;
+            interestManager.forEachSubscriber(entry.key, connectionId -> {
+                IntMap<EntityState> view = visible.get(connectionId);
+                if (view == null) {
+                    view = new IntMap<>();
+                    visible.put(connectionId, view);
+                }
+                for (EntityState state : states) {
+                    view.put(state.netId, state);
+                }
+            });
+        }
+
+        long now = System.currentTimeMillis();
+        for (Connection connection : server.getConnections()) {
+            ClientState client = clients.get(connection.getID());
+            IntMap<EntityState> view = visible.get(connection.getID());
+            if (view == null) {
+                if (client == null) {
+                    continue;
+                }
+                view = new IntMap<>();
+            }
+            if (client == null) {
+                client = new ClientState();
+                clients.put(connection.getID(), client);
+            }
+            sendSnapshot(connection, client, view, now);
+        }
+        logStats(now);
+    }
+
+    private void sendSnapshot(Connection connection, ClientState client, IntMap<EntityState> view, long now) {
+        NetworkProtocol.PokemonDeltaSnapshot snapshot;
+        synchronized (client) {
+            output.clear();
+            if (!PokemonSnapshotCodec.encode(client.baseline, view, output)) {
+                return;
+            }
+            if (client.pending.size >= MAX_PENDING_SNAPSHOTS) {
+                // The client stopped acknowledging; keep sending but stop growing history.
+                client.pending.clear();
+            }
+            snapshot = new NetworkProtocol.PokemonDeltaSnapshot();
+            snapshot.sequence = client.nextSequence++;
+            snapshot.baseSequence = client.baselineSequence;
+            snapshot.timestamp = now;
+            snapshot.payload = output.toBytes();
+            client.pending.put(snapshot.sequence, view);
+        }
+        int bytes = connection.sendTCP(snapshot);
+        synchronized (client) {
+            client.bytesSent += bytes;
+            client.windowBytes += bytes;
+        }
+    }
+
+    /**
+     * Promotes the acknowledged snapshot to the client's baseline. A sequence of -1 resets the
+     * baseline so the next snapshot carries full state.
+     */
+    public void acknowledge(int connectionId, int sequence) {
+        ClientState client = clients.get(connectionId);
+        if (client == null) {
+            return;
+        }
+        synchronized (client) {
+            if (sequence < 0) {
+                client.baseline = new IntMap<>();
+                client.baselineSequence = -1;
+                client.pending.clear();
+                return;
+            }
+            IntMap<EntityState> acked = client.pending.get(sequence);
+            if (acked == null || sequence <= client.baselineSequence) {
+                return;
+            }
+            client.baseline = acked;
+            client.baselineSequence = sequence;
+            IntMap.Keys keys = client.pending.keys();
+            while (keys.hasNext) {
+                if (keys.next() <= sequence) {
+                    keys.remove();
+                }
+            }
+        }
+    }
+
+    public void removeConnection(int connectionId) {
+        clients.remove(connectionId);
+    }
+
+    /**
+     * Average snapshot bytes per second sent to each client since the last stats window.
+     */
+    public double getBytesPerSecondPerClient() {
+        long elapsed = Math.max(1, System.currentTimeMillis() - statsWindowStart);
+        if (clients.isEmpty()) {
+            return 0;
+        }
+        long total = 0;
+        for (ClientState client : clients.values()) {
+            synchronized (client) {
+                total += client.windowBytes;
+            }
+        }
+        return total * 1000.0 / elapsed / clients.size();
+    }
+
+    private void logStats(long now) {
+        if (now - statsWindowStart < STATS_INTERVAL_MS) {
+            return;
+        }
+        if (!clients.isEmpty()) {
+            GameLogger.info(String.format("Pokemon replication: %d clients, %.1f B/s per client, %d net IDs",
+                clients.size(), getBytesPerSecondPerClient(), netIds.size()));
+        }
+        for (ClientState client : clients.values()) {
+            synchronized (client) {
+                client.windowBytes = 0;
+            }
+        }
+        statsWindowStart = now;
+    }
+}
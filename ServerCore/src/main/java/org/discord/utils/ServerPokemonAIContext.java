@@ -0,0 +1,86 @@
+package org.discord.utils;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.pokemeetup.blocks.PlaceableBlock;
+import io.github.pokemeetup.pokemon.PokemonSpatialIndex;
+import io.github.pokemeetup.pokemon.WildPokemon;
+import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
+import io.github.pokemeetup.system.gameplay.overworld.entityai.PokemonAIContext;
+import org.discord.context.ServerGameContext;
+
+/**
+ * Headless {@link PokemonAIContext} for the server-side AI tick.
+ * <p>
+ * Passability is resolved against the chunks, blocks and world objects the server already holds
+ * in memory; unloaded chunks are treated as solid. Player positions come from a snapshot taken at
+ * the start of each tick, and the spatial index is only written between ticks, so worker threads
+ * only read.
+ */
+public class ServerPokemonAIContext implements PokemonAIContext {
+    private final String worldName;
+    private final PokemonSpatialIndex spatialIndex;
+    private volatile float[] playerPositions = new float[0];
+
+    public ServerPokemonAIContext(String worldName, PokemonSpatialIndex spatialIndex) {
+        this.worldName = worldName;
+        this.spatialIndex = spatialIndex;
+    }
+
+    /**
+     * Publishes the state the next tick's workers read.
+     *
+     * @param playerPositions consecutive x, y pixel pairs
+     */
+    void beginTick(float[] playerPositions) {
+        this.playerPositions = playerPositions;
+    }
+
+    @Override
+    public boolean isPassable(int tileX, int tileY) {
+        long chunkKey = ChunkPos.packTile(tileX, tileY);
+        Chunk chunk = ServerGameContext.get().getWorldManager().peekChunk(worldName, chunkKey);
+        if (chunk == null) {
+            return false;
+        }
+        if (!chunk.isPassable(Math.floorMod(tileX, Chunk.CHUNK_SIZE), Math.floorMod(tileY, Chunk.CHUNK_SIZE))) {
+            return false;
+        }
+        PlaceableBlock block = chunk.getBlock(tileX, tileY);
+        if (block != null && block.getType() != null && block.getType().hasCollision) {
+            return false;
+        }
+        return !ServerGameContext.get().getWorldObjectManager().hasCollisionAt(worldName, tileX, tileY);
+    }
+
+    @Override
+    public boolean findNearestPlayer(float x, float y, float range, Vector2 out) {
+        float[] positions = playerPositions;
+        float bestDistance = range * range;
+        boolean found = false;
+        for (int i = 0; i + 1 < positions.length; i += 2) {
+            float dx = positions[i] - x;
+            float dy = positions[i + 1] - y;
+            float distance = dx * dx + dy * dy;
+            if (distance <= bestDistance) {
+                bestDistance = distance;
+                out.set(positions[i], positions[i + 1]);
+                found = true;
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public boolean forEachPokemonInRange(float x, float y, float range, PokemonSpatialIndex.Visitor visitor) {
+        return spatialIndex.forEachInRange(x, y, range, visitor);
+    }
+
+    /**
+     * Wild battles are started by the client that owns the player, so the server never does.
+     */
+    @Override
+    public boolean initiateBattle(WildPokemon pokemon) {
+        return false;
+    }
+}
@@ -1,21 +1,33 @@
 package org.discord.utils;
 
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.LongMap;
+import com.esotericsoftware.kryonet.Server;
 import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
+import io.github.pokemeetup.pokemon.PokemonSpatialIndex;
 import io.github.pokemeetup.pokemon.WildPokemon;
 import io.github.pokemeetup.system.data.PokemonData;
 import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
 import io.github.pokemeetup.system.gameplay.overworld.DayNightCycle;
 import io.github.pokemeetup.system.gameplay.overworld.biomes.Biome;
 import io.github.pokemeetup.system.gameplay.overworld.biomes.BiomeType;
+import io.github.pokemeetup.system.gameplay.overworld.entityai.PokemonAI;
 import io.github.pokemeetup.system.gameplay.overworld.multiworld.PokemonSpawnManager;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.PokemonLevelCalculator;
 import org.discord.context.ServerGameContext;
 
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.github.pokemeetup.CreatureCaptureGame.MULTIPLAYER_WORLD_NAME;
 
@@ -29,26 +41,43 @@ import static io.github.pokemeetup.CreatureCaptureGame.MULTIPLAYER_WORLD_NAME;
  * is broadcast so that clients update their local world.
  */
 public class ServerPokemonSpawnManager {
-    private static final float MOVEMENT_UPDATE_INTERVAL = 0.1f; // Send updates 10 times per second maximum
-    private static final float MOVEMENT_THRESHOLD = 1.0f;
-    private final Map<UUID, Vector2> lastSentPositions = new ConcurrentHashMap<>();
-    private float movementUpdateTimer = 0f;
     private static final float SPAWN_INTERVAL = 5f;
     private static final int MAX_POKEMON_PER_CHUNK = 5;
     private static final int TILE_SIZE = 32;
+    private static final float SIMULATION_STEP = 0.1f;
+    private static final int MAX_STEPS_PER_UPDATE = 3;
 
     private final String worldName;
     private float spawnTimer = 0f;
-    private final Map<UUID, WildPokemon> activePokemon = new HashMap<>();
+    private final Map<UUID, WildPokemon> activePokemon = new ConcurrentHashMap<>();
     private final Random random = new Random();
+    private final InterestManager interestManager;
+    private final PokemonReplicator replicator;
+    private final PokemonSpatialIndex spatialIndex = new PokemonSpatialIndex();
+    private final ServerPokemonAIContext aiContext;
+    private final ExecutorService simulationPool;
+    private final int simulationWorkers;
+    private final FloatArray playerPositions = new FloatArray();
+    private float simulationAccumulator = 0f;
 
     /**
      * Constructs a server spawn manager for the given world.
      *
-     * @param worldName The name (ID) of the world (e.g. "multiplayer_world").
+     * @param worldName       The name (ID) of the world (e.g. "multiplayer_world").
+     * @param interestManager Routes spawns and state snapshots to nearby players only.
      */
-    public ServerPokemonSpawnManager(String worldName) {
+    public ServerPokemonSpawnManager(String worldName, InterestManager interestManager, Server server) {
         this.worldName = worldName;
+        this.interestManager = interestManager;
+        this.replicator = new PokemonReplicator(server, interestManager);
+        this.aiContext = new ServerPokemonAIContext(worldName, spatialIndex);
+        this.simulationWorkers = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        AtomicInteger workerIndex = new AtomicInteger();
+        this.simulationPool = Executors.newFixedThreadPool(simulationWorkers, r -> {
+            Thread thread = new Thread(r, "PokemonAI-Worker-" + workerIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
         initializePokemonSpawns();
     }
 
@@ -64,108 +93,103 @@ public class ServerPokemonSpawnManager {
             trySpawnPokemon();
             removeExpiredPokemon();
         }
-        movementUpdateTimer += delta;
-        if (movementUpdateTimer >= MOVEMENT_UPDATE_INTERVAL) {
-            movementUpdateTimer = 0f;
-            checkForMovementUpdates();
+        simulationAccumulator = Math.min(simulationAccumulator + delta, SIMULATION_STEP * MAX_STEPS_PER_UPDATE);
+        while (simulationAccumulator >= SIMULATION_STEP) {
+            simulationAccumulator -= SIMULATION_STEP;
+            simulate(SIMULATION_STEP);
         }
     }
 
-    private void checkForMovementUpdates() {
-        List<NetworkProtocol.PokemonUpdate> updates = new ArrayList<>();
+    /**
+     * Runs one fixed AI step for every Pokémon in a chunk some player can see. Chunks are dealt
+     * out to the worker pool and this call waits for all of them, so the replicator never reads
+     * positions mid-step and the spatial index is only re-bucketed once the workers are done.
+     * Pokémon in unwatched chunks stay frozen until a player comes back.
+     */
+    private void simulate(float step) {
+        if (spatialIndex.size() == 0) {
+            return;
+        }
+
+        interestManager.snapshotPlayerPositions(playerPositions);
+        aiContext.beginTick(playerPositions.toArray());
 
-        for (WildPokemon pokemon : activePokemon.values()) {
-            Vector2 lastPos = lastSentPositions.getOrDefault(pokemon.getUuid(), new Vector2(Float.MAX_VALUE, Float.MAX_VALUE));
-            float distance = Vector2.dst(lastPos.x, lastPos.y, pokemon.getX(), pokemon.getY());
-            boolean directionChanged = !pokemon.getDirection().equals(syncedPokemonData
-                .getOrDefault(pokemon.getUuid(), new PokemonSpawnManager.NetworkSyncData()).direction);
-            boolean movingChanged = pokemon.isMoving() != syncedPokemonData
-                .getOrDefault(pokemon.getUuid(), new PokemonSpawnManager.NetworkSyncData()).isMoving;
-            if (distance > MOVEMENT_THRESHOLD || directionChanged || movingChanged) {
-                NetworkProtocol.PokemonUpdate update = createPokemonUpdate(pokemon);
-                updates.add(update);
-                lastSentPositions.put(pokemon.getUuid(), new Vector2(pokemon.getX(), pokemon.getY()));
-                PokemonSpawnManager.NetworkSyncData syncData = syncedPokemonData.computeIfAbsent(pokemon.getUuid(), k -> new PokemonSpawnManager.NetworkSyncData());
-                syncData.direction = pokemon.getDirection();
-                syncData.isMoving = pokemon.isMoving();
+        List<List<Array<WildPokemon>>> batches = new ArrayList<>(simulationWorkers);
+        for (int i = 0; i < simulationWorkers; i++) {
+            batches.add(new ArrayList<>());
+        }
+        int[] next = {0};
+        spatialIndex.forEachCell((cellKey, cellPokemon) -> {
+            if (interestManager.hasSubscribers(cellKey)) {
+                batches.get(next[0]++ % simulationWorkers).add(cellPokemon);
             }
+        });
+
+        List<Callable<Void>> tasks = new ArrayList<>(simulationWorkers);
+        for (List<Array<WildPokemon>> batch : batches) {
+            if (batch.isEmpty()) continue;
+            tasks.add(() -> {
+                for (Array<WildPokemon> cellPokemon : batch) {
+                    for (int i = 0; i < cellPokemon.size; i++) {
+                        WildPokemon pokemon = cellPokemon.get(i);
+                        try {
+                            pokemon.simulate(step);
+                        } catch (Exception e) {
+                            GameLogger.error("AI step failed for " + pokemon.getName() + ": " + e.getMessage());
+                        }
+                    }
+                }
+                return null;
+            });
         }
-        if (!updates.isEmpty()) {
-            broadcastPokemonUpdates(updates);
+        try {
+            simulationPool.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RejectedExecutionException e) {
+            // Shutting down.
         }
-    }  private NetworkProtocol.PokemonUpdate createPokemonUpdate(WildPokemon pokemon) {
-        NetworkProtocol.PokemonUpdate update = new NetworkProtocol.PokemonUpdate();
-        update.uuid = pokemon.getUuid();
-        update.x = pokemon.getX();
-        update.y = pokemon.getY();
-        update.direction = pokemon.getDirection();
-        update.isMoving = pokemon.isMoving();
-        update.level = pokemon.getLevel();
-        update.timestamp = System.currentTimeMillis();
-        return update;
-    }// Add this inner class at the bottom of ServerPokemonSpawnManager
-    private static class NetworkSyncData {
-        Vector2 targetPosition;
-        String direction;
-        boolean isMoving;
-        long lastUpdateTime;
-
-        NetworkSyncData() {
-            this.lastUpdateTime = System.currentTimeMillis();
-            this.direction = "down";
-            this.isMoving = false;
+
+        for (WildPokemon pokemon : activePokemon.values()) {
+            spatialIndex.update(pokemon);
         }
     }
-    private final Map<UUID, PokemonSpawnManager.NetworkSyncData> syncedPokemonData = new ConcurrentHashMap<>();
-    /**
-     * Broadcast a batch of Pokemon updates to all clients
-     */
-    private void broadcastPokemonUpdates(List<NetworkProtocol.PokemonUpdate> updates) {
-        if (updates.isEmpty()) return;
-        NetworkProtocol.PokemonBatchUpdate batchUpdate = new NetworkProtocol.PokemonBatchUpdate();
-        batchUpdate.updates = updates;
-        ServerGameContext.get().getGameServer().getNetworkServer().sendToAllTCP(batchUpdate);
+
+    public void shutdown() {
+        simulationPool.shutdownNow();
     }
+
     /**
-     * Iterates over all active wild Pokémon and builds a batch update message,
-     * then broadcasts it to all clients.
+     * Sends every client a delta snapshot of the Pokémon it can see.
      */
-    public void broadcastPokemonUpdates() {
-        List<NetworkProtocol.PokemonUpdate> updates = new ArrayList<>();
-        for (WildPokemon pokemon : activePokemon.values()) {
-            NetworkProtocol.PokemonUpdate update = new NetworkProtocol.PokemonUpdate();
-            update.uuid = pokemon.getUuid();
-            update.x = pokemon.getX();
-            update.y = pokemon.getY();
-            update.direction = pokemon.getDirection();
-            update.isMoving = pokemon.isMoving();
-            update.level = pokemon.getLevel();
-            update.timestamp = System.currentTimeMillis();
-            updates.add(update);
-        }
-        if (!updates.isEmpty()) {
-            NetworkProtocol.PokemonBatchUpdate batchUpdate = new NetworkProtocol.PokemonBatchUpdate();
-            batchUpdate.updates = updates;
-            ServerGameContext.get().getGameServer().getNetworkServer().sendToAllTCP(batchUpdate);
-        }
+    public void replicateState() {
+        replicator.tick(activePokemon.values());
+    }
+
+    public PokemonReplicator getReplicator() {
+        return replicator;
     }
 
+    public WildPokemon getPokemon(UUID uuid) {
+        return activePokemon.get(uuid);
+    }
 
     private void trySpawnPokemon() {
-        Map<Vector2, Chunk> loadedChunks =
+        LongMap<Chunk> loadedChunks =
             ServerGameContext.get().getWorldManager().getLoadedChunks(worldName);
 
         if (loadedChunks == null || loadedChunks.isEmpty()) {
             GameLogger.error("No loaded chunks for world " + worldName + "; cannot spawn Pokémon.");
             return;
         }
-        Set<Vector2> playerChunks =
+        LongArray playerChunks =
             ServerGameContext.get().getGameServer().getPlayerOccupiedChunks();
 
         if (playerChunks.isEmpty()) {
             return;
         }
-        for (Vector2 chunkPos : playerChunks) {
+        for (int i = 0; i < playerChunks.size; i++) {
+            long chunkPos = playerChunks.get(i);
             Chunk chunk = loadedChunks.get(chunkPos);
             if (chunk == null) {
                 continue;
@@ -181,30 +205,12 @@ public class ServerPokemonSpawnManager {
         }
     }
 
-    private int getPokemonCountInChunk(Vector2 chunkPos) {
-        int count = 0;
-        for (WildPokemon pokemon : activePokemon.values()) {
-            Vector2 pos = new Vector2(pokemon.getX(), pokemon.getY());
-            Vector2 computedChunk = getChunkPosition(pos);
-            if (computedChunk.equals(chunkPos)) {
-                count++;
-            }
-        }
-        return count;
+    private int getPokemonCountInChunk(long chunkPos) {
+        return spatialIndex.countInCell(chunkPos);
     }
 
-    /**
-     * Converts a pixel position into chunk coordinates.
-     *
-     * @param pixelPos The position in pixels.
-     * @return The chunk coordinates.
-     */
-    private Vector2 getChunkPosition(Vector2 pixelPos) {
-        int chunkX = (int)Math.floor(pixelPos.x / (TILE_SIZE * Chunk.CHUNK_SIZE));
-        int chunkY = (int)Math.floor(pixelPos.y / (TILE_SIZE * Chunk.CHUNK_SIZE));
-        return new Vector2(chunkX, chunkY);
-    }
-    private void spawnPokemonInChunk(Vector2 chunkPos, Chunk chunk) {
+    private void spawnPokemonInChunk(long chunkKey, Chunk chunk) {
+        ChunkPos chunkPos = ChunkPos.fromLong(chunkKey);
         int localX = random.nextInt(Chunk.CHUNK_SIZE);
         int localY = random.nextInt(Chunk.CHUNK_SIZE);
 
@@ -215,8 +221,8 @@ public class ServerPokemonSpawnManager {
         }
 
         try {
-            int worldTileX = (int)(chunkPos.x * Chunk.CHUNK_SIZE + localX);
-            int worldTileY = (int)(chunkPos.y * Chunk.CHUNK_SIZE + localY);
+            int worldTileX = chunkPos.x * Chunk.CHUNK_SIZE + localX;
+            int worldTileY = chunkPos.y * Chunk.CHUNK_SIZE + localY;
             float pixelX = worldTileX * TILE_SIZE;
             float pixelY = worldTileY * TILE_SIZE;
             Biome biome = chunk.getBiome();
@@ -232,17 +238,19 @@ public class ServerPokemonSpawnManager {
                 (int) pixelY,
                 true // noTexture mode on the server
             );
+            pokemon.setNetworkControlled(false);
+            PokemonAI ai = new PokemonAI(pokemon, aiContext);
+            pokemon.setAi(ai);
+            ai.enterIdleState();
             activePokemon.put(pokemon.getUuid(), pokemon);
+            spatialIndex.add(pokemon);
             NetworkProtocol.WildPokemonSpawn spawnMsg = new NetworkProtocol.WildPokemonSpawn();
             spawnMsg.uuid = pokemon.getUuid();
             spawnMsg.x = pokemon.getX();
             spawnMsg.y = pokemon.getY();
             spawnMsg.timestamp = System.currentTimeMillis();
             spawnMsg.data = createPokemonData(pokemon); // might throw if dictionary is missing?
-            ServerGameContext.get()
-                .getGameServer()
-                .getNetworkServer()
-                .sendToAllTCP(spawnMsg);
+            interestManager.sendToPixel(spawnMsg.x, spawnMsg.y, spawnMsg);
 
 
         } catch (Exception ex) {
@@ -381,7 +389,9 @@ public class ServerPokemonSpawnManager {
                 NetworkProtocol.WildPokemonDespawn despawnMsg = new NetworkProtocol.WildPokemonDespawn();
                 despawnMsg.uuid = pokemon.getUuid();
                 despawnMsg.timestamp = System.currentTimeMillis();
-                ServerGameContext.get().getGameServer().getNetworkServer().sendToAllTCP(despawnMsg);
+                interestManager.sendToPixel(pokemon.getX(), pokemon.getY(), despawnMsg);
+                replicator.release(pokemon.getUuid());
+                spatialIndex.remove(pokemon);
                 GameLogger.info("Server despawned Pokémon with UUID: " + pokemon.getUuid());
                 return true;
             }
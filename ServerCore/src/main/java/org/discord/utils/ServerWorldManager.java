@@ -1,23 +1,28 @@
 package org.discord.utils;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Json;
-import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.LongMap;
 import io.github.pokemeetup.blocks.PlaceableBlock;
 import io.github.pokemeetup.managers.BiomeManager;
 import io.github.pokemeetup.managers.BiomeTransitionResult;
 import io.github.pokemeetup.system.data.BlockSaveData;
 import io.github.pokemeetup.system.data.WorldData;
 import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
 import io.github.pokemeetup.system.gameplay.overworld.UnifiedWorldGenerator;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.system.gameplay.overworld.WorldObject;
 import io.github.pokemeetup.system.gameplay.overworld.biomes.Biome;
 import io.github.pokemeetup.system.gameplay.overworld.biomes.BiomeType;
+import io.github.pokemeetup.utils.ConcurrentLongMap;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.multiplayer.server.ServerStorageSystem;
-import io.github.pokemeetup.utils.storage.JsonConfig;
 import org.discord.context.ServerGameContext;
+import org.discord.files.ChunkDataCodec;
+import org.discord.files.LegacyChunkMigrator;
+import org.discord.files.RegionChunkStore;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -32,17 +37,22 @@ import java.util.concurrent.*;
 public class ServerWorldManager {
 
     private static final long AUTO_SAVE_INTERVAL_MS = 300_000;   // e.g. 5 minutes
+    private static final long WORLD_FLUSH_INTERVAL_MS = 10_000;
     private static final long CHUNK_EVICT_TIMEOUT_MS = 600_000;  // e.g. 10 minutes
     private static ServerWorldManager instance;
     private final ServerStorageSystem storageSystem;// In ServerWorldManager, add:
     private final Map<String, WorldData> activeWorlds = new ConcurrentHashMap<>();
-    private final Map<String, Map<Vector2, TimedChunk>> chunkCache = new ConcurrentHashMap<>();
+    private final Map<String, ConcurrentLongMap<TimedChunk>> chunkCache = new ConcurrentHashMap<>();
+    private final Map<String, RegionChunkStore> chunkStores = new ConcurrentHashMap<>();
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
-    private final ExecutorService loadExecutor = Executors.newFixedThreadPool(4);
     private final BiomeManager biomeManager;
+    private final WorldSaveJournal worldJournal;
+    private final ChunkProviderService chunkProvider;
     private ServerWorldManager(ServerStorageSystem storageSystem) {
         this.storageSystem = storageSystem;
         this.biomeManager = new BiomeManager(System.currentTimeMillis());
+        this.worldJournal = new WorldSaveJournal(this::saveWorld);
+        this.chunkProvider = new ChunkProviderService(this);
         initScheduledTasks();
     }
 
@@ -60,11 +70,17 @@ public class ServerWorldManager {
     private void initScheduledTasks() {
         scheduler.scheduleAtFixedRate(() -> {
             try {
-                for (WorldData wd : activeWorlds.values()) {
-                    if (wd.isDirty()) {
-                        saveWorld(wd);
-                    }
+                markDirtyWorlds();
+                worldJournal.flush();
+                for (RegionChunkStore store : chunkStores.values()) {
+                    store.flush();
                 }
+            } catch (Exception e) {
+                GameLogger.error("Error flushing world journal: " + e.getMessage());
+            }
+        }, WORLD_FLUSH_INTERVAL_MS, WORLD_FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        scheduler.scheduleAtFixedRate(() -> {
+            try {
                 evictIdleChunks();
             } catch (Exception e) {
                 GameLogger.error("Error in scheduled task: " + e.getMessage());
@@ -76,7 +92,15 @@ public class ServerWorldManager {
      * Loads the specified world from disk if not already in memory,
      * and caches it in activeWorlds.
      */
-    public synchronized WorldData loadWorld(String worldName) {
+    public WorldData loadWorld(String worldName) {
+        WorldData active = activeWorlds.get(worldName);
+        if (active != null) {
+            return active;
+        }
+        return loadWorldFromStorage(worldName);
+    }
+
+    private synchronized WorldData loadWorldFromStorage(String worldName) {
         if (activeWorlds.containsKey(worldName)) {
             return activeWorlds.get(worldName);
         }
@@ -86,7 +110,7 @@ public class ServerWorldManager {
             return null;
         }
         activeWorlds.put(worldName, wd);
-        chunkCache.put(worldName, new ConcurrentHashMap<>());
+        chunkCache.put(worldName, new ConcurrentLongMap<>());
 
         GameLogger.info("Loaded world '" + worldName + "' from server storage.");
         return wd;
@@ -94,15 +118,41 @@ public class ServerWorldManager {
 
     /**
      * Saves high-level WorldData only (not chunk data) to server storage.
+     * <p>
+     * The dirty flag is cleared before serializing, so a change made during the write
+     * leaves the world dirty for the next flush instead of being lost.
+     *
+     * @return false if the write failed; the world is left dirty
      */
-    public synchronized void saveWorld(WorldData worldData) {
-        if (worldData == null) return;
+    public synchronized boolean saveWorld(WorldData worldData) {
+        if (worldData == null) return true;
+        worldData.setDirty(false);
         try {
             storageSystem.saveWorld(worldData);
-            worldData.setDirty(false);
             GameLogger.info("Saved world: " + worldData.getName());
+            return true;
         } catch (Exception e) {
+            worldData.setDirty(true);
             GameLogger.error("Failed to save world: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Queues the world's metadata for the next journal flush instead of writing
+     * world.json immediately. Use this from hot paths; repeated calls between
+     * flushes coalesce into a single write.
+     */
+    public void markWorldDirty(WorldData worldData) {
+        worldJournal.markDirty(worldData);
+    }
+
+    // WorldData's own setters only raise its dirty flag, so pick those worlds up here.
+    private void markDirtyWorlds() {
+        for (WorldData wd : activeWorlds.values()) {
+            if (wd.isDirty()) {
+                worldJournal.markDirty(wd);
+            }
         }
     }
 
@@ -122,9 +172,41 @@ public class ServerWorldManager {
         wd.setConfig(config);
         saveWorld(wd);
         activeWorlds.put(worldName, wd);
-        chunkCache.put(worldName, new ConcurrentHashMap<>());
+        chunkCache.put(worldName, new ConcurrentLongMap<>());
         return wd;
     }
+    public ChunkProviderService getChunkProvider() {
+        return chunkProvider;
+    }
+
+    /**
+     * Returns the chunk if it is already in memory, without touching disk or the generator.
+     */
+    public Chunk getCachedChunk(String worldName, int chunkX, int chunkY) {
+        ConcurrentLongMap<TimedChunk> worldChunkMap = chunkCache.get(worldName);
+        if (worldChunkMap == null) {
+            return null;
+        }
+        TimedChunk timed = worldChunkMap.get(ChunkPos.pack(chunkX, chunkY));
+        if (timed == null || timed.chunk == null || timed.chunk.isDirty()) {
+            return null;
+        }
+        timed.lastAccess = System.currentTimeMillis();
+        return timed.chunk;
+    }
+
+    /**
+     * Returns the in-memory chunk, dirty or not, without loading it or refreshing its access time.
+     */
+    public Chunk peekChunk(String worldName, long chunkKey) {
+        ConcurrentLongMap<TimedChunk> worldChunkMap = chunkCache.get(worldName);
+        if (worldChunkMap == null) {
+            return null;
+        }
+        TimedChunk timed = worldChunkMap.get(chunkKey);
+        return timed != null ? timed.chunk : null;
+    }
+
     public Chunk loadChunk(String worldName, int chunkX, int chunkY) {
         WorldData wd = loadWorld(worldName);
         if (wd == null) {
@@ -132,28 +214,27 @@ public class ServerWorldManager {
             return null;
         }
 
-        Map<Vector2, TimedChunk> worldChunkMap =
-            chunkCache.computeIfAbsent(worldName, k -> new ConcurrentHashMap<>());
-        Vector2 pos = new Vector2(chunkX, chunkY);
+        ConcurrentLongMap<TimedChunk> worldChunkMap =
+            chunkCache.computeIfAbsent(worldName, k -> new ConcurrentLongMap<>());
+        long pos = ChunkPos.pack(chunkX, chunkY);
         TimedChunk timed = worldChunkMap.get(pos);
 
         if (timed == null || timed.chunk == null) {
             Chunk loaded = loadChunkFromDisk(worldName, chunkX, chunkY);
             if (loaded == null) {
-                long determinSeed = wd.getConfig().getSeed() +
-                    (((long)chunkX << 32) | ((long)chunkY & 0xFFFFFFFFL));
+                long determinSeed = wd.getConfig().getSeed() + ChunkPos.pack(chunkX, chunkY);
 
                 loaded = generateNewChunk(chunkX, chunkY, determinSeed);
                 List<WorldObject> generatedObjects = loaded.getWorldObjects();
                 if (generatedObjects != null && !generatedObjects.isEmpty()) {
                     ServerGameContext.get().getWorldObjectManager().setObjectsForChunk(worldName, pos, generatedObjects);
-                    GameLogger.info("Populated WorldObjectManager with " + generatedObjects.size() + " new objects for chunk " + pos);
+                    GameLogger.info("Populated WorldObjectManager with " + generatedObjects.size() + " new objects for chunk " + ChunkPos.fromLong(pos));
                 }
-                if (loaded.getBlocks() != null && !loaded.getBlocks().isEmpty()){
-                    for(PlaceableBlock block : loaded.getBlocks().values()){
+                if (!loaded.getBlocks().isEmpty()){
+                    for(PlaceableBlock block : loaded.getBlocks()){
                         ServerGameContext.get().getServerBlockManager().getPlacedBlocks().put(block.getPosition(), block);
                     }
-                    GameLogger.info("Populated ServerBlockManager with " + loaded.getBlocks().size() + " new blocks for chunk " + pos);
+                    GameLogger.info("Populated ServerBlockManager with " + loaded.getBlockCount() + " new blocks for chunk " + ChunkPos.fromLong(pos));
                 }
                 saveChunk(worldName, loaded);
             }
@@ -201,29 +282,24 @@ public class ServerWorldManager {
     }
 
     private Chunk loadChunkFromDisk(String worldName, int chunkX, int chunkY) {
-        Path path = getChunkFilePath(worldName, chunkX, chunkY);
         try {
-            if (!storageSystem.getFileSystem().exists(path.toString())) {
+            byte[] payload = getChunkStore(worldName).read(chunkX, chunkY);
+            if (payload == null) {
                 return null;
             }
-            String jsonContent = storageSystem.getFileSystem().readString(path.toString());
-            if (jsonContent == null || jsonContent.isEmpty()) {
-                return null;
-            }
-            Json json = JsonConfig.getInstance();
-            ChunkData cd = json.fromJson(ChunkData.class, jsonContent);
+            ChunkData cd = ChunkDataCodec.decode(payload);
             Biome biome = biomeManager.getBiome(cd.biomeType);
             if (biome == null) {
                 biome = biomeManager.getBiome(BiomeType.PLAINS);
             }
             Chunk chunk = new Chunk(chunkX, chunkY, biome, cd.generationSeed);
-            chunk.setTileData(cd.tileData);
+            chunk.setTiles(cd.tiles != null ? cd.tiles : Chunk.packTiles(cd.tileData));
             if (cd.blockData != null) {
                 for (BlockSaveData.BlockData bd : cd.blockData) {
                     processBlockData(chunk, bd);
                 }
             }
-            Vector2 chunkPos = new Vector2(chunkX, chunkY);
+            long chunkPos = ChunkPos.pack(chunkX, chunkY);
             List<WorldObject> objectList = new ArrayList<>();
             if (cd.worldObjects != null) {
                 for (Map<String, Object> objData : cd.worldObjects) {
@@ -285,41 +361,54 @@ public class ServerWorldManager {
      * which chunks are active so that wild Pokémon can be spawned in them.
      *
      * @param worldName The name (ID) of the world.
-     * @return A Map keyed by chunk position (Vector2) to the loaded Chunk.
+     * @return A map keyed by packed chunk position (see {@link ChunkPos#pack}) to the loaded Chunk.
      */
-    public Map<Vector2, Chunk> getLoadedChunks(String worldName) {
-        Map<Vector2, TimedChunk> cache = chunkCache.get(worldName);
-        Map<Vector2, Chunk> loadedChunks = new HashMap<>();
+    public LongMap<Chunk> getLoadedChunks(String worldName) {
+        ConcurrentLongMap<TimedChunk> cache = chunkCache.get(worldName);
+        LongMap<Chunk> loadedChunks = new LongMap<>();
         if (cache != null) {
-            for (Map.Entry<Vector2, TimedChunk> entry : cache.entrySet()) {
-                if (entry.getValue().chunk != null) {
-                    entry.getValue().lastAccess = System.currentTimeMillis();
-                    loadedChunks.put(entry.getKey(), entry.getValue().chunk);
+            LongArray keys = new LongArray();
+            Array<TimedChunk> values = new Array<>();
+            cache.snapshot(keys, values);
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < keys.size; i++) {
+                TimedChunk timed = values.get(i);
+                if (timed.chunk != null) {
+                    timed.lastAccess = now;
+                    loadedChunks.put(keys.get(i), timed.chunk);
                 }
             }
         }
         return loadedChunks;
     }
 
-    private Path getChunkFilePath(String worldName, int chunkX, int chunkY) {
-        return Paths.get("server", "data", "worlds", worldName, "chunks",
-            "chunk_" + chunkX + "_" + chunkY + ".json");
+    private Path getWorldDir(String worldName) {
+        return Paths.get("server", "data", "worlds", worldName);
     }
 
+    /**
+     * Returns the region-file chunk store for the world, migrating any legacy
+     * chunk_X_Y.json directory into it the first time the store is opened.
+     */
+    private RegionChunkStore getChunkStore(String worldName) {
+        return chunkStores.computeIfAbsent(worldName, name -> {
+            RegionChunkStore store = new RegionChunkStore(getWorldDir(name).resolve("region"));
+            Path legacyDir = getWorldDir(name).resolve("chunks");
+            if (LegacyChunkMigrator.needsMigration(legacyDir)) {
+                LegacyChunkMigrator.migrate(legacyDir, store);
+            }
+            return store;
+        });
+    }
 
     public void saveChunk(String worldName, Chunk chunk) {
         if (chunk == null) return;
         try {
-            Path chunkPath = getChunkFilePath(worldName, chunk.getChunkX(), chunk.getChunkY());
-            Path chunksDir = chunkPath.getParent();
-            if (chunksDir != null) {
-                storageSystem.getFileSystem().createDirectory(chunksDir.toString());
-            }
             ChunkData cd = new ChunkData();
             cd.chunkX = chunk.getChunkX();
             cd.chunkY = chunk.getChunkY();
             cd.biomeType = chunk.getBiome().getType();
-            cd.tileData = chunk.getTileData().clone();
+            cd.tiles = chunk.getTiles();
             cd.blockData = new ArrayList<>(chunk.getBlockDataForSave());
 
             List<WorldObject> objects = chunk.getWorldObjects();
@@ -334,22 +423,8 @@ public class ServerWorldManager {
                     }
                 }
             }
-            Json json = JsonConfig.getInstance();
-            json.setOutputType(JsonWriter.OutputType.json);
-            String jsonData = json.prettyPrint(cd);
-            storageSystem.getFileSystem().writeString(chunkPath.toString(), jsonData);
+            getChunkStore(worldName).write(cd.chunkX, cd.chunkY, ChunkDataCodec.encode(cd));
             chunk.setDirty(false);
-            WorldData wd = loadWorld(worldName);
-            if (wd != null) {
-                Vector2 chunkKey = new Vector2(chunk.getChunkX(), chunk.getChunkY());
-                wd.getChunks().put(chunkKey, chunk);
-                wd.addChunkObjects(chunkKey, objects);
-                wd.setDirty(true);
-                saveWorld(wd);
-            } else {
-                GameLogger.error("Could not load WorldData for " + worldName + " to update chunk " + chunk.getChunkX() + "," + chunk.getChunkY());
-            }
-
             GameLogger.info("Chunk saved successfully for chunk " + new Vector2(chunk.getChunkX(), chunk.getChunkY()));
         } catch (Exception e) {
             GameLogger.error("Failed to save chunk: " + e.getMessage());
@@ -358,21 +433,22 @@ public class ServerWorldManager {
 
     private void evictIdleChunks() {
         long now = System.currentTimeMillis();
-        for (Map.Entry<String, Map<Vector2, TimedChunk>> entry : chunkCache.entrySet()) {
+        LongArray keys = new LongArray();
+        Array<TimedChunk> values = new Array<>();
+        for (Map.Entry<String, ConcurrentLongMap<TimedChunk>> entry : chunkCache.entrySet()) {
             String worldName = entry.getKey();
-            Map<Vector2, TimedChunk> chunkMap = entry.getValue();
+            ConcurrentLongMap<TimedChunk> chunkMap = entry.getValue();
 
-            Iterator<Map.Entry<Vector2, TimedChunk>> it = chunkMap.entrySet().iterator();
-            while (it.hasNext()) {
-                Map.Entry<Vector2, TimedChunk> e = it.next();
-                TimedChunk container = e.getValue();
+            chunkMap.snapshot(keys, values);
+            for (int i = 0; i < keys.size; i++) {
+                TimedChunk container = values.get(i);
                 if ((now - container.lastAccess) >= CHUNK_EVICT_TIMEOUT_MS) {
                     if (container.chunk.isDirty()) {
                         saveChunk(worldName, container.chunk);
                     }
-                    it.remove();
-                    GameLogger.info("Evicted chunk (" + e.getKey().x + "," + e.getKey().y +
-                        ") from world '" + worldName + "'");
+                    chunkMap.remove(keys.get(i), container);
+                    GameLogger.info("Evicted chunk " + ChunkPos.fromLong(keys.get(i)) +
+                        " from world '" + worldName + "'");
                 }
             }
         }
@@ -380,7 +456,8 @@ public class ServerWorldManager {
 
     public void shutdown() {
         GameLogger.info("Shutting down ServerWorldManager...");
-        for (Map.Entry<String, Map<Vector2, TimedChunk>> entry : chunkCache.entrySet()) {
+        chunkProvider.shutdown();
+        for (Map.Entry<String, ConcurrentLongMap<TimedChunk>> entry : chunkCache.entrySet()) {
             String worldName = entry.getKey();
             for (TimedChunk tchunk : entry.getValue().values()) {
                 if (tchunk.chunk.isDirty()) {
@@ -388,12 +465,14 @@ public class ServerWorldManager {
                 }
             }
         }
-        for (WorldData wd : activeWorlds.values()) {
-            if (wd.isDirty()) {
-                saveWorld(wd);
-            }
+        markDirtyWorlds();
+        worldJournal.flush();
+        GameLogger.info("World journal coalesced " + worldJournal.getMarkedCount() + " changes into "
+            + worldJournal.getWrittenCount() + " world saves");
+        for (RegionChunkStore store : chunkStores.values()) {
+            store.close();
         }
-        loadExecutor.shutdown();
+        chunkStores.clear();
         scheduler.shutdown();
 
         GameLogger.info("ServerWorldManager shutdown complete.");
@@ -413,14 +492,17 @@ public class ServerWorldManager {
     }
 
     /**
-     * Represents chunk data in chunk_<x>_<y>.json, including tileData,
-     * block data, and a list of serialized world objects.
+     * Represents a chunk's persisted data, including tiles, block data,
+     * and a list of serialized world objects. Stored in region files via
+     * {@link ChunkDataCodec}; also the shape of legacy chunk_<x>_<y>.json files.
      */
 
     public static class ChunkData {
         public int chunkX;
         public int chunkY;
         public BiomeType biomeType;
+        public short[] tiles;
+        // Only set when read from a legacy JSON chunk; tiles is the stored form.
         public int[][] tileData;
         public List<BlockSaveData.BlockData> blockData = new ArrayList<>();
         public long generationSeed;
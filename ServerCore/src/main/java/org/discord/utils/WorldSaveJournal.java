@@ -0,0 +1,83 @@
+package org.discord.utils;
+
+import io.github.pokemeetup.system.data.WorldData;
+import io.github.pokemeetup.utils.GameLogger;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Write-behind journal for world metadata (world.json).
+ * <p>
+ * Callers mark a world dirty as often as they like; {@link #flush()} writes each dirty
+ * world at most once, so a burst of chunk saves or block edits between two flushes
+ * costs a single world.json write instead of one per change.
+ */
+public class WorldSaveJournal {
+    private final Map<String, WorldData> pending = new ConcurrentHashMap<>();
+    private final Predicate<WorldData> writer;
+    private final AtomicLong markedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+
+    /**
+     * @param writer writes a world and clears its dirty flag before serializing it;
+     *               returns false if the write failed
+     */
+    public WorldSaveJournal(Predicate<WorldData> writer) {
+        this.writer = writer;
+    }
+
+    public void markDirty(WorldData worldData) {
+        if (worldData == null) return;
+        worldData.setDirty(true);
+        pending.put(worldData.getName(), worldData);
+        markedCount.incrementAndGet();
+    }
+
+    /**
+     * Writes every world marked dirty since the last flush. A world marked again while
+     * it is being written stays dirty and queued, so the next flush writes it again;
+     * a failed write is queued for the next flush as well.
+     */
+    public void flush() {
+        List<WorldData> failed = new ArrayList<>();
+        Iterator<Map.Entry<String, WorldData>> it = pending.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, WorldData> entry = it.next();
+            WorldData wd = entry.getValue();
+            it.remove();
+            if (!wd.isDirty()) {
+                continue;
+            }
+            boolean written;
+            try {
+                written = writer.test(wd);
+            } catch (Exception e) {
+                GameLogger.error("Deferred save of world '" + entry.getKey() + "' failed: " + e.getMessage());
+                written = false;
+            }
+            if (written) {
+                writtenCount.incrementAndGet();
+            } else {
+                wd.setDirty(true);
+                failed.add(wd);
+            }
+        }
+        for (WorldData wd : failed) {
+            pending.putIfAbsent(wd.getName(), wd);
+        }
+    }
+
+    public long getMarkedCount() {
+        return markedCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+}
@@ -4,16 +4,21 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongArray;
 import io.github.pokemeetup.context.GameContext;
 import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
 import io.github.pokemeetup.system.Player;
 import io.github.pokemeetup.system.data.ChestData;
 import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.textures.BlockTextureManager;
 
 public class BlockManager {
+    private final LongArray renderChunkKeys = new LongArray();
+    private final Array<Chunk> renderChunks = new Array<>();
     private boolean initialized = false;
 
 
@@ -24,8 +29,7 @@ public class BlockManager {
     public PlaceableBlock getBlockAt(int worldX, int worldY) {
         Chunk chunk = GameContext.get().getWorld().getChunkAtPosition(worldX, worldY);
         if (chunk == null) return null;
-        Vector2 blockPos = new Vector2(worldX, worldY);
-        return chunk.getBlock(blockPos);
+        return chunk.getBlock(worldX, worldY);
     }
 
 
@@ -37,7 +41,7 @@ public class BlockManager {
         Chunk chunk = GameContext.get().getWorld().getChunkAtPosition(tileX, tileY);
         if (chunk == null) {
             chunk = GameContext.get().getWorld().loadOrGenerateChunk(chunkPos);
-            GameContext.get().getWorld().getChunks().put(chunkPos, chunk);
+            GameContext.get().getWorld().getChunks().put(ChunkPos.pack(chunkX, chunkY), chunk);
         }
         Vector2 blockPos = new Vector2(tileX, tileY);
         if (chunk.getBlock(blockPos) != null) {
@@ -89,8 +93,9 @@ public class BlockManager {
         if (GameContext.get() == null) {
             return;
         }
-        for (Chunk chunk : GameContext.get().getWorld().getChunks().values()) {
-            for (PlaceableBlock block : chunk.getBlocks().values()) {
+        GameContext.get().getWorld().getChunks().snapshot(renderChunkKeys, renderChunks);
+        for (Chunk chunk : renderChunks) {
+            for (PlaceableBlock block : chunk.getBlocks()) {
                 TextureRegion currentFrame = BlockTextureManager.getBlockFrame(
                     block, (float) worldTimeInMinutes
                 );
@@ -104,9 +109,9 @@ public class BlockManager {
                     float offsetY = 0;
 
                     Color originalColor = batch.getColor().cpy();
-                    Vector2 tilePos = block.getPosition();
-                    Float lightLevel = GameContext.get().getWorld().getLightLevelAtTile(tilePos);
-                    if (lightLevel != null && lightLevel > 0) {
+                    float lightLevel = GameContext.get().getWorld().getLightLevelAtTile(
+                        (int) block.getPosition().x, (int) block.getPosition().y);
+                    if (lightLevel > 0) {
                         Color lightColor = new Color(1f, 0.8f, 0.6f, 1f);
                         Color baseColor = GameContext.get().getWorld().getCurrentWorldColor().cpy();
                         baseColor.lerp(lightColor, lightLevel * 0.7f);
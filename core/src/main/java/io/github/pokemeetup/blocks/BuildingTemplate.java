@@ -3,6 +3,7 @@ package io.github.pokemeetup.blocks;
 import com.badlogic.gdx.math.Vector2;
 import io.github.pokemeetup.audio.AudioManager;
 import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
 import io.github.pokemeetup.utils.GameLogger;
@@ -95,7 +96,7 @@ public class BuildingTemplate {
                             placedBlock.toggleFlip();
                             int chunkX = Math.floorDiv((int) placedBlock.getPosition().x, World.CHUNK_SIZE);
                             int chunkY = Math.floorDiv((int) placedBlock.getPosition().y, World.CHUNK_SIZE);
-                            Chunk chunk = world.getChunks().get(new Vector2(chunkX, chunkY));
+                            Chunk chunk = world.getChunks().get(ChunkPos.pack(chunkX, chunkY));
                             if (chunk != null) {
                                 chunk.setDirty(true);
                             }
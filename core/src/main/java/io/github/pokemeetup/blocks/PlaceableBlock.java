@@ -194,6 +194,13 @@ public class PlaceableBlock {
         public String getId() {
             return id;
         }
+
+        /**
+         * How many tiles this block lights up at night, or 0 if it gives no light.
+         */
+        public int getLightRadius() {
+            return this == FURNACE ? 7 : 0;
+        }
     }
 
 }
@@ -9,15 +9,16 @@ import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.system.gameplay.overworld.WorldObject;
 import io.github.pokemeetup.system.gameplay.overworld.biomes.Biome;
 import io.github.pokemeetup.system.gameplay.overworld.biomes.BiomeType;
+import io.github.pokemeetup.utils.ChunkLruCache;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.NoiseCache;
 import io.github.pokemeetup.utils.OpenSimplex2;
+import io.github.pokemeetup.utils.PointGrid;
 import io.github.pokemeetup.utils.storage.GameFileSystem;
 import io.github.pokemeetup.utils.textures.TileType;
 
 import java.io.Serializable;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Enhanced BiomeManager for large, expansive biomes with smooth transitions.
@@ -46,7 +47,11 @@ public class BiomeManager {
     private static final int NUM_BIOME_SITES = 120; // Was 400 - now 3x larger regions
     private static final float BIOME_CLUSTER_RADIUS = 8000f;
     private static final float TRANSITION_DISTANCE = 2000f;
-    private final Map<Vector2, BiomeTransitionResult[][]> chunkBiomeCache = new ConcurrentHashMap<>();
+    private static final float SITE_GRID_CELL = WORLD_RADIUS / 6f;
+    private static final float ISLAND_GRID_CELL = WORLD_RADIUS / 5f;
+    private static final ThreadLocal<NearestQuery> nearestQuery = ThreadLocal.withInitial(NearestQuery::new);
+    private static final int CHUNK_BIOME_CACHE_SIZE = 1024;
+    private final ChunkLruCache<BiomeTransitionResult[][]> chunkBiomeCache = new ChunkLruCache<>(CHUNK_BIOME_CACHE_SIZE);
     private final long temperatureSeed;
     private final long moistureSeed;
     private final long altitudeSeed;
@@ -55,6 +60,8 @@ public class BiomeManager {
     private final List<BiomeSite> biomeSites = new ArrayList<>();
     private final List<BiomeCluster> biomeClusters = new ArrayList<>();
     private final List<Island> islandSites = new ArrayList<>();
+    private PointGrid siteGrid;
+    private PointGrid islandGrid;
     private final long warpSeed;
     private final Map<BiomeType, Biome> biomes;
     private long baseSeed;
@@ -158,6 +165,16 @@ public class BiomeManager {
             biomeSites.add(site);
         }
 
+        float[] xs = new float[biomeSites.size()];
+        float[] ys = new float[biomeSites.size()];
+        long[] order = new long[biomeSites.size()];
+        for (int i = 0; i < biomeSites.size(); i++) {
+            xs[i] = biomeSites.get(i).x;
+            ys[i] = biomeSites.get(i).y;
+            order[i] = i;
+        }
+        siteGrid = new PointGrid(xs, ys, order, SITE_GRID_CELL);
+
         GameLogger.info("BiomeManager => created " + biomeSites.size() + " Voronoi sites with cluster influence.");
     }
 
@@ -198,28 +215,21 @@ public class BiomeManager {
      * Enhanced Voronoi with smoother transitions
      */
     public BiomeTransitionResult landBiomeVoronoi(float wx, float wy) {
-        List<SiteDistance> nearestSites = findNearestSites(wx, wy, 4);
+        NearestQuery query = nearestQuery.get();
+        int found = siteGrid.nearest(wx, wy, 2, query.indices, query.dist2);
 
-        if (nearestSites.isEmpty()) {
+        if (found == 0) {
             return new BiomeTransitionResult(getBiome(BiomeType.PLAINS), null, 1f);
         }
 
-        if (nearestSites.size() == 1) {
-            Biome b = classifySiteToBiome(nearestSites.get(0).site, wx, wy);
+        if (found == 1) {
+            Biome b = classifySiteToBiome(biomeSites.get(query.indices[0]), wx, wy);
             return new BiomeTransitionResult(b, null, 1f);
         }
-        float totalWeight = 0;
-        for (SiteDistance sd : nearestSites) {
-            sd.weight = 1f / (1f + sd.distance / TRANSITION_DISTANCE);
-            totalWeight += sd.weight;
-        }
-        for (SiteDistance sd : nearestSites) {
-            sd.weight /= totalWeight;
-        }
-        Biome primary = classifySiteToBiome(nearestSites.get(0).site, wx, wy);
-        Biome secondary = classifySiteToBiome(nearestSites.get(1).site, wx, wy);
-        float d1 = nearestSites.get(0).distance;
-        float d2 = nearestSites.get(1).distance;
+        Biome primary = classifySiteToBiome(biomeSites.get(query.indices[0]), wx, wy);
+        Biome secondary = classifySiteToBiome(biomeSites.get(query.indices[1]), wx, wy);
+        float d1 = (float) Math.sqrt(query.dist2[0]);
+        float d2 = (float) Math.sqrt(query.dist2[1]);
         float raw = d2 / (d1 + d2);
         float t = smoothStep(smoothStep(raw));
         if ((primary.getType() == BiomeType.SNOW && secondary.getType() == BiomeType.DESERT) ||
@@ -230,21 +240,6 @@ public class BiomeManager {
         return new BiomeTransitionResult(primary, secondary, t);
     }
 
-    private List<SiteDistance> findNearestSites(float wx, float wy, int count) {
-        List<SiteDistance> distances = new ArrayList<>();
-
-        for (BiomeSite site : biomeSites) {
-            float dx = wx - site.x;
-            float dy = wy - site.y;
-            float dist = (float) Math.sqrt(dx * dx + dy * dy);
-            distances.add(new SiteDistance(site, dist));
-        }
-
-        distances.sort(Comparator.comparingDouble(sd -> sd.distance));
-
-        return distances.subList(0, Math.min(count, distances.size()));
-    }
-
     private static float smoothStep(float t) {
         return t * t * (3f - 2f * t);
     }
@@ -362,6 +357,16 @@ public class BiomeManager {
         Island centerIsland = new Island(0, 0, ISLAND_MAX_RADIUS, baseSeed);
         islandSites.add(centerIsland);
 
+        float[] xs = new float[islandSites.size()];
+        float[] ys = new float[islandSites.size()];
+        long[] order = new long[islandSites.size()];
+        for (int i = 0; i < islandSites.size(); i++) {
+            xs[i] = islandSites.get(i).centerX;
+            ys[i] = islandSites.get(i).centerY;
+            order[i] = islandSites.get(i).seed;
+        }
+        islandGrid = new PointGrid(xs, ys, order, ISLAND_GRID_CELL);
+
         GameLogger.info("Created " + islandSites.size() + " island sites (including central island).");
     }
 
@@ -369,31 +374,21 @@ public class BiomeManager {
         float roundedX = (float) (Math.floor(wx / 100.0f) * 100.0f);
         float roundedY = (float) (Math.floor(wy / 100.0f) * 100.0f);
 
-        Island best = null;
-        float bestDist = Float.MAX_VALUE;
-
-        List<Island> sortedIslands = new ArrayList<>(islandSites);
-        sortedIslands.sort((a, b) -> Long.compare(a.seed, b.seed));
-
-        for (Island isl : sortedIslands) {
-            float dx = roundedX - isl.centerX;
-            float dy = roundedY - isl.centerY;
-            float dist = dx * dx + dy * dy;
-            if (dist < bestDist) {
-                bestDist = dist;
-                best = isl;
-            }
-        }
-
-        return best;
+        // Ties resolve to the lower island seed, as the old seed-sorted scan did.
+        NearestQuery query = nearestQuery.get();
+        int found = islandGrid.nearest(roundedX, roundedY, 1, query.indices, query.dist2);
+        return found == 0 ? null : islandSites.get(query.indices[0]);
     }
 
     public BiomeTransitionResult[][] computeBiomeMatrixForChunk(int chunkX, int chunkY) {
-        Vector2 key = new Vector2(chunkX, chunkY);
-        if (chunkBiomeCache.containsKey(key)) {
-            return chunkBiomeCache.get(key);
-        }
+        return chunkBiomeCache.get(chunkX, chunkY, this::buildBiomeMatrix);
+    }
 
+    public String getChunkBiomeCacheStats() {
+        return chunkBiomeCache.getStats();
+    }
+
+    private BiomeTransitionResult[][] buildBiomeMatrix(int chunkX, int chunkY) {
         int size = Chunk.CHUNK_SIZE;
         int outW = size + 1;
         int outH = size + 1;
@@ -411,7 +406,6 @@ public class BiomeManager {
             }
         }
 
-        chunkBiomeCache.put(key, matrix);
         return matrix;
     }
 
@@ -597,16 +591,12 @@ public class BiomeManager {
         MYSTICAL      // Cherry/haunted clusters
     }
 
-    private static class SiteDistance {
-        public BiomeSite site;
-        public float distance;
-        public float weight;
-
-        public SiteDistance(BiomeSite site, float distance) {
-            this.site = site;
-            this.distance = distance;
-            this.weight = 0;
-        }
+    /**
+     * Per-thread result buffers for grid queries, so site and island lookups never allocate.
+     */
+    private static class NearestQuery {
+        final int[] indices = new int[2];
+        final float[] dist2 = new float[2];
     }
 
     public static class BiomeData implements Serializable {
@@ -2,12 +2,20 @@ package io.github.pokemeetup.managers;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.LongMap;
 import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.system.gameplay.overworld.mechanics.AutoTileSystem;
+import io.github.pokemeetup.utils.ConcurrentLongMap;
+import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.textures.TextureManager;
 import io.github.pokemeetup.utils.textures.TileType;
 
@@ -16,8 +24,13 @@ import io.github.pokemeetup.utils.textures.TileType;
  *  - Animated ocean tiles (8 frames)
  *  - Day/night & torch lighting
  *  - Animated “sand_shore” overlay (with inner corners)
+ *
+ * Unlit chunks are baked into a per-chunk {@link SpriteCache}, one cache per animation frame, and
+ * drawn with a single call tinted by the world color. A bake is redone only when the chunk or one
+ * of its neighbours (shorelines look across the border) is replaced or bumps its version. Chunks
+ * with torch light on them still go through {@link #renderChunk} so each tile gets its own tint.
  */
-public class BiomeRenderer {
+public class BiomeRenderer implements Disposable {
 
     private static final float TEXTURE_BLEED_FIX = 0.001f;
     private static final float OCEAN_FRAME_DELAY = 1.5f;
@@ -26,6 +39,59 @@ public class BiomeRenderer {
     private static final float SHORE_FRAME_DELAY = 1.5f;
     private static float shoreFrameTimer = 0f;
     private static int shoreFrameIndex = 0; // 0..7
+    private static final int ANIMATION_FRAMES = 8;
+    private static final int CELLS = Chunk.CHUNK_SIZE * Chunk.CHUNK_SIZE;
+    // Indexed SpriteCaches address vertices with shorts.
+    private static final int MAX_CACHE_SPRITES = 8191;
+    private static final int MAX_IDLE_CACHES = 64;
+    private static final Color TORCH_COLOR = new Color(1f, 0.8f, 0.6f, 1f);
+
+    // SpriteCache.begin() sets u_proj, u_trans and u_projTrans on a custom shader and pedantic
+    // shaders throw for uniforms the compiler stripped, so the position uses all three (the
+    // average of two equal matrices).
+    private static final String TERRAIN_VERTEX_SHADER =
+        "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+            "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" +
+            "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" +
+            "uniform mat4 u_proj;\n" +
+            "uniform mat4 u_trans;\n" +
+            "uniform mat4 u_projTrans;\n" +
+            "varying vec4 v_color;\n" +
+            "varying vec2 v_texCoords;\n" +
+            "void main() {\n" +
+            "    v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" +
+            "    v_color.a = v_color.a * (255.0/254.0);\n" +
+            "    v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" +
+            "    gl_Position = 0.5 * (u_projTrans + u_proj * u_trans) * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+            "}\n";
+    private static final String TERRAIN_FRAGMENT_SHADER =
+        "#ifdef GL_ES\n" +
+            "precision mediump float;\n" +
+            "#endif\n" +
+            "varying vec4 v_color;\n" +
+            "varying vec2 v_texCoords;\n" +
+            "uniform sampler2D u_texture;\n" +
+            "uniform vec4 u_tint;\n" +
+            "void main() {\n" +
+            "    gl_FragColor = v_color * u_tint * texture2D(u_texture, v_texCoords);\n" +
+            "}\n";
+
+    private final AutoTileSystem autoTileSystem = new AutoTileSystem();
+    private final LongMap<TerrainCache> terrainCaches = new LongMap<>();
+    private final TextureRegion[][] frameOverlays = new TextureRegion[ANIMATION_FRAMES][CELLS];
+    private final Chunk[] neighbourScratch = new Chunk[9];
+    private final Color lightingColor = new Color();
+    private ShaderProgram terrainShader;
+
+    private static final class TerrainCache {
+        SpriteCache cache;
+        int capacity;
+        final int[] cacheIds = new int[ANIMATION_FRAMES];
+        int frames;
+        boolean uncacheable;
+        final Chunk[] neighbours = new Chunk[9];
+        final int[] neighbourVersions = new int[9];
+    }
 
     /**
      * Update both ocean and shore frames each frame (0..7).
@@ -55,9 +121,7 @@ public class BiomeRenderer {
         final int size = Chunk.CHUNK_SIZE;
         int chunkX = chunk.getChunkX();
         int chunkY = chunk.getChunkY();
-        AutoTileSystem autoTileSystem = new AutoTileSystem();
         autoTileSystem.applyShorelineAutotiling(chunk, shoreFrameIndex, world);
-        updateAnimations();
         TextureRegion[][] overlay = chunk.getAutotileRegions();
         if (overlay == null) {
             overlay = new TextureRegion[size][size];
@@ -107,17 +171,238 @@ public class BiomeRenderer {
         }
     }
 
+    /**
+     * Draws the chunk from its baked cache, rebaking first if needed. The caller must have ended
+     * the sprite batch and enabled blending.
+     *
+     * @return false if the chunk cannot be cached, or the terrain shader did not compile, and must
+     * go through {@link #renderChunk}
+     */
+    public boolean renderCachedChunk(Chunk chunk, World world, Matrix4 projection, Matrix4 transform, Color tint) {
+        if (!getTerrainShader().isCompiled()) {
+            return false;
+        }
+        long chunkKey = ChunkPos.pack(chunk.getChunkX(), chunk.getChunkY());
+        TerrainCache terrain = terrainCaches.get(chunkKey);
+        if (terrain == null) {
+            terrain = new TerrainCache();
+            terrainCaches.put(chunkKey, terrain);
+        }
+        collectNeighbours(chunk, world.getChunks());
+        if (terrain.frames == 0 || isStale(terrain)) {
+            bake(terrain, chunk, world);
+        }
+        if (terrain.uncacheable) {
+            return false;
+        }
+
+        // Ocean and shore frames advance on the same timer, so one index selects both.
+        int frame = terrain.frames == 1 ? 0 : oceanFrameIndex % terrain.frames;
+        SpriteCache cache = terrain.cache;
+        cache.setProjectionMatrix(projection);
+        cache.setTransformMatrix(transform);
+        cache.begin();
+        terrainShader.setUniformf("u_tint", tint);
+        cache.draw(terrain.cacheIds[frame]);
+        cache.end();
+        return true;
+    }
+
+    /**
+     * Disposes caches for chunks that are no longer loaded.
+     */
+    public void evictUnloaded(ConcurrentLongMap<Chunk> loadedChunks, int visibleCount) {
+        if (terrainCaches.size <= visibleCount + MAX_IDLE_CACHES) {
+            return;
+        }
+        LongMap.Entries<TerrainCache> entries = terrainCaches.entries();
+        while (entries.hasNext) {
+            LongMap.Entry<TerrainCache> entry = entries.next();
+            if (!loadedChunks.containsKey(entry.key)) {
+                if (entry.value.cache != null) {
+                    entry.value.cache.dispose();
+                }
+                entries.remove();
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        for (TerrainCache terrain : terrainCaches.values()) {
+            if (terrain.cache != null) {
+                terrain.cache.dispose();
+            }
+        }
+        terrainCaches.clear();
+        if (terrainShader != null) {
+            terrainShader.dispose();
+            terrainShader = null;
+        }
+    }
+
+    private void collectNeighbours(Chunk chunk, ConcurrentLongMap<Chunk> chunks) {
+        int i = 0;
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                neighbourScratch[i++] = dx == 0 && dy == 0 ? chunk
+                    : chunks.get(ChunkPos.pack(chunk.getChunkX() + dx, chunk.getChunkY() + dy));
+            }
+        }
+    }
+
+    private boolean isStale(TerrainCache terrain) {
+        for (int i = 0; i < 9; i++) {
+            Chunk neighbour = neighbourScratch[i];
+            if (terrain.neighbours[i] != neighbour ||
+                (neighbour != null && terrain.neighbourVersions[i] != neighbour.getVersion())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void bake(TerrainCache terrain, Chunk chunk, World world) {
+        for (int i = 0; i < 9; i++) {
+            Chunk neighbour = neighbourScratch[i];
+            terrain.neighbours[i] = neighbour;
+            terrain.neighbourVersions[i] = neighbour != null ? neighbour.getVersion() : 0;
+        }
+
+        int frames = hasAnimatedTiles(chunk, world) ? ANIMATION_FRAMES : 1;
+        int total = 0;
+        for (int frame = 0; frame < frames; frame++) {
+            autoTileSystem.applyShorelineAutotiling(chunk, frame, world);
+            total += snapshotFrame(chunk, frame);
+        }
+        terrain.frames = frames;
+        if (total > MAX_CACHE_SPRITES) {
+            terrain.uncacheable = true;
+            return;
+        }
+        terrain.uncacheable = false;
+
+        if (terrain.cache == null || terrain.capacity < total) {
+            if (terrain.cache != null) {
+                terrain.cache.dispose();
+            }
+            terrain.capacity = Math.min(MAX_CACHE_SPRITES, Math.max(total + total / 4, 64));
+            terrain.cache = new SpriteCache(terrain.capacity, true);
+            terrain.cache.setShader(getTerrainShader());
+        } else {
+            terrain.cache.clear();
+        }
+
+        SpriteCache cache = terrain.cache;
+        for (int frame = 0; frame < frames; frame++) {
+            cache.beginCache();
+            addFrame(cache, chunk, frame);
+            terrain.cacheIds[frame] = cache.endCache();
+        }
+    }
+
+    private boolean hasAnimatedTiles(Chunk chunk, World world) {
+        for (int x = 0; x < Chunk.CHUNK_SIZE; x++) {
+            for (int y = 0; y < Chunk.CHUNK_SIZE; y++) {
+                if (chunk.getTileType(x, y) == TileType.WATER) {
+                    return true;
+                }
+            }
+        }
+        autoTileSystem.applyShorelineAutotiling(chunk, 0, world);
+        TextureRegion[][] overlay = chunk.getAutotileRegions();
+        for (int x = 0; x < Chunk.CHUNK_SIZE; x++) {
+            for (int y = 0; y < Chunk.CHUNK_SIZE; y++) {
+                if (overlay[x][y] != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Copies the chunk's current overlay into the frame's snapshot and counts the sprites the frame
+     * needs.
+     */
+    private int snapshotFrame(Chunk chunk, int frame) {
+        TextureRegion[][] overlay = chunk.getAutotileRegions();
+        TextureRegion[] snapshot = frameOverlays[frame];
+        int sprites = 0;
+        for (int x = 0; x < Chunk.CHUNK_SIZE; x++) {
+            for (int y = 0; y < Chunk.CHUNK_SIZE; y++) {
+                TextureRegion region = overlay != null ? overlay[x][y] : null;
+                snapshot[x * Chunk.CHUNK_SIZE + y] = region;
+                sprites++;
+                if (region instanceof AutoTileSystem.CompositeRegion) {
+                    sprites += 1 + ((AutoTileSystem.CompositeRegion) region).getOverlays().size();
+                } else if (region != null) {
+                    sprites++;
+                }
+            }
+        }
+        return sprites;
+    }
+
+    private void addFrame(SpriteCache cache, Chunk chunk, int frame) {
+        final int size = Chunk.CHUNK_SIZE;
+        TextureRegion water = TextureManager.getOceanCenterFrame(frame);
+        TextureRegion[] snapshot = frameOverlays[frame];
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                float px = (chunk.getChunkX() * size + x) * World.TILE_SIZE;
+                float py = (chunk.getChunkY() * size + y) * World.TILE_SIZE;
+                int tileType = chunk.getTileType(x, y);
+                if (tileType == TileType.WATER) {
+                    if (water != null) {
+                        cache.add(water, px, py, World.TILE_SIZE, World.TILE_SIZE);
+                    }
+                } else {
+                    TextureRegion baseTex = TextureManager.getTileTexture(tileType);
+                    if (baseTex != null) {
+                        Texture texture = baseTex.getTexture();
+                        cache.add(texture, px, py, World.TILE_SIZE, World.TILE_SIZE,
+                            baseTex.getU() + TEXTURE_BLEED_FIX, baseTex.getV2() - TEXTURE_BLEED_FIX,
+                            baseTex.getU2() - TEXTURE_BLEED_FIX, baseTex.getV() + TEXTURE_BLEED_FIX,
+                            Color.WHITE_FLOAT_BITS);
+                    }
+                }
+
+                TextureRegion shoreOverlay = snapshot[x * size + y];
+                if (shoreOverlay instanceof AutoTileSystem.CompositeRegion) {
+                    AutoTileSystem.CompositeRegion comp = (AutoTileSystem.CompositeRegion) shoreOverlay;
+                    cache.add(comp.getBase32(), px, py, 32, 32);
+                    for (AutoTileSystem.MiniOverlay mo : comp.getOverlays()) {
+                        cache.add(mo.region16, px + mo.offsetX, py + mo.offsetY, 16, 16);
+                    }
+                } else if (shoreOverlay != null) {
+                    cache.add(shoreOverlay, px, py, 32, 32);
+                }
+                snapshot[x * size + y] = null;
+            }
+        }
+    }
+
+    private ShaderProgram getTerrainShader() {
+        if (terrainShader == null) {
+            terrainShader = new ShaderProgram(TERRAIN_VERTEX_SHADER, TERRAIN_FRAGMENT_SHADER);
+            if (!terrainShader.isCompiled()) {
+                GameLogger.error("Terrain shader failed to compile: " + terrainShader.getLog());
+            }
+        }
+        return terrainShader;
+    }
+
     /**
      * Combine day/night color + optional torch glow
      */
     private Color determineLightingColor(World world, int chunkX, int chunkY, int lx, int ly) {
-        Color base = world.getCurrentWorldColor().cpy();
+        Color base = lightingColor.set(world.getCurrentWorldColor());
         int gx = chunkX * Chunk.CHUNK_SIZE + lx;
         int gy = chunkY * Chunk.CHUNK_SIZE + ly;
-        Float light = world.getLightLevelAtTile(new Vector2(gx, gy));
-        if (light != null && light > 0f) {
-            Color torch = new Color(1f, 0.8f, 0.6f, 1f);
-            base.lerp(torch, light);
+        float light = world.getLightLevelAtTile(gx, gy);
+        if (light > 0f) {
+            base.lerp(TORCH_COLOR, light);
         }
         return base;
     }public enum Direction {
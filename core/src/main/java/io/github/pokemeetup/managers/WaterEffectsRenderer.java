@@ -8,6 +8,7 @@ import com.badlogic.gdx.math.Vector2;
 import io.github.pokemeetup.audio.AudioManager;
 import io.github.pokemeetup.system.Positionable;
 import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.textures.TextureManager;
@@ -135,15 +136,9 @@ public class WaterEffectsRenderer {
     private boolean isEntityOnWater(Positionable entity, World world) {
         int tileX = MathUtils.floor((entity.getX() - World.TILE_SIZE / 2f) / World.TILE_SIZE);
         int tileY = MathUtils.floor(entity.getY() / World.TILE_SIZE);
-        int chunkX = Math.floorDiv(tileX, World.CHUNK_SIZE);
-        int chunkY = Math.floorDiv(tileY, World.CHUNK_SIZE);
-        Vector2 chunkPos = new Vector2(chunkX, chunkY);
-        if (!world.getChunks().containsKey(chunkPos)) {
-            return false;
-        }
         int localX = Math.floorMod(tileX, World.CHUNK_SIZE);
         int localY = Math.floorMod(tileY, World.CHUNK_SIZE);
-        Chunk chunk = world.getChunks().get(chunkPos);
+        Chunk chunk = world.getChunks().get(ChunkPos.packTile(tileX, tileY));
         if (chunk == null) {
             return false;
         }
@@ -0,0 +1,167 @@
+package io.github.pokemeetup.multiplayer;
+
+/**
+ * Short history of timestamped states for one remote entity, shown a fixed delay in the past.
+ * <p>
+ * Samples carry the sender's clock, mapped onto the local one through the smallest transit
+ * offset seen, so network jitter does not reach the rendered path. Sampling interpolates between
+ * the two states around {@code now - delay}. If the next state is late, a moving entity keeps its
+ * last velocity for up to {@link #MAX_EXTRAPOLATION_MS} and then holds. A state that arrives after
+ * a long silence is preceded by a copy of the previous one, so an entity that stood still starts
+ * moving when it did instead of sliding across the whole gap.
+ * <p>
+ * Not thread-safe; callers push and sample under their own lock.
+ */
+public class InterpolationBuffer {
+    private static final int CAPACITY = 16;
+    private static final long MAX_EXTRAPOLATION_MS = 250;
+    // A sender clock that runs backwards, or jumps against the local clock, by more than this
+    // (reconnects, clock resets) starts a fresh history. Long silences alone keep the history.
+    private static final long CLOCK_JUMP_MS = 10_000;
+    // How quickly the clock offset follows transit times that grow, e.g. from clock drift.
+    private static final double OFFSET_DRIFT = 0.01;
+
+    private final long intervalMs;
+    private final long delayMs;
+    private final long[] times = new long[CAPACITY];
+    private final float[] xs = new float[CAPACITY];
+    private final float[] ys = new float[CAPACITY];
+    private final boolean[] moving = new boolean[CAPACITY];
+    private final int[] states = new int[CAPACITY];
+    private int head;
+    private int count;
+    private long newestSenderTime;
+    private double clockOffset;
+    private boolean hasOffset;
+
+    public static final class Sample {
+        public float x;
+        public float y;
+        public int state;
+        /**
+         * Whether the entity is in motion at this instant, either flagged as moving or covering
+         * ground between the surrounding states.
+         */
+        public boolean moving;
+    }
+
+    /**
+     * @param intervalMs how often the sender normally sends a state
+     * @param delayMs    how far in the past to render
+     */
+    public InterpolationBuffer(long intervalMs, long delayMs) {
+        this.intervalMs = intervalMs;
+        this.delayMs = delayMs;
+    }
+
+    /**
+     * Records a state. States that are not newer than the last one pushed are ignored.
+     *
+     * @param senderTime time the sender produced the state, in its own clock
+     * @param localTime  current local time, in the same unit as {@link #sample}
+     * @param state      opaque per-state value handed back by {@link #sample}
+     */
+    public void push(long senderTime, long localTime, float x, float y, boolean isMoving, int state) {
+        long offset = localTime - senderTime;
+        if (count > 0) {
+            if (newestSenderTime - senderTime > CLOCK_JUMP_MS || Math.abs(offset - clockOffset) > CLOCK_JUMP_MS) {
+                clear();
+            } else if (senderTime <= newestSenderTime) {
+                return;
+            }
+        }
+        if (!hasOffset || offset < clockOffset) {
+            clockOffset = offset;
+            hasOffset = true;
+        } else {
+            clockOffset += (offset - clockOffset) * OFFSET_DRIFT;
+        }
+        long time = senderTime + Math.round(clockOffset);
+
+        if (count > 0) {
+            int newest = index(count - 1);
+            time = Math.max(time, times[newest] + 1);
+            if (time - times[newest] > intervalMs * 2) {
+                add(time - intervalMs, xs[newest], ys[newest], moving[newest], states[newest]);
+            }
+        }
+        add(time, x, y, isMoving, state);
+        newestSenderTime = senderTime;
+    }
+
+    /**
+     * Writes the state to show at {@code localTime} into {@code out}.
+     *
+     * @return false if nothing has been pushed yet
+     */
+    public boolean sample(long localTime, Sample out) {
+        if (count == 0) {
+            return false;
+        }
+        long renderTime = localTime - delayMs;
+        while (count > 2 && times[index(1)] <= renderTime) {
+            head = (head + 1) % CAPACITY;
+            count--;
+        }
+
+        int from = index(0);
+        if (count == 1 || renderTime <= times[from]) {
+            write(out, from, xs[from], ys[from], moving[from]);
+            return true;
+        }
+        int to = index(1);
+        float dx = xs[to] - xs[from];
+        float dy = ys[to] - ys[from];
+        boolean covering = dx != 0f || dy != 0f;
+        long span = times[to] - times[from];
+        if (renderTime < times[to]) {
+            float alpha = (renderTime - times[from]) / (float) span;
+            write(out, to, xs[from] + dx * alpha, ys[from] + dy * alpha, moving[to] || covering);
+            return true;
+        }
+
+        if (!moving[to]) {
+            write(out, to, xs[to], ys[to], false);
+            return true;
+        }
+        long ahead = Math.min(renderTime - times[to], MAX_EXTRAPOLATION_MS);
+        float scale = ahead / (float) span;
+        write(out, to, xs[to] + dx * scale, ys[to] + dy * scale, ahead < MAX_EXTRAPOLATION_MS);
+        return true;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public void clear() {
+        head = 0;
+        count = 0;
+        hasOffset = false;
+    }
+
+    private void add(long time, float x, float y, boolean isMoving, int state) {
+        if (count == CAPACITY) {
+            head = (head + 1) % CAPACITY;
+            count--;
+        }
+        int slot = index(count);
+        times[slot] = time;
+        xs[slot] = x;
+        ys[slot] = y;
+        moving[slot] = isMoving;
+        states[slot] = state;
+        count++;
+    }
+
+    private void write(Sample out, int slot, float x, float y, boolean isMoving) {
+        out.x = x;
+        out.y = y;
+        out.state = states[slot];
+        out.moving = isMoving;
+    }
+
+    private int index(int offset) {
+        return (head + offset) % CAPACITY;
+    }
+}
@@ -2,11 +2,11 @@ package io.github.pokemeetup.multiplayer;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.*;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import io.github.pokemeetup.context.GameContext;
 import io.github.pokemeetup.managers.FootstepEffect;
 import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
+import io.github.pokemeetup.multiplayer.network.PokemonSnapshotCodec;
 import io.github.pokemeetup.system.Positionable;
 import io.github.pokemeetup.system.gameplay.PlayerAnimations;
 import io.github.pokemeetup.system.gameplay.inventory.Inventory;
@@ -23,7 +23,6 @@ public class OtherPlayer implements Positionable {
         return wasOnWater;
     }
     private float animationSpeedMultiplier = 0.75f; // [NEW] Same as Player
-    private float movementProgress;
     private float animationTime = 0f;
     private int prevTileX, prevTileY;
 
@@ -51,71 +50,77 @@ public class OtherPlayer implements Positionable {
     private boolean wasOnWater = false;
     private float waterSoundTimer = 0f;
     private static final float ANIMATION_SPEED_MULTIPLIER = 0.75f;
+    private static final long RENDER_DELAY_MS = 100;
     private final String username;
     private final Inventory inventory;
     private PlayerAnimations animations;
     private final AtomicBoolean isMoving;
     private final Object positionLock = new Object();
-    private final Vector2 startPosition = new Vector2();
-    private final Vector2 targetPosition = new Vector2();
+    private final InterpolationBuffer motion = new InterpolationBuffer(
+        NetworkProtocol.PlayerMovement.SEND_INTERVAL_MS, RENDER_DELAY_MS);
+    private final InterpolationBuffer.Sample motionSample = new InterpolationBuffer.Sample();
     private boolean wantsToRun;
     private Vector2 position;
-    private float interpolationProgress; // From 0 to 1.
     private float stateTime; // Used both for movement and action animations.
     private String direction;
     private BitmapFont font;
     private int ping;
+    private int movementPlayerId;
+    private int movementSequence;
+    private long lastSnapTimestamp;
 
     public OtherPlayer(String username, float x, float y) {
         this.username = (username != null && !username.isEmpty()) ? username : "Unknown";
         this.position = new Vector2(x, y);
-        this.startPosition.set(x, y);
-        this.targetPosition.set(x, y);
         this.inventory = new Inventory();
         this.direction = "down";
-        this.movementProgress = 0f;
         this.animationTime = 0f;
         this.isMoving = new AtomicBoolean(false);
         this.wantsToRun = false;
         this.stateTime = 0f;
-        this.interpolationProgress = 0f;
         this.animations = new PlayerAnimations();
         GameLogger.info("Created OtherPlayer: " + this.username + " at (" + x + ", " + y + ")");
         prevTileX = pixelToTileX(position.x);
         prevTileY = pixelToTileY(position.y);
     }
+    /**
+     * Applies reliable state (login, teleport, coming into view) by snapping to it; movement in
+     * between arrives through {@link #applyMovement}.
+     */
     public void updateFromNetwork(NetworkProtocol.PlayerUpdate update) {
-        synchronized (this) {
+        synchronized (positionLock) {
             if (update == null) return;
-            this.targetPosition.set(update.x, update.y);
-            this.direction = update.direction;
-            this.isMoving.set(update.isMoving);
-            this.wantsToRun = update.wantsToRun;
             if (update.characterType != null && !update.characterType.equalsIgnoreCase(animations.getCharacterType())) {
                 animations.dispose();
                 this.animations = new PlayerAnimations(update.characterType);
             }
-            if (update.isMoving && movementProgress >= 1.0f) {
-                startPosition.set(position);
-                movementProgress = 0f;
+            // The same update can be handed over again from the buffered update map.
+            if (update.timestamp <= lastSnapTimestamp) return;
+            lastSnapTimestamp = update.timestamp;
+            motion.clear();
+            position.set(update.x, update.y);
+            if (update.direction != null) {
+                this.direction = update.direction;
             }
+            this.isMoving.set(update.isMoving);
+            this.wantsToRun = update.wantsToRun;
         }
     }
 
-
     /**
-     * The smoothstep function to ease the interpolation.
+     * Buffers a movement packet unless a newer one from the same connection was already applied.
      */
-    private float smoothstep(float x) {
-        x = MathUtils.clamp(x, 0f, 1f);
-        return x * x * (3 - 2 * x);
-    }
-    private float tileToPixelX(int tileX) {
-        return tileX * World.TILE_SIZE + (World.TILE_SIZE / 2f);
-    }
-
-    private float tileToPixelY(int tileY) {
-        return tileY * World.TILE_SIZE;
+    public void applyMovement(NetworkProtocol.PlayerMovement movement) {
+        synchronized (positionLock) {
+            if (movement.playerId == movementPlayerId && movement.sequence - movementSequence <= 0) {
+                return;
+            }
+            movementPlayerId = movement.playerId;
+            movementSequence = movement.sequence;
+            motion.push(Integer.toUnsignedLong(movement.time), System.currentTimeMillis(),
+                PokemonSnapshotCodec.dequantize(movement.x), PokemonSnapshotCodec.dequantize(movement.y),
+                (movement.flags & NetworkProtocol.PlayerMovement.MOVING) != 0, movement.flags);
+        }
     }
 
     private int pixelToTileX(float pixelX) {
@@ -127,33 +132,13 @@ public class OtherPlayer implements Positionable {
     }
     public void update(float deltaTime) {
         synchronized (positionLock) {
-            float moveDuration = wantsToRun
-                ? PlayerAnimations.SLOW_RUN_ANIMATION_DURATION
-                : PlayerAnimations.SLOW_WALK_ANIMATION_DURATION;
-            if (!position.epsilonEquals(targetPosition, 0.1f)) {
-                movementProgress = Math.min(1f, movementProgress + deltaTime / moveDuration);
-                float smoothProgress = smoothstep(movementProgress);
-                position.x = MathUtils.lerp(startPosition.x, targetPosition.x, smoothProgress);
-                position.y = MathUtils.lerp(startPosition.y, targetPosition.y, smoothProgress);
-            }
-            if (movementProgress >= 1f) {
-                position.set(targetPosition); // Snap to final position
-                startPosition.set(position);
-                movementProgress = 0f;
-                if (isMoving.get()) {
-                    int nextTileX = pixelToTileX(targetPosition.x);
-                    int nextTileY = pixelToTileY(targetPosition.y);
-
-                    switch (direction.toLowerCase()) {
-                        case "up":    nextTileY++; break;
-                        case "down":  nextTileY--; break;
-                        case "left":  nextTileX--; break;
-                        case "right": nextTileX++; break;
-                    }
-                    if (GameContext.get().getWorld().isPassable(nextTileX, nextTileY)) {
-                        targetPosition.set(tileToPixelX(nextTileX), tileToPixelY(nextTileY));
-                    }
-                }
+            if (motion.sample(System.currentTimeMillis(), motionSample)) {
+                position.set(motionSample.x, motionSample.y);
+                int flags = motionSample.state;
+                direction = PokemonSnapshotCodec.decodeDirection(
+                    (byte) (flags & NetworkProtocol.PlayerMovement.DIRECTION_MASK));
+                wantsToRun = (flags & NetworkProtocol.PlayerMovement.RUNNING) != 0;
+                isMoving.set(motionSample.moving);
             }
             if (isMoving.get()) {
                 animationTime += deltaTime * animationSpeedMultiplier;
@@ -270,8 +255,7 @@ public class OtherPlayer implements Positionable {
     public void setPosition(Vector2 position) {
         synchronized (positionLock) {
             this.position = position;
-            this.startPosition.set(position);
-            this.targetPosition.set(position);
+            motion.clear();
         }
     }
 
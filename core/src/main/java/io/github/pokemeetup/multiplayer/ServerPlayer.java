@@ -27,6 +27,9 @@ public class ServerPlayer {
     private PlayerData playerData;
     private WorldObject choppingObject;
     private PlaceableBlock breakingBlock; // This field was added in the previous step
+    private boolean hasMovementSequence;
+    private int movementSequence;
+    private int stateVersion;
 
     public ServerPlayer(String username, PlayerData playerData) {
         List<PokemonData> partyPokemon1;
@@ -203,4 +206,45 @@ public class ServerPlayer {
     public Inventory getInventory() {
         return inventory;
     }
+
+    /**
+     * Whether a movement packet with this sequence is newer than the last one accepted. Movement
+     * travels over UDP, which can reorder and duplicate packets.
+     */
+    public boolean acceptMovementSequence(int sequence) {
+        synchronized (positionLock) {
+            if (hasMovementSequence && sequence - movementSequence <= 0) {
+                return false;
+            }
+            hasMovementSequence = true;
+            movementSequence = sequence;
+            return true;
+        }
+    }
+
+    /**
+     * Whether a state delta with this version is newer than the last one applied.
+     */
+    public boolean acceptStateVersion(int version) {
+        synchronized (dataLock) {
+            if (version <= stateVersion) {
+                return false;
+            }
+            stateVersion = version;
+            return true;
+        }
+    }
+
+    /**
+     * Replaces the given inventory slots; {@code items} is parallel to {@code slots}.
+     */
+    public void setInventorySlots(int[] slots, ItemData[] items) {
+        synchronized (inventoryLock) {
+            for (int i = 0; i < Math.min(slots.length, items.length); i++) {
+                if (slots[i] >= 0 && slots[i] < Inventory.INVENTORY_SIZE) {
+                    inventory.setItemAt(slots[i], items[i]);
+                }
+            }
+        }
+    }
 }
@@ -5,6 +5,8 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.LongArray;
 import com.esotericsoftware.kryo.Kryo;
 import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryonet.Client;
@@ -18,6 +20,7 @@ import io.github.pokemeetup.managers.BiomeTransitionResult;
 import io.github.pokemeetup.managers.DisconnectionManager;
 import io.github.pokemeetup.multiplayer.OtherPlayer;
 import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
+import io.github.pokemeetup.multiplayer.network.PokemonSnapshotCodec;
 import io.github.pokemeetup.multiplayer.server.config.ServerConnectionConfig;
 import io.github.pokemeetup.pokemon.WildPokemon;
 import io.github.pokemeetup.screens.ChestScreen;
@@ -28,9 +31,10 @@ import io.github.pokemeetup.system.data.ItemData;
 import io.github.pokemeetup.system.data.PlayerData;
 import io.github.pokemeetup.system.data.WorldData;
 import io.github.pokemeetup.system.gameplay.overworld.*;
-import io.github.pokemeetup.system.gameplay.overworld.biomes.BiomeType;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
 import io.github.pokemeetup.system.gameplay.overworld.mechanics.AutoTileSystem;
 import io.github.pokemeetup.system.gameplay.overworld.multiworld.WorldManager;
+import io.github.pokemeetup.utils.ConcurrentLongMap;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.textures.TextureManager;
 import net.jpountz.lz4.LZ4Factory;
@@ -40,6 +44,7 @@ import java.io.ByteArrayInputStream;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
@@ -47,34 +52,37 @@ import java.util.function.Consumer;
 public class GameClient {
     private static final long RECONNECT_DELAY = 3000;
     private static final int MAX_RECONNECT_ATTEMPTS = 5;
-    private static final int MAX_CONCURRENT_CHUNK_REQUESTS = 4;
-    private static final long CHUNK_REQUEST_INTERVAL = 50;
     private static final float SYNC_INTERVAL = 1 / 60f;
-    private static final float INTERPOLATION_SPEED = 10f;
-    private static final float UPDATE_INTERVAL = 1 / 20f;
+    private static final float UPDATE_INTERVAL = NetworkProtocol.PlayerMovement.SEND_INTERVAL_MS / 1000f;
     private static final int BUFFER_SIZE = 65536;
     private static final int INCREASED_BUFFER = 65536;
     private static final int CHUNK_LOAD_RADIUS = 3;
+    private static final int CHUNK_KEEP_RADIUS = 5;
+    private static final int CHUNK_STREAM_WINDOW = 8;
+    private static final long CHUNK_STREAM_STALL_MS = 3000;
     private static final long PING_INTERVAL = 5000; // 5 seconds
     private static final int CONNECT_TIMEOUT_MS = 45000; // unify to 45s
     private final DisconnectionManager disconnectHandler;
     private final PlayerDataResponseHandler playerDataHandler = new PlayerDataResponseHandler();
-    private final Queue<Vector2> chunkRequestQueue = new ConcurrentLinkedQueue<>();
-    private final Set<Vector2> pendingChunks = new ConcurrentHashMap<Vector2, Boolean>().keySet(true);
+    // One-off chunk requests outside the streamed area, keyed by chunk with the time they were sent.
+    private final ConcurrentLongMap<Long> pendingChunks = new ConcurrentLongMap<>();
+    private final AtomicInteger unackedChunks = new AtomicInteger();
+    private final Object chunkStreamLock = new Object();
     private final AtomicBoolean isAuthenticated = new AtomicBoolean(false);
     private final AtomicBoolean isDisposing = new AtomicBoolean(false);
     private final ReentrantLock connectionLock = new ReentrantLock();
     private final ConcurrentHashMap<String, OtherPlayer> otherPlayers = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<UUID, WildPokemon> trackedWildPokemon = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<UUID, NetworkSyncData> syncedPokemonData = new ConcurrentHashMap<>();
+    private final IntMap<IntMap<PokemonSnapshotCodec.EntityState>> pokemonSnapshots = new IntMap<>();
     private final BlockingQueue<NetworkProtocol.ChatMessage> chatMessageQueue = new LinkedBlockingQueue<>();
     private final ConcurrentHashMap<String, NetworkProtocol.PlayerUpdate> playerUpdates = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, String> playerIdNames = new ConcurrentHashMap<>();
+    private final PlayerStateTracker stateTracker = new PlayerStateTracker();
     private final ScheduledExecutorService scheduler;
     private final Queue<Object> pendingMessages = new ConcurrentLinkedQueue<>();
     private final Preferences credentials;
     private final AtomicBoolean isConnected = new AtomicBoolean(false);
     private final AtomicBoolean isConnecting = new AtomicBoolean(false);
-    private final Map<Vector2, Future<Chunk>> loadingChunks = new ConcurrentHashMap<>();
     private final AtomicBoolean isShuttingDown = new AtomicBoolean(false);
     private final Set<String> recentJoinEvents = Collections.synchronizedSet(new HashSet<>());
     private final ConcurrentHashMap<String, Integer> playerPingMap = new ConcurrentHashMap<>();
@@ -85,7 +93,13 @@ public class GameClient {
     private boolean isSinglePlayer;
     private int reconnectAttempts = 0;
     private volatile boolean isInitializing = false;
-    private long lastRequestTime = 0;
+    private int subscribedConnectionId = -1;
+    private int stateConnectionId = -1;
+    private int movementSequence;
+    private int subscribedChunkX;
+    private int subscribedChunkY;
+    private long lastSubscriptionTime;
+    private volatile long lastChunkReceivedTime;
     private float syncTimer = 0;
     private PlayerData lastKnownState;
     private Consumer<NetworkProtocol.ChatMessage> chatMessageHandler;
@@ -225,7 +239,6 @@ public class GameClient {
         if (syncTimer >= SYNC_INTERVAL) {
             syncTimer = 0;
             processChatMessages();
-            updatePokemonStates(deltaTime);
         }
         long now = System.currentTimeMillis();
         if (now - lastPingTime > PING_INTERVAL) {
@@ -233,11 +246,6 @@ public class GameClient {
             lastPingTime = now;
         }
 
-        pokemonUpdateAccumulator += deltaTime;
-        if (pokemonUpdateAccumulator >= POKEMON_UPDATE_THRESHOLD) {
-            pokemonUpdateAccumulator = 0f;
-            updatePokemonStates(deltaTime);
-        }
         updateOtherPlayers(deltaTime);
         updateAccumulator += deltaTime;
 
@@ -246,8 +254,7 @@ public class GameClient {
             if (!isSinglePlayer && GameContext.get().getPlayer() != null && isAuthenticated() && isInitialized) {
                 sendPlayerUpdate();
             }
-            processChunkQueue();
-            requestChunksAroundPlayer();
+            updateChunkSubscription();
         }
     }
 
@@ -299,7 +306,6 @@ public class GameClient {
                     }
 
                     trackedWildPokemon.put(spawnData.uuid, pokemon);
-                    syncedPokemonData.put(spawnData.uuid, new NetworkSyncData());
 
                     GameLogger.info("Sent and tracked new Pokemon spawn: " + spawnData.data.getName() +
                         " at (" + spawnData.x + "," + spawnData.y + ")");
@@ -459,22 +465,38 @@ public class GameClient {
             }
         });
     }
+    /**
+     * Sends the local player's movement over UDP and, if the inventory or party changed since the
+     * previous call, a {@link NetworkProtocol.PlayerStateDelta} over TCP.
+     */
     public void sendPlayerUpdate() {
-        if (!isConnected() || !isAuthenticated() || GameContext.get().getPlayer() == null) return;
-
-        float playerX = GameContext.get().getPlayer().getX();
-        float playerY = GameContext.get().getPlayer().getY();
-
-        NetworkProtocol.PlayerUpdate update = new NetworkProtocol.PlayerUpdate();
-        update.username = getLocalUsername();
-        update.x = playerX;
-        update.y = playerY;
-        update.wantsToRun = GameContext.get().getPlayer().isRunning();
-        update.direction = GameContext.get().getPlayer().getDirection();
-        update.isMoving = GameContext.get().getPlayer().isMoving();
-        update.inventoryItems = GameContext.get().getPlayer().getInventory().getAllItems().toArray(new ItemData[0]);
-        update.timestamp = System.currentTimeMillis();
-        client.sendTCP(update);
+        Player player = GameContext.get().getPlayer();
+        if (!isConnected() || !isAuthenticated() || player == null) return;
+
+        NetworkProtocol.PlayerMovement movement = new NetworkProtocol.PlayerMovement();
+        movement.sequence = ++movementSequence;
+        movement.time = (int) System.currentTimeMillis();
+        movement.x = PokemonSnapshotCodec.quantize(player.getX());
+        movement.y = PokemonSnapshotCodec.quantize(player.getY());
+        int flags = PokemonSnapshotCodec.encodeDirection(player.getDirection());
+        if (player.isMoving()) flags |= NetworkProtocol.PlayerMovement.MOVING;
+        if (player.isRunning()) flags |= NetworkProtocol.PlayerMovement.RUNNING;
+        movement.flags = (byte) flags;
+        // Without a UDP channel (e.g. blocked by a firewall) movement falls back to TCP.
+        if (client.getRemoteAddressUDP() != null) {
+            client.sendUDP(movement);
+        } else {
+            client.sendTCP(movement);
+        }
+
+        if (stateConnectionId != client.getID()) {
+            stateConnectionId = client.getID();
+            stateTracker.reset();
+        }
+        NetworkProtocol.PlayerStateDelta delta = stateTracker.buildDelta(player);
+        if (delta != null) {
+            client.sendTCP(delta);
+        }
     }
 
     public void savePlayerState(PlayerData playerData) {
@@ -708,6 +730,13 @@ public class GameClient {
     }
 
     private void handleCompressedChunkData(NetworkProtocol.CompressedChunkData compressed) {
+        long chunkKey = ChunkPos.pack(compressed.chunkX, compressed.chunkY);
+        lastChunkReceivedTime = System.currentTimeMillis();
+        // One-off replies take no slot in the server's stream window, so only streamed chunks are acknowledged.
+        if (pendingChunks.remove(chunkKey) == null &&
+            unackedChunks.incrementAndGet() >= CHUNK_STREAM_WINDOW / 2) {
+            flushChunkAcks();
+        }
         try {
             LZ4Factory factory = LZ4Factory.fastestInstance();
             LZ4SafeDecompressor decompressor = factory.safeDecompressor();
@@ -720,7 +749,6 @@ public class GameClient {
 
             if (decompressedSize != compressed.originalLength) {
                 GameLogger.error("Incomplete decompression for chunk " + compressed.chunkX + "," + compressed.chunkY);
-                pendingChunks.remove(new Vector2(compressed.chunkX, compressed.chunkY));
                 return;
             }
 
@@ -737,130 +765,104 @@ public class GameClient {
                 bais.close();
             }
 
-            final Vector2 chunkPos = new Vector2(chunkData.chunkX, chunkData.chunkY);
-
             Gdx.app.postRunnable(() -> {
                 World world = GameContext.get().getWorld();
                 if (world == null) {
-                    GameLogger.error("World is null when processing chunk " + chunkPos);
-                    pendingChunks.remove(chunkPos);
+                    GameLogger.error("World is null when processing chunk " + chunkData.chunkX + "," + chunkData.chunkY);
                     return;
                 }
                 world.processChunkData(chunkData);
-                pendingChunks.remove(chunkPos);
             });
         } catch (Exception e) {
             GameLogger.error("Error handling compressed chunk data: " + e.getMessage());
-            if (compressed != null) {
-                pendingChunks.remove(new Vector2(compressed.chunkX, compressed.chunkY));
-            }
         }
     }
 
 
     /**
-     * Request adjacent chunks if needed to ensure smooth transitions
+     * Keeps the server's chunk stream centered on the player. A new subscription goes out when the
+     * player crosses into another chunk or the connection changed; if nothing has arrived for a
+     * while and chunks in range are still absent, they are listed in a resync.
      */
-    private void requestAdjacentChunksIfNeeded(Vector2 processedChunkPos) {
-        int[][] adjacentOffsets = {
-            {0, 1}, {1, 1}, {1, 0}, {1, -1},
-            {0, -1}, {-1, -1}, {-1, 0}, {-1, 1}
-        };
-
+    private void updateChunkSubscription() {
+        if (!isAuthenticated.get() || !isConnected() || isSinglePlayer) {
+            return;
+        }
         World world = GameContext.get().getWorld();
-        if (world == null) return;
         Player player = GameContext.get().getPlayer();
-        if (player != null) {
-            int playerChunkX = Math.floorDiv(player.getTileX(), Chunk.CHUNK_SIZE);
-            int playerChunkY = Math.floorDiv(player.getTileY(), Chunk.CHUNK_SIZE);
-            final Vector2 playerChunkPos = new Vector2(playerChunkX, playerChunkY);
-            Arrays.sort(adjacentOffsets, (a, b) -> {
-                Vector2 posA = new Vector2(processedChunkPos.x + a[0], processedChunkPos.y + a[1]);
-                Vector2 posB = new Vector2(processedChunkPos.x + b[0], processedChunkPos.y + b[1]);
-                float distA = Math.abs(posA.x - playerChunkPos.x) + Math.abs(posA.y - playerChunkPos.y);
-                float distB = Math.abs(posB.x - playerChunkPos.x) + Math.abs(posB.y - playerChunkPos.y);
-                return Float.compare(distA, distB);
-            });
-        }
-        for (int[] offset : adjacentOffsets) {
-            Vector2 adjPos = new Vector2(
-                processedChunkPos.x + offset[0],
-                processedChunkPos.y + offset[1]
-            );
-            if (!world.getChunks().containsKey(adjPos) && !pendingChunks.contains(adjPos)) {
-                if (isChunkNearPlayer(adjPos, 4)) { // Within 4 chunks of player
-                    requestChunk(adjPos);
-                    try {
-                        Thread.sleep(20);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
+        if (world == null || player == null) return;
+
+        int playerChunkX = Math.floorDiv(player.getTileX(), Chunk.CHUNK_SIZE);
+        int playerChunkY = Math.floorDiv(player.getTileY(), Chunk.CHUNK_SIZE);
+        long now = System.currentTimeMillis();
+        synchronized (chunkStreamLock) {
+            if (subscribedConnectionId != client.getID() ||
+                playerChunkX != subscribedChunkX || playerChunkY != subscribedChunkY) {
+                sendChunkSubscription(playerChunkX, playerChunkY, null, now);
+                unloadFarChunks(playerChunkX, playerChunkY);
+                return;
+            }
+            if (now - lastChunkReceivedTime < CHUNK_STREAM_STALL_MS ||
+                now - lastSubscriptionTime < CHUNK_STREAM_STALL_MS) {
+                return;
+            }
+            LongArray missing = null;
+            for (int dx = -CHUNK_LOAD_RADIUS; dx <= CHUNK_LOAD_RADIUS; dx++) {
+                for (int dy = -CHUNK_LOAD_RADIUS; dy <= CHUNK_LOAD_RADIUS; dy++) {
+                    long chunkKey = ChunkPos.pack(playerChunkX + dx, playerChunkY + dy);
+                    if (!world.getChunks().containsKey(chunkKey)) {
+                        if (missing == null) missing = new LongArray();
+                        missing.add(chunkKey);
                     }
                 }
             }
+            if (missing != null) {
+                GameLogger.info("Chunk stream stalled with " + missing.size + " chunks missing - resyncing");
+                sendChunkSubscription(playerChunkX, playerChunkY, missing.toArray(), now);
+            }
         }
     }
 
-    /**
-     * Determines if a chunk is within a given distance from the player
-     */
-    private boolean isChunkNearPlayer(Vector2 chunkPos, float radius) {
-        Player player = GameContext.get().getPlayer();
-        if (player == null) return false;
-
-        int playerChunkX = Math.floorDiv(player.getTileX(), Chunk.CHUNK_SIZE);
-        int playerChunkY = Math.floorDiv(player.getTileY(), Chunk.CHUNK_SIZE);
-        Vector2 playerChunkPos = new Vector2(playerChunkX, playerChunkY);
-        float distance = Math.abs(chunkPos.x - playerChunkPos.x) +
-            Math.abs(chunkPos.y - playerChunkPos.y);
-
-        return distance <= radius;
+    private void sendChunkSubscription(int chunkX, int chunkY, long[] missing, long now) {
+        flushChunkAcks();
+        NetworkProtocol.ChunkSubscription subscription = new NetworkProtocol.ChunkSubscription();
+        subscription.centerChunkX = chunkX;
+        subscription.centerChunkY = chunkY;
+        subscription.radius = CHUNK_LOAD_RADIUS;
+        subscription.keepRadius = CHUNK_KEEP_RADIUS;
+        subscription.window = CHUNK_STREAM_WINDOW;
+        subscription.missing = missing;
+        subscription.timestamp = now;
+        client.sendTCP(subscription);
+        subscribedConnectionId = client.getID();
+        subscribedChunkX = chunkX;
+        subscribedChunkY = chunkY;
+        lastSubscriptionTime = now;
     }
 
-    /**
-     * Recalculate the sliding window of chunks based on the player's current chunk position.
-     * Enqueue any missing chunks.
-     */
-    private void requestChunksAroundPlayer() {
-        if (!isAuthenticated.get() || !isConnected() || isSinglePlayer) {
-            return;
+    private void flushChunkAcks() {
+        int count = unackedChunks.getAndSet(0);
+        if (count > 0) {
+            NetworkProtocol.ChunkStreamAck ack = new NetworkProtocol.ChunkStreamAck();
+            ack.count = count;
+            client.sendTCP(ack);
         }
-        World world = GameContext.get().getWorld();
-        Player player = GameContext.get().getPlayer();
-        if (world == null || player == null) return;
-
-        int playerTileX = GameContext.get().getPlayer().getTileX();
-        int playerTileY = GameContext.get().getPlayer().getTileY();
-        int playerChunkX = Math.floorDiv(playerTileX, Chunk.CHUNK_SIZE);
-        int playerChunkY = Math.floorDiv(playerTileY, Chunk.CHUNK_SIZE);
-        Vector2 playerChunkPos = new Vector2(playerChunkX, playerChunkY);
-        for (int dx = -CHUNK_LOAD_RADIUS; dx <= CHUNK_LOAD_RADIUS; dx++) {
-            for (int dy = -CHUNK_LOAD_RADIUS; dy <= CHUNK_LOAD_RADIUS; dy++) {
-                Vector2 chunkPos = new Vector2(playerChunkX + dx, playerChunkY + dy);
-                if (!world.getChunks().containsKey(chunkPos) && !pendingChunks.contains(chunkPos)) {
-                    chunkRequestQueue.offer(chunkPos);
-                }
-            }
-        }
-        unloadFarChunks(playerChunkPos);
     }
 
     /**
      * Unload (remove from memory) any chunks that are outside the given radius.
      */
-    private void unloadFarChunks(Vector2 playerChunkPos) {
+    private void unloadFarChunks(int playerChunkX, int playerChunkY) {
         World world = GameContext.get().getWorld();
         if (world == null) return;
-        int unloadThreshold = 5; // increase this threshold to keep more chunks loaded
-        List<Vector2> keysToRemove = new ArrayList<>();
-        for (Vector2 key : world.getChunks().keySet()) {
-            if (Math.abs(key.x - playerChunkPos.x) > unloadThreshold || Math.abs(key.y - playerChunkPos.y) > unloadThreshold) {
-                keysToRemove.add(key);
+        for (long key : world.getChunks().keys()) {
+            int chunkX = ChunkPos.unpackX(key);
+            int chunkY = ChunkPos.unpackY(key);
+            if (Math.abs(chunkX - playerChunkX) > CHUNK_KEEP_RADIUS || Math.abs(chunkY - playerChunkY) > CHUNK_KEEP_RADIUS) {
+                world.getChunks().remove(key);
+                GameLogger.info("Unloaded chunk at " + ChunkPos.fromLong(key));
             }
         }
-        for (Vector2 key : keysToRemove) {
-            world.getChunks().remove(key);
-            GameLogger.info("Unloaded chunk at " + key);
-        }
     }
 
     private void handleBuildingPlacement(NetworkProtocol.BuildingPlacement bp) {
@@ -934,12 +936,16 @@ public class GameClient {
                     GameContext.get().getGameScreen().setChestScreen(chestScreen);
                 }
                 return;
+            } else if (object instanceof NetworkProtocol.PlayerMovement) {
+                handlePlayerMovement((NetworkProtocol.PlayerMovement) object);
             } else if (object instanceof NetworkProtocol.PlayerUpdate) {
                 handlePlayerUpdate((NetworkProtocol.PlayerUpdate) object);
             } else if (object instanceof NetworkProtocol.PlayerJoined) {
                 handlePlayerJoined((NetworkProtocol.PlayerJoined) object);
             } else if (object instanceof NetworkProtocol.PlayerLeft) {
                 handlePlayerLeft((NetworkProtocol.PlayerLeft) object);
+            } else if (object instanceof NetworkProtocol.PlayerLeftView) {
+                handlePlayerLeftView((NetworkProtocol.PlayerLeftView) object);
             } else if (object instanceof NetworkProtocol.BuildingPlacement) {
                 handleBuildingPlacement((NetworkProtocol.BuildingPlacement) object);
             } else if (object instanceof NetworkProtocol.PlayerList) {
@@ -959,6 +965,8 @@ public class GameClient {
                 handlePokemonDespawn((NetworkProtocol.WildPokemonDespawn) object);
             } else if (object instanceof NetworkProtocol.PokemonUpdate) {
                 handlePokemonUpdate((NetworkProtocol.PokemonUpdate) object);
+            } else if (object instanceof NetworkProtocol.PokemonDeltaSnapshot) {
+                handlePokemonDeltaSnapshot((NetworkProtocol.PokemonDeltaSnapshot) object);
             } else if (object instanceof NetworkProtocol.WorldStateUpdate) {
                 handleWorldStateUpdate((NetworkProtocol.WorldStateUpdate) object);
             } else if (object instanceof NetworkProtocol.WorldObjectUpdate) {
@@ -1061,6 +1069,9 @@ public class GameClient {
 
                         NetworkProtocol.PlayerUpdate update = entry.getValue();
                         GameLogger.error("Received update for " + username + " at (" + update.x + "," + update.y + ")");
+                        if (update.playerId != 0) {
+                            playerIdNames.put(update.playerId, username);
+                        }
 
                         OtherPlayer otherPlayer = otherPlayers.computeIfAbsent(username,
                             k -> new OtherPlayer(username, update.x, update.y));
@@ -1105,34 +1116,6 @@ public class GameClient {
         }
     }
 
-    private void updatePokemonStates(float deltaTime) {
-        for (Map.Entry<UUID, WildPokemon> entry : trackedWildPokemon.entrySet()) {
-            WildPokemon pokemon = entry.getValue();
-            NetworkSyncData syncData = syncedPokemonData.get(entry.getKey());
-
-            if (syncData != null && syncData.targetPosition != null) {
-                updatePokemonPosition(pokemon, syncData, deltaTime);
-            }
-            pokemon.update(deltaTime);
-        }
-    }
-
-    private void updatePokemonPosition(WildPokemon pokemon, NetworkSyncData syncData, float deltaTime) {
-        syncData.interpolationProgress = Math.min(1.0f,
-            syncData.interpolationProgress + deltaTime * INTERPOLATION_SPEED);
-
-        float newX = lerp(pokemon.getX(), syncData.targetPosition.x, syncData.interpolationProgress);
-        float newY = lerp(pokemon.getY(), syncData.targetPosition.y, syncData.interpolationProgress);
-
-        pokemon.setX(newX);
-        pokemon.setY(newY);
-        pokemon.updateBoundingBox();
-    }
-
-    private float lerp(float start, float end, float alpha) {
-        return start + (end - start) * alpha;
-    }
-
     private void updateOtherPlayers(float deltaTime) {
         otherPlayers.values().forEach(player -> {
             player.update(deltaTime);
@@ -1196,112 +1179,46 @@ public class GameClient {
         return isInitializing;
     }
 
+    /**
+     * Chunks within {@link #CHUNK_LOAD_RADIUS} of the player arrive through the chunk stream, so
+     * asking for one only makes sure the subscription is current. Anything farther out is requested
+     * on its own, at most once per {@link #CHUNK_STREAM_STALL_MS}.
+     */
     public void requestChunk(Vector2 chunkPos) {
         if (!isConnected() || !isAuthenticated()) {
             return;
         }
+        updateChunkSubscription();
 
-        try {
-            if (pendingChunks.contains(chunkPos)) {
-                GameLogger.error("Chunk already requested: " + chunkPos);
+        int chunkX = (int) chunkPos.x;
+        int chunkY = (int) chunkPos.y;
+        synchronized (chunkStreamLock) {
+            if (subscribedConnectionId == client.getID() &&
+                Math.abs(chunkX - subscribedChunkX) <= CHUNK_LOAD_RADIUS &&
+                Math.abs(chunkY - subscribedChunkY) <= CHUNK_LOAD_RADIUS) {
                 return;
             }
-            pendingChunks.add(chunkPos);
-            NetworkProtocol.ChunkRequest request = new NetworkProtocol.ChunkRequest();
-            request.chunkX = (int) chunkPos.x;
-            request.chunkY = (int) chunkPos.y;
-            request.timestamp = System.currentTimeMillis();
-            boolean isPlayerCurrentChunk = false;
-            if (GameContext.get().getPlayer() != null) {
-                int playerChunkX = Math.floorDiv(GameContext.get().getPlayer().getTileX(), Chunk.CHUNK_SIZE);
-                int playerChunkY = Math.floorDiv(GameContext.get().getPlayer().getTileY(), Chunk.CHUNK_SIZE);
-                isPlayerCurrentChunk = (chunkPos.x == playerChunkX && chunkPos.y == playerChunkY);
-            }
-            client.sendTCP(request);
-
-            if (isPlayerCurrentChunk) {
-                GameLogger.info("Requested player's current chunk at " + chunkPos + " (HIGH PRIORITY)");
-            } else {
-                GameLogger.info("Requested chunk at " + chunkPos);
-            }
-            setupChunkRequestTimeout(chunkPos, 1);
-
-        } catch (Exception e) {
-            GameLogger.error("Failed to request chunk at " + chunkPos + ": " + e.getMessage());
-            pendingChunks.remove(chunkPos);
         }
-    }
-
-    private void setupChunkRequestTimeout(Vector2 chunkPos, int attempt) {
-        long timeoutMs = Math.min(2000 + (attempt * 1000), 8000); // 2s first try, +1s per attempt, max 8s
-
-        scheduler.schedule(() -> {
-            if (pendingChunks.contains(chunkPos) &&
-                GameContext.get().getWorld() != null &&
-                !GameContext.get().getWorld().getChunks().containsKey(chunkPos)) {
-
-                if (attempt <= 5) { // Max 5 retry attempts
-                    GameLogger.error("Chunk request timeout for " + chunkPos +
-                        " - retry attempt " + attempt + "/5");
-                    if (isConnected() && isAuthenticated()) {
-                        pendingChunks.remove(chunkPos);
-                        try {
-                            Thread.sleep(50);
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                        }
-                        NetworkProtocol.ChunkRequest request = new NetworkProtocol.ChunkRequest();
-                        request.chunkX = (int) chunkPos.x;
-                        request.chunkY = (int) chunkPos.y;
-                        request.timestamp = System.currentTimeMillis();
-                        pendingChunks.add(chunkPos);
-                        client.sendTCP(request);
-                        setupChunkRequestTimeout(chunkPos, attempt + 1);
-                    } else {
-                        GameLogger.error("Cannot retry chunk request - not connected");
-                        pendingChunks.remove(chunkPos);
-                    }
-                } else {
-                    GameLogger.error("Max retry attempts reached for chunk " + chunkPos + " - giving up");
-                    pendingChunks.remove(chunkPos);
-                    if (isPlayerCurrentChunk(chunkPos)) {
-                        GameLogger.error("Generating emergency fallback chunk for player position");
-                        generateFallbackChunk(chunkPos);
-                    }
-                }
-            }
-        }, timeoutMs, TimeUnit.MILLISECONDS);
-    }
-
-    private void generateFallbackChunk(Vector2 chunkPos) {
-        if (!GameContext.get().isMultiplayer() || GameContext.get().getWorld() == null) return;
 
+        long chunkKey = ChunkPos.pack(chunkX, chunkY);
+        long now = System.currentTimeMillis();
+        Long sentAt = pendingChunks.get(chunkKey);
+        if (sentAt != null && now - sentAt < CHUNK_STREAM_STALL_MS) {
+            return;
+        }
         try {
-            GameLogger.error("Generating emergency fallback chunk at " + chunkPos);
-            long seed = worldSeed;
-            BiomeManager biomeManager = GameContext.get().getBiomeManager();
-            Chunk fallbackChunk = UnifiedWorldGenerator.generateChunk(
-                (int)chunkPos.x, (int)chunkPos.y, seed, biomeManager);
-            if (fallbackChunk.getBiome() == null) {
-                fallbackChunk.setBiome(biomeManager.getBiome(BiomeType.PLAINS));
-            }
-            GameContext.get().getWorld().getChunks().put(chunkPos, fallbackChunk);
-            GameLogger.error("Added emergency fallback chunk at " + chunkPos);
-
+            pendingChunks.put(chunkKey, now);
+            NetworkProtocol.ChunkRequest request = new NetworkProtocol.ChunkRequest();
+            request.chunkX = chunkX;
+            request.chunkY = chunkY;
+            request.timestamp = now;
+            client.sendTCP(request);
         } catch (Exception e) {
-            GameLogger.error("Failed to generate fallback chunk: " + e.getMessage());
+            GameLogger.error("Failed to request chunk at " + chunkPos + ": " + e.getMessage());
+            pendingChunks.remove(chunkKey);
         }
     }
-    /**
-     * Checks if the given chunk position is the player's current chunk
-     */
-    private boolean isPlayerCurrentChunk(Vector2 chunkPos) {
-        if (GameContext.get().getPlayer() == null) return false;
 
-        int playerChunkX = Math.floorDiv(GameContext.get().getPlayer().getTileX(), Chunk.CHUNK_SIZE);
-        int playerChunkY = Math.floorDiv(GameContext.get().getPlayer().getTileY(), Chunk.CHUNK_SIZE);
-        return (chunkPos.x == playerChunkX && chunkPos.y == playerChunkY);
-    }
     private void handleWorldObjectUpdate(NetworkProtocol.WorldObjectUpdate update) {
         if (update == null || GameContext.get().getWorld() == null) {
             return;
@@ -1378,51 +1295,13 @@ public class GameClient {
     }
 
 
-    private void processChunkQueue() {
-        if (chunkRequestQueue.isEmpty() || !isConnected() || !isAuthenticated()) {
-            return;
-        }
-
-        long now = System.currentTimeMillis();
-        if (now - lastRequestTime < CHUNK_REQUEST_INTERVAL) {
-            return;
-        }
-        if (pendingChunks.size() >= MAX_CONCURRENT_CHUNK_REQUESTS) {
-            return;
-        }
-        Vector2 playerChunkPos;
-        if (GameContext.get().getPlayer() != null) {
-            int playerChunkX = Math.floorDiv(GameContext.get().getPlayer().getTileX(), Chunk.CHUNK_SIZE);
-            int playerChunkY = Math.floorDiv(GameContext.get().getPlayer().getTileY(), Chunk.CHUNK_SIZE);
-            playerChunkPos = new Vector2(playerChunkX, playerChunkY);
-        } else {
-            playerChunkPos = null;
-        }
-        if (playerChunkPos != null && chunkRequestQueue.size() > 1) {
-            List<Vector2> sortedQueue = new ArrayList<>(chunkRequestQueue);
-            sortedQueue.sort((a, b) -> {
-                float distA = Vector2.dst(a.x, a.y, playerChunkPos.x, playerChunkPos.y);
-                float distB = Vector2.dst(b.x, b.y, playerChunkPos.x, playerChunkPos.y);
-                return Float.compare(distA, distB);
-            });
-            chunkRequestQueue.clear();
-            chunkRequestQueue.addAll(sortedQueue);
-        }
-        Vector2 nextChunk = chunkRequestQueue.poll();
-        if (nextChunk != null &&
-            GameContext.get().getWorld() != null &&
-            !GameContext.get().getWorld().getChunks().containsKey(nextChunk) &&
-            !pendingChunks.contains(nextChunk) &&
-            !loadingChunks.containsKey(nextChunk)) {
-            requestChunk(nextChunk);
-            lastRequestTime = now;
-        }
-    }
-
     private void handlePlayerUpdate(NetworkProtocol.PlayerUpdate update) {
         if (update == null || update.username == null || update.username.equals(localUsername)) {
             return;
         }
+        if (update.playerId != 0) {
+            playerIdNames.put(update.playerId, update.username);
+        }
 
         Gdx.app.postRunnable(() -> {
             synchronized (otherPlayers) {
@@ -1496,7 +1375,25 @@ public class GameClient {
         }
     }
 
+    /**
+     * Movement only names a player by ID; players not yet known by ID are skipped until their
+     * {@link NetworkProtocol.PlayerUpdate} arrives over TCP when they come into view.
+     */
+    private void handlePlayerMovement(NetworkProtocol.PlayerMovement movement) {
+        String username = playerIdNames.get(movement.playerId);
+        if (username == null) {
+            return;
+        }
+        Gdx.app.postRunnable(() -> {
+            OtherPlayer otherPlayer = otherPlayers.get(username);
+            if (otherPlayer != null) {
+                otherPlayer.applyMovement(movement);
+            }
+        });
+    }
+
     private void handlePlayerLeft(NetworkProtocol.PlayerLeft leftMsg) {
+        playerIdNames.values().remove(leftMsg.username);
         Gdx.app.postRunnable(() -> {
             OtherPlayer leftPlayer = otherPlayers.remove(leftMsg.username);
             if (leftPlayer != null) {
@@ -1516,6 +1413,19 @@ public class GameClient {
     }
 
 
+    private void handlePlayerLeftView(NetworkProtocol.PlayerLeftView leftMsg) {
+        Gdx.app.postRunnable(() -> {
+            synchronized (otherPlayers) {
+                OtherPlayer hiddenPlayer = otherPlayers.remove(leftMsg.username);
+                if (hiddenPlayer != null) {
+                    hiddenPlayer.dispose();
+                }
+                playerUpdates.remove(leftMsg.username);
+            }
+        });
+    }
+
+
     private void handlePokemonSpawn(NetworkProtocol.WildPokemonSpawn spawnData) {
         if (spawnData == null || spawnData.uuid == null || spawnData.data == null) {
             GameLogger.error("Received invalid Pokemon spawn data");
@@ -1574,7 +1484,6 @@ public class GameClient {
         Gdx.app.postRunnable(() -> {
             try {
                 WildPokemon pokemon = trackedWildPokemon.remove(despawnData.uuid);
-                syncedPokemonData.remove(despawnData.uuid);
 
                 if (pokemon != null && GameContext.get().getWorld() != null) {
                     pokemon.startDespawnAnimation();
@@ -1623,6 +1532,77 @@ public class GameClient {
             }
         });
     }
+    /**
+     * Rebuilds the visible Pokémon from a delta snapshot, applies what changed and acknowledges
+     * it so the server encodes the next one against it. If the baseline is gone the server is
+     * asked to start over from full state.
+     */
+    private void handlePokemonDeltaSnapshot(NetworkProtocol.PokemonDeltaSnapshot snapshot) {
+        if (snapshot == null || snapshot.payload == null) return;
+
+        IntMap<PokemonSnapshotCodec.EntityState> baseline;
+        IntMap<PokemonSnapshotCodec.EntityState> decoded;
+        synchronized (pokemonSnapshots) {
+            if (snapshot.baseSequence < 0) {
+                pokemonSnapshots.clear();
+                baseline = new IntMap<>();
+            } else {
+                baseline = pokemonSnapshots.get(snapshot.baseSequence);
+                if (baseline == null) {
+                    sendPokemonSnapshotAck(-1);
+                    return;
+                }
+            }
+            try {
+                decoded = PokemonSnapshotCodec.decode(baseline, snapshot.payload);
+            } catch (Exception e) {
+                GameLogger.error("Failed to decode Pokemon snapshot " + snapshot.sequence + ": " + e.getMessage());
+                sendPokemonSnapshotAck(-1);
+                return;
+            }
+            pokemonSnapshots.put(snapshot.sequence, decoded);
+            IntMap.Keys keys = pokemonSnapshots.keys();
+            while (keys.hasNext) {
+                if (keys.next() < snapshot.baseSequence) {
+                    keys.remove();
+                }
+            }
+        }
+        sendPokemonSnapshotAck(snapshot.sequence);
+
+        List<PokemonSnapshotCodec.EntityState> changed = new ArrayList<>();
+        for (PokemonSnapshotCodec.EntityState state : decoded.values()) {
+            if (baseline.get(state.netId) != state && state.uuid != null) {
+                changed.add(state);
+            }
+        }
+        if (changed.isEmpty()) return;
+
+        Gdx.app.postRunnable(() -> {
+            for (PokemonSnapshotCodec.EntityState state : changed) {
+                WildPokemon pokemon = trackedWildPokemon.get(state.uuid);
+                if (pokemon == null) {
+                    requestPokemonSpawnData(state.uuid);
+                    continue;
+                }
+                pokemon.setNetworkControlled(true);
+                pokemon.applyNetworkUpdate(state.getPixelX(), state.getPixelY(), state.getDirection(),
+                    state.moving, snapshot.timestamp);
+                if (state.level > 0) pokemon.setLevel(state.level);
+            }
+        });
+    }
+
+    private void sendPokemonSnapshotAck(int sequence) {
+        try {
+            NetworkProtocol.PokemonSnapshotAck ack = new NetworkProtocol.PokemonSnapshotAck();
+            ack.sequence = sequence;
+            client.sendTCP(ack);
+        } catch (Exception e) {
+            GameLogger.error("Failed to acknowledge Pokemon snapshot: " + e.getMessage());
+        }
+    }
+
     private void handlePokemonBatchUpdate(NetworkProtocol.PokemonBatchUpdate batchUpdate) {
         if (batchUpdate == null || batchUpdate.updates == null) return;
 
@@ -1705,7 +1685,6 @@ public class GameClient {
 
             client.sendTCP(despawnUpdate);
             trackedWildPokemon.remove(pokemonId);
-            syncedPokemonData.remove(pokemonId);
 
             GameLogger.info("Sent Pokemon despawn for ID: " + pokemonId);
         } catch (Exception e) {
@@ -1817,8 +1796,6 @@ public class GameClient {
 
 
 
-    private static final float POKEMON_UPDATE_THRESHOLD = 0.1f;
-    private float pokemonUpdateAccumulator = 0f;
 
     private enum ConnectionState {
         DISCONNECTED,
@@ -1851,16 +1828,4 @@ public class GameClient {
         void onUpdate(NetworkProtocol.PokemonUpdate update);
     }
 
-    private static class NetworkSyncData {
-        Vector2 targetPosition;
-        String direction;
-        boolean isMoving;
-        long lastUpdateTime;
-        float interpolationProgress;
-
-        NetworkSyncData() {
-            this.lastUpdateTime = System.currentTimeMillis();
-            this.interpolationProgress = 0f;
-        }
-    }
 }
@@ -0,0 +1,218 @@
+package io.github.pokemeetup.multiplayer.client;
+
+import com.badlogic.gdx.utils.IntArray;
+import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
+import io.github.pokemeetup.pokemon.Pokemon;
+import io.github.pokemeetup.pokemon.attacks.Move;
+import io.github.pokemeetup.system.Player;
+import io.github.pokemeetup.system.data.ItemData;
+import io.github.pokemeetup.system.data.PokemonData;
+import io.github.pokemeetup.system.gameplay.inventory.Inventory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Builds {@link NetworkProtocol.PlayerStateDelta}s for the local player.
+ * <p>
+ * The fields of every inventory slot and of each party member are kept as they were last sent;
+ * a delta carries only the slots that differ, and the party only if any member does. Sent values
+ * are compared instead of hooking the inventory because items are also changed in place (counts,
+ * durability) without notifying observers.
+ */
+class PlayerStateTracker {
+    private final String[] sentItemIds = new String[Inventory.INVENTORY_SIZE];
+    private final int[] sentCounts = new int[Inventory.INVENTORY_SIZE];
+    private final int[] sentDurabilities = new int[Inventory.INVENTORY_SIZE];
+    private final UUID[] sentItemUuids = new UUID[Inventory.INVENTORY_SIZE];
+    private final List<SentPokemon> sentParty = new ArrayList<>();
+    private boolean primed;
+    private int version;
+
+    /**
+     * Forgets what was sent, so the next delta carries the full state. Called for each new
+     * connection, whose server-side player starts counting versions from zero.
+     */
+    void reset() {
+        primed = false;
+        version = 0;
+    }
+
+    /**
+     * @return the changes since the previous delta, or null if there are none
+     */
+    NetworkProtocol.PlayerStateDelta buildDelta(Player player) {
+        List<ItemData> items = player.getInventory().getAllItems();
+        IntArray changedSlots = null;
+        for (int i = 0; i < sentItemIds.length; i++) {
+            ItemData item = i < items.size() ? items.get(i) : null;
+            if (!primed || !matchesSent(i, item)) {
+                if (changedSlots == null) changedSlots = new IntArray();
+                changedSlots.add(i);
+                recordSent(i, item);
+            }
+        }
+        List<Pokemon> party = player.getPokemonParty().getParty();
+        boolean partyChanged = !primed || !matchesSent(party);
+        if (partyChanged) {
+            sentParty.clear();
+            for (Pokemon pokemon : party) {
+                sentParty.add(pokemon != null ? new SentPokemon(pokemon) : null);
+            }
+        }
+        primed = true;
+        if (changedSlots == null && !partyChanged) {
+            return null;
+        }
+
+        NetworkProtocol.PlayerStateDelta delta = new NetworkProtocol.PlayerStateDelta();
+        delta.version = ++version;
+        if (changedSlots != null) {
+            delta.slots = changedSlots.toArray();
+            delta.items = new ItemData[changedSlots.size];
+            for (int i = 0; i < changedSlots.size; i++) {
+                ItemData item = items.get(changedSlots.get(i));
+                delta.items[i] = item != null ? item.copy() : null;
+            }
+        }
+        if (partyChanged) {
+            delta.partyPokemon = new ArrayList<>(party.size());
+            for (Pokemon pokemon : party) {
+                if (pokemon != null) {
+                    delta.partyPokemon.add(PokemonData.fromPokemon(pokemon));
+                }
+            }
+        }
+        return delta;
+    }
+
+    private boolean matchesSent(int slot, ItemData item) {
+        if (item == null) {
+            return sentItemIds[slot] == null && sentItemUuids[slot] == null;
+        }
+        return Objects.equals(item.getItemId(), sentItemIds[slot])
+            && item.getCount() == sentCounts[slot]
+            && item.getDurability() == sentDurabilities[slot]
+            && Objects.equals(item.getUuid(), sentItemUuids[slot]);
+    }
+
+    private void recordSent(int slot, ItemData item) {
+        sentItemIds[slot] = item != null ? item.getItemId() : null;
+        sentCounts[slot] = item != null ? item.getCount() : 0;
+        sentDurabilities[slot] = item != null ? item.getDurability() : 0;
+        sentItemUuids[slot] = item != null ? item.getUuid() : null;
+    }
+
+    private boolean matchesSent(List<Pokemon> party) {
+        if (party.size() != sentParty.size()) {
+            return false;
+        }
+        for (int i = 0; i < party.size(); i++) {
+            Pokemon pokemon = party.get(i);
+            SentPokemon sent = sentParty.get(i);
+            if (pokemon == null ? sent != null : sent == null || !sent.matches(pokemon)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The fields of a party member that {@link PokemonData#fromPokemon} persists, plus its
+     * status, as of the last delta.
+     */
+    private static final class SentPokemon {
+        private final UUID uuid;
+        private final String name;
+        private final String nature;
+        private final Pokemon.PokemonType primaryType;
+        private final Pokemon.PokemonType secondaryType;
+        private final int level;
+        private final int currentHp;
+        private final int currentExperience;
+        private final Pokemon.Status status;
+        private final int[] stats;
+        private final String[] moveNames;
+        private final int[] pp;
+        private final int[] maxPp;
+
+        SentPokemon(Pokemon pokemon) {
+            uuid = pokemon.getUuid();
+            name = pokemon.getName();
+            nature = pokemon.getNature();
+            primaryType = pokemon.getPrimaryType();
+            secondaryType = pokemon.getSecondaryType();
+            level = pokemon.getLevel();
+            currentHp = pokemon.getCurrentHp();
+            currentExperience = pokemon.getCurrentExperience();
+            status = pokemon.getStatus();
+            stats = stats(pokemon.getStats());
+            List<Move> moves = pokemon.getMoves();
+            int moveCount = moves != null ? moves.size() : 0;
+            moveNames = new String[moveCount];
+            pp = new int[moveCount];
+            maxPp = new int[moveCount];
+            for (int i = 0; i < moveCount; i++) {
+                Move move = moves.get(i);
+                if (move == null) continue;
+                moveNames[i] = move.getName();
+                pp[i] = move.getPp();
+                maxPp[i] = move.getMaxPp();
+            }
+        }
+
+        boolean matches(Pokemon pokemon) {
+            if (!Objects.equals(uuid, pokemon.getUuid())
+                || !Objects.equals(name, pokemon.getName())
+                || !Objects.equals(nature, pokemon.getNature())
+                || primaryType != pokemon.getPrimaryType()
+                || secondaryType != pokemon.getSecondaryType()
+                || level != pokemon.getLevel()
+                || currentHp != pokemon.getCurrentHp()
+                || currentExperience != pokemon.getCurrentExperience()
+                || status != pokemon.getStatus()
+                || !matchesStats(pokemon.getStats())) {
+                return false;
+            }
+            List<Move> moves = pokemon.getMoves();
+            int moveCount = moves != null ? moves.size() : 0;
+            if (moveCount != moveNames.length) {
+                return false;
+            }
+            for (int i = 0; i < moveCount; i++) {
+                Move move = moves.get(i);
+                if (move == null) {
+                    if (moveNames[i] != null) return false;
+                    continue;
+                }
+                if (!Objects.equals(moveNames[i], move.getName())
+                    || pp[i] != move.getPp() || maxPp[i] != move.getMaxPp()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean matchesStats(Pokemon.Stats current) {
+            if (current == null || stats == null) {
+                return current == null && stats == null;
+            }
+            return stats[0] == current.getHp()
+                && stats[1] == current.getAttack()
+                && stats[2] == current.getDefense()
+                && stats[3] == current.getSpecialAttack()
+                && stats[4] == current.getSpecialDefense()
+                && stats[5] == current.getSpeed();
+        }
+
+        private static int[] stats(Pokemon.Stats stats) {
+            if (stats == null) {
+                return null;
+            }
+            return new int[]{stats.getHp(), stats.getAttack(), stats.getDefense(),
+                stats.getSpecialAttack(), stats.getSpecialDefense(), stats.getSpeed()};
+        }
+    }
+}
@@ -160,6 +160,16 @@ public class NetworkProtocol {// In NetworkProtocol.java (or a new file in the s
         kryo.register(Pokemon.PokemonType.class);
         kryo.register(ArrayList.class);
         kryo.register(int[].class);
+        kryo.register(PlayerLeftView.class);
+        kryo.register(byte[].class);
+        kryo.register(PokemonDeltaSnapshot.class);
+        kryo.register(PokemonSnapshotAck.class);
+        kryo.register(short[].class);
+        kryo.register(ChunkSubscription.class);
+        kryo.register(ChunkStreamAck.class);
+        kryo.register(long[].class);
+        kryo.register(PlayerMovement.class);
+        kryo.register(PlayerStateDelta.class);
     }
 
     public enum ActionType {
@@ -210,7 +220,7 @@ public class NetworkProtocol {// In NetworkProtocol.java (or a new file in the s
         public BiomeType primaryBiomeType;
         public BiomeType secondaryBiomeType;   // Can be null
         public float biomeTransitionFactor;    // 0.0 to 1.0
-        public int[][] tileData;
+        public short[] tiles;                  // Flat layout, see Chunk.tileIndex
         public BiomeManager.BiomeData biomeData;
         public List<BlockSaveData.BlockData> blockData;
         public List<HashMap<String, Object>> worldObjects = new ArrayList<>();
@@ -264,6 +274,30 @@ public class NetworkProtocol {// In NetworkProtocol.java (or a new file in the s
         public long timestamp;
     }
 
+    /**
+     * Asks the server to stream every chunk within {@code radius} of the center, nearest first,
+     * with at most {@code window} chunks unacknowledged. Replaces any earlier subscription: queued
+     * chunks that fell out of range are dropped, and chunks beyond {@code keepRadius} are treated
+     * as unloaded by the client. {@code missing} lists packed chunk keys the client lost and
+     * needs again; usually null.
+     */
+    public static class ChunkSubscription {
+        public int centerChunkX;
+        public int centerChunkY;
+        public int radius;
+        public int keepRadius;
+        public int window;
+        public long[] missing;
+        public long timestamp;
+    }
+
+    /**
+     * Frees {@code count} slots of the sender's chunk stream window.
+     */
+    public static class ChunkStreamAck {
+        public int count;
+    }
+
     public static class ItemDrop {
         public ItemData itemData;
         public float x;
@@ -444,6 +478,15 @@ public class NetworkProtocol {// In NetworkProtocol.java (or a new file in the s
         public long timestamp;
     }
 
+    /**
+     * Sent when another player moves out of the recipient's view radius; unlike
+     * {@link PlayerLeft} the player is still online.
+     */
+    public static class PlayerLeftView {
+        public String username;
+        public long timestamp;
+    }
+
     public static class ReliableUpdate {
         public int sequence;
         public long timestamp;
@@ -458,19 +501,57 @@ public class NetworkProtocol {// In NetworkProtocol.java (or a new file in the s
         public long timestamp;
     }
 
+    /**
+     * Reliable player state, sent on login, teleports and when a player comes into view. Routine
+     * movement goes through {@link PlayerMovement}, inventory and party through
+     * {@link PlayerStateDelta}. {@code playerId} is set by the server and identifies the player in
+     * later {@link PlayerMovement} packets.
+     */
     public static class PlayerUpdate {
         public String username;
+        public int playerId;
         public float x;
         public float y;
         public String characterType; // [NEW] Add character type
         public String direction;
-        public List<PokemonData> partyPokemon;
         public boolean isMoving;
         public boolean wantsToRun;
-        public ItemData[] inventoryItems;
-        public ItemData[] hotbarItems;
         public long timestamp = System.currentTimeMillis();
     }
+
+    /**
+     * High-rate player movement, sent over UDP. Positions are quantized with
+     * {@link PokemonSnapshotCodec#quantize}; {@code flags} holds the direction in its low two bits
+     * plus {@link #MOVING} and {@link #RUNNING}. The server fills in {@code playerId} before
+     * relaying. Packets can arrive out of order, so receivers drop any whose {@code sequence} is
+     * not newer than the last one applied. {@code time} is the sender's clock in milliseconds,
+     * truncated to an int, and only meaningful as a difference between packets.
+     */
+    public static class PlayerMovement {
+        public static final long SEND_INTERVAL_MS = 100;
+        public static final int DIRECTION_MASK = 3;
+        public static final int MOVING = 1 << 2;
+        public static final int RUNNING = 1 << 3;
+        public int playerId;
+        public int sequence;
+        public int time;
+        public int x;
+        public int y;
+        public byte flags;
+    }
+
+    /**
+     * The sender's inventory and party changes since its previous delta, sent over TCP only when
+     * something changed. {@code slots} and {@code items} are parallel, a null item emptying the
+     * slot; {@code partyPokemon} is the whole party, or null if it did not change. Deltas with a
+     * {@code version} not above the last applied one are ignored. Never relayed to other players.
+     */
+    public static class PlayerStateDelta {
+        public int version;
+        public int[] slots;
+        public ItemData[] items;
+        public List<PokemonData> partyPokemon;
+    }
     public static class LoginRequest {
         public String username;
         public String password;
@@ -655,6 +736,25 @@ public class NetworkProtocol {// In NetworkProtocol.java (or a new file in the s
     public static class PokemonBatchUpdate {
         public List<PokemonUpdate> updates;
     }
+
+    /**
+     * Wild Pokémon state for one client, encoded by {@link PokemonSnapshotCodec} as a delta
+     * against the snapshot numbered {@code baseSequence} (-1 for an empty baseline).
+     */
+    public static class PokemonDeltaSnapshot {
+        public int sequence;
+        public int baseSequence;
+        public long timestamp;
+        public byte[] payload;
+    }
+
+    /**
+     * Acknowledges a {@link PokemonDeltaSnapshot}; a sequence of -1 asks the server to drop the
+     * client's baseline and resend full state.
+     */
+    public static class PokemonSnapshotAck {
+        public int sequence;
+    }
     public static class WorldState {
         public long timestamp;
         public List<EntityUpdate> entities;
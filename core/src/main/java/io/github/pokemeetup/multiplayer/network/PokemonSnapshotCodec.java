@@ -0,0 +1,214 @@
+package io.github.pokemeetup.multiplayer.network;
+
+import com.badlogic.gdx.utils.IntMap;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import io.github.pokemeetup.system.gameplay.overworld.World;
+
+import java.util.UUID;
+
+/**
+ * Binary delta encoding of wild Pokémon state for {@link NetworkProtocol.PokemonDeltaSnapshot}.
+ * <p>
+ * A snapshot is the full set of {@link EntityState}s visible to one client, keyed by compact net
+ * ID. It is encoded against a baseline the client has acknowledged: only entities whose fields
+ * changed are written, each with a bit mask of the changed fields, followed by the net IDs that
+ * left the snapshot. Positions are quantized to {@link #POSITION_STEPS} steps per tile and
+ * directions to a byte.
+ * <pre>
+ * varint changedCount
+ *   varint netId, byte flags, [long uuidMsb, long uuidLsb] (NEW),
+ *   [zigzag varint qx, qy] (POSITION), [byte direction] (DIRECTION), [varint level] (LEVEL)
+ * varint removedCount, varint netId...
+ * </pre>
+ */
+public final class PokemonSnapshotCodec {
+    public static final int POSITION_STEPS = 16;
+    /**
+     * How often the server sends snapshots. Clients render this far behind, so one late
+     * snapshot does not stall an entity.
+     */
+    public static final long SNAPSHOT_INTERVAL_MS = 200;
+
+    private static final int FLAG_NEW = 1;
+    private static final int FLAG_POSITION = 1 << 1;
+    private static final int FLAG_DIRECTION = 1 << 2;
+    private static final int FLAG_LEVEL = 1 << 3;
+    private static final int FLAG_MOVING = 1 << 4;
+
+    private static final String[] DIRECTIONS = {"down", "up", "left", "right"};
+    private static final float PIXELS_PER_STEP = World.TILE_SIZE / (float) POSITION_STEPS;
+
+    private PokemonSnapshotCodec() {
+    }
+
+    public static final class EntityState {
+        public final int netId;
+        public final UUID uuid;
+        public final int qx;
+        public final int qy;
+        public final byte direction;
+        public final boolean moving;
+        public final int level;
+
+        public EntityState(int netId, UUID uuid, int qx, int qy, byte direction, boolean moving, int level) {
+            this.netId = netId;
+            this.uuid = uuid;
+            this.qx = qx;
+            this.qy = qy;
+            this.direction = direction;
+            this.moving = moving;
+            this.level = level;
+        }
+
+        public static EntityState of(int netId, UUID uuid, float pixelX, float pixelY,
+                                     String direction, boolean moving, int level) {
+            return new EntityState(netId, uuid, quantize(pixelX), quantize(pixelY),
+                encodeDirection(direction), moving, level);
+        }
+
+        public float getPixelX() {
+            return dequantize(qx);
+        }
+
+        public float getPixelY() {
+            return dequantize(qy);
+        }
+
+        public String getDirection() {
+            return decodeDirection(direction);
+        }
+
+        boolean sameAs(EntityState other) {
+            return qx == other.qx && qy == other.qy && direction == other.direction &&
+                moving == other.moving && level == other.level;
+        }
+    }
+
+    public static int quantize(float pixels) {
+        return Math.round(pixels / PIXELS_PER_STEP);
+    }
+
+    public static float dequantize(int steps) {
+        return steps * PIXELS_PER_STEP;
+    }
+
+    public static byte encodeDirection(String direction) {
+        if (direction != null) {
+            for (int i = 0; i < DIRECTIONS.length; i++) {
+                if (DIRECTIONS[i].equals(direction)) {
+                    return (byte) i;
+                }
+            }
+        }
+        return 0;
+    }
+
+    public static String decodeDirection(byte direction) {
+        return direction >= 0 && direction < DIRECTIONS.length ? DIRECTIONS[direction] : DIRECTIONS[0];
+    }
+
+    /**
+     * Writes {@code current} as a delta against {@code baseline} (may be empty, never null).
+     *
+     * @return whether anything was written beyond empty counts
+     */
+    public static boolean encode(IntMap<EntityState> baseline, IntMap<EntityState> current, Output out) {
+        int changed = 0;
+        for (EntityState state : current.values()) {
+            EntityState base = baseline.get(state.netId);
+            if (base == null || !state.sameAs(base)) {
+                changed++;
+            }
+        }
+        int removed = 0;
+        for (IntMap.Entry<EntityState> entry : baseline.entries()) {
+            if (!current.containsKey(entry.key)) {
+                removed++;
+            }
+        }
+
+        out.writeVarInt(changed, true);
+        for (EntityState state : current.values()) {
+            EntityState base = baseline.get(state.netId);
+            if (base != null && state.sameAs(base)) {
+                continue;
+            }
+            int flags = state.moving ? FLAG_MOVING : 0;
+            if (base == null) {
+                flags |= FLAG_NEW | FLAG_POSITION | FLAG_DIRECTION | FLAG_LEVEL;
+            } else {
+                if (state.qx != base.qx || state.qy != base.qy) flags |= FLAG_POSITION;
+                if (state.direction != base.direction) flags |= FLAG_DIRECTION;
+                if (state.level != base.level) flags |= FLAG_LEVEL;
+            }
+            out.writeVarInt(state.netId, true);
+            out.writeByte(flags);
+            if ((flags & FLAG_NEW) != 0) {
+                out.writeLong(state.uuid.getMostSignificantBits());
+                out.writeLong(state.uuid.getLeastSignificantBits());
+            }
+            if ((flags & FLAG_POSITION) != 0) {
+                out.writeVarInt(state.qx, false);
+                out.writeVarInt(state.qy, false);
+            }
+            if ((flags & FLAG_DIRECTION) != 0) {
+                out.writeByte(state.direction);
+            }
+            if ((flags & FLAG_LEVEL) != 0) {
+                out.writeVarInt(state.level, true);
+            }
+        }
+
+        out.writeVarInt(removed, true);
+        for (IntMap.Entry<EntityState> entry : baseline.entries()) {
+            if (!current.containsKey(entry.key)) {
+                out.writeVarInt(entry.key, true);
+            }
+        }
+        return changed > 0 || removed > 0;
+    }
+
+    /**
+     * Rebuilds the full snapshot from the baseline it was encoded against.
+     */
+    public static IntMap<EntityState> decode(IntMap<EntityState> baseline, byte[] payload) {
+        Input in = new Input(payload);
+        IntMap<EntityState> result = new IntMap<>(baseline.size + 8);
+        for (IntMap.Entry<EntityState> entry : baseline.entries()) {
+            result.put(entry.key, entry.value);
+        }
+
+        int changed = in.readVarInt(true);
+        for (int i = 0; i < changed; i++) {
+            int netId = in.readVarInt(true);
+            int flags = in.readByte();
+            EntityState base = result.get(netId);
+            UUID uuid = base != null ? base.uuid : null;
+            int qx = base != null ? base.qx : 0;
+            int qy = base != null ? base.qy : 0;
+            byte direction = base != null ? base.direction : 0;
+            int level = base != null ? base.level : 0;
+            if ((flags & FLAG_NEW) != 0) {
+                uuid = new UUID(in.readLong(), in.readLong());
+            }
+            if ((flags & FLAG_POSITION) != 0) {
+                qx = in.readVarInt(false);
+                qy = in.readVarInt(false);
+            }
+            if ((flags & FLAG_DIRECTION) != 0) {
+                direction = in.readByte();
+            }
+            if ((flags & FLAG_LEVEL) != 0) {
+                level = in.readVarInt(true);
+            }
+            result.put(netId, new EntityState(netId, uuid, qx, qy, direction, (flags & FLAG_MOVING) != 0, level));
+        }
+
+        int removed = in.readVarInt(true);
+        for (int i = 0; i < removed; i++) {
+            result.remove(in.readVarInt(true));
+        }
+        return result;
+    }
+}
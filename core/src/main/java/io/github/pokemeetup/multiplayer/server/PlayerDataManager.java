@@ -6,26 +6,46 @@ import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.storage.GameFileSystem;
 import io.github.pokemeetup.utils.storage.JsonConfig;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
+/**
+ * Holds the authoritative in-memory state of every known player and writes it behind.
+ * <p>
+ * Saves and updates only touch memory and mark the player dirty; a background flusher writes
+ * dirty players to disk every {@link #FLUSH_INTERVAL_MS}, and {@link #requestFlush(UUID)} queues
+ * an early write (e.g. on logout). {@link #flush()} and {@link #shutdown()} write synchronously.
+ */
 public class PlayerDataManager {
     private static final String PLAYER_DATA_DIR = "players/";
+    private static final long FLUSH_INTERVAL_MS = 5_000;
     public final Map<UUID, PlayerData> playerCache;
+    private final Set<UUID> dirtyPlayers = ConcurrentHashMap.newKeySet();
+    private final Object writeLock = new Object();
     private final GameFileSystem fs;
     private final Json json;
-    private volatile boolean isFlushInProgress = false;
+    private final ScheduledExecutorService flusher;
 
     public PlayerDataManager() {
         this.playerCache = new ConcurrentHashMap<>();
         this.fs = GameFileSystem.getInstance();
         this.json = JsonConfig.getInstance();
         initializeDirectory();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "PlayerData-Flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushDirtySafely,
+            FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
     }
 
     private void initializeDirectory() {
@@ -38,10 +58,22 @@ public class PlayerDataManager {
         }
     }
 
-    public synchronized PlayerData loadPlayerData(UUID uuid) {
+    public PlayerData loadPlayerData(UUID uuid) {
         PlayerData cached = playerCache.get(uuid);
         if (cached != null) {
-            return cached.copy(); // Return copy to prevent direct cache modification
+            synchronized (cached) {
+                return cached.copy(); // Return copy to prevent direct cache modification
+            }
+        }
+        return loadFromDisk(uuid);
+    }
+
+    private synchronized PlayerData loadFromDisk(UUID uuid) {
+        PlayerData cached = playerCache.get(uuid);
+        if (cached != null) {
+            synchronized (cached) {
+                return cached.copy();
+            }
         }
 
         try {
@@ -51,13 +83,16 @@ public class PlayerDataManager {
                 return null;
             }
 
-            String jsonData = fs.readString(path);
+            String jsonData;
+            synchronized (writeLock) {
+                jsonData = fs.readString(path);
+            }
             PlayerData playerData = json.fromJson(PlayerData.class, jsonData);
 
             if (playerData != null) {
                 if (playerData.validateAndRepairState()) {
                     GameLogger.info("Repaired loaded player data for UUID: " + uuid);
-                    savePlayerData(uuid, playerData); // Save repaired data
+                    dirtyPlayers.add(uuid); // Persist repaired data on the next flush
                 }
                 playerCache.put(uuid, playerData.copy());
                 GameLogger.info("Successfully loaded player data for UUID: " + uuid);
@@ -69,58 +104,130 @@ public class PlayerDataManager {
             return null;
         }
     }
-    public synchronized void savePlayerData(UUID uuid, PlayerData playerData) {
+
+    /**
+     * Replaces the in-memory state for the player and marks it dirty. The disk write happens
+     * on the next flush.
+     */
+    public void savePlayerData(UUID uuid, PlayerData playerData) {
         if (uuid == null || playerData == null) {
             GameLogger.error("Invalid save attempt with null UUID or PlayerData");
             return;
         }
-
-        try {
+        PlayerData snapshot;
+        synchronized (playerData) {
             if (!playerData.validateAndRepairState()) {
                 GameLogger.error("Player data validation failed for UUID: " + uuid);
                 return;
             }
+            snapshot = playerData.copy();
+        }
+        playerCache.put(uuid, snapshot);
+        dirtyPlayers.add(uuid);
+    }
 
-            String tempPath = getPlayerDataPath(uuid) + ".temp";
-            String finalPath = getPlayerDataPath(uuid);
-            fs.writeString(tempPath, json.toJson(playerData));
-            if (!fs.exists(tempPath)) {
-                throw new RuntimeException("Failed to write temporary player data file");
+    /**
+     * Applies {@code mutation} to the cached state in place and marks it dirty, without the
+     * load/copy/save round trip. Loads the player from disk first if needed.
+     *
+     * @return false if no data exists for the player
+     */
+    public boolean updatePlayerData(UUID uuid, Consumer<PlayerData> mutation) {
+        PlayerData cached = playerCache.get(uuid);
+        if (cached == null) {
+            if (loadFromDisk(uuid) == null) {
+                return false;
             }
-            fs.moveFile(tempPath, finalPath);
-            playerCache.put(uuid, playerData.copy());
+            cached = playerCache.get(uuid);
+            if (cached == null) {
+                return false;
+            }
+        }
+        synchronized (cached) {
+            mutation.accept(cached);
+        }
+        dirtyPlayers.add(uuid);
+        return true;
+    }
 
+    /**
+     * Queues the player's pending state for writing on the flusher thread, ahead of the
+     * regular interval.
+     */
+    public void requestFlush(UUID uuid) {
+        if (uuid == null || !dirtyPlayers.contains(uuid)) {
+            return;
+        }
+        try {
+            flusher.execute(() -> {
+                if (dirtyPlayers.remove(uuid)) {
+                    writePlayer(uuid);
+                }
+            });
         } catch (Exception e) {
-            GameLogger.error("Failed to save player data for UUID: " + uuid + " - " + e.getMessage());
-            throw new RuntimeException("Player data save failed", e);
+            GameLogger.error("Failed to queue player data flush for UUID " + uuid + ": " + e.getMessage());
         }
     }
+
+    public boolean isDirty(UUID uuid) {
+        return dirtyPlayers.contains(uuid);
+    }
+
     private String getPlayerDataPath(UUID uuid) {
         return PLAYER_DATA_DIR + uuid.toString() + ".json";
     }
 
-
-    public synchronized void flush() {
-        if (isFlushInProgress) {
-            return; // Prevent recursive flush
-        }
-
+    // Reads the cached state and writes it under writeLock, so two writers for the same player
+    // cannot land out of order and a write cannot recreate a file deletePlayerData removed.
+    private void writePlayer(UUID uuid) {
         try {
-            isFlushInProgress = true;
-            Map<UUID, PlayerData> dataToSave = new HashMap<>(playerCache);
-
-            for (Map.Entry<UUID, PlayerData> entry : dataToSave.entrySet()) {
-                try {
-                    savePlayerData(entry.getKey(), entry.getValue());
-                } catch (Exception e) {
-                    GameLogger.error("Failed to flush player data for UUID " +
-                        entry.getKey() + ": " + e.getMessage());
+            String tempPath = getPlayerDataPath(uuid) + ".temp";
+            String finalPath = getPlayerDataPath(uuid);
+            synchronized (writeLock) {
+                PlayerData cached = playerCache.get(uuid);
+                if (cached == null) {
+                    return;
+                }
+                String serialized;
+                synchronized (cached) {
+                    if (!cached.validateAndRepairState()) {
+                        GameLogger.error("Player data validation failed for UUID: " + uuid);
+                        return;
+                    }
+                    serialized = json.toJson(cached);
                 }
+                fs.writeString(tempPath, serialized);
+                if (!fs.exists(tempPath)) {
+                    throw new RuntimeException("Failed to write temporary player data file");
+                }
+                fs.moveFile(tempPath, finalPath);
             }
+        } catch (Exception e) {
+            dirtyPlayers.add(uuid); // Retry on the next flush
+            GameLogger.error("Failed to save player data for UUID: " + uuid + " - " + e.getMessage());
+        }
+    }
 
+    private void flushDirtySafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            GameLogger.error("Background player data flush failed: " + e.getMessage());
+        }
+    }
 
-        } finally {
-            isFlushInProgress = false;
+    /**
+     * Writes every dirty player to disk on the calling thread.
+     */
+    public void flush() {
+        if (dirtyPlayers.isEmpty()) {
+            return;
+        }
+        List<UUID> toWrite = new ArrayList<>(dirtyPlayers);
+        for (UUID uuid : toWrite) {
+            if (dirtyPlayers.remove(uuid)) {
+                writePlayer(uuid);
+            }
         }
     }
 
@@ -128,10 +235,13 @@ public class PlayerDataManager {
     public void deletePlayerData(UUID uuid) {
         try {
             String path = getPlayerDataPath(uuid);
-            if (fs.exists(path)) {
-                fs.deleteFile(path);
+            synchronized (writeLock) {
+                dirtyPlayers.remove(uuid);
                 playerCache.remove(uuid);
-                GameLogger.info("Deleted player data for UUID: " + uuid);
+                if (fs.exists(path)) {
+                    fs.deleteFile(path);
+                    GameLogger.info("Deleted player data for UUID: " + uuid);
+                }
             }
         } catch (Exception e) {
             GameLogger.error("Failed to delete player data for UUID: " + uuid + " - " + e.getMessage());
@@ -141,6 +251,15 @@ public class PlayerDataManager {
     public void shutdown() {
         try {
             GameLogger.info("Starting PlayerDataManager shutdown...");
+            flusher.shutdown();
+            try {
+                if (!flusher.awaitTermination(5, TimeUnit.SECONDS)) {
+                    flusher.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                flusher.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
             flush(); // Ensure all cached data is saved
             playerCache.clear();
             GameLogger.info("PlayerDataManager shutdown complete");
@@ -164,6 +164,7 @@ public class ServerStorageSystem {
         for (WorldData world : worldCache.values()) {
             saveWorld(world);
         }
+        playerDataManager.shutdown();
         Thread.sleep(1000);
         GameLogger.info("Storage system shutdown complete");
     }
@@ -9,7 +9,6 @@ import com.badlogic.gdx.math.Vector2;
 import io.github.pokemeetup.context.GameContext;
 import io.github.pokemeetup.pokemon.attacks.Move;
 import io.github.pokemeetup.pokemon.data.PokemonDatabase;
-import io.github.pokemeetup.screens.otherui.BattleTable;
 import io.github.pokemeetup.system.gameplay.PokemonAnimations;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.textures.TextureManager;
@@ -374,75 +373,6 @@ public class Pokemon {
             }
         }
     }
-    public boolean canAttack() {
-        if (currentHp <= 0) {
-            return false;
-        }
-        if (flinched) {
-            flinched = false; // Flinch lasts only one turn
-            GameContext.get().getBattleTable().queueMessage(name + " flinched!");
-            return false;
-        }
-        switch (status) {
-            case ASLEEP:
-                sleepTurns--;
-                if (sleepTurns <= 0) {
-                    GameContext.get().getBattleTable().queueMessage(name + " woke up!");
-                    cureStatus(); // Clears sleep status
-                    return true; // Can attack this turn
-                } else {
-                    GameContext.get().getBattleTable().queueMessage(name + " is fast asleep.");
-                    return false;
-                }
-            case FROZEN:
-                if (MathUtils.random() < 0.20f) { // 20% chance to thaw
-                    GameContext.get().getBattleTable().queueMessage(name + " thawed out!");
-                    cureStatus(); // Clears frozen status
-                    return true; // Can attack this turn
-                } else {
-                    GameContext.get().getBattleTable().queueMessage(name + " is frozen solid!");
-                    return false;
-                }
-            case PARALYZED:
-                if (MathUtils.random() < 0.25f) { // 25% chance of full paralysis
-                    GameContext.get().getBattleTable().queueMessage(name + " is fully paralyzed!");
-                    return false;
-                }
-                break;
-            default:
-                break;
-        }
-        if (confused) {
-            GameContext.get().getBattleTable().queueMessage(name + " is confused!");
-            confusionTurns--;
-            if (confusionTurns <= 0) {
-                GameContext.get().getBattleTable().queueMessage(name + " snapped out of its confusion!", 1.0f, () -> this.confused = false);
-            } else {
-                if (MathUtils.random() < 0.33f) { // 33% chance to hit self
-                    GameContext.get().getBattleTable().queueMessage("It hurt itself in its confusion!");
-                    float damage = calculateConfusionDamage();
-                    GameContext.get().getBattleTable().applyDamage(this, damage);
-                    if (currentHp <= 0) {
-                        setStatus(Status.FAINTED);
-                    }
-                    return false; // Cannot attack this turn
-                }
-            }
-        }
-
-        return true;
-    }
-
-    private float calculateConfusionDamage() {
-        int level = this.getLevel();
-        float attackStat = this.getStats().getAttack();
-        float defenseStat = this.getStats().getDefense();
-        int basePower = 40;
-
-        float baseDamage = (((2 * level) / 5f + 2) * basePower * attackStat / defenseStat) / 50f + 2;
-        return baseDamage * MathUtils.random(0.85f, 1.0f);
-    }
-
     public void setConfused(boolean confused) {
         if (confused && !this.confused) {
             this.confused = true;
@@ -454,36 +384,6 @@ public class Pokemon {
         }
     }
 
-    public void applyEndOfTurnEffects() {
-        if (currentHp <= 0) return;
-
-        BattleTable battleTable = GameContext.get().getBattleTable();
-        switch (status) {
-            case POISONED:
-                battleTable.queueMessage(name + " was hurt by poison!");
-                battleTable.applyDamage(this, stats.getHp() / 8f);
-                break;
-            case BADLY_POISONED:
-                battleTable.queueMessage(name + " was badly hurt by poison!");
-                battleTable.applyDamage(this, (stats.getHp() * toxicCounter) / 16f);
-                toxicCounter = Math.min(toxicCounter + 1, 15);
-                break;
-            case BURNED:
-                battleTable.queueMessage(name + " was hurt by its burn!");
-                battleTable.applyDamage(this, stats.getHp() / 16f);
-                break;
-            default:
-                break;
-        }
-
-        if (currentHp <= 0) {
-            status = Status.FAINTED;
-            battleTable.queueMessage(name + " fainted!");
-        }
-    }
-
-
-
     public void cureStatus() {
         this.status = Status.NONE;
         this.sleepTurns = 0;
@@ -492,6 +392,15 @@ public class Pokemon {
         this.confusedTurns = 0;
     }
 
+    /**
+     * Sets the status a battle ended with. Unlike {@link #setStatus} there are no immunity checks,
+     * messages or stat changes; the battle engine already applied those.
+     */
+    public void restoreStatus(Status status) {
+        cureStatus();
+        this.status = status != null ? status : Status.NONE;
+    }
+
     public float getStatusModifier(Move move) {
         if (status == Status.BURNED && !move.isSpecial()) {
             return 0.5f; // Burn halves physical attack
@@ -597,21 +506,20 @@ public class Pokemon {
         List<PokemonDatabase.MoveEntry> moveEntries = PokemonDatabase.getTemplate(name).moves;
         for (PokemonDatabase.MoveEntry entry : moveEntries) {
             if (entry.level == level) {
-                Move newMove = PokemonDatabase.getMoveByName(entry.name);
+                Move newMove = PokemonDatabase.createMove(entry.moveId);
                 if (newMove != null) {
-                    Move clonedMove = PokemonDatabase.cloneMove(newMove);
                     if (moves.size() < 4) {
-                        moves.add(clonedMove);
+                        moves.add(newMove);
                         GameLogger.info(name + " learned " + entry.name + "!");
                         if (GameContext.get().getBattleTable() != null) {
                             GameContext.get().getBattleTable().displayMessage(name + " learned " + entry.name + "!");
                         }
                     } else {
                         if (GameContext.get().getBattleTable() != null) {
-                            GameContext.get().getBattleTable().showMoveReplacementDialog(clonedMove);
+                            GameContext.get().getBattleTable().showMoveReplacementDialog(newMove);
                         } else {
                             moves.remove(0);
-                            moves.add(clonedMove);
+                            moves.add(newMove);
                             GameLogger.info(name + " learned " + entry.name + " by replacing an old move!");
                             if (GameContext.get().getBattleTable() != null) {
                                 GameContext.get().getBattleTable().displayMessage(name + " learned " + entry.name + " by replacing an old move!");
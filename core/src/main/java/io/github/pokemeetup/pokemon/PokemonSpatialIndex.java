@@ -0,0 +1,194 @@
+package io.github.pokemeetup.pokemon;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.ObjectLongMap;
+import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
+import io.github.pokemeetup.system.gameplay.overworld.World;
+
+/**
+ * Uniform-grid index of wild Pokémon for range and count queries. Cells are one chunk wide, so a
+ * cell key is the packed chunk key of the Pokémon's position.
+ * <p>
+ * The index is kept current incrementally: call {@link #update(WildPokemon)} after a Pokémon
+ * moves, which only re-buckets it when it crossed into another cell. Queries go through visitors
+ * and allocate nothing. Not thread-safe; concurrent readers are fine only while nobody writes.
+ */
+public class PokemonSpatialIndex {
+    public static final float CELL_SIZE = Chunk.CHUNK_SIZE * World.TILE_SIZE;
+
+    private final LongMap<Array<WildPokemon>> cells = new LongMap<>();
+    private final ObjectLongMap<WildPokemon> cellOf = new ObjectLongMap<>();
+
+    /**
+     * Receives each Pokémon a query matches.
+     */
+    public interface Visitor {
+        /**
+         * @return false to stop the query
+         */
+        boolean visit(WildPokemon pokemon);
+    }
+
+    public interface CellVisitor {
+        void visit(long cellKey, Array<WildPokemon> pokemon);
+    }
+
+    public static long cellKey(float pixelX, float pixelY) {
+        return ChunkPos.pack(MathUtils.floor(pixelX / CELL_SIZE), MathUtils.floor(pixelY / CELL_SIZE));
+    }
+
+    public void add(WildPokemon pokemon) {
+        if (pokemon == null || cellOf.containsKey(pokemon)) {
+            return;
+        }
+        long key = cellKey(pokemon.getX(), pokemon.getY());
+        cellOf.put(pokemon, key);
+        cellFor(key).add(pokemon);
+    }
+
+    public void remove(WildPokemon pokemon) {
+        if (pokemon == null || !cellOf.containsKey(pokemon)) {
+            return;
+        }
+        removeFromCell(cellOf.remove(pokemon, 0L), pokemon);
+    }
+
+    /**
+     * Moves the Pokémon to the cell of its current position if it changed.
+     */
+    public void update(WildPokemon pokemon) {
+        if (pokemon == null || !cellOf.containsKey(pokemon)) {
+            return;
+        }
+        long oldKey = cellOf.get(pokemon, 0L);
+        long newKey = cellKey(pokemon.getX(), pokemon.getY());
+        if (oldKey == newKey) {
+            return;
+        }
+        removeFromCell(oldKey, pokemon);
+        cellOf.put(pokemon, newKey);
+        cellFor(newKey).add(pokemon);
+    }
+
+    public void clear() {
+        cells.clear();
+        cellOf.clear();
+    }
+
+    public int size() {
+        return cellOf.size;
+    }
+
+    /**
+     * Visits every Pokémon within {@code range} pixels of the point.
+     *
+     * @return false if the visitor stopped the query early
+     */
+    public boolean forEachInRange(float x, float y, float range, Visitor visitor) {
+        float rangeSquared = range * range;
+        int minCellX = MathUtils.floor((x - range) / CELL_SIZE);
+        int maxCellX = MathUtils.floor((x + range) / CELL_SIZE);
+        int minCellY = MathUtils.floor((y - range) / CELL_SIZE);
+        int maxCellY = MathUtils.floor((y + range) / CELL_SIZE);
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            for (int cy = minCellY; cy <= maxCellY; cy++) {
+                Array<WildPokemon> cell = cells.get(ChunkPos.pack(cx, cy));
+                if (cell == null) continue;
+                for (int i = 0; i < cell.size; i++) {
+                    WildPokemon pokemon = cell.get(i);
+                    float dx = pokemon.getX() - x;
+                    float dy = pokemon.getY() - y;
+                    if (dx * dx + dy * dy <= rangeSquared && !visitor.visit(pokemon)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    public int countInRange(float x, float y, float range) {
+        float rangeSquared = range * range;
+        int count = 0;
+        int minCellX = MathUtils.floor((x - range) / CELL_SIZE);
+        int maxCellX = MathUtils.floor((x + range) / CELL_SIZE);
+        int minCellY = MathUtils.floor((y - range) / CELL_SIZE);
+        int maxCellY = MathUtils.floor((y + range) / CELL_SIZE);
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            for (int cy = minCellY; cy <= maxCellY; cy++) {
+                Array<WildPokemon> cell = cells.get(ChunkPos.pack(cx, cy));
+                if (cell == null) continue;
+                for (int i = 0; i < cell.size; i++) {
+                    WildPokemon pokemon = cell.get(i);
+                    float dx = pokemon.getX() - x;
+                    float dy = pokemon.getY() - y;
+                    if (dx * dx + dy * dy <= rangeSquared) {
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    public boolean anyInRange(float x, float y, float range) {
+        return !forEachInRange(x, y, range, pokemon -> false);
+    }
+
+    /**
+     * Number of Pokémon in the cell, i.e. in the chunk with that packed key.
+     */
+    public int countInCell(long cellKey) {
+        Array<WildPokemon> cell = cells.get(cellKey);
+        return cell != null ? cell.size : 0;
+    }
+
+    /**
+     * Whether any Pokémon stands on the tile, judged by {@link WildPokemon#getTileX()}.
+     */
+    public boolean anyAtTile(int tileX, int tileY) {
+        Array<WildPokemon> cell = cells.get(cellKey(tileX * World.TILE_SIZE, tileY * World.TILE_SIZE));
+        if (cell == null) {
+            return false;
+        }
+        for (int i = 0; i < cell.size; i++) {
+            WildPokemon pokemon = cell.get(i);
+            if (pokemon.getTileX() == tileX && pokemon.getTileY() == tileY) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Visits every non-empty cell. The arrays are live; do not modify them.
+     */
+    public void forEachCell(CellVisitor visitor) {
+        for (LongMap.Entry<Array<WildPokemon>> entry : cells.entries()) {
+            visitor.visit(entry.key, entry.value);
+        }
+    }
+
+    private Array<WildPokemon> cellFor(long key) {
+        Array<WildPokemon> cell = cells.get(key);
+        if (cell == null) {
+            cell = new Array<>(false, 8);
+            cells.put(key, cell);
+        }
+        return cell;
+    }
+
+    private void removeFromCell(long key, WildPokemon pokemon) {
+        Array<WildPokemon> cell = cells.get(key);
+        if (cell == null) {
+            return;
+        }
+        cell.removeValue(pokemon, true);
+        if (cell.isEmpty()) {
+            cells.remove(key);
+        }
+    }
+}
@@ -93,6 +93,8 @@ public class WildPokemon extends Pokemon implements Positionable {
         this.name = name;
         this.isNetworkControlled = true;
         this.animations = null;
+        this.startPosition = new Vector2(this.x, this.y);
+        this.targetPosition = new Vector2(this.x, this.y);
 
         setSpawnTime(System.currentTimeMillis() / 1000L);
         initializePokemonData(name, level);
@@ -223,9 +225,7 @@ public class WildPokemon extends Pokemon implements Positionable {
             networkSync.update(delta);
 
             if (networkSync.isInterpolating()) {
-                if (animations != null) {
-                    animations.update(delta);
-                }
+                updateAnimations(delta);
                 return;
             }
         }
@@ -242,18 +242,36 @@ public class WildPokemon extends Pokemon implements Positionable {
             updateIdleAnimation(delta);
         }
 
-        if (animations != null) {
-            animations.update(delta);
-            if (isMoving != animations.isMoving()) {
-                if (isMoving) {
-                    animations.startMoving(direction);
-                } else {
-                    animations.stopMoving();
-                }
+        updateAnimations(delta);
+
+        updateWaterSoundTimer(delta);
+        updateBoundingBox();
+    }
+
+    private void updateAnimations(float delta) {
+        if (animations == null) return;
+        animations.update(delta);
+        if (isMoving != animations.isMoving()) {
+            if (isMoving) {
+                animations.startMoving(direction);
+            } else {
+                animations.stopMoving();
             }
         }
+    }
 
-        updateWaterSoundTimer(delta);
+    /**
+     * Headless step used by the server: runs the AI and advances tile movement, with no client
+     * {@link World}, network interpolation or animations.
+     */
+    public void simulate(float delta) {
+        if (isDespawning) return;
+        if (enhancedAI != null) {
+            enhancedAI.update(delta);
+        }
+        if (isMoving) {
+            updateMovement(delta);
+        }
         updateBoundingBox();
     }
 
@@ -399,9 +417,8 @@ public class WildPokemon extends Pokemon implements Positionable {
                 Color baseColor = world.getCurrentWorldColor();
                 int tileX = (int) (x / World.TILE_SIZE);
                 int tileY = (int) (y / World.TILE_SIZE);
-                Vector2 tilePos = new Vector2(tileX, tileY);
-                Float lightLevel = world.getLightLevelAtTile(tilePos);
-                if (lightLevel != null && lightLevel > 0) {
+                float lightLevel = world.getLightLevelAtTile(tileX, tileY);
+                if (lightLevel > 0) {
                     Color lightColor = new Color(1f, 0.9f, 0.7f, 1f);
                     baseColor = baseColor.cpy().lerp(lightColor, lightLevel);
                 }
@@ -6,27 +6,21 @@ import java.util.HashMap;
 import java.util.Map;
 
 public class Move {
-    private String name;
-    private Pokemon.PokemonType type;
-    private int power;
-    private int accuracy;
+    private final MoveDefinition definition;
     private int pp;
     private int maxPp;
 
-    public void setName(String name) {
-        this.name = name;
+    /**
+     * A freshly learned copy of a move, with full PP.
+     */
+    public Move(MoveDefinition definition) {
+        this.definition = definition;
+        this.pp = definition.getPp();
+        this.maxPp = definition.getPp();
     }
 
-    public void setType(Pokemon.PokemonType type) {
-        this.type = type;
-    }
-
-    public void setPower(int power) {
-        this.power = power;
-    }
-
-    public void setAccuracy(int accuracy) {
-        this.accuracy = accuracy;
+    public MoveDefinition getDefinition() {
+        return definition;
     }
 
     public void setPp(int pp) {
@@ -37,45 +31,20 @@ public class Move {
         this.maxPp = maxPp;
     }
 
-    public void setSpecial(boolean special) {
-        isSpecial = special;
-    }
-
-    public void setDescription(String description) {
-        this.description = description;
-    }
-
-    public void setEffect(MoveEffect effect) {
-        this.effect = effect;
-    }
-
-    public void setCanFlinch(boolean canFlinch) {
-        this.canFlinch = canFlinch;
-    }
-
-    private boolean isSpecial;
-    private String description;
-
-    private MoveEffect effect;
-    private boolean canFlinch;
-
-    public Move() {
-    }
-
     public String getName() {
-        return name;
+        return definition.getName();
     }
 
     public Pokemon.PokemonType getType() {
-        return type;
+        return definition.getType();
     }
 
     public int getPower() {
-        return power;
+        return definition.getPower();
     }
 
     public int getAccuracy() {
-        return accuracy;
+        return definition.getAccuracy();
     }
 
     public int getPp() {
@@ -87,19 +56,19 @@ public class Move {
     }
 
     public boolean isSpecial() {
-        return isSpecial;
+        return definition.isSpecial();
     }
 
     public String getDescription() {
-        return description;
+        return definition.getDescription();
     }
 
     public MoveEffect getEffect() {
-        return effect;
+        return definition.getEffect();
     }
 
     public boolean canFlinch() {
-        return canFlinch;
+        return definition.canFlinch();
     }
 
     public static class MoveEffect {
@@ -170,53 +139,4 @@ public class Move {
             this.sound = sound;
         }
     }
-    public static class Builder {
-        private final Move move;
-
-        public Builder(String name, Pokemon.PokemonType type) {
-            move = new Move();
-            move.name = name;
-            move.type = type;
-        }
-
-        public Builder power(int power) {
-            move.power = power;
-            return this;
-        }
-
-        public Builder accuracy(int accuracy) {
-            move.accuracy = accuracy;
-            return this;
-        }
-
-        public Builder pp(int pp) {
-            move.pp = pp;
-            move.maxPp = pp;
-            return this;
-        }
-
-        public Builder special(boolean isSpecial) {
-            move.isSpecial = isSpecial;
-            return this;
-        }
-
-        public Builder description(String description) {
-            move.description = description;
-            return this;
-        }
-
-        public Builder effect(MoveEffect effect) {
-            move.effect = effect;
-            return this;
-        }
-
-        public Builder canFlinch(boolean canFlinch) {
-            move.canFlinch = canFlinch;
-            return this;
-        }
-
-        public Move build() {
-            return move;
-        }
-    }
 }
@@ -0,0 +1,151 @@
+package io.github.pokemeetup.pokemon.attacks;
+
+import io.github.pokemeetup.pokemon.Pokemon;
+
+import java.util.Collections;
+import java.util.HashMap;
+
+/**
+ * What a move is, as loaded from moves.json. One instance per move is shared by every Pokemon
+ * that knows it; the remaining PP lives in {@link Move}. Nothing here changes after loading, so
+ * the effect must not be modified either.
+ */
+public final class MoveDefinition {
+    /** Id of definitions that were not loaded by the database, e.g. rebuilt from a save. */
+    public static final int NO_ID = -1;
+
+    private final int id;
+    private final String name;
+    private final Pokemon.PokemonType type;
+    private final int power;
+    private final int accuracy;
+    private final int pp;
+    private final boolean special;
+    private final String description;
+    private final Move.MoveEffect effect;
+    private final boolean canFlinch;
+
+    private MoveDefinition(Builder builder) {
+        this.id = builder.id;
+        this.name = builder.name;
+        this.type = builder.type;
+        this.power = builder.power;
+        this.accuracy = builder.accuracy;
+        this.pp = builder.pp;
+        this.special = builder.special;
+        this.description = builder.description;
+        this.effect = builder.effect;
+        this.canFlinch = builder.canFlinch;
+    }
+
+    /**
+     * Index of this move in the database, stable for as long as the game runs.
+     */
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Pokemon.PokemonType getType() {
+        return type;
+    }
+
+    public int getPower() {
+        return power;
+    }
+
+    public int getAccuracy() {
+        return accuracy;
+    }
+
+    /**
+     * PP a newly learned copy of the move starts with.
+     */
+    public int getPp() {
+        return pp;
+    }
+
+    public boolean isSpecial() {
+        return special;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Move.MoveEffect getEffect() {
+        return effect;
+    }
+
+    public boolean canFlinch() {
+        return canFlinch;
+    }
+
+    public static class Builder {
+        private final String name;
+        private final Pokemon.PokemonType type;
+        private int id = NO_ID;
+        private int power;
+        private int accuracy;
+        private int pp;
+        private boolean special;
+        private String description;
+        private Move.MoveEffect effect;
+        private boolean canFlinch;
+
+        public Builder(String name, Pokemon.PokemonType type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        public Builder id(int id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder power(int power) {
+            this.power = power;
+            return this;
+        }
+
+        public Builder accuracy(int accuracy) {
+            this.accuracy = accuracy;
+            return this;
+        }
+
+        public Builder pp(int pp) {
+            this.pp = pp;
+            return this;
+        }
+
+        public Builder special(boolean special) {
+            this.special = special;
+            return this;
+        }
+
+        public Builder description(String description) {
+            this.description = description;
+            return this;
+        }
+
+        public Builder effect(Move.MoveEffect effect) {
+            this.effect = effect;
+            return this;
+        }
+
+        public Builder canFlinch(boolean canFlinch) {
+            this.canFlinch = canFlinch;
+            return this;
+        }
+
+        public MoveDefinition build() {
+            if (effect != null && effect.getStatModifiers() != null) {
+                effect.setStatModifiers(Collections.unmodifiableMap(new HashMap<>(effect.getStatModifiers())));
+            }
+            return new MoveDefinition(this);
+        }
+    }
+}
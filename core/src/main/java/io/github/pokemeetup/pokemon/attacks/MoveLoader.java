@@ -9,9 +9,9 @@ import java.lang.reflect.Type;
 import java.util.*;
 
 public class MoveLoader {
-    public static Map<String, Move> loadMovesFromJson(String jsonContent) {
+    public static Map<String, MoveDefinition> loadMovesFromJson(String jsonContent) {
         Gson gson = new GsonBuilder().create();
-        Map<String, Move> moves = new HashMap<>();
+        Map<String, MoveDefinition> moves = new HashMap<>();
 
         try {
             JsonObject jsonObject = JsonParser.parseString(jsonContent).getAsJsonObject();
@@ -20,8 +20,7 @@ public class MoveLoader {
                 String moveName = entry.getKey();
                 JsonObject moveJson = entry.getValue().getAsJsonObject();
 
-                Move move = parseMove(moveName, moveJson);
-                moves.put(moveName, move);
+                moves.put(moveName, parseMove(moves.size(), moveName, moveJson));
             }
         } catch (Exception e) {
             throw new RuntimeException("Failed to parse moves JSON: " + e.getMessage());
@@ -29,9 +28,9 @@ public class MoveLoader {
 
         return moves;
     }
-    public static Map<String, Move> loadMoves(String jsonFilePath) throws IOException {
+    public static Map<String, MoveDefinition> loadMoves(String jsonFilePath) throws IOException {
         Gson gson = new GsonBuilder().create();
-        Map<String, Move> moves = new HashMap<>();
+        Map<String, MoveDefinition> moves = new HashMap<>();
         JsonObject jsonObject;
         try (FileReader reader = new FileReader(jsonFilePath)) {
             jsonObject = JsonParser.parseReader(reader).getAsJsonObject();
@@ -41,14 +40,14 @@ public class MoveLoader {
             String moveName = entry.getKey();
             JsonObject moveJson = entry.getValue().getAsJsonObject();
 
-            Move move = parseMove(moveName, moveJson);
-            moves.put(moveName, move);
+            moves.put(moveName, parseMove(moves.size(), moveName, moveJson));
         }
 
         return moves;
     }
 
-    private static Move parseMove(String moveName, JsonObject moveJson) {
+    // Ids are handed out in load order, so they index straight into an array of all moves.
+    private static MoveDefinition parseMove(int id, String moveName, JsonObject moveJson) {
         String typeStr = moveJson.get("type").getAsString();
         int power = moveJson.get("power").getAsInt();
         int accuracy = moveJson.get("accuracy").getAsInt();
@@ -56,7 +55,8 @@ public class MoveLoader {
         boolean isSpecial = moveJson.get("isSpecial").getAsBoolean();
         String description = moveJson.get("description").getAsString();
         Pokemon.PokemonType type = Pokemon.PokemonType.valueOf(typeStr);
-        Move.Builder builder = new Move.Builder(moveName, type)
+        MoveDefinition.Builder builder = new MoveDefinition.Builder(moveName, type)
+            .id(id)
             .power(power)
             .accuracy(accuracy)
             .pp(pp)
@@ -1,10 +1,13 @@
 package io.github.pokemeetup.pokemon.data;
 
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectIntMap;
 import io.github.pokemeetup.FileSystemDelegate;
 import io.github.pokemeetup.pokemon.Pokemon;
 import io.github.pokemeetup.pokemon.attacks.Move;
+import io.github.pokemeetup.pokemon.attacks.MoveDefinition;
 import io.github.pokemeetup.pokemon.attacks.MoveLoader;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.storage.GameFileSystem;
@@ -14,16 +17,43 @@ import java.util.*;
 public class PokemonDatabase {
     private static final String POKEMON_DATA_FILE = "Data/pokemon.json";
     private static final String MOVE_DATA_FILE = "Data/moves.json";
-    private static final Map<String, PokemonTemplate> pokemonTemplates = new HashMap<>();
-    private static final Map<String, BaseStats> pokemonStats = new HashMap<>();
+    public static final int NO_SPECIES = -1;
+    // Species and moves are looked up by name once, through these, and by id from then on.
+    private static final ObjectIntMap<String> speciesIds = new ObjectIntMap<>();
+    private static final Array<PokemonTemplate> templates = new Array<>();
+    private static final ObjectIntMap<String> moveIds = new ObjectIntMap<>();
+    private static MoveDefinition[] moves = new MoveDefinition[0];
     private static boolean isInitialized = false;
-    private static final Map<String, Move> allMoves = new HashMap<>();
 
     public static PokemonTemplate getTemplate(String name) {
+        return getTemplate(getSpeciesId(name));
+    }
+
+    public static PokemonTemplate getTemplate(int speciesId) {
+        if (!isInitialized) {
+            initialize();
+        }
+        return speciesId >= 0 && speciesId < templates.size ? templates.get(speciesId) : null;
+    }
+
+    /**
+     * Species ids run from 0 to this count - 1.
+     */
+    public static int getSpeciesCount() {
+        if (!isInitialized) {
+            initialize();
+        }
+        return templates.size;
+    }
+
+    /**
+     * @return the species id for a name in any case, or {@link #NO_SPECIES}
+     */
+    public static int getSpeciesId(String name) {
         if (!isInitialized) {
             initialize();
         }
-        return pokemonTemplates.get(name.toLowerCase());
+        return name == null ? NO_SPECIES : speciesIds.get(name.toLowerCase(), NO_SPECIES);
     }
 
 
@@ -37,15 +67,16 @@ public class PokemonDatabase {
             try {
                 String movesJson = delegate.readString(MOVE_DATA_FILE);
                 GameLogger.info("Loaded moves.json content (length: " + movesJson.length() + ")");
-                allMoves.putAll(MoveLoader.loadMovesFromJson(movesJson));
-                GameLogger.info("Successfully loaded " + allMoves.size() + " moves");
-                int count = 0;
-                for (Map.Entry<String, Move> entry : allMoves.entrySet()) {
-                    if (count++ < 3) {
-                        GameLogger.info("Loaded move: " + entry.getKey() + " (" +
-                            entry.getValue().getType() + ", Power: " +
-                            entry.getValue().getPower() + ")");
-                    }
+                Map<String, MoveDefinition> loadedMoves = MoveLoader.loadMovesFromJson(movesJson);
+                moves = new MoveDefinition[loadedMoves.size()];
+                for (MoveDefinition move : loadedMoves.values()) {
+                    moves[move.getId()] = move;
+                    moveIds.put(move.getName().toLowerCase(), move.getId());
+                }
+                GameLogger.info("Successfully loaded " + moves.length + " moves");
+                for (int i = 0; i < Math.min(3, moves.length); i++) {
+                    GameLogger.info("Loaded move: " + moves[i].getName() + " (" +
+                        moves[i].getType() + ", Power: " + moves[i].getPower() + ")");
                 }
             } catch (Exception e) {
                 GameLogger.error("Failed to load moves: " + e.getMessage());
@@ -70,7 +101,7 @@ public class PokemonDatabase {
                         Pokemon.PokemonType primaryType = Pokemon.PokemonType.valueOf(
                             pokemonValue.getString("primaryType").toUpperCase());
                         Pokemon.PokemonType secondaryType = getSecondaryType(pokemonValue);
-                        List<MoveEntry> moves = loadPokemonMoves(pokemonValue.get("moves"));
+                        List<MoveEntry> learnset = loadPokemonMoves(name, pokemonValue.get("moves"));
                         BaseStats stats = new BaseStats(
                             name,
                             pokemonValue.getInt("baseHp"),
@@ -81,25 +112,26 @@ public class PokemonDatabase {
                             pokemonValue.getInt("baseSpeed"),
                             primaryType,
                             secondaryType,
-                            moves
+                            learnset
                         );
-                        pokemonStats.put(name, stats);
                         PokemonTemplate template = new PokemonTemplate();
+                        template.id = templates.size;
                         template.name = name;
                         template.primaryType = primaryType;
                         template.secondaryType = secondaryType;
                         template.baseStats = stats;
-                        template.moves = moves;
+                        template.moves = learnset;
                         template.width = pokemonValue.getFloat("width", 1.0f);
                         template.height = pokemonValue.getFloat("height", 1.0f);
                         template.growthRate = pokemonValue.getString("growthRate", "Medium Fast");
-                        pokemonTemplates.put(name.toLowerCase(), template);
+                        templates.add(template);
+                        speciesIds.put(name.toLowerCase(), template.id);
 
                         pokemonCount++;
                         if (pokemonCount <= 3) {
                             GameLogger.info("Loaded Pokemon: " + name + " (" +
                                 primaryType + (secondaryType != null ? "/" + secondaryType : "") +
-                                ") with " + moves.size() + " moves");
+                                ") with " + learnset.size() + " moves");
                         }
                     } catch (Exception e) {
                         GameLogger.error("Error loading Pokemon entry: " + e.getMessage());
@@ -122,7 +154,8 @@ public class PokemonDatabase {
         if (!isInitialized) {
             initialize();
         }
-        BaseStats stats = pokemonStats.get(name);
+        PokemonTemplate template = getTemplate(name);
+        BaseStats stats = template != null ? template.baseStats : null;
         if (stats == null) {
             GameLogger.error("No stats found for Pokemon: " + name);
             return new BaseStats(
@@ -136,20 +169,27 @@ public class PokemonDatabase {
         return stats;
     }
 
-    private static List<MoveEntry> loadPokemonMoves(JsonValue movesArray) {
-        List<MoveEntry> moves = new ArrayList<>();
+    // Sorted by level, with moves that are missing from moves.json left out.
+    private static List<MoveEntry> loadPokemonMoves(String pokemonName, JsonValue movesArray) {
+        List<MoveEntry> learnset = new ArrayList<>();
         if (movesArray != null && movesArray.isArray()) {
             for (JsonValue moveValue = movesArray.child; moveValue != null; moveValue = moveValue.next) {
                 try {
                     String moveName = moveValue.getString("name");
                     int level = moveValue.getInt("level");
-                    moves.add(new MoveEntry(moveName, level));
+                    int moveId = moveIds.get(moveName.toLowerCase(), MoveDefinition.NO_ID);
+                    if (moveId == MoveDefinition.NO_ID) {
+                        GameLogger.error("Move not found: " + moveName + " (learned by " + pokemonName + ")");
+                        continue;
+                    }
+                    learnset.add(new MoveEntry(moveName, level, moveId));
                 } catch (Exception e) {
                     GameLogger.error("Error loading move: " + e.getMessage());
                 }
             }
         }
-        return moves;
+        learnset.sort(Comparator.comparingInt(e -> e.level));
+        return learnset;
     }
 
     private static Pokemon.PokemonType getSecondaryType(JsonValue pokemonValue) {
@@ -167,16 +207,22 @@ public class PokemonDatabase {
     }
 
     public static Pokemon createPokemon(String name, int level) {
-        if (!isInitialized) {
-            initialize();
+        int speciesId = getSpeciesId(name);
+        if (speciesId == NO_SPECIES) {
+            GameLogger.error("Pokemon template not found: " + name);
+            return null;
         }
-        PokemonTemplate template = pokemonTemplates.get(name);
+        return createPokemon(speciesId, level);
+    }
+
+    public static Pokemon createPokemon(int speciesId, int level) {
+        PokemonTemplate template = getTemplate(speciesId);
         if (template == null) {
-            GameLogger.error("Pokemon template not found: " + name);
+            GameLogger.error("Pokemon template not found: " + speciesId);
             return null;
         }
         try {
-            Pokemon.Builder builder = new Pokemon.Builder(name, level)
+            Pokemon.Builder builder = new Pokemon.Builder(template.name, level)
                 .withType(template.primaryType, template.secondaryType);
             int hp = calculateStat(template.baseStats.baseHp, level, true);
             int attack = calculateStat(template.baseStats.baseAttack, level, false);
@@ -194,72 +240,59 @@ public class PokemonDatabase {
         }
     }
 
+    /**
+     * The (up to) four most recently learned moves at a level, each with its own full PP.
+     *
+     * @param moveEntries a learnset from a template, sorted by level
+     */
     public static List<Move> getMovesForLevel(List<MoveEntry> moveEntries, int level) {
-        List<Move> moves = new ArrayList<>();
-        try {
-            Map<String, Move> moveMap = new HashMap<>();
-            for (Map.Entry<String, Move> entry : allMoves.entrySet()) {
-                moveMap.put(entry.getKey().toLowerCase(), entry.getValue());
-            }
-            List<MoveEntry> learnedMoves = new ArrayList<>();
-            for (MoveEntry entry : moveEntries) {
-                if (entry.level <= level) {
-                    learnedMoves.add(entry);
-                }
-            }
-            learnedMoves.sort(Comparator.comparingInt(e -> e.level));
-            int movesToAdd = Math.min(learnedMoves.size(), 4);
-            for (int i = learnedMoves.size() - movesToAdd; i < learnedMoves.size(); i++) {
-                MoveEntry moveEntry = learnedMoves.get(i);
-                String moveName = moveEntry.name.toLowerCase();
-                Move move = moveMap.get(moveName);
-                if (move != null) {
-                    moves.add(cloneMove(move));
-                    GameLogger.info("Added move: " + moveEntry.name + " (Level " + moveEntry.level + ")");
-                } else {
-                    GameLogger.error("Move not found: " + moveEntry.name);
-                    GameLogger.error("Available moves: " + String.join(", ", moveMap.keySet()));
-                }
+        int learned = 0;
+        while (learned < moveEntries.size() && moveEntries.get(learned).level <= level) {
+            learned++;
+        }
+        List<Move> result = new ArrayList<>(4);
+        for (int i = Math.max(0, learned - 4); i < learned; i++) {
+            Move move = createMove(moveEntries.get(i).moveId);
+            if (move != null) {
+                result.add(move);
             }
-        } catch (Exception e) {
-            GameLogger.error("Error loading moves: " + e.getMessage());
-            e.printStackTrace();
         }
-        return moves;
+        return result;
     }
 
-    public static Move cloneMove(Move move) {
-        Move.MoveEffect clonedEffect = null;
-        if (move.getEffect() != null) {
-            clonedEffect = cloneMoveEffect(move.getEffect());
-        }
-        return new Move.Builder(move.getName(), move.getType())
-            .power(move.getPower())
-            .accuracy(move.getAccuracy())
-            .pp(move.getPp())
-            .special(move.isSpecial())
-            .description(move.getDescription())
-            .effect(clonedEffect)
-            .build();
+    /**
+     * A newly learned copy of a move, or null if there is no move with that id.
+     */
+    public static Move createMove(int moveId) {
+        MoveDefinition definition = getMoveDefinition(moveId);
+        return definition != null ? new Move(definition) : null;
     }
 
-    private static Move.MoveEffect cloneMoveEffect(Move.MoveEffect effect) {
-        Move.MoveEffect clonedEffect = new Move.MoveEffect();
-        clonedEffect.setEffectType(effect.getEffectType());
-        clonedEffect.setChance(effect.getChance());
-        clonedEffect.setAnimation(effect.getAnimation());
-        clonedEffect.setSound(effect.getSound());
-        clonedEffect.setStatusEffect(effect.getStatusEffect());
-        clonedEffect.setDuration(effect.getDuration());
-        clonedEffect.setStatModifiers(new HashMap<>(effect.getStatModifiers()));
-        return clonedEffect;
+    /**
+     * A newly learned copy of a move, or null if no move has that name in any case.
+     */
+    public static Move getMoveByName(String moveName) {
+        MoveDefinition definition = getMoveDefinition(moveName);
+        return definition != null ? new Move(definition) : null;
     }
 
-    public static Move getMoveByName(String moveName) {
-        return allMoves.get(moveName);
+    /**
+     * The shared definition of a move. Unlike the species lookups this does not load the
+     * database, so it returns null until something else has.
+     */
+    public static MoveDefinition getMoveDefinition(String moveName) {
+        if (moveName == null) return null;
+        return getMoveDefinition(moveIds.get(moveName.toLowerCase(), MoveDefinition.NO_ID));
+    }
+
+    public static MoveDefinition getMoveDefinition(int moveId) {
+        return moveId >= 0 && moveId < moves.length ? moves[moveId] : null;
     }
 
-    private static int calculateStat(int base, int level, boolean isHp) {
+    /**
+     * A stat at a level with the fixed IVs and no EVs that {@link #createPokemon} uses.
+     */
+    public static int calculateStat(int base, int level, boolean isHp) {
         int iv = 15;
         int ev = 0;
         if (isHp) {
@@ -272,13 +305,16 @@ public class PokemonDatabase {
     public static class MoveEntry {
         public final String name;
         public final int level;
-        public MoveEntry(String name, int level) {
+        public final int moveId;
+        public MoveEntry(String name, int level, int moveId) {
             this.name = name;
             this.level = level;
+            this.moveId = moveId;
         }
     }
 
     public static class PokemonTemplate {
+        public int id;
         public Pokemon.PokemonType primaryType;
         public Pokemon.PokemonType secondaryType;
         public BaseStats baseStats;
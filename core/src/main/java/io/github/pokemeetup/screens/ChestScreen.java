@@ -24,6 +24,7 @@ import io.github.pokemeetup.system.gameplay.inventory.Inventory;
 import io.github.pokemeetup.system.gameplay.inventory.Item;
 import io.github.pokemeetup.system.gameplay.inventory.crafting.CraftingSystem;
 import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.storage.InventoryConverter;
@@ -327,7 +328,7 @@ public class ChestScreen implements Screen, InventoryScreenInterface {
                 int chunkY = Math.floorDiv((int) chestPosition.y, World.CHUNK_SIZE);
                 Vector2 chunkPos = new Vector2(chunkX, chunkY);
 
-                Chunk chunk = GameContext.get().getWorld().getChunks().get(chunkPos);
+                Chunk chunk = GameContext.get().getWorld().getChunks().get(ChunkPos.pack(chunkX, chunkY));
                 if (chunk != null) {
                     GameContext.get().getWorld().saveChunkData(chunkPos, chunk);
                 }
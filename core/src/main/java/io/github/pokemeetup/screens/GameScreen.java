@@ -1641,21 +1641,10 @@ public class GameScreen implements Screen, PickupActionHandler, BattleInitiation
 
             if (isMultiplayer && updateTimer >= UPDATE_INTERVAL) {
                 updateTimer = 0;
-                NetworkProtocol.PlayerUpdate update = new NetworkProtocol.PlayerUpdate();
-                update.username = GameContext.get().getPlayer().getUsername();
-                update.x = GameContext.get().getPlayer().getX();
-                update.y = GameContext.get().getPlayer().getY();
-                update.characterType = GameContext.get().getPlayer().getCharacterType();
-
-                update.direction = GameContext.get().getPlayer().getDirection();
-                update.isMoving = GameContext.get().getPlayer().isMoving();
-                update.wantsToRun = GameContext.get().getPlayer().isRunning();
-                update.inventoryItems = GameContext.get().getPlayer().getInventory().getAllItems().toArray(new ItemData[0]);
-                update.timestamp = System.currentTimeMillis();
+                // The client sends the local player's movement itself, at its own fixed rate.
                 if (GameContext.get().getGameClient() == null) {
                     return;
                 }
-                GameContext.get().getGameClient().sendPlayerUpdate();
                 if (GameContext.get().getGameClient() != null) {
                     Map<String, NetworkProtocol.PlayerUpdate> updates = GameContext.get().getGameClient().getPlayerUpdates();
                     if (!updates.isEmpty()) {
@@ -29,6 +29,7 @@ import io.github.pokemeetup.system.Player;
 import io.github.pokemeetup.system.data.PlayerData;
 import io.github.pokemeetup.system.data.WorldData;
 import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.textures.TextureManager;
@@ -837,7 +838,7 @@ public class WorldSelectionScreen implements Screen {
                 Vector2 chunkPos = new Vector2(chunkX + dx, chunkY + dy);
                 Chunk chunk = world.loadOrGenerateChunk(chunkPos);
                 if (chunk != null) {
-                    world.chunks.put(chunkPos, chunk);
+                    world.chunks.put(ChunkPos.pack(chunkX + dx, chunkY + dy), chunk);
                 } else {
                     GameLogger.error("Failed to load/generate chunk at " + chunkPos);
                 }
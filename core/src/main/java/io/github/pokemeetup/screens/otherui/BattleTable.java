@@ -17,7 +17,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
-import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Scaling;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import io.github.pokemeetup.audio.AudioManager;
@@ -26,13 +26,16 @@ import io.github.pokemeetup.pokemon.Pokemon;
 import io.github.pokemeetup.pokemon.PokemonCaptureAnimation;
 import io.github.pokemeetup.pokemon.WildPokemon;
 import io.github.pokemeetup.pokemon.attacks.Move;
+import io.github.pokemeetup.system.battle.BattleEngine;
+import io.github.pokemeetup.system.battle.BattleEvent;
+import io.github.pokemeetup.system.battle.BattleRandom;
+import io.github.pokemeetup.system.battle.Combatant;
 import io.github.pokemeetup.system.data.ItemData;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.textures.TextureManager;
 
 import java.util.HashMap;
 import java.util.LinkedList;
-import java.util.Map;
 import java.util.Queue;
 
 public class BattleTable extends Table {
@@ -83,11 +86,6 @@ public class BattleTable extends Table {
         put(Pokemon.PokemonType.FAIRY, new Color(1, 0.6f, 0.8f, 1));
     }};
 
-    private static ObjectMap<Pokemon.PokemonType, ObjectMap<Pokemon.PokemonType, Float>> typeEffectiveness = new ObjectMap<>();
-
-    static {
-        initializeTypeEffectiveness();
-    }
     private TextureRegion platformTexture;
     private Image playerPlatform, enemyPlatform;
     private float stateTimer = 0;
@@ -95,8 +93,9 @@ public class BattleTable extends Table {
     private Label weatherLabel;
     private boolean moveSelectionActive = false;
     private int turnCount = 0;
-    private float criticalHitChance = 0.0625f; // Base 6.25% crit chance
-    private Map<Pokemon, Integer> leechSeedTargets = new HashMap<>();
+    // Rules run in the engine; this table only shows the events of each resolved turn.
+    private io.github.pokemeetup.system.battle.BattleState battle;
+    private final BattleRandom random = new BattleRandom(MathUtils.random.nextLong());
 
     private enum BattleState {
         INTRO,
@@ -134,6 +133,8 @@ public class BattleTable extends Table {
         this.skin = skin;
         this.playerPokemon = playerPokemon;
         this.enemyPokemon = enemyPokemon;
+        this.battle = new io.github.pokemeetup.system.battle.BattleState(
+            Combatant.of(playerPokemon), Combatant.of(enemyPokemon));
         setFillParent(true);
         setTouchable(Touchable.enabled);
         setZIndex(100);
@@ -156,176 +157,6 @@ public class BattleTable extends Table {
         }
     }
 
-    private static void initializeTypeEffectiveness() {
-        for (Pokemon.PokemonType type : Pokemon.PokemonType.values()) {
-            typeEffectiveness.put(type, new ObjectMap<>());
-            for (Pokemon.PokemonType defType : Pokemon.PokemonType.values()) {
-                typeEffectiveness.get(type).put(defType, 1.0f);
-            }
-        }
-        initTypeEffectiveness(Pokemon.PokemonType.NORMAL, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.ROCK, 0.5f);
-            put(Pokemon.PokemonType.GHOST, 0.0f);
-            put(Pokemon.PokemonType.STEEL, 0.5f);
-        }});
-        initTypeEffectiveness(Pokemon.PokemonType.FIRE, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIRE, 0.5f);
-            put(Pokemon.PokemonType.WATER, 0.5f);
-            put(Pokemon.PokemonType.GRASS, 2.0f);
-            put(Pokemon.PokemonType.ICE, 2.0f);
-            put(Pokemon.PokemonType.BUG, 2.0f);
-            put(Pokemon.PokemonType.ROCK, 0.5f);
-            put(Pokemon.PokemonType.DRAGON, 0.5f);
-            put(Pokemon.PokemonType.STEEL, 2.0f);
-        }});
-        initTypeEffectiveness(Pokemon.PokemonType.WATER, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIRE, 2.0f);
-            put(Pokemon.PokemonType.WATER, 0.5f);
-            put(Pokemon.PokemonType.GRASS, 0.5f);
-            put(Pokemon.PokemonType.GROUND, 2.0f);
-            put(Pokemon.PokemonType.ROCK, 2.0f);
-            put(Pokemon.PokemonType.DRAGON, 0.5f);
-        }});
-        initTypeEffectiveness(Pokemon.PokemonType.ELECTRIC, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.WATER, 2.0f);
-            put(Pokemon.PokemonType.ELECTRIC, 0.5f);
-            put(Pokemon.PokemonType.GRASS, 0.5f);
-            put(Pokemon.PokemonType.GROUND, 0.0f);
-            put(Pokemon.PokemonType.FLYING, 2.0f);
-            put(Pokemon.PokemonType.DRAGON, 0.5f);
-        }});
-        initTypeEffectiveness(Pokemon.PokemonType.GRASS, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIRE, 0.5f);
-            put(Pokemon.PokemonType.WATER, 2.0f);
-            put(Pokemon.PokemonType.GRASS, 0.5f);
-            put(Pokemon.PokemonType.POISON, 0.5f);
-            put(Pokemon.PokemonType.GROUND, 2.0f);
-            put(Pokemon.PokemonType.FLYING, 0.5f);
-            put(Pokemon.PokemonType.BUG, 0.5f);
-            put(Pokemon.PokemonType.ROCK, 2.0f);
-            put(Pokemon.PokemonType.DRAGON, 0.5f);
-            put(Pokemon.PokemonType.STEEL, 0.5f);
-        }});
-        initTypeEffectiveness(Pokemon.PokemonType.ICE, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIRE, 0.5f);
-            put(Pokemon.PokemonType.WATER, 0.5f);
-            put(Pokemon.PokemonType.GRASS, 2.0f);
-            put(Pokemon.PokemonType.ICE, 0.5f);
-            put(Pokemon.PokemonType.GROUND, 2.0f);
-            put(Pokemon.PokemonType.FLYING, 2.0f);
-            put(Pokemon.PokemonType.DRAGON, 2.0f);
-            put(Pokemon.PokemonType.STEEL, 0.5f);
-        }});
-        initTypeEffectiveness(Pokemon.PokemonType.FIGHTING, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.NORMAL, 2.0f);
-            put(Pokemon.PokemonType.ICE, 2.0f);
-            put(Pokemon.PokemonType.POISON, 0.5f);
-            put(Pokemon.PokemonType.FLYING, 0.5f);
-            put(Pokemon.PokemonType.PSYCHIC, 0.5f);
-            put(Pokemon.PokemonType.BUG, 0.5f);
-            put(Pokemon.PokemonType.ROCK, 2.0f);
-            put(Pokemon.PokemonType.GHOST, 0.0f);
-            put(Pokemon.PokemonType.DARK, 2.0f);
-            put(Pokemon.PokemonType.STEEL, 2.0f);
-            put(Pokemon.PokemonType.FAIRY, 0.5f);
-        }});
-        initTypeEffectiveness(Pokemon.PokemonType.POISON, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.GRASS, 2.0f);
-            put(Pokemon.PokemonType.POISON, 0.5f);
-            put(Pokemon.PokemonType.GROUND, 0.5f);
-            put(Pokemon.PokemonType.ROCK, 0.5f);
-            put(Pokemon.PokemonType.GHOST, 0.5f);
-            put(Pokemon.PokemonType.STEEL, 0.0f);
-            put(Pokemon.PokemonType.FAIRY, 2.0f);
-        }});
-        initTypeEffectiveness(Pokemon.PokemonType.GROUND, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIRE, 2.0f);
-            put(Pokemon.PokemonType.ELECTRIC, 2.0f);
-            put(Pokemon.PokemonType.GRASS, 0.5f);
-            put(Pokemon.PokemonType.POISON, 2.0f);
-            put(Pokemon.PokemonType.FLYING, 0.0f);
-            put(Pokemon.PokemonType.BUG, 0.5f);
-            put(Pokemon.PokemonType.ROCK, 2.0f);
-            put(Pokemon.PokemonType.STEEL, 2.0f);
-        }});
-        initTypeEffectiveness(Pokemon.PokemonType.FLYING, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.ELECTRIC, 0.5f);
-            put(Pokemon.PokemonType.GRASS, 2.0f);
-            put(Pokemon.PokemonType.FIGHTING, 2.0f);
-            put(Pokemon.PokemonType.BUG, 2.0f);
-            put(Pokemon.PokemonType.ROCK, 0.5f);
-            put(Pokemon.PokemonType.STEEL, 0.5f);
-        }});
-        initTypeEffectiveness(Pokemon.PokemonType.PSYCHIC, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIGHTING, 2.0f);
-            put(Pokemon.PokemonType.POISON, 2.0f);
-            put(Pokemon.PokemonType.PSYCHIC, 0.5f);
-            put(Pokemon.PokemonType.DARK, 0.0f);
-            put(Pokemon.PokemonType.STEEL, 0.5f);
-        }});
-        initTypeEffectiveness(Pokemon.PokemonType.BUG, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIRE, 0.5f);
-            put(Pokemon.PokemonType.GRASS, 2.0f);
-            put(Pokemon.PokemonType.FIGHTING, 0.5f);
-            put(Pokemon.PokemonType.POISON, 0.5f);
-            put(Pokemon.PokemonType.FLYING, 0.5f);
-            put(Pokemon.PokemonType.PSYCHIC, 2.0f);
-            put(Pokemon.PokemonType.GHOST, 0.5f);
-            put(Pokemon.PokemonType.DARK, 2.0f);
-            put(Pokemon.PokemonType.STEEL, 0.5f);
-            put(Pokemon.PokemonType.FAIRY, 0.5f);
-        }});
-        initTypeEffectiveness(Pokemon.PokemonType.ROCK, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIRE, 2.0f);
-            put(Pokemon.PokemonType.ICE, 2.0f);
-            put(Pokemon.PokemonType.FIGHTING, 0.5f);
-            put(Pokemon.PokemonType.GROUND, 0.5f);
-            put(Pokemon.PokemonType.FLYING, 2.0f);
-            put(Pokemon.PokemonType.BUG, 2.0f);
-            put(Pokemon.PokemonType.STEEL, 0.5f);
-        }});
-        initTypeEffectiveness(Pokemon.PokemonType.GHOST, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.NORMAL, 0.0f);
-            put(Pokemon.PokemonType.PSYCHIC, 2.0f);
-            put(Pokemon.PokemonType.GHOST, 2.0f);
-            put(Pokemon.PokemonType.DARK, 0.5f);
-        }});
-        initTypeEffectiveness(Pokemon.PokemonType.DRAGON, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.DRAGON, 2.0f);
-            put(Pokemon.PokemonType.STEEL, 0.5f);
-            put(Pokemon.PokemonType.FAIRY, 0.0f);
-        }});
-        initTypeEffectiveness(Pokemon.PokemonType.DARK, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIGHTING, 0.5f);
-            put(Pokemon.PokemonType.PSYCHIC, 2.0f);
-            put(Pokemon.PokemonType.GHOST, 2.0f);
-            put(Pokemon.PokemonType.DARK, 0.5f);
-            put(Pokemon.PokemonType.FAIRY, 0.5f);
-        }});
-        initTypeEffectiveness(Pokemon.PokemonType.STEEL, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIRE, 0.5f);
-            put(Pokemon.PokemonType.WATER, 0.5f);
-            put(Pokemon.PokemonType.ELECTRIC, 0.5f);
-            put(Pokemon.PokemonType.ICE, 2.0f);
-            put(Pokemon.PokemonType.ROCK, 2.0f);
-            put(Pokemon.PokemonType.STEEL, 0.5f);
-            put(Pokemon.PokemonType.FAIRY, 2.0f);
-        }});
-        initTypeEffectiveness(Pokemon.PokemonType.FAIRY, new ObjectMap<Pokemon.PokemonType, Float>() {{
-            put(Pokemon.PokemonType.FIRE, 0.5f);
-            put(Pokemon.PokemonType.FIGHTING, 2.0f);
-            put(Pokemon.PokemonType.POISON, 0.5f);
-            put(Pokemon.PokemonType.DRAGON, 2.0f);
-            put(Pokemon.PokemonType.DARK, 2.0f);
-            put(Pokemon.PokemonType.STEEL, 0.5f);
-        }});
-    }
-
-    private static void initTypeEffectiveness(Pokemon.PokemonType attackType,
-                                              ObjectMap<Pokemon.PokemonType, Float> effectiveness) {
-        typeEffectiveness.get(attackType).putAll(effectiveness);
-    }
-
     private static ProgressBar.ProgressBarStyle createHPBarStyle(float percentage) {
         ProgressBar.ProgressBarStyle style = new ProgressBar.ProgressBarStyle();
         Pixmap bgPixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
@@ -829,6 +660,10 @@ public class BattleTable extends Table {
 
             int oldHp = pokemon.getCurrentHp();
             pokemon.heal(Math.min(healAmount, pokemon.getStats().getHp() - oldHp));
+            if (pokemon == playerPokemon) {
+                battle = battle.with(io.github.pokemeetup.system.battle.BattleState.PLAYER,
+                    battle.getPlayer().withHp(pokemon.getCurrentHp()));
+            }
             updateHPBars();
 
             queueMessage(pokemon.getName() + " recovered HP!");
@@ -947,24 +782,6 @@ public class BattleTable extends Table {
         enemyPlatform.setScaling(Scaling.none);
     }
 
-    private float computeExpectedDamage(Move move, Pokemon attacker, Pokemon defender) {
-        int level = attacker.getLevel();
-        float attackStat = move.isSpecial() ? attacker.getStats().getSpecialAttack() : attacker.getStats().getAttack();
-        float defenseStat = move.isSpecial() ? defender.getStats().getSpecialDefense() : defender.getStats().getDefense();
-
-        float baseDamage = (((2 * level) / 5f + 2) * move.getPower() * attackStat / defenseStat) / 50f + 2;
-
-        float stab = (attacker.getPrimaryType() == move.getType() ||
-            attacker.getSecondaryType() == move.getType()) ? 1.5f : 1.0f;
-
-        float typeMultiplier = getTypeEffectiveness(move.getType(), defender.getPrimaryType());
-        if (defender.getSecondaryType() != null) {
-            typeMultiplier *= getTypeEffectiveness(move.getType(), defender.getSecondaryType());
-        }
-
-        return baseDamage * stab * typeMultiplier;
-    }
-
     private void initializePokemonSprites() {
         TextureRegion playerTexture = playerPokemon.getBackSprite();
         TextureRegion enemyTexture = enemyPokemon.getFrontSprite();
@@ -1173,159 +990,183 @@ public class BattleTable extends Table {
     }
 
     private void executeEnemyMove() {
-        if (isAnimating || enemyPokemon.getCurrentHp() <= 0) return;
-
-        Move selectedMove = null;
-        float highestExpectedDamage = 0f;
-
-        for (Move move : enemyPokemon.getMoves()) {
-            if (move.getPp() <= 0) continue;
-
-            float expectedDamage = computeExpectedDamage(move, enemyPokemon, playerPokemon);
-            if (expectedDamage > highestExpectedDamage) {
-                highestExpectedDamage = expectedDamage;
-                selectedMove = move;
-            }
-        }
-
-        if (selectedMove == null) {
-            executeStruggle(enemyPokemon, playerPokemon);
-            return;
-        }
-
-        executeMove(selectedMove, enemyPokemon, playerPokemon, false);
-    }
-
-    private void executeStruggle(Pokemon attacker, Pokemon defender) {
-        float damage = attacker.getStats().getAttack() * 0.5f;
-        float recoil = damage * 0.25f;
-        applyDamage(defender, damage);
-        applyDamage(attacker, recoil);
-        queueMessage(attacker.getName() + " used Struggle!");
-        finishMoveExecution(false);
+        if (isAnimating || battle.isOver()) return;
+        playTurn(BattleEngine.PASS);
     }
 
-    private float getTypeEffectiveness(Pokemon.PokemonType attackType, Pokemon.PokemonType defendType) {
-        if (attackType == null || defendType == null) {
-            GameLogger.error("Null type encountered in getTypeEffectiveness: attackType=" + attackType + ", defendType=" + defendType);
-            return 1.0f;
-        }
-        ObjectMap<Pokemon.PokemonType, Float> effectivenessMap = typeEffectiveness.get(attackType);
-        if (effectivenessMap == null) return 1.0f;
-        return effectivenessMap.get(defendType, 1.0f);
-    }
-    private void executeMove(Move move, Pokemon attacker, Pokemon defender, boolean isPlayerMove) {
-        if (isAnimating) return;
+    /**
+     * Resolves a turn in the battle engine, then plays its events back one after another.
+     */
+    private void playTurn(int playerAction) {
         isAnimating = true;
+        showActionMenu(false);
         setBattleInterfaceEnabled(false);
-        if (isPlayerMove) playerActionTaken = true;
 
-        move.setPp(move.getPp() - 1);
+        Array<BattleEvent> events = new Array<>();
+        int enemyAction = BattleEngine.chooseMove(battle.getEnemy(), battle.getPlayer());
+        battle = BattleEngine.resolveTurn(battle, playerAction, enemyAction, random, events);
 
-        if (!attacker.canAttack()) {
-            queueMessage("", 0.5f, () -> finishMoveExecution(isPlayerMove));
-            return;
+        SequenceAction turnSequence = Actions.sequence();
+        for (BattleEvent event : events) {
+            turnSequence.addAction(Actions.run(() -> showEvent(event)));
+            turnSequence.addAction(Actions.delay(getEventDuration(event)));
         }
-
-        SequenceAction moveSequence = Actions.sequence();
-        final float[] damageHolder = {0f}; // Use an array to make it effectively final for the lambda
-
-        moveSequence.addAction(Actions.run(() -> queueMessage(attacker.getName() + " used " + move.getName() + "!")));
-        moveSequence.addAction(Actions.delay(1.0f));
-
-        moveSequence.addAction(Actions.run(() -> {
-            if (MathUtils.random() * 100 >= move.getAccuracy()) {
-                queueMessage("The attack missed!", 1.0f, () -> finishMoveExecution(isPlayerMove));
-                moveSequence.getActions().clear();
-            }
-        }));
-
-        moveSequence.addAction(Actions.run(() -> {
-            damageHolder[0] = calculateDamage(move, attacker, defender);
-            if (damageHolder[0] > 0) {
-                applyDamage(defender, damageHolder[0]);
-                float effectiveness = calculateTypeEffectiveness(move, defender);
-                String effectivenessMessage = getEffectivenessMessage(effectiveness);
-                if (!effectivenessMessage.isEmpty()) {
-                    queueMessage(effectivenessMessage);
-                }
-            }
-        }));
-        moveSequence.addAction(Actions.delay(1.0f));
-
-        moveSequence.addAction(Actions.run(() -> {
-            if (checkFaintConditions()) {
-                moveSequence.getActions().clear();
-            }
-        }));
-
-        moveSequence.addAction(Actions.run(() -> {
-            applyMoveEffect(move.getEffect(), attacker, defender, damageHolder[0]);
-        }));
-        moveSequence.addAction(Actions.delay(1.0f));
-
-        moveSequence.addAction(Actions.run(() -> finishMoveExecution(isPlayerMove)));
-
-        addAction(moveSequence);
+        turnSequence.addAction(Actions.run(this::finishTurn));
+        addAction(turnSequence);
     }
 
-
-    private void applyMoveEffect(Move.MoveEffect effect, Pokemon attacker, Pokemon target, float damageDealt) {
-        if (effect == null) return;
-        Pokemon.Status statusToApply = effect.getStatusEffect();
-        if (statusToApply != null && statusToApply != Pokemon.Status.NONE) {
-            Pokemon.Status previousStatus = target.getStatus();
-            target.setStatus(statusToApply);
-
-            if (target.getStatus() != previousStatus) {
-                queueMessage(target.getName() + " became " + statusToApply.name().toLowerCase() + "!");
-
-                switch (statusToApply) {
+    private void showEvent(BattleEvent event) {
+        Pokemon pokemon = event.side == io.github.pokemeetup.system.battle.BattleState.PLAYER ? playerPokemon : enemyPokemon;
+        Pokemon opponent = pokemon == playerPokemon ? enemyPokemon : playerPokemon;
+        String name = pokemon.getName();
+        switch (event.type) {
+            case MOVE_USED:
+                displayMessage(name + " used " + event.move.getName() + "!");
+                if (callback != null) {
+                    callback.onMoveUsed(pokemon, event.move, opponent);
+                }
+                break;
+            case STRUGGLE:
+                displayMessage(name + " used Struggle!");
+                break;
+            case MISSED:
+                displayMessage("The attack missed!");
+                break;
+            case CRITICAL_HIT:
+                displayMessage("A critical hit!");
+                break;
+            case DAMAGE:
+            case RECOIL:
+                showHpChange(pokemon, event.hp, true);
+                break;
+            case EFFECTIVENESS:
+                displayMessage(getEffectivenessMessage(event.multiplier, pokemon));
+                break;
+            case HEALED:
+                showHpChange(pokemon, event.hp, false);
+                displayMessage(name + "'s health was restored!");
+                break;
+            case STATUS_APPLIED:
+                pokemon.restoreStatus(event.status);
+                displayMessage(name + " became " + event.status.name().toLowerCase() + "!");
+                switch (event.status) {
                     case PARALYZED: case BURNED: case FROZEN: case POISONED: case BADLY_POISONED:
                         AudioManager.getInstance().playSound(AudioManager.SoundEffect.DAMAGE);
                         break;
-                    case ASLEEP:
+                    default:
                         break;
                 }
-
-                GameLogger.info(target.getName() + " afflicted with " + statusToApply);
-                updateStatusIcon(target, target == playerPokemon ? playerStatusIcon : enemyStatusIcon);
-
                 if (callback != null) {
-                    callback.onStatusChange(target, statusToApply);
+                    callback.onStatusChange(pokemon, event.status);
                 }
-            } else {
-                queueMessage("But it failed!");
-            }
-        }
-        Map<String, Integer> statChanges = effect.getStatModifiers();
-        if (statChanges != null && !statChanges.isEmpty()) {
-            Pokemon effectTarget = target;
-            for (Map.Entry<String, Integer> entry : statChanges.entrySet()) {
-                String statName = entry.getKey();
-                int change = entry.getValue();
-                if (effectTarget.modifyStatStage(statName, change)) {
-                    queueMessage(effectTarget.getName() + "'s " + formatStatName(statName) + (change > 0 ? " rose!" : " fell!"));
-                    AudioManager.getInstance().playSound(AudioManager.SoundEffect.CURSOR_MOVE);
+                break;
+            case STATUS_FAILED:
+                displayMessage("But it failed!");
+                break;
+            case STATUS_DAMAGE:
+                if (event.status == Pokemon.Status.BURNED) {
+                    displayMessage(name + " was hurt by its burn!");
+                } else if (event.status == Pokemon.Status.BADLY_POISONED) {
+                    displayMessage(name + " was badly hurt by poison!");
                 } else {
-                    queueMessage(effectTarget.getName() + "'s " + formatStatName(statName) + " won't go " + (change > 0 ? "higher!" : "lower!"));
+                    displayMessage(name + " was hurt by poison!");
                 }
-            }
+                showHpChange(pokemon, event.hp, true);
+                break;
+            case CANT_MOVE:
+                if (event.status == Pokemon.Status.ASLEEP) {
+                    displayMessage(name + " is fast asleep.");
+                } else if (event.status == Pokemon.Status.FROZEN) {
+                    displayMessage(name + " is frozen solid!");
+                } else if (event.status == Pokemon.Status.PARALYZED) {
+                    displayMessage(name + " is fully paralyzed!");
+                } else {
+                    displayMessage(name + " flinched!");
+                }
+                break;
+            case STATUS_CURED:
+                pokemon.restoreStatus(Pokemon.Status.NONE);
+                displayMessage(name + (event.status == Pokemon.Status.ASLEEP ? " woke up!" : " thawed out!"));
+                break;
+            case CONFUSED:
+                displayMessage(name + " is confused!");
+                break;
+            case CONFUSION_ENDED:
+                displayMessage(name + " snapped out of its confusion!");
+                break;
+            case CONFUSION_DAMAGE:
+                displayMessage("It hurt itself in its confusion!");
+                showHpChange(pokemon, event.hp, true);
+                break;
+            case STAT_CHANGED:
+                displayMessage(name + "'s " + formatStatName(event.stat) + (event.amount > 0 ? " rose!" : " fell!"));
+                AudioManager.getInstance().playSound(AudioManager.SoundEffect.CURSOR_MOVE);
+                break;
+            case STAT_UNCHANGED:
+                displayMessage(name + "'s " + formatStatName(event.stat) + " won't go " + (event.amount > 0 ? "higher!" : "lower!"));
+                break;
+            case ESCAPED:
+                displayMessage("Got away safely!");
+                break;
+            case ESCAPE_FAILED:
+                displayMessage("Can't escape!");
+                break;
+            case FAINTED:
+                // Shown by handleEnemyFaint / handlePlayerFaint once the turn has played out.
+                break;
         }
-        if (effect.getEffectType() != null && effect.getEffectType().equalsIgnoreCase("DRAIN")) {
-            int healAmount = Math.max(1, (int)(damageDealt * 0.5f)); // Heal 50% of damage, at least 1 HP
-            float oldHp = attacker.getCurrentHp();
-            attacker.restoreHealth(healAmount); // Use restoreHealth to avoid side effects
-            float newHp = attacker.getCurrentHp();
-
-            if (newHp > oldHp) {
-                queueMessage(attacker.getName() + "'s health was restored!");
-                ProgressBar attackerBar = (attacker == playerPokemon) ? playerHPBar : enemyHPBar;
-                animateHPChange(attackerBar, oldHp, newHp, attacker.getStats().getHp());
-            }
+    }
+
+    private float getEventDuration(BattleEvent event) {
+        switch (event.type) {
+            case FAINTED:
+                return 0f;
+            case DAMAGE:
+            case RECOIL:
+                return POST_DAMAGE_DELAY;
+            case CRITICAL_HIT:
+                return MOVE_EXECUTION_DELAY;
+            default:
+                return POST_EFFECT_DELAY;
         }
     }
 
+    /**
+     * Writes the resolved turn back to the Pokemon and moves on: to the next choice, a faint, or
+     * the end of the battle.
+     */
+    private void finishTurn() {
+        battle.getPlayer().applyTo(playerPokemon);
+        battle.getEnemy().applyTo(enemyPokemon);
+        isAnimating = false;
+
+        if (battle.isEscaped()) {
+            isAnimating = true;
+            addAction(Actions.sequence(
+                Actions.delay(1.0f),
+                Actions.run(() -> {
+                    if (callback != null) {
+                        callback.onBattleEnd(BattleOutcome.ESCAPE);
+                    }
+                })
+            ));
+            return;
+        }
+        if (battle.getEnemy().isFainted()) {
+            handleEnemyFaint();
+            return;
+        }
+        if (battle.getPlayer().isFainted()) {
+            handlePlayerFaint();
+            return;
+        }
+        if (callback != null) {
+            callback.onTurnEnd(playerPokemon);
+        }
+        transitionToState(BattleState.PLAYER_CHOICE);
+        turnCount++;
+    }
+
     private String formatStatName(String statKey) {
         switch (statKey.toLowerCase()) {
             case "attack": return "Attack";
@@ -1339,31 +1180,6 @@ public class BattleTable extends Table {
         }
     }
 
-    private void finishMoveExecution(boolean isPlayerMove) {
-        isAnimating = false;
-
-        if (checkFaintConditions()) {
-            return;
-        }
-
-        if (!isPlayerMove) {
-            applyEndOfTurnEffectsForTurn();
-            if (checkFaintConditions()) {
-                return;
-            }
-        }
-
-        if (isPlayerMove) {
-            transitionToState(BattleState.ENEMY_TURN);
-        } else {
-            if (callback != null) {
-                callback.onTurnEnd(playerPokemon);
-            }
-            transitionToState(BattleState.PLAYER_CHOICE);
-            turnCount++;
-        }
-    }
-
     private void handleFightButton() {
         if (currentState != BattleState.PLAYER_CHOICE) return;
         transitionToState(BattleState.PLAYER_MOVE_SELECT);
@@ -1390,6 +1206,7 @@ public class BattleTable extends Table {
             return;
         }
 
+        boolean forced = currentState == BattleState.FORCED_SWITCH;
         isAnimating = true;
         setBattleInterfaceEnabled(false);
         transitionToState(BattleState.PLAYER_SWITCHING);
@@ -1406,6 +1223,7 @@ public class BattleTable extends Table {
         switchSequence.addAction(Actions.run(() -> {
             Pokemon oldPokemon = playerPokemon;
             playerPokemon = newPokemon;
+            battle = battle.with(io.github.pokemeetup.system.battle.BattleState.PLAYER, Combatant.of(newPokemon));
             updatePlayerPokemonDisplay();
             playerPokemonImage.setScale(0.1f);
             playerPokemonImage.getColor().a = 1f;
@@ -1425,60 +1243,14 @@ public class BattleTable extends Table {
         switchSequence.addAction(Actions.run(() -> {
             isAnimating = false;
             playerActionTaken = true;
-            applyEndOfTurnEffectsForTurn();
-            if (checkFaintConditions()) return;
-            transitionToState(BattleState.ENEMY_TURN);
+            // Sending out a replacement for a fainted Pokemon does not cost a turn.
+            transitionToState(forced ? BattleState.PLAYER_CHOICE : BattleState.ENEMY_TURN);
         }));
 
         this.addAction(switchSequence);
     }
 
-    private boolean checkFaintConditions() {
-        if (enemyPokemon.getCurrentHp() <= 0) {
-            handleEnemyFaint();
-            return true;
-        }
-        if (playerPokemon.getCurrentHp() <= 0) {
-            handlePlayerFaint();
-            return true;
-        }
-        return false;
-    }
-
-    private float calculateDamage(Move move, Pokemon attacker, Pokemon defender) {
-        if (move.getPower() <= 0) return 0;
-
-        int level = attacker.getLevel();
-        float attackStat = move.isSpecial() ? attacker.getStats().getSpecialAttack() : attacker.getStats().getAttack();
-        float defenseStat = move.isSpecial() ? defender.getStats().getSpecialDefense() : defender.getStats().getDefense();
-        if (attacker.getStatus() == Pokemon.Status.BURNED && !move.isSpecial()) {
-            attackStat *= 0.5f;
-        }
-
-        float baseDamage = (((2 * level) / 5f + 2) * move.getPower() * attackStat / defenseStat) / 50f + 2;
-        float stab = (attacker.getPrimaryType() == move.getType() || attacker.getSecondaryType() == move.getType()) ? 1.5f : 1.0f;
-        float typeMultiplier = calculateTypeEffectiveness(move, defender);
-        boolean isCritical = MathUtils.random() < 0.0625f;
-        if (isCritical) {
-            queueMessage("A critical hit!");
-            baseDamage *= 1.5f;
-        }
-        float randomModifier = MathUtils.random(0.85f, 1.0f);
-
-        return baseDamage * stab * typeMultiplier * randomModifier;
-    }
-
-    private float calculateTypeEffectiveness(Move move, Pokemon defender) {
-        if (move.getType() == null || defender.getPrimaryType() == null) return 1.0f;
-
-        float effectiveness = getTypeEffectiveness(move.getType(), defender.getPrimaryType());
-        if (defender.getSecondaryType() != null) {
-            effectiveness *= getTypeEffectiveness(move.getType(), defender.getSecondaryType());
-        }
-        return effectiveness;
-    }
-
-    private String getEffectivenessMessage(float multiplier) {
+    private String getEffectivenessMessage(float multiplier, Pokemon target) {
         if (multiplier >= 2.0f) {
             AudioManager.getInstance().playSound(AudioManager.SoundEffect.SUPER_EFFECTIVE);
             return "It's super effective!";
@@ -1486,7 +1258,7 @@ public class BattleTable extends Table {
             AudioManager.getInstance().playSound(AudioManager.SoundEffect.NOT_EFFECTIVE);
             return "It's not very effective...";
         } else if (multiplier == 0f) {
-            return "It doesn't affect " + enemyPokemon.getName() + "...";
+            return "It doesn't affect " + target.getName() + "...";
         }
         return "";
     }
@@ -1534,18 +1306,19 @@ public class BattleTable extends Table {
         updateActionMenuPosition();
     }
 
-    public void applyDamage(Pokemon target, float damage) {
-        Image targetSprite = (target == playerPokemon) ? playerPokemonImage : enemyPokemonImage;
-        targetSprite.addAction(Actions.sequence(
-            Actions.color(Color.RED, 0.1f),
-            Actions.color(Color.WHITE, 0.1f)
-        ));
+    private void showHpChange(Pokemon target, int hp, boolean flash) {
+        if (flash) {
+            Image targetSprite = (target == playerPokemon) ? playerPokemonImage : enemyPokemonImage;
+            targetSprite.addAction(Actions.sequence(
+                Actions.color(Color.RED, DAMAGE_FLASH_DURATION),
+                Actions.color(Color.WHITE, DAMAGE_FLASH_DURATION)
+            ));
+        }
 
         float oldHP = target.getCurrentHp();
-        float newHP = Math.max(0, oldHP - damage);
-        target.setCurrentHp(newHP);
+        target.setCurrentHp(hp);
         ProgressBar targetBar = (target == playerPokemon) ? playerHPBar : enemyHPBar;
-        animateHPChange(targetBar, oldHP, newHP, target.getStats().getHp());
+        animateHPChange(targetBar, oldHP, hp, target.getStats().getHp());
     }
 
     private void animateHPChange(ProgressBar bar, float fromValue, float toValue, float maxValue) {
@@ -1565,40 +1338,6 @@ public class BattleTable extends Table {
     }
 
 
-    private void applyEndOfTurnEffectsForTurn() {
-        Pokemon.Status oldPlayerStatus = playerPokemon.getStatus();
-        Pokemon.Status oldEnemyStatus = enemyPokemon.getStatus();
-
-        playerPokemon.applyEndOfTurnEffects();
-        enemyPokemon.applyEndOfTurnEffects();
-        if (leechSeedTargets.containsKey(playerPokemon)) {
-            int damage = playerPokemon.getStats().getHp() / 8;
-            playerPokemon.setCurrentHp(Math.max(0, playerPokemon.getCurrentHp() - damage));
-            enemyPokemon.heal(damage);
-            queueMessage(playerPokemon.getName() + "'s health is sapped by Leech Seed!");
-            updateHPBars();
-        }
-
-        if (leechSeedTargets.containsKey(enemyPokemon)) {
-            int damage = enemyPokemon.getStats().getHp() / 8;
-            enemyPokemon.setCurrentHp(Math.max(0, enemyPokemon.getCurrentHp() - damage));
-            playerPokemon.heal(damage);
-            queueMessage(enemyPokemon.getName() + "'s health is sapped by Leech Seed!");
-            updateHPBars();
-        }
-
-        if (oldPlayerStatus != playerPokemon.getStatus() && callback != null) {
-            callback.onStatusChange(playerPokemon, playerPokemon.getStatus());
-        }
-
-        if (oldEnemyStatus != enemyPokemon.getStatus() && callback != null) {
-            callback.onStatusChange(enemyPokemon, enemyPokemon.getStatus());
-        }
-
-        updateHPBars();
-        updateInfoLabels();
-    }
-
     private void showForcedSwitchPartyScreen() {
         PokemonPartyWindow partyScreen = new PokemonPartyWindow(
             skin,
@@ -1707,7 +1446,8 @@ public class BattleTable extends Table {
                     }
                     moveSelectionActive = false;
                     moveSelectionTable.remove();
-                    executeMove(move, playerPokemon, enemyPokemon, true);
+                    playerActionTaken = true;
+                    playTurn(moves.indexOf(move));
                 }
             });
 
@@ -1752,24 +1492,7 @@ public class BattleTable extends Table {
 
     private void attemptRun() {
         if (isAnimating) return;
-
-        float runChance = 0.8f;
-        if (MathUtils.random() < runChance) {
-            queueMessage("Got away safely!");
-            SequenceAction escapeSequence = Actions.sequence(
-                Actions.delay(1.0f),
-                Actions.run(() -> {
-                    if (callback != null) {
-                        callback.onBattleEnd(BattleOutcome.ESCAPE);
-                    }
-                })
-            );
-            addAction(escapeSequence);
-            isAnimating = true;
-        } else {
-            queueMessage("Can't escape!");
-            transitionToState(BattleState.ENEMY_TURN);
-        }
+        playTurn(BattleEngine.RUN);
     }
 
     public void attemptCapture(WildPokemon wildPokemon, float captureChance) {
@@ -1825,7 +1548,6 @@ public class BattleTable extends Table {
         if (enemyPokemonImage != null) enemyPokemonImage.clear();
         clearActions();
         messageQueue.clear();
-        leechSeedTargets.clear();
     }
 
     private int calculateExperienceGain(WildPokemon defeatedPokemon) {
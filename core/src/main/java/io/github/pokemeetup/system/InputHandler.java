@@ -23,6 +23,7 @@ import io.github.pokemeetup.system.gameplay.inventory.ChestInteractionHandler;
 import io.github.pokemeetup.system.gameplay.inventory.Inventory;
 import io.github.pokemeetup.system.gameplay.inventory.ItemManager;
 import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.system.gameplay.overworld.WorldObject;
 import io.github.pokemeetup.system.keybinds.KeyBinds;
@@ -501,14 +502,9 @@ public class InputHandler extends InputAdapter {
 
         GameLogger.info("Flipping block " + block.getType().id + " at " + targetX + "," + targetY);
         block.toggleFlip();
-        Vector2 chunkPos = new Vector2(
-            Math.floorDiv(targetX, World.CHUNK_SIZE),
-            Math.floorDiv(targetY, World.CHUNK_SIZE)
-        );
-        Chunk chunk = GameContext.get().getWorld().getChunks().get(chunkPos);
+        Chunk chunk = GameContext.get().getWorld().getChunks().get(ChunkPos.packTile(targetX, targetY));
         if (chunk != null) {
-            chunk.getBlocks().put(new Vector2(targetX, targetY), block);
-            GameContext.get().getWorld().saveChunkData(chunkPos, chunk);
+            GameContext.get().getWorld().saveChunkData(new Vector2(chunk.getChunkX(), chunk.getChunkY()), chunk);
             AudioManager.getInstance().playSound(AudioManager.SoundEffect.BLOCK_PLACE_0);
         } else {
             GameLogger.error("Failed to find chunk for saving flipped block");
@@ -673,11 +669,11 @@ public class InputHandler extends InputAdapter {
         float treeCenterY = treeBox.y + treeBox.height / 2f;
         float distance = Vector2.dst(playerCenterX, playerCenterY, treeCenterX, treeCenterY);
         float maxRange = World.TILE_SIZE * 2.5f;
-        Vector2 chunkPos = new Vector2(
+        long chunkKey = ChunkPos.pack(
             (int) Math.floor(obj.getPixelX() / (World.CHUNK_SIZE * World.TILE_SIZE)),
             (int) Math.floor(obj.getPixelY() / (World.CHUNK_SIZE * World.TILE_SIZE))
         );
-        return GameContext.get().getPlayer().getWorld().getChunks().containsKey(chunkPos) && distance <= maxRange;
+        return GameContext.get().getPlayer().getWorld().getChunks().containsKey(chunkKey) && distance <= maxRange;
     }
 
     private boolean isChoppable(WorldObject obj) {
@@ -0,0 +1,427 @@
+package io.github.pokemeetup.system.battle;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.pokemeetup.pokemon.Pokemon;
+import io.github.pokemeetup.pokemon.attacks.Move;
+
+import java.util.Map;
+
+/**
+ * Battle rules: damage, accuracy, move effects, status conditions and turn order.
+ * <p>
+ * Pure Java with no libGDX graphics or game context, so battles can be resolved on the server or
+ * simulated in bulk. A turn takes a {@link BattleState} and both sides' actions and returns the
+ * next state; all randomness comes from the given {@link BattleRandom}, so a seed and a list of
+ * actions replay a battle exactly. What happened is reported as {@link BattleEvent}s for the
+ * battle screen to show; pass a null list when nobody is watching.
+ */
+public final class BattleEngine {
+    /** Action for a side that does nothing this turn, e.g. because it switched or used an item. */
+    public static final int PASS = -1;
+    /** Player action: try to run from a wild battle. */
+    public static final int RUN = -2;
+    /** Action for a side with no PP left. */
+    public static final int STRUGGLE = -3;
+
+    private static final float CRITICAL_CHANCE = 0.0625f;
+    private static final float CRITICAL_MULTIPLIER = 1.5f;
+    private static final float STAB_MULTIPLIER = 1.5f;
+    private static final float MIN_DAMAGE_ROLL = 0.85f;
+    private static final float ESCAPE_CHANCE = 0.8f;
+    private static final float THAW_CHANCE = 0.2f;
+    private static final float FULL_PARALYSIS_CHANCE = 0.25f;
+    private static final float CONFUSION_HIT_CHANCE = 0.33f;
+    private static final int CONFUSION_POWER = 40;
+    private static final float FLINCH_CHANCE = 0.3f;
+    private static final float DRAIN_RATIO = 0.5f;
+    private static final float STRUGGLE_RECOIL = 0.25f;
+    private static final int MAX_TOXIC_COUNTER = 15;
+
+    private BattleEngine() {
+    }
+
+    /**
+     * Resolves one turn: escape attempt, both actions in speed order, then poison and burn damage.
+     * Stops early once a Pokemon faints. A battle that is already over is returned unchanged.
+     *
+     * @param playerAction a move index, {@link #PASS}, {@link #RUN} or {@link #STRUGGLE}
+     * @param enemyAction  a move index, {@link #PASS} or {@link #STRUGGLE}, usually from
+     *                     {@link #chooseMove}
+     * @param events       receives what happened, or null
+     */
+    public static BattleState resolveTurn(BattleState state, int playerAction, int enemyAction,
+                                          BattleRandom random, Array<BattleEvent> events) {
+        if (state.isOver()) {
+            return state;
+        }
+        Turn turn = new Turn(state, random, events);
+        turn.resolve(playerAction, enemyAction);
+        return turn.state.nextTurn();
+    }
+
+    /**
+     * Picks the move with the highest expected damage, as wild Pokemon do.
+     *
+     * @return a move index, or {@link #STRUGGLE} if no move has PP left
+     */
+    public static int chooseMove(Combatant attacker, Combatant defender) {
+        int best = STRUGGLE;
+        float bestDamage = 0f;
+        for (int i = 0; i < attacker.getMoveCount(); i++) {
+            if (attacker.getPp(i) <= 0) continue;
+            float damage = expectedDamage(attacker.getMove(i), attacker, defender);
+            if (damage > bestDamage) {
+                bestDamage = damage;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Damage without critical hits or the random roll.
+     */
+    public static float expectedDamage(Move move, Combatant attacker, Combatant defender) {
+        return baseDamage(attacker, defender, move.getPower(), move.isSpecial())
+            * stab(attacker, move.getType())
+            * typeMultiplier(move.getType(), defender);
+    }
+
+    public static float typeMultiplier(Pokemon.PokemonType moveType, Combatant defender) {
+        if (moveType == null || defender.getPrimaryType() == null) return 1.0f;
+        return TypeChart.get(moveType, defender.getPrimaryType(), defender.getSecondaryType());
+    }
+
+    /**
+     * Whether a status can be given to the Pokemon at all: it has none yet and is not immune by
+     * type (Poison and Steel to poison, Fire to burn, Electric to paralysis, Ice to freezing).
+     */
+    public static boolean canReceiveStatus(Combatant target, Pokemon.Status status) {
+        if (target.getStatus() != Pokemon.Status.NONE || target.isFainted()) {
+            return false;
+        }
+        switch (status) {
+            case POISONED:
+            case BADLY_POISONED:
+                return !target.hasType(Pokemon.PokemonType.POISON) && !target.hasType(Pokemon.PokemonType.STEEL);
+            case BURNED:
+                return !target.hasType(Pokemon.PokemonType.FIRE);
+            case PARALYZED:
+                return !target.hasType(Pokemon.PokemonType.ELECTRIC);
+            case FROZEN:
+                return !target.hasType(Pokemon.PokemonType.ICE);
+            case NONE:
+            case FAINTED:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private static float baseDamage(Combatant attacker, Combatant defender, int power, boolean special) {
+        float attack = attacker.getStat(special ? Combatant.SPECIAL_ATTACK : Combatant.ATTACK);
+        float defense = defender.getStat(special ? Combatant.SPECIAL_DEFENSE : Combatant.DEFENSE);
+        if (!special && attacker.getStatus() == Pokemon.Status.BURNED) {
+            attack *= 0.5f;
+        }
+        return (((2 * attacker.getLevel()) / 5f + 2) * power * attack / defense) / 50f + 2;
+    }
+
+    private static float stab(Combatant attacker, Pokemon.PokemonType moveType) {
+        return attacker.hasType(moveType) ? STAB_MULTIPLIER : 1.0f;
+    }
+
+    private static float speedOf(Combatant combatant) {
+        float speed = combatant.getStat(Combatant.SPEED);
+        return combatant.getStatus() == Pokemon.Status.PARALYZED ? speed * 0.5f : speed;
+    }
+
+    /**
+     * Working state of one turn being resolved.
+     */
+    private static final class Turn {
+        BattleState state;
+        final BattleRandom random;
+        final Array<BattleEvent> events;
+        // Sides that have not acted yet this turn; only those can still flinch.
+        final boolean[] waiting = new boolean[2];
+
+        Turn(BattleState state, BattleRandom random, Array<BattleEvent> events) {
+            this.state = state;
+            this.random = random;
+            this.events = events;
+        }
+
+        void resolve(int playerAction, int enemyAction) {
+            if (playerAction == RUN) {
+                if (random.chance(ESCAPE_CHANCE)) {
+                    emit(BattleEvent.Type.ESCAPED, BattleState.PLAYER);
+                    state = state.escape();
+                    return;
+                }
+                emit(BattleEvent.Type.ESCAPE_FAILED, BattleState.PLAYER);
+                playerAction = PASS;
+            }
+            if (enemyAction == RUN) {
+                enemyAction = PASS;
+            }
+
+            int first = actsFirst(playerAction, enemyAction);
+            int second = BattleState.opponent(first);
+            int firstAction = first == BattleState.PLAYER ? playerAction : enemyAction;
+            int secondAction = first == BattleState.PLAYER ? enemyAction : playerAction;
+            waiting[first] = firstAction != PASS;
+            waiting[second] = secondAction != PASS;
+
+            act(first, firstAction);
+            if (state.isOver()) return;
+            act(second, secondAction);
+            if (state.isOver()) return;
+            endOfTurn(first);
+            if (state.isOver()) return;
+            endOfTurn(second);
+        }
+
+        private int actsFirst(int playerAction, int enemyAction) {
+            if (playerAction == PASS) return BattleState.ENEMY;
+            if (enemyAction == PASS) return BattleState.PLAYER;
+            float playerSpeed = speedOf(state.getPlayer());
+            float enemySpeed = speedOf(state.getEnemy());
+            if (playerSpeed != enemySpeed) {
+                return playerSpeed > enemySpeed ? BattleState.PLAYER : BattleState.ENEMY;
+            }
+            return random.chance(0.5f) ? BattleState.PLAYER : BattleState.ENEMY;
+        }
+
+        private void act(int side, int action) {
+            waiting[side] = false;
+            Combatant attacker = state.get(side);
+            if (action == PASS || attacker.isFainted()) {
+                return;
+            }
+            boolean struggle = action < 0 || action >= attacker.getMoveCount() || attacker.getPp(action) <= 0;
+            if (!struggle) {
+                update(side, attacker.withPp(action, attacker.getPp(action) - 1));
+            }
+            if (!canAct(side)) {
+                return;
+            }
+            if (struggle) {
+                useStruggle(side);
+            } else {
+                useMove(side, state.get(side).getMove(action));
+            }
+        }
+
+        /**
+         * Flinching, sleep, freezing, paralysis and confusion, in that order.
+         */
+        private boolean canAct(int side) {
+            Combatant self = state.get(side);
+            if (self.isFlinched()) {
+                update(side, self.withFlinched(false));
+                emit(BattleEvent.Type.CANT_MOVE, side, null, null, null, 0, 0);
+                return false;
+            }
+            switch (self.getStatus()) {
+                case ASLEEP: {
+                    int turns = self.getStatusTurns() > 0 ? self.getStatusTurns() : random.range(1, 3);
+                    if (--turns <= 0) {
+                        update(side, self.withStatus(Pokemon.Status.NONE, 0));
+                        emit(BattleEvent.Type.STATUS_CURED, side, null, Pokemon.Status.ASLEEP, null, 0, 0);
+                        break;
+                    }
+                    update(side, self.withStatus(Pokemon.Status.ASLEEP, turns));
+                    emit(BattleEvent.Type.CANT_MOVE, side, null, Pokemon.Status.ASLEEP, null, 0, 0);
+                    return false;
+                }
+                case FROZEN:
+                    if (random.chance(THAW_CHANCE)) {
+                        update(side, self.withStatus(Pokemon.Status.NONE, 0));
+                        emit(BattleEvent.Type.STATUS_CURED, side, null, Pokemon.Status.FROZEN, null, 0, 0);
+                        break;
+                    }
+                    emit(BattleEvent.Type.CANT_MOVE, side, null, Pokemon.Status.FROZEN, null, 0, 0);
+                    return false;
+                case PARALYZED:
+                    if (random.chance(FULL_PARALYSIS_CHANCE)) {
+                        emit(BattleEvent.Type.CANT_MOVE, side, null, Pokemon.Status.PARALYZED, null, 0, 0);
+                        return false;
+                    }
+                    break;
+                default:
+                    break;
+            }
+
+            self = state.get(side);
+            if (self.getConfusionTurns() > 0) {
+                emit(BattleEvent.Type.CONFUSED, side);
+                int turns = self.getConfusionTurns() - 1;
+                update(side, self.withConfusion(turns));
+                if (turns == 0) {
+                    emit(BattleEvent.Type.CONFUSION_ENDED, side);
+                } else if (random.chance(CONFUSION_HIT_CHANCE)) {
+                    Combatant confused = state.get(side);
+                    float damage = baseDamage(confused, confused, CONFUSION_POWER, false)
+                        * random.range(MIN_DAMAGE_ROLL, 1f);
+                    hurt(side, BattleEvent.Type.CONFUSION_DAMAGE, Math.max(1, (int) damage), null);
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void useMove(int side, Move move) {
+            int targetSide = BattleState.opponent(side);
+            emit(BattleEvent.Type.MOVE_USED, side, move, null, null, 0, 0);
+
+            Combatant attacker = state.get(side);
+            Combatant target = state.get(targetSide);
+            float accuracy = move.getAccuracy()
+                * Combatant.stageMultiplier(Combatant.ACCURACY, attacker.getStage(Combatant.ACCURACY))
+                / Combatant.stageMultiplier(Combatant.EVASION, target.getStage(Combatant.EVASION));
+            if (random.nextFloat() * 100 >= accuracy) {
+                emit(BattleEvent.Type.MISSED, side);
+                return;
+            }
+
+            int damage = 0;
+            if (move.getPower() > 0) {
+                float multiplier = typeMultiplier(move.getType(), target);
+                if (multiplier > 0f) {
+                    float base = baseDamage(attacker, target, move.getPower(), move.isSpecial());
+                    if (random.chance(CRITICAL_CHANCE)) {
+                        emit(BattleEvent.Type.CRITICAL_HIT, targetSide);
+                        base *= CRITICAL_MULTIPLIER;
+                    }
+                    damage = Math.max(1, (int) (base * stab(attacker, move.getType()) * multiplier
+                        * random.range(MIN_DAMAGE_ROLL, 1f)));
+                    hurt(targetSide, BattleEvent.Type.DAMAGE, damage, null);
+                }
+                if (multiplier != 1f) {
+                    emit(BattleEvent.Type.EFFECTIVENESS, targetSide, move, null, null, 0, 0, multiplier);
+                }
+                if (state.get(targetSide).isFainted()) {
+                    return;
+                }
+                if (damage > 0 && move.canFlinch() && waiting[targetSide] && random.chance(FLINCH_CHANCE)) {
+                    update(targetSide, state.get(targetSide).withFlinched(true));
+                }
+            }
+            applyEffect(side, targetSide, move.getEffect(), damage);
+        }
+
+        private void useStruggle(int side) {
+            int targetSide = BattleState.opponent(side);
+            emit(BattleEvent.Type.STRUGGLE, side);
+            int damage = Math.max(1, (int) (state.get(side).getStat(Combatant.ATTACK) * 0.5f));
+            hurt(targetSide, BattleEvent.Type.DAMAGE, damage, null);
+            hurt(side, BattleEvent.Type.RECOIL, Math.max(1, (int) (damage * STRUGGLE_RECOIL)), null);
+        }
+
+        private void applyEffect(int side, int targetSide, Move.MoveEffect effect, int damageDealt) {
+            if (effect == null) return;
+
+            Pokemon.Status status = effect.getStatusEffect();
+            float chance = effect.getChance();
+            if (status != null && status != Pokemon.Status.NONE && (chance <= 0f || random.chance(chance))) {
+                Combatant target = state.get(targetSide);
+                if (canReceiveStatus(target, status)) {
+                    int turns = status == Pokemon.Status.ASLEEP ? random.range(1, 3)
+                        : status == Pokemon.Status.BADLY_POISONED ? 1 : 0;
+                    update(targetSide, target.withStatus(status, turns));
+                    emit(BattleEvent.Type.STATUS_APPLIED, targetSide, null, status, null, 0, 0);
+                } else {
+                    emit(BattleEvent.Type.STATUS_FAILED, targetSide, null, status, null, 0, 0);
+                }
+            }
+
+            Map<String, Integer> statChanges = effect.getStatModifiers();
+            if (statChanges != null) {
+                for (Map.Entry<String, Integer> entry : statChanges.entrySet()) {
+                    int stat = Combatant.statIndex(entry.getKey());
+                    int change = entry.getValue() != null ? entry.getValue() : 0;
+                    if (stat < 0 || change == 0) continue;
+                    Combatant target = state.get(targetSide);
+                    int stage = target.getStage(stat);
+                    int newStage = Math.max(Combatant.MIN_STAGE, Math.min(Combatant.MAX_STAGE, stage + change));
+                    if (newStage == stage) {
+                        emit(BattleEvent.Type.STAT_UNCHANGED, targetSide, null, null, entry.getKey(), change, 0);
+                    } else {
+                        update(targetSide, target.withStage(stat, newStage));
+                        emit(BattleEvent.Type.STAT_CHANGED, targetSide, null, null, entry.getKey(), newStage - stage, 0);
+                    }
+                }
+            }
+
+            String effectType = effect.getEffectType();
+            if ("drain".equalsIgnoreCase(effectType) && damageDealt > 0) {
+                Combatant attacker = state.get(side);
+                int healed = Math.min(Math.max(1, (int) (damageDealt * DRAIN_RATIO)), attacker.getMaxHp() - attacker.getHp());
+                if (healed > 0) {
+                    update(side, attacker.withHp(attacker.getHp() + healed));
+                    emit(BattleEvent.Type.HEALED, side, null, null, null, healed, state.get(side).getHp());
+                }
+            } else if ("confuse".equalsIgnoreCase(effectType)) {
+                Combatant target = state.get(targetSide);
+                if (target.getConfusionTurns() == 0 && (chance <= 0f || random.chance(chance))) {
+                    update(targetSide, target.withConfusion(random.range(1, 4)));
+                    emit(BattleEvent.Type.CONFUSED, targetSide);
+                }
+            }
+        }
+
+        private void endOfTurn(int side) {
+            Combatant self = state.get(side);
+            if (self.isFainted()) return;
+            int maxHp = self.getMaxHp();
+            switch (self.getStatus()) {
+                case POISONED:
+                    hurt(side, BattleEvent.Type.STATUS_DAMAGE, Math.max(1, maxHp / 8), Pokemon.Status.POISONED);
+                    break;
+                case BADLY_POISONED: {
+                    int counter = Math.max(1, self.getStatusTurns());
+                    update(side, self.withStatus(Pokemon.Status.BADLY_POISONED, Math.min(counter + 1, MAX_TOXIC_COUNTER)));
+                    hurt(side, BattleEvent.Type.STATUS_DAMAGE, Math.max(1, maxHp * counter / 16), Pokemon.Status.BADLY_POISONED);
+                    break;
+                }
+                case BURNED:
+                    hurt(side, BattleEvent.Type.STATUS_DAMAGE, Math.max(1, maxHp / 16), Pokemon.Status.BURNED);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void hurt(int side, BattleEvent.Type type, int damage, Pokemon.Status cause) {
+            Combatant target = state.get(side);
+            int dealt = Math.min(damage, target.getHp());
+            update(side, target.withHp(target.getHp() - dealt));
+            int hp = state.get(side).getHp();
+            emit(type, side, null, cause, null, dealt, hp);
+            if (hp == 0) {
+                emit(BattleEvent.Type.FAINTED, side);
+            }
+        }
+
+        private void update(int side, Combatant combatant) {
+            state = state.with(side, combatant);
+        }
+
+        private void emit(BattleEvent.Type type, int side) {
+            emit(type, side, null, null, null, 0, 0, 1f);
+        }
+
+        private void emit(BattleEvent.Type type, int side, Move move, Pokemon.Status status, String stat,
+                          int amount, int hp) {
+            emit(type, side, move, status, stat, amount, hp, 1f);
+        }
+
+        private void emit(BattleEvent.Type type, int side, Move move, Pokemon.Status status, String stat,
+                          int amount, int hp, float multiplier) {
+            if (events != null) {
+                events.add(new BattleEvent(type, side, move, status, stat, amount, hp, multiplier));
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.pokemeetup.system.battle;
+
+import io.github.pokemeetup.pokemon.Pokemon;
+import io.github.pokemeetup.pokemon.attacks.Move;
+
+/**
+ * One thing that happened during a turn, in order. {@link BattleEngine} produces these and the
+ * battle screen turns them into messages and animations; nothing else reads them.
+ */
+public final class BattleEvent {
+    public enum Type {
+        /** {@link #move} was used by {@link #side}. */
+        MOVE_USED,
+        /** {@link #side} used Struggle, having no PP left. */
+        STRUGGLE,
+        MISSED,
+        CRITICAL_HIT,
+        /** {@link #side} lost {@link #amount} HP to a move, leaving {@link #hp}. */
+        DAMAGE,
+        /** {@link #side} lost {@link #amount} HP to its own Struggle. */
+        RECOIL,
+        /** The last hit on {@link #side} had type {@link #multiplier}, which is not 1. */
+        EFFECTIVENESS,
+        /** {@link #side} regained {@link #amount} HP, leaving {@link #hp}. */
+        HEALED,
+        /** {@link #side} was given {@link #status}. */
+        STATUS_APPLIED,
+        /** A status could not be given to {@link #side}. */
+        STATUS_FAILED,
+        /** {@link #side} lost {@link #amount} HP to its {@link #status}, leaving {@link #hp}. */
+        STATUS_DAMAGE,
+        /** {@link #side} could not act because of {@link #status}, or flinched if it is null. */
+        CANT_MOVE,
+        /** {@link #side} recovered from {@link #status}. */
+        STATUS_CURED,
+        CONFUSED,
+        CONFUSION_ENDED,
+        /** {@link #side} lost {@link #amount} HP hitting itself in confusion, leaving {@link #hp}. */
+        CONFUSION_DAMAGE,
+        /** {@link #stat} of {@link #side} changed by {@link #amount}. */
+        STAT_CHANGED,
+        /** {@link #stat} of {@link #side} is already at its limit in the direction of {@link #amount}. */
+        STAT_UNCHANGED,
+        FAINTED,
+        ESCAPED,
+        ESCAPE_FAILED
+    }
+
+    public final Type type;
+    /** {@link BattleState#PLAYER} or {@link BattleState#ENEMY}: the side the event happened to. */
+    public final int side;
+    public final Move move;
+    public final Pokemon.Status status;
+    public final String stat;
+    public final int amount;
+    public final int hp;
+    public final float multiplier;
+
+    BattleEvent(Type type, int side, Move move, Pokemon.Status status, String stat,
+                int amount, int hp, float multiplier) {
+        this.type = type;
+        this.side = side;
+        this.move = move;
+        this.status = status;
+        this.stat = stat;
+        this.amount = amount;
+        this.hp = hp;
+        this.multiplier = multiplier;
+    }
+}
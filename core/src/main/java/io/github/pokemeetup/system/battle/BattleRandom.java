@@ -0,0 +1,46 @@
+package io.github.pokemeetup.system.battle;
+
+/**
+ * Seeded random source for battles (SplitMix64). The same seed and the same actions always play
+ * out the same battle, on any machine, so a battle can be replayed or checked from its seed.
+ * Not thread-safe; use one per battle.
+ */
+public final class BattleRandom {
+    private long state;
+
+    public BattleRandom(long seed) {
+        this.state = seed;
+    }
+
+    public long nextLong() {
+        long z = (state += 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @return a float in [0, 1)
+     */
+    public float nextFloat() {
+        return (nextLong() >>> 40) * 0x1.0p-24f;
+    }
+
+    /**
+     * @return a float in [min, max)
+     */
+    public float range(float min, float max) {
+        return min + nextFloat() * (max - min);
+    }
+
+    /**
+     * @return an int in [min, max], both inclusive
+     */
+    public int range(int min, int max) {
+        return min + (int) (((nextLong() >>> 33) * (long) (max - min + 1)) >>> 31);
+    }
+
+    public boolean chance(float probability) {
+        return nextFloat() < probability;
+    }
+}
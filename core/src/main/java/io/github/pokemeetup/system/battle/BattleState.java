@@ -0,0 +1,85 @@
+package io.github.pokemeetup.system.battle;
+
+/**
+ * Immutable snapshot of a battle between the player's active Pokemon and an opponent.
+ */
+public final class BattleState {
+    public static final int PLAYER = 0;
+    public static final int ENEMY = 1;
+
+    private final Combatant player;
+    private final Combatant enemy;
+    private final int turn;
+    private final boolean escaped;
+
+    public BattleState(Combatant player, Combatant enemy) {
+        this(player, enemy, 0, false);
+    }
+
+    private BattleState(Combatant player, Combatant enemy, int turn, boolean escaped) {
+        this.player = player;
+        this.enemy = enemy;
+        this.turn = turn;
+        this.escaped = escaped;
+    }
+
+    public static int opponent(int side) {
+        return 1 - side;
+    }
+
+    public Combatant get(int side) {
+        return side == PLAYER ? player : enemy;
+    }
+
+    public Combatant getPlayer() {
+        return player;
+    }
+
+    public Combatant getEnemy() {
+        return enemy;
+    }
+
+    /**
+     * Turns resolved so far.
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    public boolean isEscaped() {
+        return escaped;
+    }
+
+    /**
+     * Over once the player got away or either side's active Pokemon fainted. A switch-in for a
+     * fainted Pokemon continues the battle through {@link #with}.
+     */
+    public boolean isOver() {
+        return escaped || player.isFainted() || enemy.isFainted();
+    }
+
+    /**
+     * @return the side whose opponent fainted, or -1 if neither or both did
+     */
+    public int getWinner() {
+        if (player.isFainted() == enemy.isFainted()) return -1;
+        return enemy.isFainted() ? PLAYER : ENEMY;
+    }
+
+    /**
+     * Replaces one side's Pokemon, e.g. after a switch or an item.
+     */
+    public BattleState with(int side, Combatant combatant) {
+        return side == PLAYER
+            ? new BattleState(combatant, enemy, turn, escaped)
+            : new BattleState(player, combatant, turn, escaped);
+    }
+
+    BattleState escape() {
+        return new BattleState(player, enemy, turn, true);
+    }
+
+    BattleState nextTurn() {
+        return new BattleState(player, enemy, turn + 1, escaped);
+    }
+}
@@ -0,0 +1,278 @@
+package io.github.pokemeetup.system.battle;
+
+import io.github.pokemeetup.pokemon.Pokemon;
+import io.github.pokemeetup.pokemon.attacks.Move;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable battle view of one Pokemon: its stats when the battle started plus everything the
+ * battle changes (HP, status, PP, stat stages, confusion). Every change returns a copy.
+ */
+public final class Combatant {
+    public static final int ATTACK = 0;
+    public static final int DEFENSE = 1;
+    public static final int SPECIAL_ATTACK = 2;
+    public static final int SPECIAL_DEFENSE = 3;
+    public static final int SPEED = 4;
+    public static final int ACCURACY = 5;
+    public static final int EVASION = 6;
+    private static final int STAGE_COUNT = 7;
+    public static final int MIN_STAGE = -6;
+    public static final int MAX_STAGE = 6;
+    // Row 0 for ATTACK..SPEED, row 1 for ACCURACY and EVASION, indexed by stage - MIN_STAGE.
+    private static final float[][] STAGE_MULTIPLIERS = new float[2][MAX_STAGE - MIN_STAGE + 1];
+
+    static {
+        for (int stage = MIN_STAGE; stage <= MAX_STAGE; stage++) {
+            for (int row = 0; row < 2; row++) {
+                float base = row == 0 ? 2f : 3f;
+                STAGE_MULTIPLIERS[row][stage - MIN_STAGE] = stage >= 0
+                    ? (base + stage) / base : base / (base - stage);
+            }
+        }
+    }
+
+    private String name;
+    private int level;
+    private Pokemon.PokemonType primaryType;
+    private Pokemon.PokemonType secondaryType;
+    private int maxHp;
+    // Indexed by ATTACK..SPEED.
+    private int[] stats;
+    private Move[] moves;
+    private int[] pp;
+    private int hp;
+    private Pokemon.Status status;
+    // Sleep turns left while asleep (0 = not rolled yet), the toxic counter while badly poisoned.
+    private int statusTurns;
+    private byte[] stages;
+    private int confusionTurns;
+    private boolean flinched;
+
+    private Combatant() {
+    }
+
+    public Combatant(String name, int level, Pokemon.PokemonType primaryType, Pokemon.PokemonType secondaryType,
+                     int maxHp, int attack, int defense, int specialAttack, int specialDefense, int speed,
+                     Move[] moves) {
+        this.name = name;
+        this.level = level;
+        this.primaryType = primaryType;
+        this.secondaryType = secondaryType;
+        this.maxHp = Math.max(1, maxHp);
+        this.stats = new int[]{
+            Math.max(1, attack), Math.max(1, defense), Math.max(1, specialAttack),
+            Math.max(1, specialDefense), Math.max(1, speed)
+        };
+        this.moves = moves.clone();
+        this.pp = new int[moves.length];
+        for (int i = 0; i < moves.length; i++) {
+            pp[i] = moves[i].getPp();
+        }
+        this.hp = this.maxHp;
+        this.status = Pokemon.Status.NONE;
+        this.stages = new byte[STAGE_COUNT];
+    }
+
+    /**
+     * Takes a snapshot of a Pokemon's current HP, status and PP.
+     */
+    public static Combatant of(Pokemon pokemon) {
+        List<Move> moves = new ArrayList<>();
+        if (pokemon.getMoves() != null) {
+            for (Move move : pokemon.getMoves()) {
+                if (move != null) moves.add(move);
+            }
+        }
+        Pokemon.Stats stats = pokemon.getStats();
+        Combatant combatant = new Combatant(pokemon.getName(), pokemon.getLevel(),
+            pokemon.getPrimaryType(), pokemon.getSecondaryType(), stats.getHp(), stats.getAttack(),
+            stats.getDefense(), stats.getSpecialAttack(), stats.getSpecialDefense(), stats.getSpeed(),
+            moves.toArray(new Move[0]));
+        combatant.hp = Math.max(0, Math.min(pokemon.getCurrentHp(), combatant.maxHp));
+        Pokemon.Status status = pokemon.getStatus();
+        combatant.status = status != null ? status : Pokemon.Status.NONE;
+        if (combatant.hp == 0) {
+            combatant.status = Pokemon.Status.FAINTED;
+        }
+        combatant.statusTurns = combatant.status == Pokemon.Status.BADLY_POISONED
+            ? Math.max(1, pokemon.getToxicCounter()) : 0;
+        return combatant;
+    }
+
+    /**
+     * Writes HP, status and PP back to the Pokemon this was taken from. Stat stages and confusion
+     * only last for the battle and are not written.
+     */
+    public void applyTo(Pokemon pokemon) {
+        pokemon.setCurrentHp(hp);
+        pokemon.restoreStatus(status);
+        for (int i = 0; i < moves.length; i++) {
+            moves[i].setPp(pp[i]);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public Pokemon.PokemonType getPrimaryType() {
+        return primaryType;
+    }
+
+    public Pokemon.PokemonType getSecondaryType() {
+        return secondaryType;
+    }
+
+    public boolean hasType(Pokemon.PokemonType type) {
+        return type != null && (primaryType == type || secondaryType == type);
+    }
+
+    public int getMaxHp() {
+        return maxHp;
+    }
+
+    public int getHp() {
+        return hp;
+    }
+
+    public boolean isFainted() {
+        return hp <= 0;
+    }
+
+    public Pokemon.Status getStatus() {
+        return status;
+    }
+
+    public int getStatusTurns() {
+        return statusTurns;
+    }
+
+    public int getMoveCount() {
+        return moves.length;
+    }
+
+    public Move getMove(int index) {
+        return moves[index];
+    }
+
+    public int getPp(int index) {
+        return pp[index];
+    }
+
+    public int getStage(int stat) {
+        return stages[stat];
+    }
+
+    public int getConfusionTurns() {
+        return confusionTurns;
+    }
+
+    public boolean isFlinched() {
+        return flinched;
+    }
+
+    /**
+     * A stat (ATTACK..SPEED) with its stage applied.
+     */
+    public float getStat(int stat) {
+        return stats[stat] * stageMultiplier(stat, stages[stat]);
+    }
+
+    /**
+     * Multiplier for a stage: (2 + stage) / 2 when raised, 2 / (2 - stage) when lowered, with 3
+     * instead of 2 for ACCURACY and EVASION.
+     */
+    public static float stageMultiplier(int stat, int stage) {
+        return STAGE_MULTIPLIERS[stat >= ACCURACY ? 1 : 0][stage - MIN_STAGE];
+    }
+
+    /**
+     * Maps the stat keys used in move effects ("attack", "spAtk", ...) to a stage index.
+     *
+     * @return the index, or -1 if the name is not a stat
+     */
+    public static int statIndex(String name) {
+        if (name == null) return -1;
+        switch (name.toLowerCase()) {
+            case "attack": return ATTACK;
+            case "defense": return DEFENSE;
+            case "spatk": return SPECIAL_ATTACK;
+            case "spdef": return SPECIAL_DEFENSE;
+            case "speed": return SPEED;
+            case "accuracy": return ACCURACY;
+            case "evasion": return EVASION;
+            default: return -1;
+        }
+    }
+
+    public Combatant withHp(int hp) {
+        Combatant copy = copy();
+        copy.hp = Math.max(0, Math.min(hp, maxHp));
+        if (copy.hp == 0) {
+            copy.status = Pokemon.Status.FAINTED;
+            copy.statusTurns = 0;
+            copy.confusionTurns = 0;
+        }
+        return copy;
+    }
+
+    public Combatant withStatus(Pokemon.Status status, int statusTurns) {
+        Combatant copy = copy();
+        copy.status = status;
+        copy.statusTurns = statusTurns;
+        return copy;
+    }
+
+    public Combatant withPp(int index, int value) {
+        Combatant copy = copy();
+        copy.pp = pp.clone();
+        copy.pp[index] = value;
+        return copy;
+    }
+
+    public Combatant withStage(int stat, int stage) {
+        Combatant copy = copy();
+        copy.stages = stages.clone();
+        copy.stages[stat] = (byte) Math.max(MIN_STAGE, Math.min(MAX_STAGE, stage));
+        return copy;
+    }
+
+    public Combatant withConfusion(int turns) {
+        Combatant copy = copy();
+        copy.confusionTurns = turns;
+        return copy;
+    }
+
+    public Combatant withFlinched(boolean flinched) {
+        Combatant copy = copy();
+        copy.flinched = flinched;
+        return copy;
+    }
+
+    // Arrays are shared until a with- method replaces the one it changes.
+    private Combatant copy() {
+        Combatant copy = new Combatant();
+        copy.name = name;
+        copy.level = level;
+        copy.primaryType = primaryType;
+        copy.secondaryType = secondaryType;
+        copy.maxHp = maxHp;
+        copy.stats = stats;
+        copy.moves = moves;
+        copy.pp = pp;
+        copy.hp = hp;
+        copy.status = status;
+        copy.statusTurns = statusTurns;
+        copy.stages = stages;
+        copy.confusionTurns = confusionTurns;
+        copy.flinched = flinched;
+        return copy;
+    }
+}
@@ -0,0 +1,180 @@
+package io.github.pokemeetup.system.battle;
+
+import io.github.pokemeetup.pokemon.Pokemon;
+
+import java.util.Arrays;
+
+/**
+ * Type effectiveness multipliers, e.g. 2 for FIRE against GRASS. Pairs not listed are neutral.
+ * Stored as one flat array indexed by the types' ordinals, so a lookup is a single array read.
+ */
+public final class TypeChart {
+    private static final int TYPE_COUNT = Pokemon.PokemonType.values().length;
+    private static final float[] multipliers = new float[TYPE_COUNT * TYPE_COUNT];
+
+    static {
+        Arrays.fill(multipliers, 1.0f);
+        set(Pokemon.PokemonType.NORMAL, Pokemon.PokemonType.ROCK, 0.5f);
+        set(Pokemon.PokemonType.NORMAL, Pokemon.PokemonType.GHOST, 0.0f);
+        set(Pokemon.PokemonType.NORMAL, Pokemon.PokemonType.STEEL, 0.5f);
+
+        set(Pokemon.PokemonType.FIRE, Pokemon.PokemonType.FIRE, 0.5f);
+        set(Pokemon.PokemonType.FIRE, Pokemon.PokemonType.WATER, 0.5f);
+        set(Pokemon.PokemonType.FIRE, Pokemon.PokemonType.GRASS, 2.0f);
+        set(Pokemon.PokemonType.FIRE, Pokemon.PokemonType.ICE, 2.0f);
+        set(Pokemon.PokemonType.FIRE, Pokemon.PokemonType.BUG, 2.0f);
+        set(Pokemon.PokemonType.FIRE, Pokemon.PokemonType.ROCK, 0.5f);
+        set(Pokemon.PokemonType.FIRE, Pokemon.PokemonType.DRAGON, 0.5f);
+        set(Pokemon.PokemonType.FIRE, Pokemon.PokemonType.STEEL, 2.0f);
+
+        set(Pokemon.PokemonType.WATER, Pokemon.PokemonType.FIRE, 2.0f);
+        set(Pokemon.PokemonType.WATER, Pokemon.PokemonType.WATER, 0.5f);
+        set(Pokemon.PokemonType.WATER, Pokemon.PokemonType.GRASS, 0.5f);
+        set(Pokemon.PokemonType.WATER, Pokemon.PokemonType.GROUND, 2.0f);
+        set(Pokemon.PokemonType.WATER, Pokemon.PokemonType.ROCK, 2.0f);
+        set(Pokemon.PokemonType.WATER, Pokemon.PokemonType.DRAGON, 0.5f);
+
+        set(Pokemon.PokemonType.ELECTRIC, Pokemon.PokemonType.WATER, 2.0f);
+        set(Pokemon.PokemonType.ELECTRIC, Pokemon.PokemonType.ELECTRIC, 0.5f);
+        set(Pokemon.PokemonType.ELECTRIC, Pokemon.PokemonType.GRASS, 0.5f);
+        set(Pokemon.PokemonType.ELECTRIC, Pokemon.PokemonType.GROUND, 0.0f);
+        set(Pokemon.PokemonType.ELECTRIC, Pokemon.PokemonType.FLYING, 2.0f);
+        set(Pokemon.PokemonType.ELECTRIC, Pokemon.PokemonType.DRAGON, 0.5f);
+
+        set(Pokemon.PokemonType.GRASS, Pokemon.PokemonType.FIRE, 0.5f);
+        set(Pokemon.PokemonType.GRASS, Pokemon.PokemonType.WATER, 2.0f);
+        set(Pokemon.PokemonType.GRASS, Pokemon.PokemonType.GRASS, 0.5f);
+        set(Pokemon.PokemonType.GRASS, Pokemon.PokemonType.POISON, 0.5f);
+        set(Pokemon.PokemonType.GRASS, Pokemon.PokemonType.GROUND, 2.0f);
+        set(Pokemon.PokemonType.GRASS, Pokemon.PokemonType.FLYING, 0.5f);
+        set(Pokemon.PokemonType.GRASS, Pokemon.PokemonType.BUG, 0.5f);
+        set(Pokemon.PokemonType.GRASS, Pokemon.PokemonType.ROCK, 2.0f);
+        set(Pokemon.PokemonType.GRASS, Pokemon.PokemonType.DRAGON, 0.5f);
+        set(Pokemon.PokemonType.GRASS, Pokemon.PokemonType.STEEL, 0.5f);
+
+        set(Pokemon.PokemonType.ICE, Pokemon.PokemonType.FIRE, 0.5f);
+        set(Pokemon.PokemonType.ICE, Pokemon.PokemonType.WATER, 0.5f);
+        set(Pokemon.PokemonType.ICE, Pokemon.PokemonType.GRASS, 2.0f);
+        set(Pokemon.PokemonType.ICE, Pokemon.PokemonType.ICE, 0.5f);
+        set(Pokemon.PokemonType.ICE, Pokemon.PokemonType.GROUND, 2.0f);
+        set(Pokemon.PokemonType.ICE, Pokemon.PokemonType.FLYING, 2.0f);
+        set(Pokemon.PokemonType.ICE, Pokemon.PokemonType.DRAGON, 2.0f);
+        set(Pokemon.PokemonType.ICE, Pokemon.PokemonType.STEEL, 0.5f);
+
+        set(Pokemon.PokemonType.FIGHTING, Pokemon.PokemonType.NORMAL, 2.0f);
+        set(Pokemon.PokemonType.FIGHTING, Pokemon.PokemonType.ICE, 2.0f);
+        set(Pokemon.PokemonType.FIGHTING, Pokemon.PokemonType.POISON, 0.5f);
+        set(Pokemon.PokemonType.FIGHTING, Pokemon.PokemonType.FLYING, 0.5f);
+        set(Pokemon.PokemonType.FIGHTING, Pokemon.PokemonType.PSYCHIC, 0.5f);
+        set(Pokemon.PokemonType.FIGHTING, Pokemon.PokemonType.BUG, 0.5f);
+        set(Pokemon.PokemonType.FIGHTING, Pokemon.PokemonType.ROCK, 2.0f);
+        set(Pokemon.PokemonType.FIGHTING, Pokemon.PokemonType.GHOST, 0.0f);
+        set(Pokemon.PokemonType.FIGHTING, Pokemon.PokemonType.DARK, 2.0f);
+        set(Pokemon.PokemonType.FIGHTING, Pokemon.PokemonType.STEEL, 2.0f);
+        set(Pokemon.PokemonType.FIGHTING, Pokemon.PokemonType.FAIRY, 0.5f);
+
+        set(Pokemon.PokemonType.POISON, Pokemon.PokemonType.GRASS, 2.0f);
+        set(Pokemon.PokemonType.POISON, Pokemon.PokemonType.POISON, 0.5f);
+        set(Pokemon.PokemonType.POISON, Pokemon.PokemonType.GROUND, 0.5f);
+        set(Pokemon.PokemonType.POISON, Pokemon.PokemonType.ROCK, 0.5f);
+        set(Pokemon.PokemonType.POISON, Pokemon.PokemonType.GHOST, 0.5f);
+        set(Pokemon.PokemonType.POISON, Pokemon.PokemonType.STEEL, 0.0f);
+        set(Pokemon.PokemonType.POISON, Pokemon.PokemonType.FAIRY, 2.0f);
+
+        set(Pokemon.PokemonType.GROUND, Pokemon.PokemonType.FIRE, 2.0f);
+        set(Pokemon.PokemonType.GROUND, Pokemon.PokemonType.ELECTRIC, 2.0f);
+        set(Pokemon.PokemonType.GROUND, Pokemon.PokemonType.GRASS, 0.5f);
+        set(Pokemon.PokemonType.GROUND, Pokemon.PokemonType.POISON, 2.0f);
+        set(Pokemon.PokemonType.GROUND, Pokemon.PokemonType.FLYING, 0.0f);
+        set(Pokemon.PokemonType.GROUND, Pokemon.PokemonType.BUG, 0.5f);
+        set(Pokemon.PokemonType.GROUND, Pokemon.PokemonType.ROCK, 2.0f);
+        set(Pokemon.PokemonType.GROUND, Pokemon.PokemonType.STEEL, 2.0f);
+
+        set(Pokemon.PokemonType.FLYING, Pokemon.PokemonType.ELECTRIC, 0.5f);
+        set(Pokemon.PokemonType.FLYING, Pokemon.PokemonType.GRASS, 2.0f);
+        set(Pokemon.PokemonType.FLYING, Pokemon.PokemonType.FIGHTING, 2.0f);
+        set(Pokemon.PokemonType.FLYING, Pokemon.PokemonType.BUG, 2.0f);
+        set(Pokemon.PokemonType.FLYING, Pokemon.PokemonType.ROCK, 0.5f);
+        set(Pokemon.PokemonType.FLYING, Pokemon.PokemonType.STEEL, 0.5f);
+
+        set(Pokemon.PokemonType.PSYCHIC, Pokemon.PokemonType.FIGHTING, 2.0f);
+        set(Pokemon.PokemonType.PSYCHIC, Pokemon.PokemonType.POISON, 2.0f);
+        set(Pokemon.PokemonType.PSYCHIC, Pokemon.PokemonType.PSYCHIC, 0.5f);
+        set(Pokemon.PokemonType.PSYCHIC, Pokemon.PokemonType.DARK, 0.0f);
+        set(Pokemon.PokemonType.PSYCHIC, Pokemon.PokemonType.STEEL, 0.5f);
+
+        set(Pokemon.PokemonType.BUG, Pokemon.PokemonType.FIRE, 0.5f);
+        set(Pokemon.PokemonType.BUG, Pokemon.PokemonType.GRASS, 2.0f);
+        set(Pokemon.PokemonType.BUG, Pokemon.PokemonType.FIGHTING, 0.5f);
+        set(Pokemon.PokemonType.BUG, Pokemon.PokemonType.POISON, 0.5f);
+        set(Pokemon.PokemonType.BUG, Pokemon.PokemonType.FLYING, 0.5f);
+        set(Pokemon.PokemonType.BUG, Pokemon.PokemonType.PSYCHIC, 2.0f);
+        set(Pokemon.PokemonType.BUG, Pokemon.PokemonType.GHOST, 0.5f);
+        set(Pokemon.PokemonType.BUG, Pokemon.PokemonType.DARK, 2.0f);
+        set(Pokemon.PokemonType.BUG, Pokemon.PokemonType.STEEL, 0.5f);
+        set(Pokemon.PokemonType.BUG, Pokemon.PokemonType.FAIRY, 0.5f);
+
+        set(Pokemon.PokemonType.ROCK, Pokemon.PokemonType.FIRE, 2.0f);
+        set(Pokemon.PokemonType.ROCK, Pokemon.PokemonType.ICE, 2.0f);
+        set(Pokemon.PokemonType.ROCK, Pokemon.PokemonType.FIGHTING, 0.5f);
+        set(Pokemon.PokemonType.ROCK, Pokemon.PokemonType.GROUND, 0.5f);
+        set(Pokemon.PokemonType.ROCK, Pokemon.PokemonType.FLYING, 2.0f);
+        set(Pokemon.PokemonType.ROCK, Pokemon.PokemonType.BUG, 2.0f);
+        set(Pokemon.PokemonType.ROCK, Pokemon.PokemonType.STEEL, 0.5f);
+
+        set(Pokemon.PokemonType.GHOST, Pokemon.PokemonType.NORMAL, 0.0f);
+        set(Pokemon.PokemonType.GHOST, Pokemon.PokemonType.PSYCHIC, 2.0f);
+        set(Pokemon.PokemonType.GHOST, Pokemon.PokemonType.GHOST, 2.0f);
+        set(Pokemon.PokemonType.GHOST, Pokemon.PokemonType.DARK, 0.5f);
+
+        set(Pokemon.PokemonType.DRAGON, Pokemon.PokemonType.DRAGON, 2.0f);
+        set(Pokemon.PokemonType.DRAGON, Pokemon.PokemonType.STEEL, 0.5f);
+        set(Pokemon.PokemonType.DRAGON, Pokemon.PokemonType.FAIRY, 0.0f);
+
+        set(Pokemon.PokemonType.DARK, Pokemon.PokemonType.FIGHTING, 0.5f);
+        set(Pokemon.PokemonType.DARK, Pokemon.PokemonType.PSYCHIC, 2.0f);
+        set(Pokemon.PokemonType.DARK, Pokemon.PokemonType.GHOST, 2.0f);
+        set(Pokemon.PokemonType.DARK, Pokemon.PokemonType.DARK, 0.5f);
+        set(Pokemon.PokemonType.DARK, Pokemon.PokemonType.FAIRY, 0.5f);
+
+        set(Pokemon.PokemonType.STEEL, Pokemon.PokemonType.FIRE, 0.5f);
+        set(Pokemon.PokemonType.STEEL, Pokemon.PokemonType.WATER, 0.5f);
+        set(Pokemon.PokemonType.STEEL, Pokemon.PokemonType.ELECTRIC, 0.5f);
+        set(Pokemon.PokemonType.STEEL, Pokemon.PokemonType.ICE, 2.0f);
+        set(Pokemon.PokemonType.STEEL, Pokemon.PokemonType.ROCK, 2.0f);
+        set(Pokemon.PokemonType.STEEL, Pokemon.PokemonType.STEEL, 0.5f);
+        set(Pokemon.PokemonType.STEEL, Pokemon.PokemonType.FAIRY, 2.0f);
+
+        set(Pokemon.PokemonType.FAIRY, Pokemon.PokemonType.FIRE, 0.5f);
+        set(Pokemon.PokemonType.FAIRY, Pokemon.PokemonType.FIGHTING, 2.0f);
+        set(Pokemon.PokemonType.FAIRY, Pokemon.PokemonType.POISON, 0.5f);
+        set(Pokemon.PokemonType.FAIRY, Pokemon.PokemonType.DRAGON, 2.0f);
+        set(Pokemon.PokemonType.FAIRY, Pokemon.PokemonType.DARK, 2.0f);
+        set(Pokemon.PokemonType.FAIRY, Pokemon.PokemonType.STEEL, 0.5f);
+    }
+
+    private TypeChart() {
+    }
+
+    public static float get(Pokemon.PokemonType attackType, Pokemon.PokemonType defendType) {
+        if (attackType == null || defendType == null) {
+            return 1.0f;
+        }
+        return multipliers[attackType.ordinal() * TYPE_COUNT + defendType.ordinal()];
+    }
+
+    /**
+     * Combined multiplier of a move type against both of the defender's types.
+     */
+    public static float get(Pokemon.PokemonType attackType, Pokemon.PokemonType primaryType, Pokemon.PokemonType secondaryType) {
+        float effectiveness = get(attackType, primaryType);
+        if (secondaryType != null) {
+            effectiveness *= get(attackType, secondaryType);
+        }
+        return effectiveness;
+    }
+
+    private static void set(Pokemon.PokemonType attackType, Pokemon.PokemonType defendType, float multiplier) {
+        multipliers[attackType.ordinal() * TYPE_COUNT + defendType.ordinal()] = multiplier;
+    }
+}
@@ -4,6 +4,8 @@ import com.badlogic.gdx.math.Vector2;
 import io.github.pokemeetup.pokemon.Pokemon;
 import io.github.pokemeetup.pokemon.attacks.LearnableMove;
 import io.github.pokemeetup.pokemon.attacks.Move;
+import io.github.pokemeetup.pokemon.attacks.MoveDefinition;
+import io.github.pokemeetup.pokemon.data.PokemonDatabase;
 import io.github.pokemeetup.utils.GameLogger;
 
 import java.io.Serializable;
@@ -579,18 +581,24 @@ public class PokemonData {
                 type = Pokemon.PokemonType.NORMAL;
             }
 
-            Move.Builder builder = new Move.Builder(name, type)
-                .power(power)
-                .accuracy(accuracy)
-                .pp(pp) // This incorrectly sets maxPp = pp, which we will correct below.
-                .special(isSpecial)
-                .description(description)
-                .canFlinch(canFlinch);
-            if (this.effect != null) {
-                builder.effect(this.effect.toMoveEffect());
+            // Saves only keep the numbers, so prefer the loaded definition, which has the effect.
+            MoveDefinition definition = PokemonDatabase.getMoveDefinition(name);
+            if (definition == null) {
+                MoveDefinition.Builder builder = new MoveDefinition.Builder(name, type)
+                    .power(power)
+                    .accuracy(accuracy)
+                    .pp(pp)
+                    .special(isSpecial)
+                    .description(description)
+                    .canFlinch(canFlinch);
+                if (this.effect != null) {
+                    builder.effect(this.effect.toMoveEffect());
+                }
+                definition = builder.build();
             }
 
-            Move move = builder.build();
+            Move move = new Move(definition);
+            move.setPp(pp);
             if (this.maxPp > 0) {
                 move.setMaxPp(this.maxPp);
             } else {
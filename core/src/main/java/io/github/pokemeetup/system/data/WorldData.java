@@ -28,7 +28,8 @@ public class WorldData {
     private Set<UUID> playerUUIDs;
     private long lastPlayed;
     private WorldConfig config;
-    private boolean isDirty;
+    // Raised by game threads while the server's journal clears it from its flush thread.
+    private volatile boolean isDirty;
     private BlockSaveData blockData;
     private Map<Vector2, Chunk> chunks;
     private HashMap<String, PlayerData> players;
@@ -4,37 +4,52 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import io.github.pokemeetup.blocks.PlaceableBlock;
 import io.github.pokemeetup.system.data.BlockSaveData;
+import io.github.pokemeetup.system.data.ChestData;
 import io.github.pokemeetup.system.gameplay.overworld.biomes.Biome;
 import io.github.pokemeetup.system.gameplay.overworld.biomes.BiomeType;
 import io.github.pokemeetup.utils.textures.TileType;
 
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Chunk {
     public static final int CHUNK_SIZE = 16;
+    private static final int CELLS = CHUNK_SIZE * CHUNK_SIZE;
+    private static final BiomeType[] BIOME_TYPES = BiomeType.values();
 
     private final int chunkX;
     private final int chunkY;
     public boolean isDirty = false;
+    // Bumped from the network, generator and game threads at once; a lost increment could repeat
+    // an old version and let a cached payload or terrain bake pass as current.
+    private final AtomicInteger version = new AtomicInteger();
+    private final AtomicInteger blockVersion = new AtomicInteger();
     private TextureRegion[][] autotileRegions;
     private TextureRegion[][] seatileRegions;
     private Biome biome;
-    private Map<Vector2, PlaceableBlock> blocks = new HashMap<>();
-    private int[][] tileData;
+    // Blocks are indexed by local tile; the list mirrors the slots for cheap, copy-free iteration.
+    private final PlaceableBlock[] blockSlots = new PlaceableBlock[CELLS];
+    private final List<PlaceableBlock> blocks = new CopyOnWriteArrayList<>();
+    private final List<PlaceableBlock> blocksView = Collections.unmodifiableList(blocks);
+    private final BlockSaveData.BlockData[] blockSaveCache = new BlockSaveData.BlockData[CELLS];
+    // Tile types row by row, see tileIndex(); null only if the chunk was given malformed data.
+    private short[] tiles;
+    // BiomeType ordinal + 1 per tile, 0 where unset; allocated on first write.
+    private byte[] biomeTypes;
     private List<WorldObject> worldObjects = new ArrayList<>();
 
     public Chunk() {
         this.chunkX = 0;
         this.chunkY = 0;
-        this.finalBiomeTypes = new BiomeType[CHUNK_SIZE][CHUNK_SIZE];
+        this.tiles = new short[CELLS];
     }
 
     public Chunk(int chunkX, int chunkY, Biome biome, long worldSeed) {
         this.chunkX = chunkX;
-        this.finalBiomeTypes = new BiomeType[CHUNK_SIZE][CHUNK_SIZE];
         this.chunkY = chunkY;
         this.biome = biome;
-        this.tileData = new int[CHUNK_SIZE][CHUNK_SIZE];
+        this.tiles = new short[CELLS];
     }
 
     public TextureRegion[][] getAutotileRegions() {
@@ -47,17 +62,49 @@ public class Chunk {
     }
 
 
-    public void addBlock(PlaceableBlock block) {
+    /**
+     * Places the block on its tile, replacing any block already there.
+     */
+    public synchronized void addBlock(PlaceableBlock block) {
         if (block != null) {
-            blocks.put(block.getPosition(), block);
-            isDirty = true;
+            int index = blockIndex((int) block.getPosition().x, (int) block.getPosition().y);
+            PlaceableBlock previous = blockSlots[index];
+            if (previous != null) {
+                blocks.remove(previous);
+            }
+            blockSlots[index] = block;
+            blockSaveCache[index] = null;
+            blocks.add(block);
+            markBlocksChanged();
         }
     }
-    private BiomeType[][] finalBiomeTypes;
 
     public void removeBlock(Vector2 position) {
-        blocks.remove(position);
+        removeBlock((int) position.x, (int) position.y);
+    }
+
+    public synchronized void removeBlock(int tileX, int tileY) {
+        int index = blockIndex(tileX, tileY);
+        PlaceableBlock block = getBlock(tileX, tileY);
+        if (block != null) {
+            blockSlots[index] = null;
+            blockSaveCache[index] = null;
+            blocks.remove(block);
+        }
+        markBlocksChanged();
+    }
+
+    public synchronized void clearBlocks() {
+        Arrays.fill(blockSlots, null);
+        Arrays.fill(blockSaveCache, null);
+        blocks.clear();
+        markBlocksChanged();
+    }
+
+    private void markBlocksChanged() {
         isDirty = true;
+        blockVersion.incrementAndGet();
+        version.incrementAndGet();
     }
 
     public TextureRegion[][] getSeatileRegions() {
@@ -74,18 +121,34 @@ public class Chunk {
 
     public void setWorldObjects(List<WorldObject> worldObjects) {
         this.worldObjects = worldObjects;
+        version.incrementAndGet();
     }
 
     public PlaceableBlock getBlock(Vector2 position) {
-        return blocks.get(position);
+        return getBlock((int) position.x, (int) position.y);
+    }
+
+    /**
+     * The block on the given world tile, or null if there is none or the tile is outside this chunk.
+     */
+    public PlaceableBlock getBlock(int tileX, int tileY) {
+        PlaceableBlock block = blockSlots[blockIndex(tileX, tileY)];
+        if (block == null || (int) block.getPosition().x != tileX || (int) block.getPosition().y != tileY) {
+            return null;
+        }
+        return block;
     }
 
-    public Map<Vector2, PlaceableBlock> getBlocks() {
-        return new HashMap<>(blocks);
+    /**
+     * Read-only live view of the placed blocks. Iterating it never throws on concurrent edits;
+     * use {@link #addBlock} and {@link #removeBlock} to change it.
+     */
+    public List<PlaceableBlock> getBlocks() {
+        return blocksView;
     }
 
-    public void setBlocks(Map<Vector2, PlaceableBlock> blocks) {
-        this.blocks = blocks;
+    public int getBlockCount() {
+        return blocks.size();
     }
 
     public boolean isDirty() {
@@ -94,6 +157,9 @@ public class Chunk {
 
     public void setDirty(boolean dirty) {
         this.isDirty = dirty;
+        if (dirty) {
+            version.incrementAndGet();
+        }
     }
 
     public Biome getBiome() {
@@ -104,19 +170,110 @@ public class Chunk {
         this.biome = biome;
     }
 
+    /**
+     * @return the tile type, or -1 outside the chunk or while it has no tile data
+     */
     public int getTileType(int localX, int localY) {
-        if (localX < 0 || localX >= CHUNK_SIZE || localY < 0 || localY >= CHUNK_SIZE) {
+        if (tiles == null || localX < 0 || localX >= CHUNK_SIZE || localY < 0 || localY >= CHUNK_SIZE) {
             return -1;
         }
-        return tileData[localX][localY];
+        return tiles[tileIndex(localX, localY)];
     }
 
-    public int[][] getTileData() {
-        return tileData;
+    public void setTileType(int localX, int localY, int tileType) {
+        if (tiles == null) {
+            return;
+        }
+        tiles[tileIndex(localX, localY)] = (short) tileType;
+        version.incrementAndGet();
+    }
+
+    /**
+     * The backing tile array, laid out as described by {@link #tileIndex}. Used as-is for the
+     * network and disk encodings; do not modify it.
+     */
+    public short[] getTiles() {
+        return tiles;
     }
 
+    /**
+     * Adopts the array as this chunk's tiles. Arrays of the wrong length leave the chunk without
+     * tile data, which {@link #hasTileData()} reports.
+     */
+    public void setTiles(short[] tiles) {
+        this.tiles = isValidTiles(tiles) ? tiles : null;
+        version.incrementAndGet();
+    }
+
+    /**
+     * Copies a column-major {@code [x][y]} grid, as produced by world generation and older save
+     * files, into this chunk.
+     */
     public void setTileData(int[][] tileData) {
-        this.tileData = tileData;
+        this.tiles = packTiles(tileData);
+        version.incrementAndGet();
+    }
+
+    public boolean hasTileData() {
+        return tiles != null;
+    }
+
+    public static boolean isValidTiles(short[] tiles) {
+        return tiles != null && tiles.length == CELLS;
+    }
+
+    /**
+     * Converts a column-major {@code [x][y]} grid to the flat layout, or returns null if it is
+     * not CHUNK_SIZE square.
+     */
+    public static short[] packTiles(int[][] tileData) {
+        if (tileData == null || tileData.length != CHUNK_SIZE) {
+            return null;
+        }
+        short[] packed = new short[CELLS];
+        for (int x = 0; x < CHUNK_SIZE; x++) {
+            if (tileData[x] == null || tileData[x].length != CHUNK_SIZE) {
+                return null;
+            }
+            for (int y = 0; y < CHUNK_SIZE; y++) {
+                packed[tileIndex(x, y)] = (short) tileData[x][y];
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Expands the tiles back to a column-major {@code [x][y]} grid.
+     */
+    public int[][] copyTileData() {
+        int[][] tileData = new int[CHUNK_SIZE][CHUNK_SIZE];
+        if (tiles != null) {
+            for (int x = 0; x < CHUNK_SIZE; x++) {
+                for (int y = 0; y < CHUNK_SIZE; y++) {
+                    tileData[x][y] = tiles[tileIndex(x, y)];
+                }
+            }
+        }
+        return tileData;
+    }
+
+    public static int tileIndex(int localX, int localY) {
+        return localY * CHUNK_SIZE + localX;
+    }
+
+    /**
+     * Incremented whenever tiles, blocks or objects change, so derived data
+     * (e.g. encoded network payloads) can be cached and invalidated cheaply.
+     */
+    public int getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Like {@link #getVersion()}, but only counts block placements and removals.
+     */
+    public int getBlockVersion() {
+        return blockVersion.get();
     }
 
     public int getChunkX() {
@@ -127,37 +284,61 @@ public class Chunk {
         return chunkY;
     }
 
+    /**
+     * Save records for every block. A block's record is reused across calls until the block is
+     * replaced or its flip, chest state or chest data changes; callers must not modify them.
+     */
     public List<BlockSaveData.BlockData> getBlockDataForSave() {
-        List<BlockSaveData.BlockData> blockDataList = new ArrayList<>();
-        for (PlaceableBlock b : blocks.values()) {
-            BlockSaveData.BlockData data = new BlockSaveData.BlockData();
-            data.type = b.getId();
-            data.x = (int) b.getPosition().x;
-            data.y = (int) b.getPosition().y;
-            data.isFlipped = b.isFlipped();
-            data.isChestOpen = b.isChestOpen();
-            if (b.getType() == PlaceableBlock.BlockType.CHEST && b.getChestData() != null) {
-                data.chestData = b.getChestData();
+        List<BlockSaveData.BlockData> blockDataList = new ArrayList<>(blocks.size());
+        for (PlaceableBlock b : blocks) {
+            int index = blockIndex((int) b.getPosition().x, (int) b.getPosition().y);
+            ChestData chestData = b.getType() == PlaceableBlock.BlockType.CHEST ? b.getChestData() : null;
+            BlockSaveData.BlockData data = blockSaveCache[index];
+            if (data == null || !Objects.equals(data.type, b.getId()) ||
+                data.x != (int) b.getPosition().x || data.y != (int) b.getPosition().y ||
+                data.isFlipped != b.isFlipped() || data.isChestOpen != b.isChestOpen() ||
+                data.chestData != chestData) {
+                data = new BlockSaveData.BlockData();
+                data.type = b.getId();
+                data.x = (int) b.getPosition().x;
+                data.y = (int) b.getPosition().y;
+                data.isFlipped = b.isFlipped();
+                data.isChestOpen = b.isChestOpen();
+                data.chestData = chestData;
+                blockSaveCache[index] = data;
             }
             blockDataList.add(data);
         }
         return blockDataList;
     }
 
+    private static int blockIndex(int tileX, int tileY) {
+        return Math.floorMod(tileY, CHUNK_SIZE) * CHUNK_SIZE + Math.floorMod(tileX, CHUNK_SIZE);
+    }
+
 
 
     public boolean isPassable(int localX, int localY) {
+        if (tiles == null) {
+            return false;
+        }
         localX = (localX + CHUNK_SIZE) % CHUNK_SIZE;
         localY = (localY + CHUNK_SIZE) % CHUNK_SIZE;
-        int tType = tileData[localX][localY];
+        int tType = tiles[tileIndex(localX, localY)];
         return TileType.isPassableTile(tType);
     }
 
-    public BiomeType[][] getFinalBiomeTypes() {
-        return finalBiomeTypes;
+    public BiomeType getBiomeType(int localX, int localY) {
+        byte[] types = biomeTypes;
+        int ordinal = types != null ? types[tileIndex(localX, localY)] : 0;
+        return ordinal > 0 ? BIOME_TYPES[ordinal - 1] : null;
     }
 
-    public void setFinalBiomeTypes(BiomeType[][] finalBiomeTypes) {
-        this.finalBiomeTypes = finalBiomeTypes;
+    public void setBiomeType(int localX, int localY, BiomeType type) {
+        if (biomeTypes == null) {
+            if (type == null) return;
+            biomeTypes = new byte[CELLS];
+        }
+        biomeTypes[tileIndex(localX, localY)] = (byte) (type != null ? type.ordinal() + 1 : 0);
     }
 }
@@ -0,0 +1,65 @@
+package io.github.pokemeetup.system.gameplay.overworld;
+
+/**
+ * Immutable chunk coordinate, plus helpers for the packed {@code long} form used as the key of
+ * chunk-indexed maps ({@code x} in the high 32 bits, {@code y} in the low 32 bits).
+ * Packing and unpacking are plain arithmetic, so lookups keyed this way allocate nothing.
+ */
+public final class ChunkPos {
+    public final int x;
+    public final int y;
+
+    public ChunkPos(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    public static ChunkPos of(int x, int y) {
+        return new ChunkPos(x, y);
+    }
+
+    public static ChunkPos fromLong(long key) {
+        return new ChunkPos(unpackX(key), unpackY(key));
+    }
+
+    public static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    public static int unpackX(long key) {
+        return (int) (key >> 32);
+    }
+
+    public static int unpackY(long key) {
+        return (int) key;
+    }
+
+    /**
+     * Chunk containing the given tile coordinate, floor-divided so negative tiles map correctly.
+     */
+    public static long packTile(int tileX, int tileY) {
+        return pack(Math.floorDiv(tileX, Chunk.CHUNK_SIZE), Math.floorDiv(tileY, Chunk.CHUNK_SIZE));
+    }
+
+    public long toLong() {
+        return pack(x, y);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ChunkPos)) return false;
+        ChunkPos other = (ChunkPos) o;
+        return x == other.x && y == other.y;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * x + y;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + x + "," + y + ")";
+    }
+}
@@ -36,20 +36,39 @@ public class DayNightCycle {
 
 
     public static Color getWorldColor(float hourOfDay) {
+        return getWorldColor(hourOfDay, new Color());
+    }
 
-        Color result = new Color();
+    /**
+     * Writes the world colour for the hour into {@code out} and returns it.
+     */
+    public static Color getWorldColor(float hourOfDay, Color out) {
         if (hourOfDay >= NIGHT_START || hourOfDay < DAWN_START) {
-            return new Color(NIGHT_COLOR);
+            return out.set(NIGHT_COLOR);
         }
         if (hourOfDay >= DAWN_START && hourOfDay < DAY_START) {
             float progress = (hourOfDay - DAWN_START);
-            return result.set(DAWN_COLOR).lerp(DAY_COLOR, progress);
+            return out.set(DAWN_COLOR).lerp(DAY_COLOR, progress);
         }
         if (hourOfDay >= DAY_START && hourOfDay < DUSK_START) {
-            return new Color(DAY_COLOR);
+            return out.set(DAY_COLOR);
         }
         float progress = (hourOfDay - DUSK_START);
-        return result.set(DAY_COLOR).lerp(NIGHT_COLOR, progress);
+        return out.set(DAY_COLOR).lerp(NIGHT_COLOR, progress);
+    }
+
+    /**
+     * How far a world colour has darkened from full day (0) towards full night (1). Block light
+     * fades in with it, so torches brighten gradually through dusk instead of switching on.
+     */
+    public static float getDarkness(Color worldColor) {
+        if (worldColor == null) {
+            return 0f;
+        }
+        float day = (DAY_COLOR.r + DAY_COLOR.g + DAY_COLOR.b) / 3f;
+        float night = (NIGHT_COLOR.r + NIGHT_COLOR.g + NIGHT_COLOR.b) / 3f;
+        float current = (worldColor.r + worldColor.g + worldColor.b) / 3f;
+        return clamp((day - current) / (day - night), 0f, 1f);
     }
 
     private static float clamp(float value, float min, float max) {
@@ -0,0 +1,236 @@
+package io.github.pokemeetup.system.gameplay.overworld;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.LongMap;
+import io.github.pokemeetup.blocks.PlaceableBlock;
+import io.github.pokemeetup.utils.ConcurrentLongMap;
+
+/**
+ * Light cast by placed blocks, stored as one float grid per chunk.
+ * <p>
+ * Levels are kept between frames and only recomputed around a light source when it is placed,
+ * broken, or its chunk is loaded or unloaded. {@link #sync} detects those changes through
+ * {@link Chunk#getBlockVersion()}, so no caller has to report them. Touched only from the render
+ * thread.
+ */
+public class LightMap {
+    private static final int CELLS = Chunk.CHUNK_SIZE * Chunk.CHUNK_SIZE;
+    private static final int MAX_RADIUS = 7;
+
+    private final LongMap<float[]> grids = new LongMap<>();
+    private final LongMap<ChunkLights> chunkLights = new LongMap<>();
+    private final LongArray chunkKeyBuffer = new LongArray();
+    private final Array<Chunk> chunkBuffer = new Array<>();
+    private final LongArray staleKeys = new LongArray();
+    private final IntArray scannedSources = new IntArray();
+    private final float[][] falloff = new float[MAX_RADIUS + 1][];
+    private int syncStamp;
+
+    /**
+     * Light sources of one loaded chunk as consecutive tileX, tileY, radius triples.
+     */
+    private static final class ChunkLights {
+        Chunk chunk;
+        int version;
+        int stamp;
+        final IntArray sources = new IntArray();
+    }
+
+    public float getLevel(int tileX, int tileY) {
+        float[] grid = grids.get(ChunkPos.packTile(tileX, tileY));
+        return grid != null ? grid[cellIndex(tileX, tileY)] : 0f;
+    }
+
+    /**
+     * Whether any tile of the chunk receives light.
+     */
+    public boolean isChunkLit(long chunkKey) {
+        return grids.containsKey(chunkKey);
+    }
+
+    /**
+     * Brings the light sources in line with the loaded chunks. Chunks whose blocks did not change
+     * since the last call are skipped without looking at their blocks.
+     */
+    public void sync(ConcurrentLongMap<Chunk> chunks) {
+        syncStamp++;
+        int count = chunks.snapshot(chunkKeyBuffer, chunkBuffer);
+        for (int i = 0; i < count; i++) {
+            long chunkKey = chunkKeyBuffer.get(i);
+            Chunk chunk = chunkBuffer.get(i);
+            ChunkLights lights = chunkLights.get(chunkKey);
+            if (lights == null) {
+                lights = new ChunkLights();
+                chunkLights.put(chunkKey, lights);
+            } else if (lights.chunk == chunk && lights.version == chunk.getBlockVersion()) {
+                lights.stamp = syncStamp;
+                continue;
+            }
+            lights.chunk = chunk;
+            lights.version = chunk.getBlockVersion();
+            lights.stamp = syncStamp;
+            collectSources(chunk, scannedSources);
+            applySources(lights.sources, scannedSources);
+        }
+        chunkBuffer.clear();
+
+        staleKeys.clear();
+        for (LongMap.Entry<ChunkLights> entry : chunkLights.entries()) {
+            if (entry.value.stamp != syncStamp) {
+                staleKeys.add(entry.key);
+            }
+        }
+        for (int i = 0; i < staleKeys.size; i++) {
+            ChunkLights lights = chunkLights.remove(staleKeys.get(i));
+            scannedSources.clear();
+            applySources(lights.sources, scannedSources);
+        }
+    }
+
+    public void clear() {
+        grids.clear();
+        chunkLights.clear();
+    }
+
+    private static void collectSources(Chunk chunk, IntArray out) {
+        out.clear();
+        for (PlaceableBlock block : chunk.getBlocks()) {
+            if (block == null || block.getType() == null) continue;
+            int radius = Math.min(block.getType().getLightRadius(), MAX_RADIUS);
+            if (radius <= 0) continue;
+            out.add((int) block.getPosition().x, (int) block.getPosition().y, radius);
+        }
+    }
+
+    /**
+     * Turns {@code current} into {@code target}, lighting added sources and darkening removed ones.
+     */
+    private void applySources(IntArray current, IntArray target) {
+        for (int i = current.size - 3; i >= 0; i -= 3) {
+            if (indexOfSource(target, current.get(i), current.get(i + 1), current.get(i + 2)) < 0) {
+                int tileX = current.get(i);
+                int tileY = current.get(i + 1);
+                int radius = current.get(i + 2);
+                current.removeRange(i, i + 2);
+                darken(tileX, tileY, radius);
+            }
+        }
+        for (int i = 0; i < target.size; i += 3) {
+            int tileX = target.get(i);
+            int tileY = target.get(i + 1);
+            int radius = target.get(i + 2);
+            if (indexOfSource(current, tileX, tileY, radius) < 0) {
+                current.add(tileX, tileY, radius);
+                stamp(tileX, tileY, radius);
+            }
+        }
+    }
+
+    private static int indexOfSource(IntArray sources, int tileX, int tileY, int radius) {
+        for (int i = 0; i < sources.size; i += 3) {
+            if (sources.get(i) == tileX && sources.get(i + 1) == tileY && sources.get(i + 2) == radius) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Spreads a source's light over its disc, keeping the brighter value where lights overlap.
+     */
+    private void stamp(int sourceX, int sourceY, int radius) {
+        float[] kernel = falloffFor(radius);
+        int size = radius * 2 + 1;
+        for (int dy = -radius; dy <= radius; dy++) {
+            for (int dx = -radius; dx <= radius; dx++) {
+                float level = kernel[(dy + radius) * size + dx + radius];
+                if (level <= 0f) continue;
+                int tileX = sourceX + dx;
+                int tileY = sourceY + dy;
+                long chunkKey = ChunkPos.packTile(tileX, tileY);
+                float[] grid = grids.get(chunkKey);
+                if (grid == null) {
+                    grid = new float[CELLS];
+                    grids.put(chunkKey, grid);
+                }
+                int index = cellIndex(tileX, tileY);
+                if (level > grid[index]) {
+                    grid[index] = level;
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears a removed source's disc, then re-lights it from every remaining source that overlaps.
+     */
+    private void darken(int sourceX, int sourceY, int radius) {
+        int minChunkX = Math.floorDiv(sourceX - radius, Chunk.CHUNK_SIZE);
+        int maxChunkX = Math.floorDiv(sourceX + radius, Chunk.CHUNK_SIZE);
+        int minChunkY = Math.floorDiv(sourceY - radius, Chunk.CHUNK_SIZE);
+        int maxChunkY = Math.floorDiv(sourceY + radius, Chunk.CHUNK_SIZE);
+        for (int tileY = sourceY - radius; tileY <= sourceY + radius; tileY++) {
+            for (int tileX = sourceX - radius; tileX <= sourceX + radius; tileX++) {
+                float[] grid = grids.get(ChunkPos.packTile(tileX, tileY));
+                if (grid != null) {
+                    grid[cellIndex(tileX, tileY)] = 0f;
+                }
+            }
+        }
+
+        int reach = Math.floorDiv(MAX_RADIUS, Chunk.CHUNK_SIZE) + 1;
+        for (int chunkX = minChunkX - reach; chunkX <= maxChunkX + reach; chunkX++) {
+            for (int chunkY = minChunkY - reach; chunkY <= maxChunkY + reach; chunkY++) {
+                ChunkLights lights = chunkLights.get(ChunkPos.pack(chunkX, chunkY));
+                if (lights == null) continue;
+                IntArray sources = lights.sources;
+                for (int i = 0; i < sources.size; i += 3) {
+                    int otherRadius = sources.get(i + 2);
+                    if (Math.abs(sources.get(i) - sourceX) <= radius + otherRadius &&
+                        Math.abs(sources.get(i + 1) - sourceY) <= radius + otherRadius) {
+                        stamp(sources.get(i), sources.get(i + 1), otherRadius);
+                    }
+                }
+            }
+        }
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkY = minChunkY; chunkY <= maxChunkY; chunkY++) {
+                long chunkKey = ChunkPos.pack(chunkX, chunkY);
+                float[] grid = grids.get(chunkKey);
+                if (grid != null && isDark(grid)) {
+                    grids.remove(chunkKey);
+                }
+            }
+        }
+    }
+
+    private float[] falloffFor(int radius) {
+        float[] kernel = falloff[radius];
+        if (kernel == null) {
+            int size = radius * 2 + 1;
+            kernel = new float[size * size];
+            for (int dy = -radius; dy <= radius; dy++) {
+                for (int dx = -radius; dx <= radius; dx++) {
+                    float distance = (float) Math.sqrt(dx * dx + dy * dy);
+                    kernel[(dy + radius) * size + dx + radius] = Math.max(0f, 1f - distance / radius);
+                }
+            }
+            falloff[radius] = kernel;
+        }
+        return kernel;
+    }
+
+    private static boolean isDark(float[] grid) {
+        for (float level : grid) {
+            if (level > 0f) return false;
+        }
+        return true;
+    }
+
+    private static int cellIndex(int tileX, int tileY) {
+        return Math.floorMod(tileY, Chunk.CHUNK_SIZE) * Chunk.CHUNK_SIZE + Math.floorMod(tileX, Chunk.CHUNK_SIZE);
+    }
+}
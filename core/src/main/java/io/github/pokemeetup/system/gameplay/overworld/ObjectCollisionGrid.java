@@ -0,0 +1,74 @@
+package io.github.pokemeetup.system.gameplay.overworld;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import io.github.pokemeetup.utils.ConcurrentLongMap;
+
+/**
+ * Tile-level occupancy of world object collision boxes, stored as one counter grid per chunk.
+ * <p>
+ * Collision boxes are tile-aligned, so an object blocks exactly the tiles its box covers; a box
+ * that reaches into a neighbouring chunk marks that chunk's grid too. Counters let overlapping
+ * objects be removed independently. Writers are serialized; {@link #isBlocked} takes no lock.
+ */
+public class ObjectCollisionGrid {
+    private static final int CELLS = Chunk.CHUNK_SIZE * Chunk.CHUNK_SIZE;
+
+    // The extra trailing slot counts the occupied cells so empty grids can be dropped.
+    private final ConcurrentLongMap<short[]> grids = new ConcurrentLongMap<>();
+
+    public synchronized void add(WorldObject object) {
+        mark(object, 1);
+    }
+
+    public synchronized void remove(WorldObject object) {
+        mark(object, -1);
+    }
+
+    public synchronized void clear() {
+        grids.clear();
+    }
+
+    public boolean isBlocked(int tileX, int tileY) {
+        short[] grid = grids.get(ChunkPos.packTile(tileX, tileY));
+        return grid != null && grid[cellIndex(tileX, tileY)] > 0;
+    }
+
+    private void mark(WorldObject object, int delta) {
+        if (object == null || object.getType() == null) {
+            return;
+        }
+        Rectangle box = object.getCollisionBox();
+        if (box == null) {
+            return;
+        }
+        int minTileX = MathUtils.floor(box.x / World.TILE_SIZE);
+        int minTileY = MathUtils.floor(box.y / World.TILE_SIZE);
+        int maxTileX = MathUtils.ceil((box.x + box.width) / World.TILE_SIZE) - 1;
+        int maxTileY = MathUtils.ceil((box.y + box.height) / World.TILE_SIZE) - 1;
+        for (int tileX = minTileX; tileX <= maxTileX; tileX++) {
+            for (int tileY = minTileY; tileY <= maxTileY; tileY++) {
+                long chunkKey = ChunkPos.packTile(tileX, tileY);
+                short[] grid = grids.get(chunkKey);
+                if (grid == null) {
+                    if (delta < 0) continue;
+                    grid = new short[CELLS + 1];
+                    grids.put(chunkKey, grid);
+                }
+                int index = cellIndex(tileX, tileY);
+                int before = grid[index];
+                int after = Math.max(0, before + delta);
+                grid[index] = (short) after;
+                if (before == 0 && after > 0) {
+                    grid[CELLS]++;
+                } else if (before > 0 && after == 0 && --grid[CELLS] == 0) {
+                    grids.remove(chunkKey);
+                }
+            }
+        }
+    }
+
+    private static int cellIndex(int tileX, int tileY) {
+        return Math.floorMod(tileY, Chunk.CHUNK_SIZE) * Chunk.CHUNK_SIZE + Math.floorMod(tileX, Chunk.CHUNK_SIZE);
+    }
+}
@@ -84,7 +84,7 @@ public class UnifiedWorldGenerator {
             final int sampleW = size + 2 * MARGIN;
             final int sampleH = size + 2 * MARGIN;
             int[][] sampleTiles = new int[sampleW][sampleH];
-            long chunkSpecificSeed = worldSeed + (((long)chunkX << 32) | ((long)chunkY & 0xFFFFFFFFL));
+            long chunkSpecificSeed = worldSeed + ChunkPos.pack(chunkX, chunkY);
             Random chunkRng = new Random(chunkSpecificSeed);
             for (int sx = 0; sx < sampleW; sx++) {
                 for (int sy = 0; sy < sampleH; sy++) {
@@ -336,7 +336,6 @@ public class UnifiedWorldGenerator {
      */
     private static Biome findDominantBiomeInChunk(Chunk chunk, BiomeManager biomeManager) {
         Map<Biome, Integer> freq = new HashMap<>();
-        int[][] tileData = chunk.getTileData();
         for (int lx = 0; lx < CHUNK_SIZE; lx++) {
             for (int ly = 0; ly < CHUNK_SIZE; ly++) {
                 float worldX = (chunk.getChunkX() * CHUNK_SIZE + lx) * World.TILE_SIZE;
@@ -12,9 +12,12 @@ import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.LongMap;
 import io.github.pokemeetup.audio.AudioManager;
 import io.github.pokemeetup.blocks.BlockManager;
 import io.github.pokemeetup.blocks.PlaceableBlock;
@@ -33,6 +36,7 @@ import io.github.pokemeetup.system.gameplay.overworld.biomes.BiomeType;
 import io.github.pokemeetup.system.gameplay.overworld.mechanics.AutoTileSystem;
 import io.github.pokemeetup.system.gameplay.overworld.multiworld.PokemonSpawnManager;
 import io.github.pokemeetup.system.gameplay.overworld.multiworld.WorldManager;
+import io.github.pokemeetup.utils.ConcurrentLongMap;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.storage.JsonConfig;
 import io.github.pokemeetup.utils.textures.BlockTextureManager;
@@ -59,22 +63,29 @@ public class World {
     private static final int MAX_CHUNK_RETRY = 3;
     public static int DEFAULT_X_POSITION = 0;
     public static int DEFAULT_Y_POSITION = 0;
-    private final Map<Vector2, Long> lastChunkAccess = new ConcurrentHashMap<>();
+    private final ConcurrentLongMap<Long> lastChunkAccess = new ConcurrentLongMap<>();
     private final Set<Vector2> dirtyChunks = Collections.newSetFromMap(new ConcurrentHashMap<>());
     private final BiomeRenderer biomeRenderer;
     private final WeatherSystem weatherSystem;
     private final WeatherAudioSystem weatherAudioSystem;
-    private final Map<Vector2, BiomeTransitionResult> biomeTransitions = new ConcurrentHashMap<>();
+    private final ConcurrentLongMap<BiomeTransitionResult> biomeTransitions = new ConcurrentLongMap<>();
     private final Rectangle tempChunkRect = new Rectangle();
     private final WaterEffectsRenderer waterEffectsRendererForOthers = new WaterEffectsRenderer();
     private final ConcurrentLinkedQueue<Map.Entry<Vector2, Chunk>> integrationQueue = new ConcurrentLinkedQueue<>();
-    public Map<Vector2, Chunk> chunks;
+    private final LongArray chunkKeyBuffer = new LongArray();
+    private final LongArray visibleChunkKeys = new LongArray();
+    private final Array<Chunk> chunkValueBuffer = new Array<>();
+    private final LongMap<ChunkRenderCache> chunkRenderCaches = new LongMap<>();
+    private final Array<RenderableEntity> renderQueue = new Array<>();
+    private final Array<RenderableEntity> renderablePool = new Array<>();
+    private int renderablePoolUsed;
+    public ConcurrentLongMap<Chunk> chunks;
     private FootstepEffectManager footstepEffectManager;
     private Color currentWorldColor = new Color(1, 1, 1, 1);
     private Color previousWorldColor = null;
     private float colorTransitionProgress = 1.0f;
     private volatile boolean initialChunksRequested = false;
-    private Map<Vector2, Future<Chunk>> loadingChunks;
+    private ConcurrentLongMap<Future<Chunk>> loadingChunks;
     private Queue<Vector2> initialChunkLoadQueue = new LinkedList<>();
     private ExecutorService chunkLoadExecutor = Executors.newFixedThreadPool(2); // limit to 2 threads
     private PlayerData currentPlayerData;
@@ -87,14 +98,16 @@ public class World {
     private long worldSeed;
     private WorldObject.WorldObjectManager objectManager;
     private BiomeTransitionResult currentBiomeTransition;
-    private Map<Vector2, Float> lightLevelMap = new HashMap<>();
+    private final LightMap lightMap = new LightMap();
+    private final Color targetWorldColor = new Color();
+    private float lightStrength = 0f;
+    private final Array<Chunk> litTerrainChunks = new Array<>();
     private boolean isDisposed = false;
     private WaterEffectManager waterEffectManager;
     private WaterEffectsRenderer waterEffects;
     private ItemEntityManager itemEntityManager;
-    private List<Map.Entry<Vector2, Chunk>> cachedSortedChunks = null;
+    private long[] cachedSortedChunks = null;
     private int cachedChunkCount = 0;
-    private float lightLevelUpdateTimer = 0f;
     private float manageChunksTimer = 0f;
     private long initialChunkRequestTime;
     private BitmapFont loadingFont;
@@ -108,8 +121,8 @@ public class World {
             this.blockManager = new BlockManager();
             GameContext.get().setBiomeManager(new BiomeManager(this.worldSeed));
             this.biomeRenderer = new BiomeRenderer();
-            this.chunks = new ConcurrentHashMap<>();
-            this.loadingChunks = new ConcurrentHashMap<>();
+            this.chunks = new ConcurrentLongMap<>();
+            this.loadingChunks = new ConcurrentLongMap<>();
             this.initialChunkLoadQueue = new LinkedList<>();
             this.chunkLoadExecutor = Executors.newFixedThreadPool(2);
             if (!GameContext.get().isMultiplayer()) {
@@ -152,8 +165,8 @@ public class World {
             loadingFont = new BitmapFont();
 
             footstepEffectManager = new FootstepEffectManager();
-            this.chunks = new ConcurrentHashMap<>();
-            this.loadingChunks = new ConcurrentHashMap<>();
+            this.chunks = new ConcurrentLongMap<>();
+            this.loadingChunks = new ConcurrentLongMap<>();
 
             WorldData existingData = JsonConfig.loadWorldData(name);
             if (existingData != null) {
@@ -202,15 +215,22 @@ public class World {
         }
     }
 
+    private static final Comparator<RenderableEntity> RENDER_ORDER = RenderableEntity::compareTo;
+
     private static class RenderableEntity implements Comparable<RenderableEntity> {
-        final Object entity;
-        final float y;
-        final RenderableType type;
+        Object entity;
+        float y;
+        RenderableType type;
 
         RenderableEntity(Object entity, float y, RenderableType type) {
+            set(entity, y, type);
+        }
+
+        RenderableEntity set(Object entity, float y, RenderableType type) {
             this.entity = entity;
             this.y = y;
             this.type = type;
+            return this;
         }
 
         @Override
@@ -224,36 +244,41 @@ public class World {
         }
     }
 
-    private void renderTallGrassLowerHalf(SpriteBatch batch, List<WorldObject> tallGrassObjects) {
-        for (WorldObject obj : tallGrassObjects) {
-            TextureRegion region = obj.getTexture();
-            if (region == null) continue;
-            int regionWidth = region.getRegionWidth();
-            int regionHeight = region.getRegionHeight();
-            int srcX = region.getRegionX();
-            int srcY = region.getRegionY() + regionHeight / 2;
-            int srcHeight = regionHeight / 2;
-            float destX = obj.getPixelX();
-            float destY = obj.getPixelY();
-            batch.draw(region.getTexture(), destX, destY, World.TILE_SIZE, World.TILE_SIZE / 2f,
-                srcX, srcY, regionWidth, srcHeight, false, false);
-        }
-    }
-
-    private void renderTallGrassUpperHalf(SpriteBatch batch, List<WorldObject> tallGrassObjects) {
-        for (WorldObject obj : tallGrassObjects) {
-            TextureRegion region = obj.getTexture();
-            if (region == null) continue;
-            int regionWidth = region.getRegionWidth();
-            int regionHeight = region.getRegionHeight();
-            int srcX = region.getRegionX();
-            int srcY = region.getRegionY();
-            int srcHeight = regionHeight / 2;
-            float destX = obj.getPixelX();
-            float destY = obj.getPixelY() + World.TILE_SIZE / 2f;
-            batch.draw(region.getTexture(), destX, destY, World.TILE_SIZE, World.TILE_SIZE / 2f,
-                srcX, srcY, regionWidth, srcHeight, false, false);
-        }
+    /**
+     * A chunk's world objects as render entries, already in draw order. Rebuilt only when the
+     * object manager reports a new version for the chunk.
+     */
+    private static class ChunkRenderCache {
+        final Array<RenderableEntity> entries = new Array<>();
+        int version = -1;
+    }
+
+    private void renderTallGrassLowerHalf(SpriteBatch batch, WorldObject obj) {
+        TextureRegion region = obj.getTexture();
+        if (region == null) return;
+        int regionWidth = region.getRegionWidth();
+        int regionHeight = region.getRegionHeight();
+        int srcX = region.getRegionX();
+        int srcY = region.getRegionY() + regionHeight / 2;
+        int srcHeight = regionHeight / 2;
+        float destX = obj.getPixelX();
+        float destY = obj.getPixelY();
+        batch.draw(region.getTexture(), destX, destY, World.TILE_SIZE, World.TILE_SIZE / 2f,
+            srcX, srcY, regionWidth, srcHeight, false, false);
+    }
+
+    private void renderTallGrassUpperHalf(SpriteBatch batch, WorldObject obj) {
+        TextureRegion region = obj.getTexture();
+        if (region == null) return;
+        int regionWidth = region.getRegionWidth();
+        int regionHeight = region.getRegionHeight();
+        int srcX = region.getRegionX();
+        int srcY = region.getRegionY();
+        int srcHeight = regionHeight / 2;
+        float destX = obj.getPixelX();
+        float destY = obj.getPixelY() + World.TILE_SIZE / 2f;
+        batch.draw(region.getTexture(), destX, destY, World.TILE_SIZE, World.TILE_SIZE / 2f,
+            srcX, srcY, regionWidth, srcHeight, false, false);
     }
 
     /**
@@ -266,10 +291,7 @@ public class World {
     }
 
     public int getTileTypeAt(int tileX, int tileY) {
-        int chunkX = Math.floorDiv(tileX, Chunk.CHUNK_SIZE);
-        int chunkY = Math.floorDiv(tileY, Chunk.CHUNK_SIZE);
-        Vector2 chunkPos = new Vector2(chunkX, chunkY);
-        Chunk chunk = chunks.get(chunkPos);
+        Chunk chunk = chunks.get(ChunkPos.packTile(tileX, tileY));
         if (chunk != null) {
             int localX = Math.floorMod(tileX, Chunk.CHUNK_SIZE);
             int localY = Math.floorMod(tileY, Chunk.CHUNK_SIZE);
@@ -286,8 +308,11 @@ public class World {
         return itemEntityManager;
     }
 
-    public Float getLightLevelAtTile(Vector2 tilePos) {
-        return lightLevelMap.get(tilePos);
+    /**
+     * Block light on the tile, already scaled by how dark the current world colour is.
+     */
+    public float getLightLevelAtTile(int tileX, int tileY) {
+        return lightStrength > 0f ? lightMap.getLevel(tileX, tileY) * lightStrength : 0f;
     }
 
     public Color getCurrentWorldColor() {
@@ -303,7 +328,9 @@ public class World {
             Map<Vector2, Chunk> worldChunks = worldData.getChunks();
             if (worldChunks != null) {
                 chunks.clear();
-                this.chunks.putAll(worldChunks);
+                for (Map.Entry<Vector2, Chunk> entry : worldChunks.entrySet()) {
+                    chunks.put(chunkKey(entry.getKey()), entry.getValue());
+                }
                 GameLogger.info("Loaded " + chunks.size() + " chunks from disk.");
             }
 
@@ -367,6 +394,10 @@ public class World {
         }
 
         Vector2 chunkPos = new Vector2(chunkData.chunkX, chunkData.chunkY);
+        if (!Chunk.isValidTiles(chunkData.tiles)) {
+            GameLogger.error("Client dropped chunk " + chunkPos + " with malformed tile data");
+            return;
+        }
         try {
             Biome primaryBiome = getBiomeManager().getBiome(chunkData.primaryBiomeType);
             if (primaryBiome == null) {
@@ -375,12 +406,12 @@ public class World {
             }
 
             Biome finalPrimaryBiome = primaryBiome;
-            Chunk chunk = chunks.computeIfAbsent(chunkPos, k -> new Chunk(chunkData.chunkX, chunkData.chunkY, finalPrimaryBiome, chunkData.generationSeed));
+            Chunk chunk = chunks.computeIfAbsent(ChunkPos.pack(chunkData.chunkX, chunkData.chunkY), k -> new Chunk(chunkData.chunkX, chunkData.chunkY, finalPrimaryBiome, chunkData.generationSeed));
             chunk.setBiome(primaryBiome);
-            chunk.setTileData(chunkData.tileData);
-            chunk.getBlocks().clear();
+            chunk.setTiles(chunkData.tiles);
+            chunk.clearBlocks();
             chunk.getWorldObjects().clear();
-            getObjectManager().getObjectsForChunk(chunkPos).clear();
+            getObjectManager().setObjectsForChunk(chunkPos, null);
 
             if (chunkData.blockData != null) {
                 for (BlockSaveData.BlockData bd : chunkData.blockData) {
@@ -421,10 +452,18 @@ public class World {
 
 
     public void storeBiomeTransition(Vector2 chunkPos, BiomeTransitionResult transition) {
-        if (chunkPos != null && transition != null && transition.getPrimaryBiome() != null) {
-            biomeTransitions.put(chunkPos, transition);
+        if (chunkPos == null) {
+            GameLogger.error("Attempted to store invalid biome transition for chunk: null");
+            return;
+        }
+        storeBiomeTransition(chunkKey(chunkPos), transition);
+    }
+
+    private void storeBiomeTransition(long chunkKey, BiomeTransitionResult transition) {
+        if (transition != null && transition.getPrimaryBiome() != null) {
+            biomeTransitions.put(chunkKey, transition);
         } else {
-            GameLogger.error("Attempted to store invalid biome transition for chunk: " + chunkPos);
+            GameLogger.error("Attempted to store invalid biome transition for chunk: " + ChunkPos.fromLong(chunkKey));
         }
     }
     private void processBlockData(Chunk chunk, BlockSaveData.BlockData bd) {
@@ -452,8 +491,7 @@ public class World {
         int loadedChunks = 0;
         for (int dx = -INITIAL_LOAD_RADIUS; dx <= INITIAL_LOAD_RADIUS; dx++) {
             for (int dy = -INITIAL_LOAD_RADIUS; dy <= INITIAL_LOAD_RADIUS; dy++) {
-                Vector2 expectedKey = new Vector2(playerChunkX + dx, playerChunkY + dy);
-                if (chunks.containsKey(expectedKey)) {
+                if (chunks.containsKey(ChunkPos.pack(playerChunkX + dx, playerChunkY + dy))) {
                     loadedChunks++;
                 }
             }
@@ -482,33 +520,19 @@ public class World {
             "), chunk (" + playerChunkX + "," + playerChunkY + ")");
         List<Vector2> spiralOrder = generateOptimizedSpiralOrder(playerChunkX, playerChunkY, INITIAL_LOAD_RADIUS);
         Vector2 currentChunk = new Vector2(playerChunkX, playerChunkY);
-        if (!chunks.containsKey(currentChunk)) {
+        if (!chunks.containsKey(chunkKey(currentChunk))) {
             if (GameContext.get().isMultiplayer()) {
                 GameLogger.info("Requesting player's current chunk at: " + currentChunk + " (PRIORITY)");
                 GameContext.get().getGameClient().requestChunk(currentChunk);
-                try {
-                    Thread.sleep(50);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
             } else {
                 loadChunkAsync(currentChunk);
             }
         }
-        int requestCount = 0;
         for (Vector2 chunkKey : spiralOrder) {
-            if (!chunks.containsKey(chunkKey)) {
+            if (!chunks.containsKey(chunkKey(chunkKey))) {
                 if (GameContext.get().isMultiplayer()) {
                     GameLogger.info("Requesting chunk at: " + chunkKey);
                     GameContext.get().getGameClient().requestChunk(chunkKey);
-                    requestCount++;
-                    if (requestCount % 3 == 0) {
-                        try {
-                            Thread.sleep(30);
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                        }
-                    }
                 } else {
                     loadChunkAsync(chunkKey);
                 }
@@ -565,7 +589,7 @@ public class World {
         for (int dx = -INITIAL_LOAD_RADIUS; dx <= INITIAL_LOAD_RADIUS; dx++) {
             for (int dy = -INITIAL_LOAD_RADIUS; dy <= INITIAL_LOAD_RADIUS; dy++) {
                 Vector2 chunkPos = new Vector2(playerChunkX + dx, playerChunkY + dy);
-                if (!chunks.containsKey(chunkPos)) {
+                if (!chunks.containsKey(chunkKey(chunkPos))) {
                     missingChunks.add(chunkPos);
                 }
             }
@@ -575,10 +599,10 @@ public class World {
             float distB = Vector2.dst(b.x, b.y, playerChunkPos.x, playerChunkPos.y);
             return Float.compare(distA, distB);
         });
-        if (!chunks.containsKey(playerChunkPos)) {
+        if (!chunks.containsKey(chunkKey(playerChunkPos))) {
             Chunk playerChunk = loadOrGenerateChunk(playerChunkPos);
             if (playerChunk != null) {
-                chunks.put(playerChunkPos, playerChunk);
+                chunks.put(chunkKey(playerChunkPos), playerChunk);
                 GameLogger.info("Force-loaded player's current chunk " + playerChunkPos);
             }
         }
@@ -598,7 +622,7 @@ public class World {
                 } else {
                     chunk = loadOrGenerateChunk(chunkPos);
                     if (chunk != null) {
-                        chunks.put(chunkPos, chunk);
+                        chunks.put(chunkKey(chunkPos), chunk);
                         loadedThisFrame++;
                         GameLogger.info("Force-loaded chunk " + chunkPos);
                     }
@@ -667,12 +691,15 @@ public class World {
                 currentState.updateFromPlayer(GameContext.get().getPlayer());
                 worldData.savePlayerData(GameContext.get().getPlayer().getUsername(), currentState, false);
             }
-            for (Map.Entry<Vector2, Chunk> entry : chunks.entrySet()) {
-                if (entry.getValue().isDirty()) {
-                    saveChunkData(entry.getKey(), entry.getValue());
-                    entry.getValue().setDirty(false); // Mark as clean after saving
+            int count = chunks.snapshot(chunkKeyBuffer, chunkValueBuffer);
+            for (int i = 0; i < count; i++) {
+                Chunk chunk = chunkValueBuffer.get(i);
+                if (chunk.isDirty()) {
+                    saveChunkData(chunkVector(chunkKeyBuffer.get(i)), chunk);
+                    chunk.setDirty(false); // Mark as clean after saving
                 }
             }
+            chunkValueBuffer.clear();
             worldData.setLastPlayed(System.currentTimeMillis());
             worldData.setDirty(true);
             WorldManager.getInstance().saveWorld(worldData);
@@ -698,6 +725,10 @@ public class World {
             if (waterEffects != null) {
                 waterEffects.dispose();
             }
+            if (biomeRenderer != null) {
+                biomeRenderer.dispose();
+            }
+            lightMap.clear();
             if (chunkLoadExecutor != null) {
                 chunkLoadExecutor.shutdown();
                 try {
@@ -742,15 +773,18 @@ public class World {
         if (chunks.isEmpty()) return;
 
         long now = System.currentTimeMillis();
-        List<Vector2> candidates = new ArrayList<>(chunks.keySet());
+        List<ChunkPos> candidates = new ArrayList<>();
+        for (long key : chunks.keys()) {
+            candidates.add(ChunkPos.fromLong(key));
+        }
         candidates.sort(Comparator.comparingDouble(cp -> Vector2.dst2(cp.x, cp.y, playerChunkX, playerChunkY)));
-        List<Vector2> toUnload = new ArrayList<>();
+        List<ChunkPos> toUnload = new ArrayList<>();
 
         int maxRadius = MAX_CHUNK_LOAD_RADIUS;
 
-        for (Vector2 chunkPos : candidates) {
+        for (ChunkPos chunkPos : candidates) {
             float dist2 = Vector2.dst2(chunkPos.x, chunkPos.y, playerChunkX, playerChunkY);
-            Long lastAccessTime = lastChunkAccess.getOrDefault(chunkPos, 0L);
+            Long lastAccessTime = lastChunkAccess.getOrDefault(chunkPos.toLong(), 0L);
             long idleTime = now - lastAccessTime;
 
             boolean beyondDistance = dist2 > (maxRadius * maxRadius);
@@ -762,11 +796,11 @@ public class World {
         int currentCount = chunks.size();
         if (currentCount > MAX_LOADED_CHUNKS) {
             candidates.sort((a, b) -> {
-                long aTime = lastChunkAccess.getOrDefault(a, 0L);
-                long bTime = lastChunkAccess.getOrDefault(b, 0L);
+                long aTime = lastChunkAccess.getOrDefault(a.toLong(), 0L);
+                long bTime = lastChunkAccess.getOrDefault(b.toLong(), 0L);
                 return Long.compare(aTime, bTime);
             });
-            for (Vector2 chunkPos : candidates) {
+            for (ChunkPos chunkPos : candidates) {
                 if (currentCount <= MAX_LOADED_CHUNKS) break;
                 float dist2 = Vector2.dst2(chunkPos.x, chunkPos.y, playerChunkX, playerChunkY);
                 if (dist2 <= (maxRadius * maxRadius)) {
@@ -778,17 +812,18 @@ public class World {
                 }
             }
         }
-        for (Vector2 chunkPos : toUnload) {
-            Chunk chunk = chunks.get(chunkPos);
+        for (ChunkPos chunkPos : toUnload) {
+            long key = chunkPos.toLong();
+            Chunk chunk = chunks.get(key);
             if (chunk != null) {
                 if (!GameContext.get().isMultiplayer() && chunk.isDirty()) {
-                    saveChunkData(chunkPos, chunk);
+                    saveChunkData(new Vector2(chunkPos.x, chunkPos.y), chunk);
                 }
             }
-            chunks.remove(chunkPos);
-            biomeTransitions.remove(chunkPos);
-            loadingChunks.remove(chunkPos);
-            lastChunkAccess.remove(chunkPos);
+            chunks.remove(key);
+            biomeTransitions.remove(key);
+            loadingChunks.remove(key);
+            lastChunkAccess.remove(key);
         }
 
         if (!toUnload.isEmpty()) {
@@ -806,7 +841,7 @@ public class World {
             data.x = (int) chunkPos.x;
             data.y = (int) chunkPos.y;
             data.biomeType = chunk.getBiome().getType();
-            data.tileData = chunk.getTileData();
+            data.tiles = chunk.getTiles();
             data.blocks = chunk.getBlockDataForSave();
             List<WorldObject> objects = objectManager.getObjectsForChunk(chunkPos);
             data.objects = objects.stream().map(WorldObjectData::new).collect(Collectors.toList());
@@ -822,7 +857,7 @@ public class World {
             chunkFile.parent().mkdirs();
             String jsonString = json.prettyPrint(data);
             chunkFile.writeString(jsonString, false);
-            chunks.put(chunkPos, chunk);
+            chunks.put(chunkKey(chunkPos), chunk);
             worldData.getChunks().put(chunkPos, chunk);
             worldData.addChunkObjects(chunkPos, objects);
             worldData.setDirty(true);
@@ -853,7 +888,12 @@ public class World {
             BiomeType biomeType = chunkData.biomeType;
             Biome biome = GameContext.get().getBiomeManager().getBiome(biomeType);
             Chunk chunk = new Chunk((int) chunkPos.x, (int) chunkPos.y, biome, worldSeed);
-            chunk.setTileData(chunkData.tileData);
+            chunk.setTiles(chunkData.tiles);
+            if (!chunk.hasTileData()) {
+                // The caller regenerates chunks that fail to load.
+                GameLogger.error("Malformed tile data in saved chunk " + chunkPos + ", regenerating");
+                return null;
+            }
             if (chunkData.blocks != null) {
 
                 for (BlockSaveData.BlockData blockDataItem : chunkData.blocks) {
@@ -998,10 +1038,18 @@ public class World {
 
     }
 
-    public Map<Vector2, Chunk> getChunks() {
+    public ConcurrentLongMap<Chunk> getChunks() {
         return chunks;
     }
 
+    private static long chunkKey(Vector2 chunkPos) {
+        return ChunkPos.pack((int) chunkPos.x, (int) chunkPos.y);
+    }
+
+    private static Vector2 chunkVector(long chunkKey) {
+        return new Vector2(ChunkPos.unpackX(chunkKey), ChunkPos.unpackY(chunkKey));
+    }
+
     public void updatePlayerData() {
         if (GameContext.get().getPlayer() != null && currentPlayerData != null) {
             currentPlayerData.updateFromPlayer(GameContext.get().getPlayer());
@@ -1046,17 +1094,15 @@ public class World {
 
 
     public Biome getBiomeAt(int tileX, int tileY) {
-        int chunkX = Math.floorDiv(tileX, CHUNK_SIZE);
-        int chunkY = Math.floorDiv(tileY, CHUNK_SIZE);
-        Vector2 chunkPos = new Vector2(chunkX, chunkY);
-        BiomeTransitionResult storedTransition = biomeTransitions.get(chunkPos);
+        long chunkKey = ChunkPos.packTile(tileX, tileY);
+        BiomeTransitionResult storedTransition = biomeTransitions.get(chunkKey);
         if (storedTransition != null && storedTransition.getPrimaryBiome() != null) {
             return storedTransition.getPrimaryBiome();
         }
-        Chunk chunk = chunks.get(chunkPos);
+        Chunk chunk = chunks.get(chunkKey);
         if (chunk != null && chunk.getBiome() != null) {
-            if (!biomeTransitions.containsKey(chunkPos)) {
-                storeBiomeTransition(chunkPos, new BiomeTransitionResult(chunk.getBiome(), null, 1f));
+            if (!biomeTransitions.containsKey(chunkKey)) {
+                storeBiomeTransition(chunkKey, new BiomeTransitionResult(chunk.getBiome(), null, 1f));
             }
             return chunk.getBiome();
         }
@@ -1064,7 +1110,7 @@ public class World {
         if (bm != null) {
             BiomeTransitionResult calculatedResult = bm.getBiomeAtTile(tileX, tileY); // Use tile-based query
             if (calculatedResult != null && calculatedResult.getPrimaryBiome() != null) {
-                storeBiomeTransition(chunkPos, calculatedResult);
+                storeBiomeTransition(chunkKey, calculatedResult);
                 return calculatedResult.getPrimaryBiome();
             }
         }
@@ -1100,10 +1146,10 @@ public class World {
 
     public Chunk loadOrGenerateChunk(Vector2 chunkPos) {
         if (GameContext.get().isMultiplayer()) {
-            if (!chunks.containsKey(chunkPos)) {
+            if (!chunks.containsKey(chunkKey(chunkPos))) {
                 GameContext.get().getGameClient().requestChunk(chunkPos);
             }
-            return chunks.get(chunkPos);
+            return chunks.get(chunkKey(chunkPos));
         }
         Chunk loaded = loadChunkData(chunkPos);
         if (isChunkValid(loaded)) {
@@ -1136,7 +1182,7 @@ public class World {
         int playerChunkY = Math.floorDiv(playerTileY, CHUNK_SIZE);
         List<Vector2> chunkOrder = generateSpiralChunkOrder(playerChunkX, playerChunkY, INITIAL_LOAD_RADIUS);
         for (Vector2 chunkPos : chunkOrder) {
-            if (!chunks.containsKey(chunkPos)) {
+            if (!chunks.containsKey(chunkKey(chunkPos))) {
                 if (GameContext.get().getGameClient() != null && GameContext.get().isMultiplayer()) {
                     GameContext.get().getGameClient().requestChunk(chunkPos);
                 } else {
@@ -1149,7 +1195,7 @@ public class World {
 
     private void updateWorldColor() {
         float hourOfDay = DayNightCycle.getHourOfDay(worldData.getWorldTimeInMinutes());
-        Color targetColor = DayNightCycle.getWorldColor(hourOfDay);
+        Color targetColor = DayNightCycle.getWorldColor(hourOfDay, targetWorldColor);
 
         if (currentWorldColor == null) {
             currentWorldColor = new Color(targetColor);
@@ -1177,10 +1223,10 @@ public class World {
 
     private void validateChunkState() {
         if (chunks == null) {
-            chunks = new ConcurrentHashMap<>();
+            chunks = new ConcurrentLongMap<>();
         }
         if (loadingChunks == null) {
-            loadingChunks = new ConcurrentHashMap<>();
+            loadingChunks = new ConcurrentLongMap<>();
         }
         if (initialChunkLoadQueue == null) {
             initialChunkLoadQueue = new LinkedList<>();
@@ -1195,8 +1241,8 @@ public class World {
         if (isDisposed || (chunkLoadExecutor != null && chunkLoadExecutor.isShutdown())) {
             return;
         }
-        if (loadingChunks.containsKey(chunkPos)) return;
-        loadingChunks.put(chunkPos, CompletableFuture.completedFuture(null));
+        if (loadingChunks.containsKey(chunkKey(chunkPos))) return;
+        loadingChunks.put(chunkKey(chunkPos), CompletableFuture.completedFuture(null));
 
         try {
             CompletableFuture.supplyAsync(() -> {
@@ -1217,12 +1263,12 @@ public class World {
                         if (chunk != null) {
                             integrationQueue.add(new AbstractMap.SimpleEntry<>(chunkPos, chunk));
                         }
-                        loadingChunks.remove(chunkPos);
+                        loadingChunks.remove(chunkKey(chunkPos));
                     });
                 })
                 .exceptionally(ex -> {
                     GameLogger.error("Error loading chunk at " + chunkPos + " on retry " + retryCount + ": " + ex.getMessage());
-                    loadingChunks.remove(chunkPos);
+                    loadingChunks.remove(chunkKey(chunkPos));
                     if (retryCount < MAX_CHUNK_RETRY) {
                         Gdx.app.postRunnable(() -> loadChunkAsyncWithRetry(chunkPos, retryCount + 1));
                     } else {
@@ -1237,24 +1283,19 @@ public class World {
                 });
         } catch (RejectedExecutionException e) {
             GameLogger.error("Rejected execution for chunk " + chunkPos + ": " + e.getMessage());
-            loadingChunks.remove(chunkPos);
+            loadingChunks.remove(chunkKey(chunkPos));
         }
     }
     public Chunk getChunkAtPosition(float x, float y) {
         int chunkX = Math.floorDiv((int) x, Chunk.CHUNK_SIZE);
         int chunkY = Math.floorDiv((int) y, Chunk.CHUNK_SIZE);
-        Vector2 pos = new Vector2(chunkX, chunkY);
-        Chunk chunk = chunks.get(pos);
+        long key = ChunkPos.pack(chunkX, chunkY);
+        Chunk chunk = chunks.get(key);
 
-        if (chunk == null) {
-            chunk = loadOrGenerateChunk(pos);
+        if (chunk == null || !isChunkValid(chunk)) {
+            chunk = loadOrGenerateChunk(new Vector2(chunkX, chunkY));
             if (chunk != null) {
-                chunks.put(pos, chunk);
-            }
-        } else if (!isChunkValid(chunk)) {
-            chunk = loadOrGenerateChunk(pos);
-            if (chunk != null) {
-                chunks.put(pos, chunk);
+                chunks.put(key, chunk);
             }
         }
         return chunk;
@@ -1265,8 +1306,7 @@ public class World {
         int playerTileY = GameContext.get().getPlayer().getTileY();
         int playerChunkX = Math.floorDiv(playerTileX, Chunk.CHUNK_SIZE);
         int playerChunkY = Math.floorDiv(playerTileY, Chunk.CHUNK_SIZE);
-        Vector2 currentChunk = new Vector2(playerChunkX, playerChunkY);
-        return chunks.containsKey(currentChunk);
+        return chunks.containsKey(ChunkPos.pack(playerChunkX, playerChunkY));
     }
 
 
@@ -1278,7 +1318,7 @@ public class World {
         while (!integrationQueue.isEmpty() && integratedThisFrame < MAX_CHUNKS_INTEGRATED_PER_FRAME) {
             Map.Entry<Vector2, Chunk> entry = integrationQueue.poll();
             if (entry != null && entry.getValue() != null) {
-                chunks.put(entry.getKey(), entry.getValue());
+                chunks.put(chunkKey(entry.getKey()), entry.getValue());
             }
             integratedThisFrame++;
         }
@@ -1299,7 +1339,7 @@ public class World {
                 Vector2 currentChunk = new Vector2(playerChunkX, playerChunkY);
                 Chunk chunk = loadOrGenerateChunk(currentChunk);
                 if (chunk != null) {
-                    chunks.put(currentChunk, chunk);
+                    chunks.put(chunkKey(currentChunk), chunk);
                 }
             }
         }
@@ -1307,11 +1347,8 @@ public class World {
             worldData.updateTime(delta);
         }
         updateWorldColor();
-        lightLevelUpdateTimer += delta;
-        if (lightLevelUpdateTimer >= 2.0f) {
-            updateLightLevels();
-            lightLevelUpdateTimer = 0f;
-        }
+        lightStrength = DayNightCycle.getDarkness(currentWorldColor);
+        lightMap.sync(chunks);
         updateWeather(delta, playerPosition, gameScreen);
         footstepEffectManager.update(delta);
         manageChunksTimer += delta;
@@ -1346,8 +1383,7 @@ public class World {
         int playerTileY = GameContext.get().getPlayer().getTileY();
         int playerChunkX = Math.floorDiv(playerTileX, Chunk.CHUNK_SIZE);
         int playerChunkY = Math.floorDiv(playerTileY, Chunk.CHUNK_SIZE);
-        Vector2 currentChunk = new Vector2(playerChunkX, playerChunkY);
-        return chunks.containsKey(currentChunk);
+        return chunks.containsKey(ChunkPos.pack(playerChunkX, playerChunkY));
     }
 
     public long getInitialChunkRequestTime() {
@@ -1386,18 +1422,18 @@ public class World {
 
         while (!chunkQueue.isEmpty() && loadedThisFrame < MAX_CHUNKS_PER_FRAME) {
             Vector2 chunkPos = chunkQueue.poll();
-            Chunk existing = chunks.get(chunkPos);
+            Chunk existing = chunks.get(chunkKey(chunkPos));
             if (!isChunkValid(existing)) {
                 if (GameContext.get().isMultiplayer()) {
                     GameContext.get().getGameClient().requestChunk(chunkPos);
                 } else {
-                    if (!loadingChunks.containsKey(chunkPos)) {
+                    if (!loadingChunks.containsKey(chunkKey(chunkPos))) {
                         loadChunkAsync(chunkPos);
                     }
                 }
                 loadedThisFrame++;
             }
-            lastChunkAccess.put(chunkPos, now);
+            lastChunkAccess.put(chunkKey(chunkPos), now);
         }
         unloadDistantChunks(playerChunkX, playerChunkY);
     }
@@ -1424,11 +1460,7 @@ public class World {
                 batch.setColor(currentWorldColor);
             }
             Rectangle expandedBounds = getExpandedViewBounds(viewBounds);
-            List<Map.Entry<Vector2, Chunk>> sortedChunks = getSortedChunks();
-
-
-            sortedChunks.sort(Comparator.comparingDouble(entry -> entry.getKey().y));
-            renderTerrainLayer(batch, sortedChunks, expandedBounds);
+            renderTerrainLayer(batch, getSortedChunks(), expandedBounds);
 
             if (blockManager != null) {
                 blockManager.render(batch, worldData.getWorldTimeInMinutes());
@@ -1472,8 +1504,7 @@ public class World {
                 batch.setColor(currentWorldColor);
             }
             Rectangle expandedBounds = getExpandedViewBounds(viewBounds);
-            List<Map.Entry<Vector2, Chunk>> sortedChunks = getSortedChunks();
-            renderTerrainLayer(batch, sortedChunks, expandedBounds);
+            renderTerrainLayer(batch, getSortedChunks(), expandedBounds);
             if (blockManager != null) {
                 blockManager.render(batch, worldData.getWorldTimeInMinutes());
             }
@@ -1493,15 +1524,21 @@ public class World {
         }
     }
 
+    /**
+     * Draws players, Pokémon and world objects back to front. Moving entities come from a pool,
+     * world objects from per-chunk caches that are already sorted, so the frame's sort only merges
+     * pre-sorted runs. Render-thread only.
+     */
     private void renderSortedEntities(SpriteBatch batch, Player player, Rectangle expandedBounds) {
-        List<RenderableEntity> renderQueue = new ArrayList<>();
-        renderQueue.add(new RenderableEntity(player, player.getY(), RenderableType.PLAYER));
+        renderQueue.clear();
+        renderablePoolUsed = 0;
+        renderQueue.add(obtainRenderable(player, player.getY(), RenderableType.PLAYER));
 
         if (GameContext.get().isMultiplayer()) {
             if (GameContext.get() != null) {
                 for (OtherPlayer other : GameContext.get().getGameClient().getOtherPlayers().values()) {
                     if (expandedBounds.contains(other.getX(), other.getY())) {
-                        renderQueue.add(new RenderableEntity(other, other.getY(), RenderableType.OTHER_PLAYER));
+                        renderQueue.add(obtainRenderable(other, other.getY(), RenderableType.OTHER_PLAYER));
                     }
                 }
             }
@@ -1509,27 +1546,17 @@ public class World {
 
         for (WildPokemon pokemon : pokemonSpawnManager.getAllWildPokemon()) {
             if (expandedBounds.contains(pokemon.getX(), pokemon.getY())) {
-                renderQueue.add(new RenderableEntity(pokemon, pokemon.getY(), RenderableType.WILD_POKEMON));
+                renderQueue.add(obtainRenderable(pokemon, pokemon.getY(), RenderableType.WILD_POKEMON));
             }
         }
 
-        for (Map.Entry<Vector2, Chunk> entry : chunks.entrySet()) {
-            if (isChunkVisible(entry.getKey(), expandedBounds)) {
-                for (WorldObject obj : objectManager.getObjectsForChunk(entry.getKey())) {
-                    if (isTreeObject(obj)) {
-                        renderQueue.add(new RenderableEntity(obj, obj.getPixelY(), RenderableType.TREE_BASE));
-                        renderQueue.add(new RenderableEntity(obj, obj.getPixelY(), RenderableType.TREE_TOP));
-                    } else if (isTallGrassType(obj.getType())) {
-                        renderQueue.add(new RenderableEntity(obj, obj.getPixelY(), RenderableType.WORLD_OBJECT));
-                        renderQueue.add(new RenderableEntity(obj, obj.getPixelY(), RenderableType.TALL_GRASS_TOP));
-                    } else {
-                        renderQueue.add(new RenderableEntity(obj, obj.getPixelY(), RenderableType.WORLD_OBJECT));
-                    }
-                }
-            }
+        LongArray visible = collectVisibleChunks(expandedBounds);
+        for (int i = 0; i < visible.size; i++) {
+            renderQueue.addAll(getChunkRenderEntries(visible.get(i)));
         }
-        Collections.sort(renderQueue);
-        for (RenderableEntity item : renderQueue) {
+        renderQueue.sort(RENDER_ORDER);
+        for (int i = 0; i < renderQueue.size; i++) {
+            RenderableEntity item = renderQueue.get(i);
             switch (item.type) {
                 case PLAYER:
                     ((Player) item.entity).render(batch);
@@ -1551,7 +1578,7 @@ public class World {
                 case WORLD_OBJECT:
                     WorldObject obj = (WorldObject) item.entity;
                     if (isTallGrassType(obj.getType())) {
-                        renderTallGrassUpperHalf(batch, Collections.singletonList(obj));
+                        renderTallGrassUpperHalf(batch, obj);
                     } else {
                         objectManager.renderObject(batch, obj, this);
                     }
@@ -1560,10 +1587,73 @@ public class World {
                     objectManager.renderTreeTop(batch, (WorldObject) item.entity, this);
                     break;
                 case TALL_GRASS_TOP:
-                    renderTallGrassLowerHalf(batch, Collections.singletonList((WorldObject) item.entity));
+                    renderTallGrassLowerHalf(batch, (WorldObject) item.entity);
                     break;
             }
         }
+        renderQueue.clear();
+        evictChunkRenderCaches();
+    }
+
+    private RenderableEntity obtainRenderable(Object entity, float y, RenderableType type) {
+        if (renderablePoolUsed == renderablePool.size) {
+            renderablePool.add(new RenderableEntity(entity, y, type));
+        }
+        return renderablePool.get(renderablePoolUsed++).set(entity, y, type);
+    }
+
+    private Array<RenderableEntity> getChunkRenderEntries(long chunkKey) {
+        ChunkRenderCache cache = chunkRenderCaches.get(chunkKey);
+        if (cache == null) {
+            cache = new ChunkRenderCache();
+            chunkRenderCaches.put(chunkKey, cache);
+        }
+        // Read the version before the list so a concurrent change is picked up next frame.
+        int version = objectManager.getObjectVersion(chunkKey);
+        if (cache.version != version) {
+            rebuildChunkRenderCache(cache, objectManager.getObjectsForChunk(ChunkPos.unpackX(chunkKey), ChunkPos.unpackY(chunkKey)));
+            cache.version = version;
+        }
+        return cache.entries;
+    }
+
+    private void rebuildChunkRenderCache(ChunkRenderCache cache, List<WorldObject> objects) {
+        Array<RenderableEntity> entries = cache.entries;
+        int count = 0;
+        for (WorldObject obj : objects) {
+            if (isTreeObject(obj)) {
+                count = putRenderEntry(entries, count, obj, RenderableType.TREE_BASE);
+                count = putRenderEntry(entries, count, obj, RenderableType.TREE_TOP);
+            } else if (isTallGrassType(obj.getType())) {
+                count = putRenderEntry(entries, count, obj, RenderableType.WORLD_OBJECT);
+                count = putRenderEntry(entries, count, obj, RenderableType.TALL_GRASS_TOP);
+            } else {
+                count = putRenderEntry(entries, count, obj, RenderableType.WORLD_OBJECT);
+            }
+        }
+        entries.truncate(count);
+        entries.sort(RENDER_ORDER);
+    }
+
+    private static int putRenderEntry(Array<RenderableEntity> entries, int index, WorldObject obj, RenderableType type) {
+        if (index < entries.size) {
+            entries.get(index).set(obj, obj.getPixelY(), type);
+        } else {
+            entries.add(new RenderableEntity(obj, obj.getPixelY(), type));
+        }
+        return index + 1;
+    }
+
+    private void evictChunkRenderCaches() {
+        if (chunkRenderCaches.size <= visibleChunkKeys.size * 2 + 16) {
+            return;
+        }
+        LongMap.Keys keys = chunkRenderCaches.keys();
+        while (keys.hasNext) {
+            if (!chunks.containsKey(keys.next())) {
+                keys.remove();
+            }
+        }
     }
 
     private boolean isTallGrassType(WorldObject.ObjectType type) {
@@ -1578,42 +1668,6 @@ public class World {
             type == WorldObject.ObjectType.HAUNTED_TALL_GRASS;
     }
 
-    public void updateLightLevels() {
-        lightLevelMap.clear();
-        float hour = DayNightCycle.getHourOfDay(worldData.getWorldTimeInMinutes());
-        if (DayNightCycle.getTimePeriod(hour) != DayNightCycle.TimePeriod.NIGHT) return;
-        int playerTileX = GameContext.get().getPlayer().getTileX();
-        int playerTileY = GameContext.get().getPlayer().getTileY();
-        int playerChunkX = Math.floorDiv(playerTileX, Chunk.CHUNK_SIZE);
-        int playerChunkY = Math.floorDiv(playerTileY, Chunk.CHUNK_SIZE);
-        int updateRadius = 5;  // Only update chunks within 5 chunks from the player.
-
-        for (Map.Entry<Vector2, Chunk> entry : chunks.entrySet()) {
-            Vector2 chunkPos = entry.getKey();
-            if (Math.abs(chunkPos.x - playerChunkX) > updateRadius || Math.abs(chunkPos.y - playerChunkY) > updateRadius)
-                continue;
-            Chunk chunk = entry.getValue();
-            for (PlaceableBlock block : chunk.getBlocks().values()) {
-                if (block.getId().equalsIgnoreCase("furnace")) {
-                    Vector2 pos = block.getPosition();
-                    int radius = 7;
-                    float maxLevel = 1.0f;
-                    for (int dx = -radius; dx <= radius; dx++) {
-                        for (int dy = -radius; dy <= radius; dy++) {
-                            Vector2 tilePos = new Vector2(pos.x + dx, pos.y + dy);
-                            float dist = pos.dst(tilePos);
-                            if (dist <= radius) {
-                                float level = maxLevel * (1 - (dist / radius));
-                                lightLevelMap.merge(tilePos, level, Math::max);
-                            }
-                        }
-                    }
-                }
-            }
-        }
-    }
-
-
     private void renderOtherPlayers(SpriteBatch batch, Rectangle viewBounds) {
         if (GameContext.get().getGameClient() == null || GameContext.get().getGameClient().isSinglePlayer()) {
             return;
@@ -1648,10 +1702,7 @@ public class World {
             for (Map.Entry<String, List<BlockSaveData.BlockData>> entry : oldBlocks.entrySet()) {
                 for (BlockSaveData.BlockData blockDataItem : entry.getValue()) {
                     try {
-                        int chunkX = Math.floorDiv(blockDataItem.x, CHUNK_SIZE);
-                        int chunkY = Math.floorDiv(blockDataItem.y, CHUNK_SIZE);
-                        Vector2 chunkPos = new Vector2(chunkX, chunkY);
-                        Chunk chunk = chunks.get(chunkPos);
+                        Chunk chunk = chunks.get(ChunkPos.packTile(blockDataItem.x, blockDataItem.y));
                         if (chunk == null) continue;
                         PlaceableBlock.BlockType type = PlaceableBlock.BlockType.fromId(blockDataItem.type);
                         if (type == null) {
@@ -1675,11 +1726,13 @@ public class World {
                 }
             }
             worldData.setBlockData(null);
-            for (Map.Entry<Vector2, Chunk> entry : chunks.entrySet()) {
-                if (entry.getValue().isDirty()) {
-                    saveChunkData(entry.getKey(), entry.getValue());
+            int count = chunks.snapshot(chunkKeyBuffer, chunkValueBuffer);
+            for (int i = 0; i < count; i++) {
+                if (chunkValueBuffer.get(i).isDirty()) {
+                    saveChunkData(chunkVector(chunkKeyBuffer.get(i)), chunkValueBuffer.get(i));
                 }
             }
+            chunkValueBuffer.clear();
 
             GameLogger.info("Block migration complete");
         } catch (Exception e) {
@@ -1687,26 +1740,78 @@ public class World {
         }
     }
 
-    private List<Map.Entry<Vector2, Chunk>> getSortedChunks() {
+    /**
+     * Loaded chunk keys ordered by chunk row. Rebuilt only when the loaded chunk count changes.
+     */
+    private long[] getSortedChunks() {
         int currentCount = chunks.size();
         if (cachedSortedChunks != null && currentCount == cachedChunkCount) {
             return cachedSortedChunks;
         }
-        cachedSortedChunks = new ArrayList<>(chunks.entrySet());
-        cachedSortedChunks.sort(Comparator.comparingDouble(entry -> entry.getKey().y));
+        long[] keys = chunks.keys();
+        // Sort on (y, x) by packing the coordinates swapped, then swap them back.
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = ChunkPos.pack(ChunkPos.unpackY(keys[i]), ChunkPos.unpackX(keys[i]));
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = ChunkPos.pack(ChunkPos.unpackY(keys[i]), ChunkPos.unpackX(keys[i]));
+        }
+        cachedSortedChunks = keys;
         cachedChunkCount = currentCount;
         return cachedSortedChunks;
     }
 
-    private void renderTerrainLayer(SpriteBatch batch, List<Map.Entry<Vector2, Chunk>> sortedChunks, Rectangle expandedBounds) {
-        for (Map.Entry<Vector2, Chunk> entry : sortedChunks) {
-            Vector2 chunkPos = entry.getKey();
-            if (isChunkVisible(chunkPos, expandedBounds)) {
-                Chunk chunk = entry.getValue();
-                getNeighboringBiomes(chunkPos);
-                biomeRenderer.renderChunk(batch, chunk, this);
+    /**
+     * Draws terrain from each chunk's baked cache. Chunks under torch light, or too busy to cache,
+     * are drawn tile by tile through the batch afterwards.
+     */
+    private void renderTerrainLayer(SpriteBatch batch, long[] sortedChunks, Rectangle expandedBounds) {
+        BiomeRenderer.updateAnimations();
+        boolean drawing = batch.isDrawing();
+        if (drawing) {
+            batch.end();
+        }
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        Color tint = currentWorldColor != null ? currentWorldColor : Color.WHITE;
+        litTerrainChunks.clear();
+        int visibleCount = 0;
+        for (long chunkKey : sortedChunks) {
+            if (isChunkVisible(ChunkPos.unpackX(chunkKey), ChunkPos.unpackY(chunkKey), expandedBounds)) {
+                Chunk chunk = chunks.get(chunkKey);
+                if (chunk == null) continue;
+                visibleCount++;
+                if ((lightStrength > 0f && lightMap.isChunkLit(chunkKey)) || !biomeRenderer.renderCachedChunk(chunk, this,
+                    batch.getProjectionMatrix(), batch.getTransformMatrix(), tint)) {
+                    litTerrainChunks.add(chunk);
+                }
             }
         }
+        biomeRenderer.evictUnloaded(chunks, visibleCount);
+        if (drawing) {
+            batch.begin();
+        }
+        for (int i = 0; i < litTerrainChunks.size; i++) {
+            biomeRenderer.renderChunk(batch, litTerrainChunks.get(i), this);
+        }
+        litTerrainChunks.clear();
+    }
+
+    /**
+     * Fills a reused buffer with the keys of loaded chunks that overlap the given bounds.
+     * Render-thread only.
+     */
+    private LongArray collectVisibleChunks(Rectangle bounds) {
+        chunks.keys(chunkKeyBuffer);
+        visibleChunkKeys.clear();
+        for (int i = 0; i < chunkKeyBuffer.size; i++) {
+            long key = chunkKeyBuffer.get(i);
+            if (isChunkVisible(ChunkPos.unpackX(key), ChunkPos.unpackY(key), bounds)) {
+                visibleChunkKeys.add(key);
+            }
+        }
+        return visibleChunkKeys;
     }
 
     private Rectangle getExpandedViewBounds(Rectangle viewBounds) {
@@ -1715,14 +1820,13 @@ public class World {
     }
 
     private void renderLowObjects(SpriteBatch batch, Rectangle expandedBounds) {
-        for (Map.Entry<Vector2, Chunk> entry : chunks.entrySet()) {
-            Vector2 pos = entry.getKey();
-            if (isChunkVisible(pos, expandedBounds)) {
-                List<WorldObject> chunkObjects = objectManager.getObjectsForChunk(pos);
-                for (WorldObject obj : chunkObjects) {
-                    if (obj.getType().renderLayer == WorldObject.ObjectType.RenderLayer.BELOW_PLAYER) {
-                        objectManager.renderObject(batch, obj, this);
-                    }
+        LongArray visible = collectVisibleChunks(expandedBounds);
+        for (int i = 0; i < visible.size; i++) {
+            long key = visible.get(i);
+            List<WorldObject> chunkObjects = objectManager.getObjectsForChunk(ChunkPos.unpackX(key), ChunkPos.unpackY(key));
+            for (WorldObject obj : chunkObjects) {
+                if (obj.getType().renderLayer == WorldObject.ObjectType.RenderLayer.BELOW_PLAYER) {
+                    objectManager.renderObject(batch, obj, this);
                 }
             }
         }
@@ -1730,13 +1834,13 @@ public class World {
 
     private void renderHighObjects(SpriteBatch batch, Rectangle expandedBounds) {
         List<WorldObject> treeTopsToRender = new ArrayList<>();
-        for (Map.Entry<Vector2, Chunk> entry : chunks.entrySet()) {
-            if (isChunkVisible(entry.getKey(), expandedBounds)) {
-                List<WorldObject> chunkObjects = objectManager.getObjectsForChunk(entry.getKey());
-                for (WorldObject obj : chunkObjects) {
-                    if (isTreeObject(obj)) {
-                        treeTopsToRender.add(obj);
-                    }
+        LongArray visible = collectVisibleChunks(expandedBounds);
+        for (int i = 0; i < visible.size; i++) {
+            long key = visible.get(i);
+            List<WorldObject> chunkObjects = objectManager.getObjectsForChunk(ChunkPos.unpackX(key), ChunkPos.unpackY(key));
+            for (WorldObject obj : chunkObjects) {
+                if (isTreeObject(obj)) {
+                    treeTopsToRender.add(obj);
                 }
             }
         }
@@ -1756,9 +1860,11 @@ public class World {
         List<ObjectWithYPosition> frontPlayerQueue = new ArrayList<>();
 
         Color originalColor = batch.getColor().cpy();
-        for (Map.Entry<Vector2, Chunk> entry : chunks.entrySet()) {
-            if (isChunkVisible(entry.getKey(), expandedBounds)) {
-                List<WorldObject> chunkObjects = objectManager.getObjectsForChunk(entry.getKey());
+        LongArray visible = collectVisibleChunks(expandedBounds);
+        for (int i = 0; i < visible.size; i++) {
+            long key = visible.get(i);
+            {
+                List<WorldObject> chunkObjects = objectManager.getObjectsForChunk(ChunkPos.unpackX(key), ChunkPos.unpackY(key));
                 for (WorldObject obj : chunkObjects) {
                     if (isTreeObject(obj)) {
                         behindPlayerQueue.add(new ObjectWithYPosition(obj.getPixelY(), obj, RenderType.TREE_BASE));
@@ -1791,10 +1897,10 @@ public class World {
             boolean sameTile = (grass.getTileX() == player.getTileX()
                 && grass.getTileY() == player.getTileY());
             if (sameTile) {
-                renderTallGrassUpperHalf(batch, Collections.singletonList(grass));
+                renderTallGrassUpperHalf(batch, grass);
             } else {
-                renderTallGrassUpperHalf(batch, Collections.singletonList(grass));
-                renderTallGrassLowerHalf(batch, Collections.singletonList(grass));
+                renderTallGrassUpperHalf(batch, grass);
+                renderTallGrassLowerHalf(batch, grass);
             }
         }
         player.render(batch);
@@ -1802,7 +1908,7 @@ public class World {
             boolean sameTile = (grass.getTileX() == player.getTileX()
                 && grass.getTileY() == player.getTileY());
             if (sameTile) {
-                renderTallGrassLowerHalf(batch, Collections.singletonList(grass));
+                renderTallGrassLowerHalf(batch, grass);
             }
         }
 
@@ -1824,24 +1930,9 @@ public class World {
     }
 
 
-    private Map<BiomeRenderer.Direction, Biome> getNeighboringBiomes(Vector2 chunkPos) {
-        Map<BiomeRenderer.Direction, Biome> neighbors = new EnumMap<>(BiomeRenderer.Direction.class);
-
-        for (BiomeRenderer.Direction dir : BiomeRenderer.Direction.values()) {
-            Vector2 neighborPos = new Vector2(chunkPos.x + (dir == BiomeRenderer.Direction.EAST ? 1 : dir == BiomeRenderer.Direction.WEST ? -1 : 0), chunkPos.y + (dir == BiomeRenderer.Direction.NORTH ? 1 : dir == BiomeRenderer.Direction.SOUTH ? -1 : 0));
-
-            Chunk neighborChunk = chunks.get(neighborPos);
-            if (neighborChunk != null) {
-                neighbors.put(dir, neighborChunk.getBiome());
-            }
-        }
-
-        return neighbors;
-    }
-
-    private boolean isChunkVisible(Vector2 chunkPos, Rectangle viewBounds) {
-        float chunkWorldX = chunkPos.x * CHUNK_SIZE * TILE_SIZE;
-        float chunkWorldY = chunkPos.y * CHUNK_SIZE * TILE_SIZE;
+    private boolean isChunkVisible(int chunkX, int chunkY, Rectangle viewBounds) {
+        float chunkWorldX = chunkX * CHUNK_SIZE * TILE_SIZE;
+        float chunkWorldY = chunkY * CHUNK_SIZE * TILE_SIZE;
         float chunkSize = CHUNK_SIZE * TILE_SIZE;
         tempChunkRect.set(chunkWorldX, chunkWorldY, chunkSize, chunkSize);
         return viewBounds.overlaps(tempChunkRect);
@@ -1852,12 +1943,7 @@ public class World {
     }
 
     public boolean isPokemonAt(int worldX, int worldY) {
-        for (WildPokemon pokemon : pokemonSpawnManager.getAllWildPokemon()) {
-            if (pokemon.getTileX() == worldX && pokemon.getTileY() == worldY) {
-                return true;
-            }
-        }
-        return false;
+        return pokemonSpawnManager.getSpatialIndex().anyAtTile(worldX, worldY);
     }
 
     public void loadChunksAroundPositionSynchronously(Vector2 tilePosition, int radius) {
@@ -1868,7 +1954,7 @@ public class World {
         for (int dx = -radius; dx <= radius; dx++) {
             for (int dy = -radius; dy <= radius; dy++) {
                 Vector2 chunkPos = new Vector2(chunkX + dx, chunkY + dy);
-                if (!chunks.containsKey(chunkPos)) {
+                if (!chunks.containsKey(chunkKey(chunkPos))) {
                     try {
                         if (GameContext.get().isMultiplayer()) {
                             GameContext.get().getGameClient().requestChunk(chunkPos);
@@ -1894,10 +1980,7 @@ public class World {
         }
         try {
 
-            int chunkX = Math.floorDiv(tileX, Chunk.CHUNK_SIZE);
-            int chunkY = Math.floorDiv(tileY, Chunk.CHUNK_SIZE);
-            Vector2 chunkPos = new Vector2(chunkX, chunkY);
-            Chunk chunk = chunks.get(chunkPos);
+            Chunk chunk = chunks.get(ChunkPos.packTile(tileX, tileY));
             if (chunk == null) return false;
             int localX = Math.floorMod(tileX, Chunk.CHUNK_SIZE);
             int localY = Math.floorMod(tileY, Chunk.CHUNK_SIZE);
@@ -1911,10 +1994,7 @@ public class World {
             if (blockManager != null && blockManager.hasCollisionAt(tileX, tileY)) {
                 return false;
             }
-            Rectangle movementBounds = new Rectangle(tileX * TILE_SIZE,  // Now using actual pixel position
-                tileY * TILE_SIZE, TILE_SIZE * 0.5f,    // Half tile collision size
-                TILE_SIZE * 0.5f);
-            return !checkObjectCollision(movementBounds, currentDirection) && !checkPokemonCollision(tileX, tileY, currentDirection);
+            return !checkObjectCollision(tileX, tileY, currentDirection) && !checkPokemonCollision(tileX, tileY, currentDirection);
 
         } catch (Exception e) {
             GameLogger.error("Error checking passability: " + e.getMessage());
@@ -1946,9 +2026,7 @@ public class World {
     }
 
     boolean isPositionLoaded(int worldX, int worldY) {
-        int chunkX = Math.floorDiv(worldX, Chunk.CHUNK_SIZE);
-        int chunkY = Math.floorDiv(worldY, Chunk.CHUNK_SIZE);
-        return chunks.containsKey(new Vector2(chunkX, chunkY));
+        return chunks.containsKey(ChunkPos.packTile(worldX, worldY));
     }
 
     private void handleCollision(String direction) {
@@ -1971,18 +2049,13 @@ public class World {
         }
     }
 
-    private boolean checkObjectCollision(Rectangle movementBounds, String direction) {
-        List<WorldObject> nearbyObjects = objectManager.getObjectsNearPosition(movementBounds.x + movementBounds.width / 2, movementBounds.y + movementBounds.height / 2);
-
-        for (WorldObject obj : nearbyObjects) {
-            Rectangle collisionBox = obj.getCollisionBox();
-            if (collisionBox != null && collisionBox.overlaps(movementBounds)) {
-                if (GameContext.get().getPlayer() != null) {
-                    GameContext.get().getPlayer().setDirection(direction);
-                    GameContext.get().getPlayer().setMoving(false);
-                }
-                return true;
+    private boolean checkObjectCollision(int tileX, int tileY, String direction) {
+        if (objectManager.hasCollisionAt(tileX, tileY)) {
+            if (GameContext.get().getPlayer() != null) {
+                GameContext.get().getPlayer().setDirection(direction);
+                GameContext.get().getPlayer().setMoving(false);
             }
+            return true;
         }
         return false;
     }
@@ -2008,8 +2081,7 @@ public class World {
         int chunkY = (int) Math.floor(playerPixelY / (Chunk.CHUNK_SIZE * TILE_SIZE));
         for (int dx = -1; dx <= 1; dx++) {
             for (int dy = -1; dy <= 1; dy++) {
-                Vector2 chunkPos = new Vector2(chunkX + dx, chunkY + dy);
-                List<WorldObject> objects = objectManager.getObjectsForChunk(chunkPos);
+                List<WorldObject> objects = objectManager.getObjectsForChunk(chunkX + dx, chunkY + dy);
 
                 if (objects != null) {
                     for (WorldObject obj : objects) {
@@ -2075,14 +2147,7 @@ public class World {
     }
 
     public void removeWorldObject(WorldObject obj) {
-        int chunkX = (int) Math.floor(obj.getPixelX() / (Chunk.CHUNK_SIZE * TILE_SIZE));
-        int chunkY = (int) Math.floor(obj.getPixelY() / (Chunk.CHUNK_SIZE * TILE_SIZE));
-        Vector2 chunkPos = new Vector2(chunkX, chunkY);
-
-        List<WorldObject> objects = objectManager.getObjectsForChunk(chunkPos);
-        if (objects != null) {
-            objects.remove(obj);
-        }
+        objectManager.removeObject(obj);
     }
 
     private void updateWeather(float delta, Vector2 playerPosition, GameScreen gameScreen) {
@@ -2126,13 +2191,7 @@ public class World {
     }
 
     private boolean isChunkValid(Chunk chunk) {
-        if (chunk == null) return false;
-        int[][] data = chunk.getTileData();
-        if (data == null || data.length != CHUNK_SIZE) return false;
-        for (int[] row : data) {
-            if (row == null || row.length != CHUNK_SIZE) return false;
-        }
-        return true;
+        return chunk != null && chunk.hasTileData();
     }
 
 
@@ -2160,7 +2219,7 @@ public class World {
         public int x;
         public int y;
         public BiomeType biomeType;
-        public int[][] tileData;
+        public short[] tiles;
         public List<WorldObjectData> objects;
         public List<BlockSaveData.BlockData> blocks;
         public long lastModified;
@@ -2168,7 +2227,7 @@ public class World {
 
 
         public ChunkData() {
-            this.tileData = new int[Chunk.CHUNK_SIZE][Chunk.CHUNK_SIZE];
+            this.tiles = new short[Chunk.CHUNK_SIZE * Chunk.CHUNK_SIZE];
             this.objects = new ArrayList<>();
             this.blocks = new ArrayList<>();
         }
@@ -2178,7 +2237,7 @@ public class World {
             json.writeValue("x", x);
             json.writeValue("y", y);
             json.writeValue("biomeType", biomeType.name());
-            json.writeValue("tileData", tileData);
+            json.writeValue("tiles", tiles);
             json.writeValue("objects", objects);
             json.writeValue("blocks", blocks, ArrayList.class, BlockSaveData.BlockData.class);
             json.writeValue("lastModified", lastModified);
@@ -2190,7 +2249,12 @@ public class World {
             x = jsonData.getInt("x");
             y = jsonData.getInt("y");
             biomeType = BiomeType.valueOf(jsonData.getString("biomeType"));
-            tileData = json.readValue(int[][].class, jsonData.get("tileData"));
+            if (jsonData.has("tiles")) {
+                tiles = json.readValue(short[].class, jsonData.get("tiles"));
+            } else {
+                // Chunks saved before the flat layout hold an [x][y] grid.
+                tiles = Chunk.packTiles(json.readValue(int[][].class, jsonData.get("tileData")));
+            }
             objects = json.readValue(ArrayList.class, WorldObjectData.class, jsonData.get("objects"));
 
             JsonValue blocksValue = jsonData.get("blocks");
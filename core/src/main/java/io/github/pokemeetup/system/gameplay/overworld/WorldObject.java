@@ -7,10 +7,13 @@ import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongArray;
 import com.badlogic.gdx.utils.JsonValue;
 import io.github.pokemeetup.context.GameContext;
 import io.github.pokemeetup.multiplayer.network.NetworkProtocol;
 import io.github.pokemeetup.system.gameplay.overworld.biomes.Biome;
+import io.github.pokemeetup.utils.ConcurrentLongMap;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.textures.TextureManager;
 import io.github.pokemeetup.utils.textures.TileType;
@@ -19,6 +22,8 @@ import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import static com.badlogic.gdx.math.MathUtils.random;
 
@@ -442,7 +447,13 @@ public class WorldObject {
         public static final float POKEBALL_SPAWN_CHANCE = 0.025f;
         public static final int MAX_POKEBALLS_PER_CHUNK = 1;
         private static final float POKEBALL_SPAWN_INTERVAL = 5.0f; // Try every 5 seconds
-        private final Map<Vector2, List<WorldObject>> objectsByChunk = new ConcurrentHashMap<>();
+        private final ConcurrentLongMap<List<WorldObject>> objectsByChunk = new ConcurrentLongMap<>();
+        private final Map<String, WorldObject> objectsById = new ConcurrentHashMap<>();
+        private final ObjectCollisionGrid collisionGrid = new ObjectCollisionGrid();
+        private final ConcurrentLongMap<Integer> objectVersions = new ConcurrentLongMap<>();
+        private final AtomicInteger versionCounter = new AtomicInteger();
+        private final LongArray loadedChunkKeys = new LongArray();
+        private final Array<Chunk> loadedChunkValues = new Array<>();
         private final Map<ObjectType, TextureRegion> objectTextures;
         private final long worldSeed;
         private final ConcurrentLinkedQueue<WorldObjectOperation> operationQueue = new ConcurrentLinkedQueue<>();
@@ -516,12 +527,79 @@ public class WorldObject {
         public void removeObjectFromChunk(Vector2 chunkPos, String objectId, int tileX, int tileY) {
             removedObjectIds.add(objectId);
             removedObjectTiles.add(new Vector2(tileX, tileY));
-            List<WorldObject> objects = objectsByChunk.get(chunkPos);
+            List<WorldObject> objects = objectsByChunk.get(ChunkPos.pack((int) chunkPos.x, (int) chunkPos.y));
             if (objects != null) {
-                objects.removeIf(obj -> obj.getId().equals(objectId));
+                removeObjects(objects, obj -> obj.getId().equals(objectId));
             }
         }
 
+        /**
+         * Removes the object from the chunk list it is stored in, without marking its ID removed.
+         */
+        public void removeObject(WorldObject object) {
+            List<WorldObject> objects = objectsByChunk.get(chunkKeyOf(object));
+            if (objects != null) {
+                removeObjects(objects, obj -> obj == object);
+            }
+        }
+
+        public WorldObject getObjectById(String objectId) {
+            return objectId != null ? objectsById.get(objectId) : null;
+        }
+
+        /**
+         * Whether a collidable object's collision box covers the tile.
+         */
+        public boolean hasCollisionAt(int tileX, int tileY) {
+            return collisionGrid.isBlocked(tileX, tileY);
+        }
+
+        /**
+         * Stamp that changes whenever the chunk's object list or one of its objects does. Stamps
+         * are never reused, so a cached stamp that differs means the chunk changed.
+         */
+        public int getObjectVersion(long chunkKey) {
+            Integer version = objectVersions.get(chunkKey);
+            return version != null ? version : 0;
+        }
+
+        private void bumpObjectVersion(long chunkKey) {
+            objectVersions.put(chunkKey, versionCounter.incrementAndGet());
+        }
+
+        private static long chunkKeyOf(WorldObject object) {
+            return ChunkPos.pack(
+                (int) Math.floor(object.getPixelX() / (Chunk.CHUNK_SIZE * World.TILE_SIZE)),
+                (int) Math.floor(object.getPixelY() / (Chunk.CHUNK_SIZE * World.TILE_SIZE)));
+        }
+
+        private void index(WorldObject object) {
+            if (object.getId() != null) {
+                objectsById.put(object.getId(), object);
+            }
+            collisionGrid.add(object);
+            bumpObjectVersion(chunkKeyOf(object));
+        }
+
+        private void unindex(WorldObject object) {
+            if (object.getId() != null) {
+                objectsById.remove(object.getId(), object);
+            }
+            collisionGrid.remove(object);
+            bumpObjectVersion(chunkKeyOf(object));
+        }
+
+        private boolean removeObjects(List<WorldObject> objects, Predicate<WorldObject> filter) {
+            boolean removed = false;
+            for (WorldObject obj : objects) {
+                if (filter.test(obj) && objects.remove(obj)) {
+                    unindex(obj);
+                    removed = true;
+                }
+            }
+            return removed;
+        }
+
         public boolean isRemovedTile(int tileX, int tileY) {
             return removedObjectTiles.contains(new Vector2(tileX, tileY));
         }
@@ -534,16 +612,21 @@ public class WorldObject {
         public void addObjectToChunk(WorldObject object) {
             int actualChunkX = (int) Math.floor(object.getPixelX() / (Chunk.CHUNK_SIZE * World.TILE_SIZE));
             int actualChunkY = (int) Math.floor(object.getPixelY() / (Chunk.CHUNK_SIZE * World.TILE_SIZE));
-            Vector2 actualChunkPos = new Vector2(actualChunkX, actualChunkY);
             if (removedObjectIds.contains(object.getId())) {
                 return;
             }
-            objectsByChunk.computeIfAbsent(actualChunkPos, k -> new CopyOnWriteArrayList<>()).add(object);
+            objectsByChunk.computeIfAbsent(ChunkPos.pack(actualChunkX, actualChunkY), k -> new CopyOnWriteArrayList<>()).add(object);
+            index(object);
         }
 
         public void setObjectsForChunk(Vector2 chunkPos, List<WorldObject> objects) {
+            setObjectsForChunk(ChunkPos.pack((int) chunkPos.x, (int) chunkPos.y), objects);
+        }
+
+        public void setObjectsForChunk(long chunkKey, List<WorldObject> objects) {
+            List<WorldObject> previous;
             if (objects == null) {
-                objectsByChunk.remove(chunkPos);
+                previous = objectsByChunk.remove(chunkKey);
             } else {
                 List<WorldObject> filtered = new ArrayList<>();
                 for (WorldObject obj : objects) {
@@ -551,8 +634,17 @@ public class WorldObject {
                         filtered.add(obj);
                     }
                 }
-                objectsByChunk.put(chunkPos, new CopyOnWriteArrayList<>(filtered));
+                previous = objectsByChunk.put(chunkKey, new CopyOnWriteArrayList<>(filtered));
+                for (WorldObject obj : filtered) {
+                    index(obj);
+                }
+            }
+            if (previous != null) {
+                for (WorldObject obj : previous) {
+                    unindex(obj);
+                }
             }
+            bumpObjectVersion(chunkKey);
         }
 
         private WorldObject createObject(ObjectType type, int localX, int localY, Vector2 chunkPos) {
@@ -655,12 +747,11 @@ public class WorldObject {
             float renderX = tree.getPixelX() - World.TILE_SIZE;
             float renderY = tree.getPixelY();
 
-            Vector2 tilePos = new Vector2(tree.getTileX(), tree.getTileY());
-            Float lightLevel = world.getLightLevelAtTile(tilePos);
+            float lightLevel = world.getLightLevelAtTile(tree.getTileX(), tree.getTileY());
 
             Color originalColor = batch.getColor().cpy();
             try {
-                if (lightLevel != null && lightLevel > 0) {
+                if (lightLevel > 0) {
                     Color lightColor = new Color(1f, 0.8f, 0.6f, 1f);
                     Color baseColor = world.getCurrentWorldColor().cpy();
                     baseColor.lerp(lightColor, lightLevel * 0.7f);
@@ -701,12 +792,11 @@ public class WorldObject {
             float renderX = tree.getPixelX() - World.TILE_SIZE;
             float renderY = tree.getPixelY() + World.TILE_SIZE;
 
-            Vector2 tilePos = new Vector2(tree.getTileX(), tree.getTileY());
-            Float lightLevel = world.getLightLevelAtTile(tilePos);
+            float lightLevel = world.getLightLevelAtTile(tree.getTileX(), tree.getTileY());
 
             Color originalColor = batch.getColor().cpy();
             try {
-                if (lightLevel != null && lightLevel > 0) {
+                if (lightLevel > 0) {
                     Color lightColor = new Color(1f, 0.8f, 0.6f, 1f);
                     Color baseColor = world.getCurrentWorldColor().cpy();
                     baseColor.lerp(lightColor, lightLevel * 0.7f);
@@ -743,12 +833,11 @@ public class WorldObject {
             float renderY = object.getPixelY();
             float width = object.getType().widthInTiles * World.TILE_SIZE;
             float height = object.getType().heightInTiles * World.TILE_SIZE;
-            Vector2 tilePos = new Vector2(object.getTileX(), object.getTileY());
-            Float lightLevel = world.getLightLevelAtTile(tilePos);
+            float lightLevel = world.getLightLevelAtTile(object.getTileX(), object.getTileY());
             Color originalColor = batch.getColor().cpy();
 
             try {
-                if (lightLevel != null && lightLevel > 0) {
+                if (lightLevel > 0) {
                     Color lightColor = new Color(1f, 0.8f, 0.6f, 1f);
                     Color baseColor = world.getCurrentWorldColor().cpy();
                     baseColor.lerp(lightColor, lightLevel * 0.7f);
@@ -764,22 +853,24 @@ public class WorldObject {
 
         public List<WorldObject> getObjectsNearPosition(float x, float y) {
             List<WorldObject> nearbyObjects = new ArrayList<>();
-            int searchRadius = 2; // Search in nearby chunks
+            float range = World.TILE_SIZE * 3;
+            float chunkPixels = Chunk.CHUNK_SIZE * World.TILE_SIZE;
 
-            int centerChunkX = (int) Math.floor(x / (Chunk.CHUNK_SIZE * World.TILE_SIZE));
-            int centerChunkY = (int) Math.floor(y / (Chunk.CHUNK_SIZE * World.TILE_SIZE));
+            int minChunkX = (int) Math.floor((x - range) / chunkPixels);
+            int maxChunkX = (int) Math.floor((x + range) / chunkPixels);
+            int minChunkY = (int) Math.floor((y - range) / chunkPixels);
+            int maxChunkY = (int) Math.floor((y + range) / chunkPixels);
 
-            for (int dx = -searchRadius; dx <= searchRadius; dx++) {
-                for (int dy = -searchRadius; dy <= searchRadius; dy++) {
-                    Vector2 chunkPos = new Vector2(centerChunkX + dx, centerChunkY + dy);
-                    List<WorldObject> chunkObjectList = objectsByChunk.get(chunkPos);
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkY = minChunkY; chunkY <= maxChunkY; chunkY++) {
+                    List<WorldObject> chunkObjectList = objectsByChunk.get(ChunkPos.pack(chunkX, chunkY));
 
                     if (chunkObjectList != null) {
                         for (WorldObject obj : chunkObjectList) {
                             float distX = Math.abs(obj.getPixelX() - x);
                             float distY = Math.abs(obj.getPixelY() - y);
 
-                            if (distX <= World.TILE_SIZE * 3 && distY <= World.TILE_SIZE * 3) {
+                            if (distX <= range && distY <= range) {
                                 nearbyObjects.add(obj);
                             }
                         }
@@ -791,23 +882,26 @@ public class WorldObject {
         }
 
         public void updateObject(NetworkProtocol.WorldObjectUpdate update) {
-            for (List<WorldObject> objects : objectsByChunk.values()) {
-                for (WorldObject obj : objects) {
-                    if (obj.getId().equals(update.objectId)) {
-                        obj.updateFromData(update.data);
-                        return;
-                    }
-                }
+            WorldObject obj = getObjectById(update.objectId);
+            if (obj == null) {
+                return;
             }
+            unindex(obj);
+            obj.updateFromData(update.data);
+            index(obj);
         }
 
         public List<WorldObject> getObjectsForChunk(Vector2 chunkPos) {
-            List<WorldObject> objects = objectsByChunk.get(chunkPos);
+            return getObjectsForChunk((int) chunkPos.x, (int) chunkPos.y);
+        }
+
+        public List<WorldObject> getObjectsForChunk(int chunkX, int chunkY) {
+            List<WorldObject> objects = objectsByChunk.get(ChunkPos.pack(chunkX, chunkY));
             return objects != null ? objects : Collections.emptyList();
         }
 
-        private void handlePokeballSpawning(Vector2 chunkPos, Chunk chunk) {
-            List<WorldObject> objects = objectsByChunk.computeIfAbsent(chunkPos,
+        private void handlePokeballSpawning(long chunkKey, Chunk chunk) {
+            List<WorldObject> objects = objectsByChunk.computeIfAbsent(chunkKey,
                 k -> new CopyOnWriteArrayList<>());
             long pokeballCount = objects.stream()
                 .filter(obj -> obj.getType() == ObjectType.POKEBALL)
@@ -817,8 +911,8 @@ public class WorldObject {
                 while (attempts > 0) {
                     int localX = random.nextInt(Chunk.CHUNK_SIZE);
                     int localY = random.nextInt(Chunk.CHUNK_SIZE);
-                    int worldTileX = (int) (chunkPos.x * Chunk.CHUNK_SIZE + localX);
-                    int worldTileY = (int) (chunkPos.y * Chunk.CHUNK_SIZE + localY);
+                    int worldTileX = ChunkPos.unpackX(chunkKey) * Chunk.CHUNK_SIZE + localX;
+                    int worldTileY = ChunkPos.unpackY(chunkKey) * Chunk.CHUNK_SIZE + localY;
                     int tileType = chunk.getTileType(localX, localY);
                     if (tileType == TileType.GRASS || tileType == TileType.SAND) {
                         boolean locationClear = true;
@@ -838,6 +932,7 @@ public class WorldObject {
                                     pokeballTexture, ObjectType.POKEBALL
                                 );
                                 objects.add(pokeball);
+                                index(pokeball);
                                 if (
                                     GameContext.get().getGameClient() != null && GameContext.get().isMultiplayer()) {
                                     NetworkProtocol.WorldObjectUpdate update = new NetworkProtocol.WorldObjectUpdate();
@@ -859,17 +954,18 @@ public class WorldObject {
             }
         }
 
-        public void update(Map<Vector2, Chunk> loadedChunks) {
+        public void update(ConcurrentLongMap<Chunk> loadedChunks) {
             WorldObjectOperation operation;
             pokeballSpawnTimer += Gdx.graphics.getDeltaTime();
             while ((operation = operationQueue.poll()) != null) {
                 try {
                     if (Objects.requireNonNull(operation.type) == WorldObjectOperation.OperationType.REMOVE) {
                         RemoveOperation removeOp = (RemoveOperation) operation;
-                        List<WorldObject> removeList = objectsByChunk.get(removeOp.chunkPos);
+                        long removeKey = ChunkPos.pack((int) removeOp.chunkPos.x, (int) removeOp.chunkPos.y);
+                        List<WorldObject> removeList = objectsByChunk.get(removeKey);
                         if (removeList != null) {
-                            removeList.removeIf(obj -> obj.getId().equals(removeOp.objectId));
-                            objectsByChunk.put(removeOp.chunkPos, new CopyOnWriteArrayList<>(removeList));
+                            removeObjects(removeList, obj -> obj.getId().equals(removeOp.objectId));
+                            objectsByChunk.put(removeKey, new CopyOnWriteArrayList<>(removeList));
 
                             if (GameContext.get().isMultiplayer()) {
                                 if (
@@ -892,17 +988,20 @@ public class WorldObject {
             }
 
             if (pokeballSpawnTimer >= POKEBALL_SPAWN_INTERVAL) {
-                for (Map.Entry<Vector2, Chunk> entry : loadedChunks.entrySet()) {
-                    Vector2 chunkPos = entry.getKey();
-                    List<WorldObject> objects = objectsByChunk.computeIfAbsent(chunkPos,
+                int count = loadedChunks.snapshot(loadedChunkKeys, loadedChunkValues);
+                for (int i = 0; i < count; i++) {
+                    long chunkKey = loadedChunkKeys.get(i);
+                    List<WorldObject> objects = objectsByChunk.computeIfAbsent(chunkKey,
                         k -> new CopyOnWriteArrayList<>());
-                    boolean changed = objects.removeIf(WorldObject::isExpired);
+                    boolean changed = removeObjects(objects, WorldObject::isExpired);
                     if (changed) {
+                        Vector2 chunkPos = new Vector2(ChunkPos.unpackX(chunkKey), ChunkPos.unpackY(chunkKey));
                         operationQueue.add(new PersistOperation(chunkPos, new ArrayList<>(objects)));
                     }
 
-                    handlePokeballSpawning(chunkPos, entry.getValue());
+                    handlePokeballSpawning(chunkKey, loadedChunkValues.get(i));
                 }
+                loadedChunkValues.clear();
 
                 pokeballSpawnTimer = 0f;
             }
@@ -911,25 +1010,25 @@ public class WorldObject {
 
 
 
-        private void cleanupUnloadedChunks(Map<Vector2, Chunk> loadedChunks) {
-            List<Vector2> chunksToRemove = new ArrayList<>();
-            for (Vector2 chunkPos : objectsByChunk.keySet()) {
-                if (!loadedChunks.containsKey(chunkPos)) {
-                    chunksToRemove.add(chunkPos);
+        private void cleanupUnloadedChunks(ConcurrentLongMap<Chunk> loadedChunks) {
+            for (long chunkKey : objectsByChunk.keys()) {
+                if (loadedChunks.containsKey(chunkKey)) {
+                    continue;
                 }
-            }
-            for (Vector2 chunkPos : chunksToRemove) {
-                List<WorldObject> objects = objectsByChunk.get(chunkPos);
+                List<WorldObject> objects = objectsByChunk.remove(chunkKey);
                 if (objects != null) {
+                    for (WorldObject obj : objects) {
+                        unindex(obj);
+                    }
+                    objectVersions.remove(chunkKey);
+                    Vector2 chunkPos = new Vector2(ChunkPos.unpackX(chunkKey), ChunkPos.unpackY(chunkKey));
                     operationQueue.add(new PersistOperation(chunkPos, new ArrayList<>(objects)));
                 }
-                objectsByChunk.remove(chunkPos);
             }
         }
 
         private void updateChunkObjectsList(Vector2 chunkPos, List<WorldObject> objects) {
-            objectsByChunk.put(chunkPos, new CopyOnWriteArrayList<>(objects));
-
+            setObjectsForChunk(chunkPos, objects);
         }
 
         private boolean shouldSpawnPokeball(List<WorldObject> chunkObjects) {
@@ -965,6 +1064,7 @@ public class WorldObject {
                                 WorldObject pokeball = new WorldObject(worldTileX, worldTileY,
                                     pokeballTexture, ObjectType.POKEBALL);
                                 objects.add(pokeball);
+                                index(pokeball);
 
                                 if (
                                     GameContext.get().getGameClient() != null && !
@@ -0,0 +1,55 @@
+package io.github.pokemeetup.system.gameplay.overworld.entityai;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector2;
+import io.github.pokemeetup.context.GameContext;
+import io.github.pokemeetup.pokemon.PokemonSpatialIndex;
+import io.github.pokemeetup.pokemon.WildPokemon;
+import io.github.pokemeetup.system.Player;
+import io.github.pokemeetup.system.gameplay.overworld.World;
+
+/**
+ * AI context for Pokémon simulated locally (single player), backed by {@link GameContext}.
+ */
+public final class ClientPokemonAIContext implements PokemonAIContext {
+    public static final ClientPokemonAIContext INSTANCE = new ClientPokemonAIContext();
+
+    private ClientPokemonAIContext() {
+    }
+
+    @Override
+    public boolean isPassable(int tileX, int tileY) {
+        World world = GameContext.get().getWorld();
+        return world != null && world.isPassable(tileX, tileY);
+    }
+
+    @Override
+    public boolean findNearestPlayer(float x, float y, float range, Vector2 out) {
+        Player player = GameContext.get().getPlayer();
+        if (player == null || Vector2.dst(x, y, player.getX(), player.getY()) > range) {
+            return false;
+        }
+        out.set(player.getX(), player.getY());
+        return true;
+    }
+
+    @Override
+    public boolean forEachPokemonInRange(float x, float y, float range, PokemonSpatialIndex.Visitor visitor) {
+        World world = GameContext.get().getWorld();
+        if (world == null || world.getPokemonSpawnManager() == null) {
+            return true;
+        }
+        return world.getPokemonSpawnManager().getSpatialIndex().forEachInRange(x, y, range, visitor);
+    }
+
+    @Override
+    public boolean initiateBattle(WildPokemon pokemon) {
+        GameContext context = GameContext.get();
+        if (context.getGameScreen() == null ||
+            (context.getBattleSystem() != null && context.getBattleSystem().isInBattle())) {
+            return false;
+        }
+        Gdx.app.postRunnable(() -> GameContext.get().getGameScreen().forceBattleInitiation(pokemon));
+        return true;
+    }
+}
@@ -15,6 +15,7 @@ public class PokemonAI {
     private static final float UPDATE_INTERVAL = 0.1f;
 
     private final WildPokemon pokemon;
+    private final PokemonAIContext context;
     private final Set<PokemonPersonalityTrait> personalityTraits;
     private final List<PokemonBehavior> behaviors;
     private final Map<String, Float> behaviorCooldowns;
@@ -33,7 +34,12 @@ public class PokemonAI {
     private int currentPatrolIndex = 0;
 
     public PokemonAI(WildPokemon pokemon) {
+        this(pokemon, ClientPokemonAIContext.INSTANCE);
+    }
+
+    public PokemonAI(WildPokemon pokemon, PokemonAIContext context) {
         this.pokemon = pokemon;
+        this.context = context;
         this.personalityTraits = generatePersonalityTraits();
         this.behaviors = new ArrayList<>();
         this.behaviorCooldowns = new HashMap<>();
@@ -141,7 +147,15 @@ public class PokemonAI {
     }
 
     public void update(float delta, World world) {
-        if (world == null || pokemon == null || isPaused) return;
+        if (world == null) return;
+        update(delta);
+    }
+
+    /**
+     * Advances the AI against its {@link PokemonAIContext}; needs no client {@link World}.
+     */
+    public void update(float delta) {
+        if (pokemon == null || isPaused) return;
 
         updateTimer += delta;
         if (updateTimer < UPDATE_INTERVAL) return;
@@ -149,7 +163,7 @@ public class PokemonAI {
 
         stateTimer += delta;
         updateBehaviorCooldowns(delta);
-        handleSpecialAbilities(world);
+        handleSpecialAbilities();
         PokemonBehavior newBehavior = selectBehavior();
         if (newBehavior != activeBehavior) {
             if (activeBehavior != null) {
@@ -182,7 +196,7 @@ public class PokemonAI {
         behaviorCooldowns.entrySet().removeIf(entry -> entry.getValue() <= 0f);
     }
 
-    private void handleSpecialAbilities(World world) {
+    private void handleSpecialAbilities() {
         if (pokemon.isMoving()) return;
 
         String species = pokemon.getName().toLowerCase();
@@ -192,15 +206,15 @@ public class PokemonAI {
 
         switch (species) {
             case "abra":
-                performTeleport(world);
+                performTeleport();
                 break;
             case "diglett":
             case "dugtrio":
-                performBurrow(world);
+                performBurrow();
                 break;
             case "haunter":
             case "gastly":
-                performPhase(world);
+                performPhase();
                 break;
             case "pikachu":
             case "raichu":
@@ -209,7 +223,7 @@ public class PokemonAI {
         }
     }
 
-    private void performTeleport(World world) {
+    private void performTeleport() {
         int currentTileX = (int)(pokemon.getX() / World.TILE_SIZE);
         int currentTileY = (int)(pokemon.getY() / World.TILE_SIZE);
 
@@ -222,7 +236,7 @@ public class PokemonAI {
             int targetTileX = currentTileX + Math.round(MathUtils.cos(angle) * distance);
             int targetTileY = currentTileY + Math.round(MathUtils.sin(angle) * distance);
 
-            if (world.isPassable(targetTileX, targetTileY)) {
+            if (context.isPassable(targetTileX, targetTileY)) {
                 GameLogger.info(pokemon.getName() + " teleports to (" + targetTileX + "," + targetTileY + ")");
                 pokemon.setX(targetTileX * World.TILE_SIZE);
                 pokemon.setY(targetTileY * World.TILE_SIZE);
@@ -233,12 +247,12 @@ public class PokemonAI {
         }
     }
 
-    private void performBurrow(World world) {
-        performTeleport(world);
+    private void performBurrow() {
+        performTeleport();
         setCooldown("burrow", 20f);
     }
 
-    private void performPhase(World world) {
+    private void performPhase() {
         int currentTileX = (int)(pokemon.getX() / World.TILE_SIZE);
         int currentTileY = (int)(pokemon.getY() / World.TILE_SIZE);
 
@@ -255,7 +269,7 @@ public class PokemonAI {
             case "right": targetTileX += 2; break;
         }
 
-        if (world.isPassable(targetTileX, targetTileY)) {
+        if (context.isPassable(targetTileX, targetTileY)) {
             GameLogger.info(pokemon.getName() + " phases through obstacles");
             pokemon.setX(targetTileX * World.TILE_SIZE);
             pokemon.setY(targetTileY * World.TILE_SIZE);
@@ -294,6 +308,7 @@ public class PokemonAI {
             .orElse(1.0f);
     }
 
+    public PokemonAIContext getContext() { return context; }
     public Vector2 getTerritoryCenter() { return territoryCenter; }
     public float getTerritoryRadius() { return territoryRadius; }
     public List<Vector2> getPatrolRoute() { return patrolRoute; }
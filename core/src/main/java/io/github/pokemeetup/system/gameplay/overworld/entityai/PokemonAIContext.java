@@ -0,0 +1,37 @@
+package io.github.pokemeetup.system.gameplay.overworld.entityai;
+
+import com.badlogic.gdx.math.Vector2;
+import io.github.pokemeetup.pokemon.PokemonSpatialIndex;
+import io.github.pokemeetup.pokemon.WildPokemon;
+
+/**
+ * What {@link PokemonAI} and its behaviors may ask of the world they run in. The client backs it
+ * with {@link io.github.pokemeetup.context.GameContext}; the server backs it with its own chunk
+ * data and the positions of every connected player, so the same behaviors run headless there.
+ */
+public interface PokemonAIContext {
+
+    boolean isPassable(int tileX, int tileY);
+
+    /**
+     * Writes the pixel position of the nearest player within {@code range} of the given point
+     * into {@code out}.
+     *
+     * @return false if no player is in range
+     */
+    boolean findNearestPlayer(float x, float y, float range, Vector2 out);
+
+    /**
+     * Visits the wild Pokémon within {@code range} pixels of the point.
+     *
+     * @return false if the visitor stopped early
+     */
+    boolean forEachPokemonInRange(float x, float y, float range, PokemonSpatialIndex.Visitor visitor);
+
+    /**
+     * Asks for a battle between the Pokémon and the player it reached.
+     *
+     * @return whether a battle is being started
+     */
+    boolean initiateBattle(WildPokemon pokemon);
+}
@@ -1,12 +1,8 @@
 package io.github.pokemeetup.system.gameplay.overworld.entityai.behaviors;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import io.github.pokemeetup.context.GameContext;
 import io.github.pokemeetup.pokemon.WildPokemon;
-import io.github.pokemeetup.system.Player;
-import io.github.pokemeetup.system.battle.BattleInitiationHandler;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.system.gameplay.overworld.entityai.PokemonAI;
 import io.github.pokemeetup.system.gameplay.overworld.entityai.PokemonPersonalityTrait;
@@ -23,6 +19,7 @@ public class ApproachPlayerBehavior implements PokemonBehavior {
 
     private final WildPokemon pokemon;
     private final PokemonAI ai;
+    private final Vector2 playerPosition = new Vector2();
 
     public ApproachPlayerBehavior(WildPokemon pokemon, PokemonAI ai) {
         this.pokemon = pokemon;
@@ -36,10 +33,9 @@ public class ApproachPlayerBehavior implements PokemonBehavior {
             return;
         }
 
-        Player player = GameContext.get().getPlayer();
-        if (player == null) return;
+        if (!ai.getContext().findNearestPlayer(pokemon.getX(), pokemon.getY(), APPROACH_RANGE, playerPosition)) return;
 
-        float distance = Vector2.dst(pokemon.getX(), pokemon.getY(), player.getX(), player.getY());
+        float distance = Vector2.dst(pokemon.getX(), pokemon.getY(), playerPosition.x, playerPosition.y);
 
         // Stop approaching if close enough (for curious pokemon) or if battle is initiated.
         if (!ai.hasPersonalityTrait(PokemonPersonalityTrait.AGGRESSIVE) && distance <= OPTIMAL_DISTANCE) {
@@ -49,11 +45,8 @@ public class ApproachPlayerBehavior implements PokemonBehavior {
         }
 
         if (ai.hasPersonalityTrait(PokemonPersonalityTrait.AGGRESSIVE) && distance <= ATTACK_RANGE) {
-            if (GameContext.get().getGameScreen() != null && !GameContext.get().getBattleSystem().isInBattle()) {
+            if (ai.getContext().initiateBattle(pokemon)) {
                 GameLogger.info(pokemon.getName() + " is initiating battle forcefully!");
-                Gdx.app.postRunnable(() -> {
-                    ((BattleInitiationHandler) GameContext.get().getGameScreen()).forceBattleInitiation(pokemon);
-                });
                 ai.setCooldown(getName(), 15f); // Long cooldown after initiating battle.
             }
             return;
@@ -61,18 +54,15 @@ public class ApproachPlayerBehavior implements PokemonBehavior {
 
         // If not on cooldown from a failed move, attempt to move.
         if (!ai.isOnCooldown(getName())) {
-            moveTowardsPlayer(player);
+            moveTowardsPlayer(playerPosition);
         }
     }
 
-    private void moveTowardsPlayer(Player player) {
-        World world = GameContext.get().getWorld();
-        if (world == null) return;
-
+    private void moveTowardsPlayer(Vector2 player) {
         int pokemonTileX = pokemon.getTileX();
         int pokemonTileY = pokemon.getTileY();
-        int playerTileX = player.getTileX();
-        int playerTileY = player.getTileY();
+        int playerTileX = MathUtils.floor(player.x / World.TILE_SIZE);
+        int playerTileY = MathUtils.floor(player.y / World.TILE_SIZE);
 
         int dx = Integer.compare(playerTileX, pokemonTileX);
         int dy = Integer.compare(playerTileY, pokemonTileY);
@@ -98,7 +88,7 @@ public class ApproachPlayerBehavior implements PokemonBehavior {
                 direction = dy > 0 ? "up" : "down";
             }
 
-            if (world.isPassable(targetTileX, targetTileY)) {
+            if (ai.getContext().isPassable(targetTileX, targetTileY)) {
                 pokemon.moveToTile(targetTileX, targetTileY, direction);
                 ai.setCurrentState(PokemonAI.AIState.APPROACHING);
                 moveMade = true;
@@ -119,11 +109,12 @@ public class ApproachPlayerBehavior implements PokemonBehavior {
             return false;
         }
 
-        Player player = GameContext.get().getPlayer();
-        if (player == null) return false;
+        if (!ai.getContext().findNearestPlayer(pokemon.getX(), pokemon.getY(), APPROACH_RANGE, playerPosition)) {
+            return false;
+        }
 
         float distance = Vector2.dst(pokemon.getX(), pokemon.getY(),
-            player.getX(), player.getY());
+            playerPosition.x, playerPosition.y);
 
         if (ai.hasPersonalityTrait(PokemonPersonalityTrait.AGGRESSIVE)) {
             return distance <= APPROACH_RANGE; // Always try to approach if aggressive and in range
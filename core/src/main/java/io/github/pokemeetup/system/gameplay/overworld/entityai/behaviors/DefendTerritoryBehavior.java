@@ -1,12 +1,8 @@
 package io.github.pokemeetup.system.gameplay.overworld.entityai.behaviors;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import io.github.pokemeetup.context.GameContext;
 import io.github.pokemeetup.pokemon.WildPokemon;
-import io.github.pokemeetup.system.Player;
-import io.github.pokemeetup.system.battle.BattleInitiationHandler;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.system.gameplay.overworld.entityai.PokemonAI;
 import io.github.pokemeetup.system.gameplay.overworld.entityai.PokemonPersonalityTrait;
@@ -22,6 +18,7 @@ public class DefendTerritoryBehavior implements PokemonBehavior {
     private final PokemonAI ai;
     private boolean isChasing = false;
     private int chaseStepsRemaining = 0;
+    private final Vector2 playerPosition = new Vector2();
 
     public DefendTerritoryBehavior(WildPokemon pokemon, PokemonAI ai) {
         this.pokemon = pokemon;
@@ -31,27 +28,25 @@ public class DefendTerritoryBehavior implements PokemonBehavior {
     @Override
     public void execute(float delta) {
         if (!pokemon.isMoving()) {
-            Player player = GameContext.get().getPlayer();
-            if (player != null) {
-                if (shouldChasePlayer(player)) {
-                    initiateChase(player);
-                } else if (isChasing) {
-                    endChase();
-                }
+            if (ai.getContext().findNearestPlayer(pokemon.getX(), pokemon.getY(), CHASE_DISTANCE, playerPosition) &&
+                shouldChasePlayer(playerPosition)) {
+                initiateChase(playerPosition);
+            } else if (isChasing) {
+                endChase();
             }
         }
     }
 
-    private boolean shouldChasePlayer(Player player) {
+    private boolean shouldChasePlayer(Vector2 player) {
         Vector2 territory = ai.getTerritoryCenter();
-        float playerDistanceFromTerritory = Vector2.dst(player.getX(), player.getY(), territory.x, territory.y);
-        float pokemonDistanceFromPlayer = Vector2.dst(pokemon.getX(), pokemon.getY(), player.getX(), player.getY());
+        float playerDistanceFromTerritory = Vector2.dst(player.x, player.y, territory.x, territory.y);
+        float pokemonDistanceFromPlayer = Vector2.dst(pokemon.getX(), pokemon.getY(), player.x, player.y);
 
         return playerDistanceFromTerritory <= ai.getTerritoryRadius() &&
             pokemonDistanceFromPlayer <= CHASE_DISTANCE;
     }
 
-    private void initiateChase(Player player) {
+    private void initiateChase(Vector2 player) {
         if (!isChasing) {
             GameLogger.info(pokemon.getName() + " aggressively chases intruder!");
             isChasing = true;
@@ -60,13 +55,10 @@ public class DefendTerritoryBehavior implements PokemonBehavior {
 
         if (chaseStepsRemaining > 0) {
             moveTowardsPlayer(player);
-            float distance = Vector2.dst(pokemon.getX(), pokemon.getY(), player.getX(), player.getY());
+            float distance = Vector2.dst(pokemon.getX(), pokemon.getY(), player.x, player.y);
             if (distance <= 1.5f * World.TILE_SIZE) {
-                if (GameContext.get().getGameScreen()!=null) {
+                if (ai.getContext().initiateBattle(pokemon)) {
                     GameLogger.info(pokemon.getName() + " is initiating battle while defending territory!");
-                    Gdx.app.postRunnable(() -> {
-                        GameContext.get().getGameScreen().forceBattleInitiation(pokemon);
-                    });
                     ai.setCooldown(getName(), 15f);
                     endChase(); // End the chase behavior
                     return;
@@ -76,14 +68,11 @@ public class DefendTerritoryBehavior implements PokemonBehavior {
         } else {
             endChase();
         }}
-    private void moveTowardsPlayer(Player player) {
-        World world = GameContext.get().getWorld();
-        if (world == null) return;
-
+    private void moveTowardsPlayer(Vector2 player) {
         int pokemonTileX = pokemon.getTileX();
         int pokemonTileY = pokemon.getTileY();
-        int playerTileX = player.getTileX();
-        int playerTileY = player.getTileY();
+        int playerTileX = MathUtils.floor(player.x / World.TILE_SIZE);
+        int playerTileY = MathUtils.floor(player.y / World.TILE_SIZE);
 
         int dx = Integer.compare(playerTileX, pokemonTileX);
         int dy = Integer.compare(playerTileY, pokemonTileY);
@@ -107,7 +96,7 @@ public class DefendTerritoryBehavior implements PokemonBehavior {
                 direction = dy > 0 ? "up" : "down";
             }
 
-            if (world.isPassable(targetTileX, targetTileY)) {
+            if (ai.getContext().isPassable(targetTileX, targetTileY)) {
                 pokemon.moveToTile(targetTileX, targetTileY, direction);
                 ai.setCurrentState(PokemonAI.AIState.APPROACHING);
                 return; // Move made, exit
@@ -2,9 +2,7 @@ package io.github.pokemeetup.system.gameplay.overworld.entityai.behaviors;
 
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import io.github.pokemeetup.context.GameContext;
 import io.github.pokemeetup.pokemon.WildPokemon;
-import io.github.pokemeetup.system.Player;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.system.gameplay.overworld.entityai.PokemonAI;
 public class FleeBehavior implements PokemonBehavior {
@@ -15,6 +13,7 @@ public class FleeBehavior implements PokemonBehavior {
     private final PokemonAI ai;
     private int fleeStepsRemaining = 0;
     private String fleeDirection;
+    private final Vector2 playerPosition = new Vector2();
 
     public FleeBehavior(WildPokemon pokemon, PokemonAI ai) {
         this.pokemon = pokemon;
@@ -33,18 +32,14 @@ public class FleeBehavior implements PokemonBehavior {
     }
 
     private void initiateFlee() {
-        Player player = GameContext.get().getPlayer();
-        if (player == null) return;
+        if (!ai.getContext().findNearestPlayer(pokemon.getX(), pokemon.getY(), Float.MAX_VALUE, playerPosition)) return;
 
-        fleeDirection = calculateFleeDirection(player);
+        fleeDirection = calculateFleeDirection(playerPosition);
         fleeStepsRemaining = MathUtils.random(2, MAX_FLEE_STEPS);
         continueFleeMovement();
     }
 
     private void continueFleeMovement() {
-        World world = GameContext.get().getWorld();
-        if (world == null) return;
-
         int currentTileX = (int) (pokemon.getX() / World.TILE_SIZE);
         int currentTileY = (int) (pokemon.getY() / World.TILE_SIZE);
 
@@ -66,12 +61,12 @@ public class FleeBehavior implements PokemonBehavior {
                 break;
         }
 
-        if (world.isPassable(targetTileX, targetTileY)) {
+        if (ai.getContext().isPassable(targetTileX, targetTileY)) {
             pokemon.moveToTile(targetTileX, targetTileY, fleeDirection);
             fleeStepsRemaining--;
             ai.setCurrentState(PokemonAI.AIState.FLEEING);
         } else {
-            tryAlternativeFleeDirection(world);
+            tryAlternativeFleeDirection();
         }
 
         if (fleeStepsRemaining <= 0) {
@@ -79,7 +74,7 @@ public class FleeBehavior implements PokemonBehavior {
         }
     }
 
-    private void tryAlternativeFleeDirection(World world) {
+    private void tryAlternativeFleeDirection() {
         String[] alternatives = {"up", "down", "left", "right"};
         int currentTileX = (int) (pokemon.getX() / World.TILE_SIZE);
         int currentTileY = (int) (pokemon.getY() / World.TILE_SIZE);
@@ -105,7 +100,7 @@ public class FleeBehavior implements PokemonBehavior {
                     break;
             }
 
-            if (world.isPassable(targetTileX, targetTileY)) {
+            if (ai.getContext().isPassable(targetTileX, targetTileY)) {
                 pokemon.moveToTile(targetTileX, targetTileY, direction);
                 fleeDirection = direction;
                 fleeStepsRemaining--;
@@ -115,11 +110,11 @@ public class FleeBehavior implements PokemonBehavior {
         fleeStepsRemaining = 0;
     }
 
-    private String calculateFleeDirection(Player player) {
+    private String calculateFleeDirection(Vector2 player) {
         int pokemonTileX = (int) (pokemon.getX() / World.TILE_SIZE);
         int pokemonTileY = (int) (pokemon.getY() / World.TILE_SIZE);
-        int playerTileX = (int) (player.getX() / World.TILE_SIZE);
-        int playerTileY = (int) (player.getY() / World.TILE_SIZE);
+        int playerTileX = (int) (player.x / World.TILE_SIZE);
+        int playerTileY = (int) (player.y / World.TILE_SIZE);
 
         int dx = pokemonTileX - playerTileX;
         int dy = pokemonTileY - playerTileY;
@@ -133,12 +128,9 @@ public class FleeBehavior implements PokemonBehavior {
 
     @Override
     public boolean canExecute() {
-        Player player = GameContext.get().getPlayer();
-        if (player == null) return false;
-
-        float distance = Vector2.dst(pokemon.getX(), pokemon.getY(),
-            player.getX(), player.getY());
-        return distance < ai.getFleeThreshold();
+        return ai.getContext().findNearestPlayer(pokemon.getX(), pokemon.getY(),
+            ai.getFleeThreshold(), playerPosition) &&
+            Vector2.dst(pokemon.getX(), pokemon.getY(), playerPosition.x, playerPosition.y) < ai.getFleeThreshold();
     }
 
     @Override
@@ -1,7 +1,7 @@
 package io.github.pokemeetup.system.gameplay.overworld.entityai.behaviors;
 
 import com.badlogic.gdx.math.Vector2;
-import io.github.pokemeetup.context.GameContext;
+import io.github.pokemeetup.pokemon.PokemonSpatialIndex;
 import io.github.pokemeetup.pokemon.WildPokemon;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.system.gameplay.overworld.entityai.PokemonAI;
@@ -15,10 +15,19 @@ public class FollowPackBehavior implements PokemonBehavior {
 
     private final WildPokemon pokemon;
     private final PokemonAI ai;
+    private final PokemonSpatialIndex.Visitor leaderFinder;
+    private WildPokemon leaderMatch;
 
     public FollowPackBehavior(WildPokemon pokemon, PokemonAI ai) {
         this.pokemon = pokemon;
         this.ai = ai;
+        this.leaderFinder = nearby -> {
+            if (nearby.getUuid().equals(ai.getPackLeaderId())) {
+                leaderMatch = nearby;
+                return false;
+            }
+            return true;
+        };
     }
 
     @Override
@@ -33,19 +42,10 @@ public class FollowPackBehavior implements PokemonBehavior {
     }
 
     private WildPokemon findPackLeader() {
-        UUID leaderId = ai.getPackLeaderId();
-        if (leaderId == null) return null;
-        Collection<WildPokemon> nearbyPokemon = GameContext.get().getWorld()
-            .getPokemonSpawnManager().getPokemonInRange(
-                pokemon.getX(), pokemon.getY(), MAX_FOLLOW_DISTANCE);
-
-        for (WildPokemon nearby : nearbyPokemon) {
-            if (nearby.getUuid().equals(leaderId)) {
-                return nearby;
-            }
-        }
-
-        return null;
+        if (ai.getPackLeaderId() == null) return null;
+        leaderMatch = null;
+        ai.getContext().forEachPokemonInRange(pokemon.getX(), pokemon.getY(), MAX_FOLLOW_DISTANCE, leaderFinder);
+        return leaderMatch;
     }
     private void followLeader(WildPokemon leader) {
         float distance = Vector2.dst(pokemon.getX(), pokemon.getY(), leader.getX(), leader.getY());
@@ -53,9 +53,6 @@ public class FollowPackBehavior implements PokemonBehavior {
             return; // Already close enough.
         }
 
-        World world = GameContext.get().getWorld();
-        if (world == null) return;
-
         int pokemonTileX = pokemon.getTileX();
         int pokemonTileY = pokemon.getTileY();
         int leaderTileX = leader.getTileX();
@@ -83,7 +80,7 @@ public class FollowPackBehavior implements PokemonBehavior {
                 direction = dy > 0 ? "up" : "down";
             }
 
-            if (world.isPassable(targetTileX, targetTileY)) {
+            if (ai.getContext().isPassable(targetTileX, targetTileY)) {
                 pokemon.moveToTile(targetTileX, targetTileY, direction);
                 ai.setCurrentState(PokemonAI.AIState.FOLLOWING);
                 moveMade = true;
@@ -2,9 +2,7 @@ package io.github.pokemeetup.system.gameplay.overworld.entityai.behaviors;
 
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import io.github.pokemeetup.context.GameContext;
 import io.github.pokemeetup.pokemon.WildPokemon;
-import io.github.pokemeetup.system.Player;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.system.gameplay.overworld.entityai.PokemonAI;
 import io.github.pokemeetup.system.gameplay.overworld.entityai.PokemonPersonalityTrait;
@@ -32,20 +30,13 @@ public class InvestigateBehavior implements PokemonBehavior {
     }
 
     private void findSomethingToInvestigate() {
-        Player player = GameContext.get().getPlayer();
-        if (player != null) {
-            float distance = Vector2.dst(pokemon.getX(), pokemon.getY(),
-                player.getX(), player.getY());
-            if (distance <= INVESTIGATION_RANGE) {
-                investigationTarget = new Vector2(player.getX(), player.getY());
-            }
+        Vector2 player = new Vector2();
+        if (ai.getContext().findNearestPlayer(pokemon.getX(), pokemon.getY(), INVESTIGATION_RANGE, player)) {
+            investigationTarget = player;
         }
     }
 
     private void moveTowardsInvestigationTarget() {
-        World world = GameContext.get().getWorld();
-        if (world == null) return;
-
         int pokemonTileX = (int) (pokemon.getX() / World.TILE_SIZE);
         int pokemonTileY = (int) (pokemon.getY() / World.TILE_SIZE);
         int targetTileX = (int) (investigationTarget.x / World.TILE_SIZE);
@@ -71,7 +62,7 @@ public class InvestigateBehavior implements PokemonBehavior {
             nextTileY += dy;
         }
 
-        if (world.isPassable(nextTileX, nextTileY)) {
+        if (ai.getContext().isPassable(nextTileX, nextTileY)) {
             pokemon.moveToTile(nextTileX, nextTileY, direction);
             ai.setCurrentState(PokemonAI.AIState.INVESTIGATING);
         } else {
@@ -2,7 +2,6 @@ package io.github.pokemeetup.system.gameplay.overworld.entityai.behaviors;
 
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import io.github.pokemeetup.context.GameContext;
 import io.github.pokemeetup.pokemon.WildPokemon;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.system.gameplay.overworld.entityai.PokemonAI;
@@ -45,8 +44,6 @@ public class PackLeaderBehavior implements PokemonBehavior {
     }
 
     private Vector2 selectNewPackDestination() {
-        World world = GameContext.get().getWorld();
-        if (world == null) return null;
         Vector2 center = ai.hasPersonalityTrait(PokemonPersonalityTrait.TERRITORIAL) ?
             ai.getTerritoryCenter() : new Vector2(pokemon.getX(), pokemon.getY());
 
@@ -62,7 +59,7 @@ public class PackLeaderBehavior implements PokemonBehavior {
             int tileX = Math.round(x / World.TILE_SIZE);
             int tileY = Math.round(y / World.TILE_SIZE);
 
-            if (world.isPassable(tileX, tileY)) {
+            if (ai.getContext().isPassable(tileX, tileY)) {
                 return new Vector2(tileX * World.TILE_SIZE, tileY * World.TILE_SIZE);
             }
         }
@@ -78,8 +75,7 @@ public class PackLeaderBehavior implements PokemonBehavior {
         return distance <= World.TILE_SIZE;
     }
     private void moveTowardsDestination() {
-        World world = GameContext.get().getWorld();
-        if (world == null || packDestination == null) return;
+        if (packDestination == null) return;
 
         int pokemonTileX = pokemon.getTileX();
         int pokemonTileY = pokemon.getTileY();
@@ -108,7 +104,7 @@ public class PackLeaderBehavior implements PokemonBehavior {
                 direction = dy > 0 ? "up" : "down";
             }
 
-            if (world.isPassable(targetTileX, targetTileY)) {
+            if (ai.getContext().isPassable(targetTileX, targetTileY)) {
                 pokemon.moveToTile(targetTileX, targetTileY, direction);
                 ai.setCurrentState(PokemonAI.AIState.WANDERING);
                 return; // Move made, exit
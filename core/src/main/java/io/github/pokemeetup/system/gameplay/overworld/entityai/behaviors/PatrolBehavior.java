@@ -1,7 +1,6 @@
 package io.github.pokemeetup.system.gameplay.overworld.entityai.behaviors;
 
 import com.badlogic.gdx.math.Vector2;
-import io.github.pokemeetup.context.GameContext;
 import io.github.pokemeetup.pokemon.WildPokemon;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.system.gameplay.overworld.entityai.PokemonAI;
@@ -27,9 +26,6 @@ public class PatrolBehavior implements PokemonBehavior {
     }
 
     private void moveToNextPatrolPoint() {
-        World world = GameContext.get().getWorld();
-        if (world == null) return;
-
         Vector2 currentTarget = ai.getCurrentPatrolTarget();
         if (currentTarget == null) {
             ai.setCurrentPatrolIndex(0);
@@ -67,7 +63,7 @@ public class PatrolBehavior implements PokemonBehavior {
                     direction = dy > 0 ? "up" : "down";
                 }
 
-                if (world.isPassable(nextTileX, nextTileY)) {
+                if (ai.getContext().isPassable(nextTileX, nextTileY)) {
                     pokemon.moveToTile(nextTileX, nextTileY, direction);
                     ai.setCurrentState(PokemonAI.AIState.PATROLLING);
                     return; // Move made, exit
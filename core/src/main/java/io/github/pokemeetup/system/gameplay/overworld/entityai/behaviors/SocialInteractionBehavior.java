@@ -1,24 +1,32 @@
 package io.github.pokemeetup.system.gameplay.overworld.entityai.behaviors;
 
 import com.badlogic.gdx.math.MathUtils;
-import io.github.pokemeetup.context.GameContext;
+import io.github.pokemeetup.pokemon.PokemonSpatialIndex;
 import io.github.pokemeetup.pokemon.WildPokemon;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.system.gameplay.overworld.entityai.PokemonAI;
 import io.github.pokemeetup.system.gameplay.overworld.entityai.PokemonPersonalityTrait;
 import io.github.pokemeetup.utils.GameLogger;
 
-import java.util.Collection;
 public class SocialInteractionBehavior implements PokemonBehavior {
     private static final float INTERACTION_RANGE = 2.0f * World.TILE_SIZE;
     private static final float SOCIAL_COOLDOWN = 4.0f; // Was 10.0f
 
     private final WildPokemon pokemon;
     private final PokemonAI ai;
+    private final PokemonSpatialIndex.Visitor partnerFinder;
+    private WildPokemon partner;
 
     public SocialInteractionBehavior(WildPokemon pokemon, PokemonAI ai) {
         this.pokemon = pokemon;
         this.ai = ai;
+        this.partnerFinder = other -> {
+            if (other != pokemon && !other.isMoving()) {
+                partner = other;
+                return false;
+            }
+            return true;
+        };
     }
 
     @Override
@@ -32,17 +40,9 @@ public class SocialInteractionBehavior implements PokemonBehavior {
     }
 
     private WildPokemon findNearbyPokemon() {
-        Collection<WildPokemon> nearby = GameContext.get().getWorld()
-            .getPokemonSpawnManager().getPokemonInRange(
-                pokemon.getX(), pokemon.getY(), INTERACTION_RANGE);
-
-        for (WildPokemon other : nearby) {
-            if (!other.getUuid().equals(pokemon.getUuid()) && !other.isMoving()) {
-                return other;
-            }
-        }
-
-        return null;
+        partner = null;
+        ai.getContext().forEachPokemonInRange(pokemon.getX(), pokemon.getY(), INTERACTION_RANGE, partnerFinder);
+        return partner;
     }
 
     private void interactWith(WildPokemon other) {
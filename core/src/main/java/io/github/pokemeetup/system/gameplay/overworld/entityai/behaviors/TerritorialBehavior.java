@@ -1,9 +1,7 @@
 package io.github.pokemeetup.system.gameplay.overworld.entityai.behaviors;
 
 import com.badlogic.gdx.math.Vector2;
-import io.github.pokemeetup.context.GameContext;
 import io.github.pokemeetup.pokemon.WildPokemon;
-import io.github.pokemeetup.system.Player;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.system.gameplay.overworld.entityai.PokemonAI;
 import io.github.pokemeetup.system.gameplay.overworld.entityai.PokemonPersonalityTrait;
@@ -14,6 +12,7 @@ public class TerritorialBehavior implements PokemonBehavior {
     private final WildPokemon pokemon;
     private final PokemonAI ai;
     private boolean isDefending = false;
+    private final Vector2 playerPosition = new Vector2();
 
     public TerritorialBehavior(WildPokemon pokemon, PokemonAI ai) {
         this.pokemon = pokemon;
@@ -23,22 +22,20 @@ public class TerritorialBehavior implements PokemonBehavior {
     @Override
     public void execute(float delta) {
         if (!pokemon.isMoving()) {
-            Player player = GameContext.get().getPlayer();
-            if (player != null && isPlayerInTerritory(player)) {
-                initiateDefense(player);
+            if (isPlayerInTerritory(playerPosition)) {
+                initiateDefense(playerPosition);
             } else {
                 isDefending = false;
             }
         }
     }
 
-    private boolean isPlayerInTerritory(Player player) {
+    private boolean isPlayerInTerritory(Vector2 out) {
         Vector2 territory = ai.getTerritoryCenter();
-        float distance = Vector2.dst(player.getX(), player.getY(), territory.x, territory.y);
-        return distance <= ai.getTerritoryRadius();
+        return ai.getContext().findNearestPlayer(territory.x, territory.y, ai.getTerritoryRadius(), out);
     }
 
-    private void initiateDefense(Player player) {
+    private void initiateDefense(Vector2 player) {
         if (!isDefending) {
             GameLogger.info(pokemon.getName() + " is defending its territory!");
             isDefending = true;
@@ -46,8 +43,8 @@ public class TerritorialBehavior implements PokemonBehavior {
         Vector2 territory = ai.getTerritoryCenter();
         int pokemonTileX = (int)(pokemon.getX() / World.TILE_SIZE);
         int pokemonTileY = (int)(pokemon.getY() / World.TILE_SIZE);
-        int playerTileX = (int)(player.getX() / World.TILE_SIZE);
-        int playerTileY = (int)(player.getY() / World.TILE_SIZE);
+        int playerTileX = (int)(player.x / World.TILE_SIZE);
+        int playerTileY = (int)(player.y / World.TILE_SIZE);
         int dx = Integer.compare(playerTileX, pokemonTileX);
         int dy = Integer.compare(playerTileY, pokemonTileY);
 
@@ -63,8 +60,7 @@ public class TerritorialBehavior implements PokemonBehavior {
             targetTileY += dy;
         }
 
-        World world = GameContext.get().getWorld();
-        if (world != null && world.isPassable(targetTileX, targetTileY)) {
+        if (ai.getContext().isPassable(targetTileX, targetTileY)) {
             pokemon.moveToTile(targetTileX, targetTileY, direction);
             ai.setCurrentState(PokemonAI.AIState.APPROACHING);
         }
@@ -2,7 +2,6 @@ package io.github.pokemeetup.system.gameplay.overworld.entityai.behaviors;
 
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
-import io.github.pokemeetup.context.GameContext;
 import io.github.pokemeetup.pokemon.WildPokemon;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.system.gameplay.overworld.entityai.PokemonAI;
@@ -57,7 +56,7 @@ public class WanderBehavior implements PokemonBehavior {
                 case "right": nextTileX++; break;
             }
 
-            if (GameContext.get().getWorld().isPassable(nextTileX, nextTileY) && isWithinWanderRange(nextTileX, nextTileY)) {
+            if (ai.getContext().isPassable(nextTileX, nextTileY) && isWithinWanderRange(nextTileX, nextTileY)) {
                 currentWanderDirection = direction;
                 stepsRemaining = MathUtils.random(1, 4); // New path of 1-4 steps
                 moveAlongPath(); // Take the first step
@@ -81,7 +80,7 @@ public class WanderBehavior implements PokemonBehavior {
             case "right": targetTileX++; break;
         }
 
-        if (GameContext.get().getWorld().isPassable(targetTileX, targetTileY) && isWithinWanderRange(targetTileX, targetTileY)) {
+        if (ai.getContext().isPassable(targetTileX, targetTileY) && isWithinWanderRange(targetTileX, targetTileY)) {
             pokemon.moveToTile(targetTileX, targetTileY, currentWanderDirection);
             stepsRemaining--;
 
@@ -6,13 +6,16 @@ import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import io.github.pokemeetup.context.GameContext;
 import io.github.pokemeetup.multiplayer.client.GameClient;
+import io.github.pokemeetup.pokemon.PokemonSpatialIndex;
 import io.github.pokemeetup.pokemon.WildPokemon;
 import io.github.pokemeetup.system.gameplay.overworld.Chunk;
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
 import io.github.pokemeetup.system.gameplay.overworld.DayNightCycle;
 import io.github.pokemeetup.system.gameplay.overworld.World;
 import io.github.pokemeetup.system.gameplay.overworld.biomes.Biome;
 import io.github.pokemeetup.system.gameplay.overworld.biomes.BiomeType;
 import io.github.pokemeetup.system.gameplay.overworld.entityai.PokemonAI;
+import io.github.pokemeetup.utils.ConcurrentLongMap;
 import io.github.pokemeetup.utils.GameLogger;
 import io.github.pokemeetup.utils.PokemonLevelCalculator;
 
@@ -54,6 +57,7 @@ public class PokemonSpawnManager {
     private final Random random;
     private final Map<Vector2, List<WildPokemon>> pokemonByChunk;
     private final Map<UUID, WildPokemon> pokemonById;
+    private final PokemonSpatialIndex spatialIndex = new PokemonSpatialIndex();
     private final Map<UUID, NetworkSyncData> syncedPokemon = new ConcurrentHashMap<>();
     private final Map<UUID, Set<UUID>> pokemonPacks = new ConcurrentHashMap<>();
     private float spawnTimer = 0;
@@ -124,8 +128,7 @@ public class PokemonSpawnManager {
         if (!loadedChunks.contains(chunkPos)) {
             return null;
         }
-        List<WildPokemon> chunkPokemon = pokemonByChunk.getOrDefault(chunkPos, new ArrayList<>());
-        if (chunkPokemon.size() >= MAX_POKEMON_PER_CHUNK) {
+        if (spatialIndex.countInCell(ChunkPos.pack((int) chunkPos.x, (int) chunkPos.y)) >= MAX_POKEMON_PER_CHUNK) {
             return null;
         }
         float snappedX = Math.round(spawnPixelX / TILE_SIZE) * TILE_SIZE;
@@ -307,6 +310,7 @@ public class PokemonSpawnManager {
             enhancedAI.enterIdleState();
             pokemonById.put(pokemon.getUuid(), pokemon);
             pokemonByChunk.computeIfAbsent(chunkPos, k -> new ArrayList<>()).add(pokemon);
+            spatialIndex.add(pokemon);
             pokemon.updateBoundingBox();
 
             return pokemon;
@@ -331,12 +335,11 @@ public class PokemonSpawnManager {
         if (!GameContext.get().getWorld().isPassable(tileX, tileY)) {
             return false;
         }
-        Collection<WildPokemon> nearby = getPokemonInRange(pixelX, pixelY, MIN_POKEMON_SPACING);
-        if (!nearby.isEmpty()) {
+        if (spatialIndex.anyInRange(pixelX, pixelY, MIN_POKEMON_SPACING)) {
             return false;
         }
         Vector2 chunkPos = getChunkPosition(pixelX, pixelY);
-        return GameContext.get().getWorld().getChunks().containsKey(chunkPos);
+        return GameContext.get().getWorld().getChunks().containsKey(ChunkPos.pack((int) chunkPos.x, (int) chunkPos.y));
     }
 
     public void update(float delta, Vector2 playerPosition) {
@@ -351,6 +354,7 @@ public class PokemonSpawnManager {
         for (WildPokemon pokemon : pokemonById.values()) {
             try {
                 pokemon.update(delta, GameContext.get().getWorld());
+                spatialIndex.update(pokemon);
             } catch (Exception e) {
                 GameLogger.error("Error updating " + pokemon.getName() + ": " + e.getMessage());
                 e.printStackTrace();
@@ -363,20 +367,14 @@ public class PokemonSpawnManager {
 
     public Collection<WildPokemon> getPokemonInRange(float centerPixelX, float centerPixelY, float rangePixels) {
         List<WildPokemon> inRange = new ArrayList<>();
-        float rangeSquared = rangePixels * rangePixels;
-
-        for (WildPokemon pokemon : pokemonById.values()) {
-            float dx = pokemon.getX() - centerPixelX;
-            float dy = pokemon.getY() - centerPixelY;
-
-            if (dx * dx + dy * dy <= rangeSquared) {
-                inRange.add(pokemon);
-            }
-        }
-
+        spatialIndex.forEachInRange(centerPixelX, centerPixelY, rangePixels, inRange::add);
         return inRange;
     }
 
+    public PokemonSpatialIndex getSpatialIndex() {
+        return spatialIndex;
+    }
+
     private Set<Vector2> getLoadedChunksAroundPlayer(Vector2 playerPixelPos) {
         Set<Vector2> loadedChunks = new HashSet<>();
 
@@ -387,12 +385,12 @@ public class PokemonSpawnManager {
             return loadedChunks;
         }
 
-        Map<Vector2, Chunk> worldChunks = GameContext.get().getWorld().getChunks();
+        ConcurrentLongMap<Chunk> worldChunks = GameContext.get().getWorld().getChunks();
         int radius = 1;
         for (int dx = -radius; dx <= radius; dx++) {
             for (int dy = -radius; dy <= radius; dy++) {
                 Vector2 checkPos = new Vector2(playerChunk.x + dx, playerChunk.y + dy);
-                if (worldChunks.containsKey(checkPos)) {
+                if (worldChunks.containsKey(ChunkPos.pack((int) checkPos.x, (int) checkPos.y))) {
                     loadedChunks.add(checkPos);
                 }
             }
@@ -410,6 +408,7 @@ public class PokemonSpawnManager {
     public void removePokemon(UUID pokemonId) {
         WildPokemon pokemon = pokemonById.remove(pokemonId);
         if (pokemon != null) {
+            spatialIndex.remove(pokemon);
             Vector2 chunkPos = getChunkPosition(pokemon.getX(), pokemon.getY());
             List<WildPokemon> pokemonList = pokemonByChunk.get(chunkPos);
             if (pokemonList != null) {
@@ -439,6 +438,7 @@ public class PokemonSpawnManager {
         for (WildPokemon pokemon : pokemonById.values()) {
             if (pokemon.isExpired()) {
                 toRemove.add(pokemon.getUuid());
+                spatialIndex.remove(pokemon);
                 Vector2 chunkPos = getChunkPosition(pokemon.getX(), pokemon.getY());
                 List<WildPokemon> pokemonList = pokemonByChunk.get(chunkPos);
                 if (pokemonList != null) {
@@ -617,6 +617,7 @@ public class PokemonSpawnManager {
             if (!pokemonList.contains(pokemon)) {
                 pokemonList.add(pokemon);
                 pokemonById.put(pokemon.getUuid(), pokemon);
+                spatialIndex.add(pokemon);
                 GameLogger.info("Added Pokémon " + pokemon.getName() + " to chunk at " + chunkPos);
             }
         } catch (Exception e) {
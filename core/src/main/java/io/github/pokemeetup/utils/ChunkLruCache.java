@@ -0,0 +1,151 @@
+package io.github.pokemeetup.utils;
+
+import io.github.pokemeetup.system.gameplay.overworld.ChunkPos;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded, compute-once cache keyed by packed chunk coordinates.
+ * <p>
+ * Entries live in lock-striped access-order maps and are evicted least-recently-used once a
+ * stripe is full. A miss installs a placeholder future under the stripe lock and computes the
+ * value outside it, so concurrent callers for the same chunk wait for one computation instead
+ * of racing to produce duplicates.
+ */
+public class ChunkLruCache<V> {
+    private static final int STRIPES = 16;
+
+    private final Stripe<V>[] stripes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public ChunkLruCache(int maxEntries) {
+        int perStripe = Math.max(1, maxEntries / STRIPES);
+        stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe<>(perStripe, evictions);
+        }
+    }
+
+    private Stripe<V> stripeFor(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (h >>> 60) & (STRIPES - 1)];
+    }
+
+    public interface Loader<V> {
+        V load(int chunkX, int chunkY);
+    }
+
+    /**
+     * Returns the cached value for the chunk, computing it with {@code loader} on a miss.
+     * Exceptions from the loader propagate to every waiting caller and nothing is cached.
+     */
+    public V get(int chunkX, int chunkY, Loader<V> loader) {
+        long key = ChunkPos.pack(chunkX, chunkY);
+        Stripe<V> stripe = stripeFor(key);
+        CompletableFuture<V> future;
+        boolean owner = false;
+        synchronized (stripe) {
+            future = stripe.map.get(key);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                stripe.map.put(key, future);
+                owner = true;
+            }
+        }
+        if (!owner) {
+            hits.increment();
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                throw unwrap(e);
+            }
+        }
+
+        misses.increment();
+        try {
+            V value = loader.load(chunkX, chunkY);
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            synchronized (stripe) {
+                stripe.map.remove(key, future);
+            }
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static RuntimeException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) return (RuntimeException) cause;
+        if (cause instanceof Error) throw (Error) cause;
+        return e;
+    }
+
+    public void invalidate(int chunkX, int chunkY) {
+        long key = ChunkPos.pack(chunkX, chunkY);
+        Stripe<V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.map.remove(key);
+        }
+    }
+
+    public void clear() {
+        for (Stripe<V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.map.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int total = 0;
+        for (Stripe<V> stripe : stripes) {
+            synchronized (stripe) {
+                total += stripe.map.size();
+            }
+        }
+        return total;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public String getStats() {
+        return "entries=" + size() + ", hits=" + getHits() + ", misses=" + getMisses() +
+            ", evictions=" + getEvictions();
+    }
+
+    private static final class Stripe<V> {
+        final Map<Long, CompletableFuture<V>> map;
+
+        Stripe(int capacity, LongAdder evictions) {
+            this.map = new LinkedHashMap<Long, CompletableFuture<V>>(capacity * 2, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, CompletableFuture<V>> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+}
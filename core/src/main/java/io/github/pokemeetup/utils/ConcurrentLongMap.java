@@ -0,0 +1,219 @@
+package io.github.pokemeetup.utils;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.LongMap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Thread-safe map from primitive {@code long} keys to values, built from lock-striped libGDX
+ * {@link LongMap}s. Keys are never boxed, so point lookups allocate nothing.
+ * <p>
+ * Each operation locks a single stripe. Iteration goes through snapshots
+ * ({@link #snapshot(LongArray, Array)}, {@link #keys()}, {@link #values()}), so callers may
+ * freely modify the map while walking the result.
+ */
+public class ConcurrentLongMap<V> {
+    private static final int STRIPES = 16;
+
+    private final LongMap<V>[] stripes;
+    // One reusable iterator pair per stripe, only touched while holding that stripe's lock.
+    private final LongMap.Entries<V>[] stripeEntries;
+    private final LongMap.Keys[] stripeKeys;
+
+    @SuppressWarnings("unchecked")
+    public ConcurrentLongMap() {
+        stripes = new LongMap[STRIPES];
+        stripeEntries = new LongMap.Entries[STRIPES];
+        stripeKeys = new LongMap.Keys[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new LongMap<>();
+            stripeEntries[i] = new LongMap.Entries<>(stripes[i]);
+            stripeKeys[i] = new LongMap.Keys(stripes[i]);
+        }
+    }
+
+    private LongMap<V> stripeFor(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (h >>> 60) & (STRIPES - 1)];
+    }
+
+    public V get(long key) {
+        LongMap<V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            return stripe.get(key);
+        }
+    }
+
+    public V getOrDefault(long key, V defaultValue) {
+        LongMap<V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            return stripe.get(key, defaultValue);
+        }
+    }
+
+    public boolean containsKey(long key) {
+        LongMap<V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            return stripe.containsKey(key);
+        }
+    }
+
+    public V put(long key, V value) {
+        LongMap<V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            return stripe.put(key, value);
+        }
+    }
+
+    public V putIfAbsent(long key, V value) {
+        LongMap<V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            V existing = stripe.get(key);
+            if (existing == null) {
+                stripe.put(key, value);
+            }
+            return existing;
+        }
+    }
+
+    /**
+     * Returns the mapped value, computing and storing it under the stripe lock if absent.
+     * The function must not touch this map.
+     */
+    public V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) {
+        LongMap<V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            V existing = stripe.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            V created = mappingFunction.apply(key);
+            if (created != null) {
+                stripe.put(key, created);
+            }
+            return created;
+        }
+    }
+
+    public V remove(long key) {
+        LongMap<V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            return stripe.remove(key);
+        }
+    }
+
+    public boolean remove(long key, V value) {
+        LongMap<V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            if (stripe.containsKey(key) && stripe.get(key) == value) {
+                stripe.remove(key);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    public void putAll(ConcurrentLongMap<V> other) {
+        LongArray keys = new LongArray();
+        Array<V> values = new Array<>();
+        other.snapshotInto(keys, values);
+        for (int i = 0; i < keys.size; i++) {
+            put(keys.get(i), values.get(i));
+        }
+    }
+
+    public int size() {
+        int total = 0;
+        for (LongMap<V> stripe : stripes) {
+            synchronized (stripe) {
+                total += stripe.size;
+            }
+        }
+        return total;
+    }
+
+    public boolean isEmpty() {
+        for (LongMap<V> stripe : stripes) {
+            synchronized (stripe) {
+                if (stripe.size > 0) return false;
+            }
+        }
+        return true;
+    }
+
+    public void clear() {
+        for (LongMap<V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    /**
+     * Copies every entry into the given buffers (cleared first), keys and values index-aligned.
+     * Reusing the buffers across calls keeps per-frame iteration allocation-free.
+     *
+     * @return the number of entries copied
+     */
+    public int snapshot(LongArray keysOut, Array<V> valuesOut) {
+        keysOut.clear();
+        valuesOut.clear();
+        snapshotInto(keysOut, valuesOut);
+        return keysOut.size;
+    }
+
+    private void snapshotInto(LongArray keysOut, Array<V> valuesOut) {
+        for (int i = 0; i < STRIPES; i++) {
+            synchronized (stripes[i]) {
+                LongMap.Entries<V> entries = stripeEntries[i];
+                entries.reset();
+                while (entries.hasNext) {
+                    LongMap.Entry<V> entry = entries.next();
+                    keysOut.add(entry.key);
+                    valuesOut.add(entry.value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies every key into the given buffer (cleared first).
+     *
+     * @return the number of keys copied
+     */
+    public int keys(LongArray keysOut) {
+        keysOut.clear();
+        for (int i = 0; i < STRIPES; i++) {
+            synchronized (stripes[i]) {
+                LongMap.Keys keys = stripeKeys[i];
+                keys.reset();
+                while (keys.hasNext) {
+                    keysOut.add(keys.next());
+                }
+            }
+        }
+        return keysOut.size;
+    }
+
+    public long[] keys() {
+        LongArray keys = new LongArray();
+        Array<V> values = new Array<>();
+        snapshotInto(keys, values);
+        return keys.toArray();
+    }
+
+    public List<V> values() {
+        LongArray keys = new LongArray();
+        Array<V> values = new Array<>();
+        snapshotInto(keys, values);
+        List<V> result = new ArrayList<>(values.size);
+        for (V value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+}
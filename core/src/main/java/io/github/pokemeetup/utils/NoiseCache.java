@@ -1,14 +1,142 @@
-
 package io.github.pokemeetup.utils;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Bounded cache of normalized OpenSimplex2 samples.
+ * <p>
+ * Keys are stored as primitives (seed plus the raw float bits of x, y and scale) in
+ * open-addressed, lock-striped segments, so a lookup allocates nothing. Each insert probes a
+ * short window and, if it is full, evicts with a clock (second-chance) sweep, so memory stays
+ * flat no matter how much of the world is sampled.
+ */
 public class NoiseCache {
-    private static final Map<String, Double> cache = new ConcurrentHashMap<>();
+    private static final int SEGMENT_COUNT = 16;
+    private static final int SEGMENT_SLOTS = 1 << 13;
+    private static final int PROBE_WINDOW = 8;
+
+    private static final Segment[] segments = new Segment[SEGMENT_COUNT];
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    static {
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment();
+        }
+    }
 
     public static double getNoise(long seed, float x, float y, float scale) {
-        String key = seed + ":" + x + ":" + y + ":" + scale;
-        return cache.computeIfAbsent(key, k -> (OpenSimplex2.noise2(seed, x * scale, y * scale) + 1.0) / 2.0);
+        int xBits = Float.floatToIntBits(x);
+        int yBits = Float.floatToIntBits(y);
+        int scaleBits = Float.floatToIntBits(scale);
+        long h = mix(seed, xBits, yBits, scaleBits);
+        Segment segment = segments[(int) (h >>> 60) & (SEGMENT_COUNT - 1)];
+        synchronized (segment) {
+            int idx = segment.find((int) h, seed, xBits, yBits, scaleBits);
+            if (idx >= 0) {
+                hits.increment();
+                return segment.values[idx];
+            }
+        }
+        misses.increment();
+        double value = (OpenSimplex2.noise2(seed, x * scale, y * scale) + 1.0) / 2.0;
+        synchronized (segment) {
+            segment.insert((int) h, seed, xBits, yBits, scaleBits, value);
+        }
+        return value;
+    }
+
+    private static long mix(long seed, int xBits, int yBits, int scaleBits) {
+        long h = seed * 0x9E3779B97F4A7C15L;
+        h ^= (((long) xBits << 32) | (yBits & 0xFFFFFFFFL)) * 0xC2B2AE3D27D4EB4FL;
+        h ^= scaleBits * 0x165667B19E3779F9L;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    public static long getHits() {
+        return hits.sum();
+    }
+
+    public static long getMisses() {
+        return misses.sum();
+    }
+
+    public static void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    private static final class Segment {
+        final long[] seeds = new long[SEGMENT_SLOTS];
+        final int[] xs = new int[SEGMENT_SLOTS];
+        final int[] ys = new int[SEGMENT_SLOTS];
+        final int[] scales = new int[SEGMENT_SLOTS];
+        final double[] values = new double[SEGMENT_SLOTS];
+        final boolean[] used = new boolean[SEGMENT_SLOTS];
+        final boolean[] referenced = new boolean[SEGMENT_SLOTS];
+
+        int find(int hash, long seed, int x, int y, int scale) {
+            int base = hash & (SEGMENT_SLOTS - 1);
+            for (int i = 0; i < PROBE_WINDOW; i++) {
+                int idx = (base + i) & (SEGMENT_SLOTS - 1);
+                if (!used[idx]) {
+                    return -1;
+                }
+                if (seeds[idx] == seed && xs[idx] == x && ys[idx] == y && scales[idx] == scale) {
+                    referenced[idx] = true;
+                    return idx;
+                }
+            }
+            return -1;
+        }
+
+        void insert(int hash, long seed, int x, int y, int scale, double value) {
+            int base = hash & (SEGMENT_SLOTS - 1);
+            int victim = -1;
+            for (int i = 0; i < PROBE_WINDOW; i++) {
+                int idx = (base + i) & (SEGMENT_SLOTS - 1);
+                if (!used[idx]) {
+                    victim = idx;
+                    break;
+                }
+                if (seeds[idx] == seed && xs[idx] == x && ys[idx] == y && scales[idx] == scale) {
+                    return;
+                }
+            }
+            if (victim < 0) {
+                // Clock sweep over the window: clear reference bits until an unreferenced slot is found.
+                for (int pass = 0; pass < 2 * PROBE_WINDOW && victim < 0; pass++) {
+                    int idx = (base + (pass % PROBE_WINDOW)) & (SEGMENT_SLOTS - 1);
+                    if (referenced[idx]) {
+                        referenced[idx] = false;
+                    } else {
+                        victim = idx;
+                    }
+                }
+            }
+            used[victim] = true;
+            referenced[victim] = false;
+            seeds[victim] = seed;
+            xs[victim] = x;
+            ys[victim] = y;
+            scales[victim] = scale;
+            values[victim] = value;
+        }
+
+        void clear() {
+            Arrays.fill(used, false);
+            Arrays.fill(referenced, false);
+        }
     }
 }
@@ -0,0 +1,166 @@
+package io.github.pokemeetup.utils;
+
+/**
+ * Immutable uniform-grid index over a fixed set of 2D points, answering k-nearest queries
+ * without allocating.
+ * <p>
+ * Points are bucketed once at construction into a flat cell array. A query scans rings of
+ * cells outward from the query cell and stops as soon as no unvisited cell can hold a point
+ * closer than the current k-th result. Results are ranked by squared distance, ties broken by
+ * the smaller {@code order} value, so the output matches a stable sort of the original list.
+ */
+public class PointGrid {
+    private final float[] xs;
+    private final float[] ys;
+    private final long[] order;
+    private final float minX;
+    private final float minY;
+    private final float cellSize;
+    private final int cols;
+    private final int rows;
+    private final int[] cellStart;
+    private final int[] cellPoints;
+
+    /**
+     * @param xs       point x coordinates
+     * @param ys       point y coordinates
+     * @param order    tie-break key per point (e.g. its list index)
+     * @param cellSize edge length of one grid cell, in the same units as the points
+     */
+    public PointGrid(float[] xs, float[] ys, long[] order, float cellSize) {
+        if (xs.length != ys.length || xs.length != order.length) {
+            throw new IllegalArgumentException("Coordinate and order arrays must have the same length");
+        }
+        this.xs = xs.clone();
+        this.ys = ys.clone();
+        this.order = order.clone();
+        this.cellSize = cellSize;
+
+        float loX = 0, loY = 0, hiX = 0, hiY = 0;
+        for (int i = 0; i < xs.length; i++) {
+            if (i == 0 || xs[i] < loX) loX = xs[i];
+            if (i == 0 || ys[i] < loY) loY = ys[i];
+            if (i == 0 || xs[i] > hiX) hiX = xs[i];
+            if (i == 0 || ys[i] > hiY) hiY = ys[i];
+        }
+        this.minX = loX;
+        this.minY = loY;
+        this.cols = Math.max(1, (int) ((hiX - loX) / cellSize) + 1);
+        this.rows = Math.max(1, (int) ((hiY - loY) / cellSize) + 1);
+
+        // Counting sort of point indices by cell into one flat array.
+        int[] counts = new int[cols * rows + 1];
+        int[] cellOf = new int[xs.length];
+        for (int i = 0; i < xs.length; i++) {
+            cellOf[i] = cellX(xs[i]) + cellY(ys[i]) * cols;
+            counts[cellOf[i] + 1]++;
+        }
+        for (int c = 0; c < cols * rows; c++) {
+            counts[c + 1] += counts[c];
+        }
+        this.cellStart = counts.clone();
+        this.cellPoints = new int[xs.length];
+        for (int i = 0; i < xs.length; i++) {
+            cellPoints[counts[cellOf[i]]++] = i;
+        }
+    }
+
+    public int size() {
+        return xs.length;
+    }
+
+    public float getX(int index) {
+        return xs[index];
+    }
+
+    public float getY(int index) {
+        return ys[index];
+    }
+
+    private int cellX(float x) {
+        return Math.min(cols - 1, Math.max(0, (int) Math.floor((x - minX) / cellSize)));
+    }
+
+    private int cellY(float y) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor((y - minY) / cellSize)));
+    }
+
+    /**
+     * Finds up to {@code k} points nearest to (x, y), closest first.
+     *
+     * @param outIndices receives point indices; must hold at least {@code k} entries
+     * @param outDist2   receives squared distances; must hold at least {@code k} entries
+     * @return the number of results written
+     */
+    public int nearest(float x, float y, int k, int[] outIndices, float[] outDist2) {
+        k = Math.min(k, xs.length);
+        if (k <= 0) {
+            return 0;
+        }
+        int found = 0;
+        int qx = cellX(x);
+        int qy = cellY(y);
+        int maxRing = Math.max(Math.max(qx, cols - 1 - qx), Math.max(qy, rows - 1 - qy));
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            int x0 = qx - ring, x1 = qx + ring;
+            int y0 = qy - ring, y1 = qy + ring;
+            for (int cy = Math.max(0, y0); cy <= Math.min(rows - 1, y1); cy++) {
+                boolean edgeRow = cy == y0 || cy == y1;
+                int step = edgeRow ? 1 : x1 - x0;
+                for (int cx = x0; cx <= x1; cx += step) {
+                    if (cx >= 0 && cx < cols) {
+                        found = scanCell(cx + cy * cols, x, y, k, found, outIndices, outDist2);
+                    }
+                }
+            }
+
+            if (found == k) {
+                float bound = unvisitedLowerBound(x, y, x0, x1, y0, y1);
+                if (bound * bound > outDist2[k - 1]) {
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    private int scanCell(int cell, float x, float y, int k, int found, int[] outIndices, float[] outDist2) {
+        for (int p = cellStart[cell]; p < cellStart[cell + 1]; p++) {
+            int idx = cellPoints[p];
+            float dx = x - xs[idx];
+            float dy = y - ys[idx];
+            float d2 = dx * dx + dy * dy;
+            if (found == k && !ranksBefore(d2, idx, outDist2[k - 1], outIndices[k - 1])) {
+                continue;
+            }
+            // Insertion into the sorted result window.
+            int pos = found < k ? found++ : k - 1;
+            while (pos > 0 && ranksBefore(d2, idx, outDist2[pos - 1], outIndices[pos - 1])) {
+                outDist2[pos] = outDist2[pos - 1];
+                outIndices[pos] = outIndices[pos - 1];
+                pos--;
+            }
+            outDist2[pos] = d2;
+            outIndices[pos] = idx;
+        }
+        return found;
+    }
+
+    private boolean ranksBefore(float d2, int idx, float otherD2, int otherIdx) {
+        return d2 < otherD2 || (d2 == otherD2 && order[idx] < order[otherIdx]);
+    }
+
+    /**
+     * Smallest possible distance from (x, y) to any point in a cell outside the searched square.
+     * Grid edges are ignored since no points lie beyond them.
+     */
+    private float unvisitedLowerBound(float x, float y, int x0, int x1, int y0, int y1) {
+        float bound = Float.MAX_VALUE;
+        if (x0 > 0) bound = Math.min(bound, Math.max(0f, x - (minX + x0 * cellSize)));
+        if (x1 < cols - 1) bound = Math.min(bound, Math.max(0f, (minX + (x1 + 1) * cellSize) - x));
+        if (y0 > 0) bound = Math.min(bound, Math.max(0f, y - (minY + y0 * cellSize)));
+        if (y1 < rows - 1) bound = Math.min(bound, Math.max(0f, (minY + (y1 + 1) * cellSize) - y));
+        return bound;
+    }
+}